@@ -0,0 +1,34 @@
+package com.mycompany.myapp;
+
+import java.lang.reflect.Field;
+
+/**
+ * Helpers shared by the JMH benchmarks, which build the beans they measure without a Spring context.
+ */
+public final class BenchmarkFixtures {
+
+    /**
+     * The JWT secret of the {@code dev} profile.
+     */
+    public static final String JWT_BASE64_SECRET =
+        "MTVjZjVjNGEwNzdjZGExZmFjNTBiYzc5ZjRmMDU5ZDViNWI4YTI4YmI1NWYzZTkyNjM1ZmVmYjNkZDBiMGUxMzYzYWU2N2E2YjI1YjE0ZGQzNzYwOGI5ZWFmNjUxYzYyMzYxYWUwZDg3MGYzMDk2NGFkYzhmODA4NjE4MjkyMzA=";
+
+    private BenchmarkFixtures() {}
+
+    /**
+     * Sets a field that Spring would inject with {@code @Value}.
+     *
+     * @param target the bean.
+     * @param name the name of the field.
+     * @param value the value to set.
+     */
+    public static void setField(Object target, String name, Object value) {
+        try {
+            Field field = target.getClass().getDeclaredField(name);
+            field.setAccessible(true);
+            field.set(target, value);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Cannot set field " + name + " of " + target.getClass().getName(), e);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.mycompany.myapp.aop.logging;
+
+import ch.qos.logback.classic.Level;
+import com.mycompany.myapp.config.ApplicationProperties;
+import com.mycompany.myapp.management.MethodMetersService;
+import com.mycompany.myapp.service.LoggingAspectBenchmarkService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.LoggerFactory;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.core.env.StandardEnvironment;
+
+/**
+ * Cost of {@link LoggingAspect#logAround} around a trivial service method, compared to a direct call.
+ * <p>
+ * With {@code INFO} the advice only checks the level, with {@code DEBUG} it also formats the arguments and the result.
+ * With {@code timed}, the {@link MethodTimingAspect} also records the latency of the method into its timer, as with
+ * {@code application.logging.aspect.timing-enabled}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LoggingAspectBenchmark {
+
+    @Param({ "INFO", "DEBUG" })
+    public String level;
+
+    @Param({ "false", "true" })
+    public boolean timed;
+
+    private LoggingAspectBenchmarkService target;
+
+    private LoggingAspectBenchmarkService proxy;
+
+    private long argument;
+
+    @Setup
+    public void setUp() {
+        ((ch.qos.logback.classic.Logger) LoggerFactory.getLogger(LoggingAspectBenchmarkService.class)).setLevel(Level.toLevel(level));
+        target = new LoggingAspectBenchmarkService();
+        AspectJProxyFactory proxyFactory = new AspectJProxyFactory(target);
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAspect(new LoggingAspect(new StandardEnvironment()));
+        if (timed) {
+            proxyFactory.addAspect(new MethodTimingAspect(new MethodMetersService(new SimpleMeterRegistry(), new ApplicationProperties())));
+        }
+        proxy = proxyFactory.getProxy();
+    }
+
+    @Benchmark
+    public long directCall() {
+        return target.sum(argument++, 42L);
+    }
+
+    @Benchmark
+    public long advisedCall() {
+        return proxy.sum(argument++, 42L);
+    }
+}
@@ -0,0 +1,85 @@
+package com.mycompany.myapp.config;
+
+import ch.qos.logback.classic.spi.LoggingEvent;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.ansi.AnsiColor;
+
+/**
+ * Cost of {@link CRLFLogConverter#transform} on the messages of the application loggers, of a safe logger and of a
+ * {@link CRLFLogConverter#CRLF_SAFE_MARKER marked} event, compared to the {@code replaceAll} regular expression it used
+ * before.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CRLFLogConverterBenchmark {
+
+    @Param({ "clean", "crlf" })
+    public String message;
+
+    private CRLFLogConverter converter;
+
+    private String in;
+
+    private String replacement;
+
+    private LoggingEvent applicationEvent;
+
+    private LoggingEvent safeLoggerEvent;
+
+    private LoggingEvent markedEvent;
+
+    @Setup
+    public void setUp() {
+        converter = new CRLFLogConverter();
+        converter.setOptionList(List.of("red"));
+        converter.start();
+        replacement = converter.toAnsiString("_", AnsiColor.RED);
+        in = "clean".equals(message)
+            ? "Enter: com.mycompany.myapp.service.BookingService.findOne() with argument[s] = [1051]"
+            : "Enter: com.mycompany.myapp.service.UserService.registerUser() with argument[s] = [forged\r\nINFO admin logged in\t]";
+
+        applicationEvent = new LoggingEvent();
+        applicationEvent.setLoggerName("com.mycompany.myapp.service.BookingService");
+        safeLoggerEvent = new LoggingEvent();
+        safeLoggerEvent.setLoggerName("org.hibernate.SQL");
+        markedEvent = new LoggingEvent();
+        markedEvent.setLoggerName("com.mycompany.myapp.service.BookingService");
+        markedEvent.addMarker(CRLFLogConverter.CRLF_SAFE_MARKER);
+    }
+
+    @Benchmark
+    public String applicationLogger() {
+        return converter.transform(applicationEvent, in);
+    }
+
+    @Benchmark
+    public String safeLogger() {
+        return converter.transform(safeLoggerEvent, in);
+    }
+
+    @Benchmark
+    public String safeMarker() {
+        return converter.transform(markedEvent, in);
+    }
+
+    @Benchmark
+    public String regularExpression() {
+        return in.replaceAll("[\n\r\t]", replacement);
+    }
+}
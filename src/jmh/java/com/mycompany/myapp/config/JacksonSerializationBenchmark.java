@@ -0,0 +1,87 @@
+package com.mycompany.myapp.config;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mycompany.myapp.domain.Booking;
+import com.mycompany.myapp.domain.Bundle;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * Cost of serializing the {@link Booking} and {@link Bundle} pages returned by the REST endpoints, with the modules
+ * registered by {@link JacksonConfiguration}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JacksonSerializationBenchmark {
+
+    @Param({ "20", "1000" })
+    public int size;
+
+    private ObjectMapper objectMapper;
+
+    private List<Booking> bookings;
+
+    private List<Bundle> bundles;
+
+    @Setup
+    public void setUp() {
+        JacksonConfiguration jacksonConfiguration = new JacksonConfiguration();
+        objectMapper =
+            Jackson2ObjectMapperBuilder
+                .json()
+                .modules(
+                    jacksonConfiguration.javaTimeModule(),
+                    jacksonConfiguration.jdk8TimeModule(),
+                    jacksonConfiguration.hibernate6Module()
+                )
+                .build();
+
+        ZonedDateTime start = ZonedDateTime.of(2026, 6, 1, 14, 0, 0, 0, ZoneOffset.UTC);
+        bookings = new ArrayList<>(size);
+        bundles = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            bookings.add(
+                new Booking()
+                    .id((long) i)
+                    .bundleId(i % 50)
+                    .customerName("Customer " + i)
+                    .bookingStartDate(LocalDate.of(2026, 6, 1).plusDays(i))
+                    .bookingEndDate(LocalDate.of(2026, 6, 2).plusDays(i))
+                    .bookingStartTime(start.plusDays(i))
+                    .bookingEndTime(start.plusDays(i).plusHours(10))
+            );
+            bundles.add(new Bundle().id((long) i).bundleName("Bundle " + i).priceRange("1000-5000").maxPeople("150"));
+        }
+    }
+
+    @Benchmark
+    public byte[] bookings() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(bookings);
+    }
+
+    @Benchmark
+    public byte[] bundles() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(bundles);
+    }
+}
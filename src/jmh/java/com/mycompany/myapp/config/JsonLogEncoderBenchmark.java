@@ -0,0 +1,83 @@
+package com.mycompany.myapp.config;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.PatternLayout;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import ch.qos.logback.core.encoder.LayoutWrappingEncoder;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cost of encoding a logging event with {@link JsonLogEncoder}, compared to the pattern layout of the console appender
+ * with its {@link CRLFLogConverter}. Run with {@code -Pjmh.profilers=gc} to compare the allocations.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonLogEncoderBenchmark {
+
+    private static final String PATTERN = "%d{yyyy-MM-dd'T'HH:mm:ss.SSSXXX} %5p [%15.15t] %-40.40logger{39} : %crlf(%m) %n";
+
+    @Param({ "clean", "crlf" })
+    public String message;
+
+    private LayoutWrappingEncoder<ILoggingEvent> patternEncoder;
+
+    private JsonLogEncoder jsonEncoder;
+
+    private LoggingEvent event;
+
+    @Setup
+    public void setUp() {
+        LoggerContext context = new LoggerContext();
+        PatternLayout layout = new PatternLayout();
+        layout.getInstanceConverterMap().put("crlf", CRLFLogConverter.class.getName());
+        layout.setContext(context);
+        layout.setPattern(PATTERN);
+        layout.start();
+        patternEncoder = new LayoutWrappingEncoder<>();
+        patternEncoder.setContext(context);
+        patternEncoder.setLayout(layout);
+        patternEncoder.start();
+
+        jsonEncoder = new JsonLogEncoder();
+        jsonEncoder.setContext(context);
+        jsonEncoder.setAppName("marriageBundle");
+        jsonEncoder.start();
+
+        event = new LoggingEvent();
+        event.setLoggerName("com.mycompany.myapp.service.BookingService");
+        event.setLevel(Level.DEBUG);
+        event.setThreadName("XNIO-1 task-2");
+        event.setTimeStamp(System.currentTimeMillis());
+        event.setMessage("Enter: {}() with argument[s] = {}");
+        event.setArgumentArray(new Object[] { "findOne", "clean".equals(message) ? "[1051]" : "[forged\r\nINFO admin logged in\t]" });
+        // Formats the message once, as logback does before handing the event to an appender
+        event.getFormattedMessage();
+    }
+
+    @Benchmark
+    public byte[] patternLayout() {
+        return patternEncoder.encode(event);
+    }
+
+    @Benchmark
+    public byte[] jsonEncoder() {
+        return jsonEncoder.encode(event);
+    }
+}
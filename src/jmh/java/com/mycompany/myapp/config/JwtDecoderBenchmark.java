@@ -0,0 +1,87 @@
+package com.mycompany.myapp.config;
+
+import static com.mycompany.myapp.security.SecurityUtils.AUTHORITIES_KEY;
+import static com.mycompany.myapp.security.SecurityUtils.JWT_ALGORITHM;
+
+import com.mycompany.myapp.BenchmarkFixtures;
+import com.mycompany.myapp.management.SecurityMetersService;
+import com.nimbusds.jose.util.Base64;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.TimeUnit;
+import javax.crypto.spec.SecretKeySpec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.oauth2.jwt.JwsHeader;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtClaimsSet;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+
+/**
+ * Cost of decoding the bearer token of a request with the {@link SecurityJwtConfiguration#jwtDecoder} bean, when the token
+ * was already verified, compared to verifying its signature and claims.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtDecoderBenchmark {
+
+    private JwtDecoder jwtDecoder;
+
+    private JwtDecoder verifyingDecoder;
+
+    private String token;
+
+    @Setup
+    public void setUp() {
+        SecurityJwtConfiguration securityJwtConfiguration = new SecurityJwtConfiguration();
+        BenchmarkFixtures.setField(securityJwtConfiguration, "jwtKey", BenchmarkFixtures.JWT_BASE64_SECRET);
+        jwtDecoder = securityJwtConfiguration.jwtDecoder(new SecurityMetersService(new SimpleMeterRegistry()), new ApplicationProperties());
+
+        byte[] keyBytes = Base64.from(BenchmarkFixtures.JWT_BASE64_SECRET).decode();
+        verifyingDecoder =
+            NimbusJwtDecoder
+                .withSecretKey(new SecretKeySpec(keyBytes, 0, keyBytes.length, JWT_ALGORITHM.getName()))
+                .macAlgorithm(JWT_ALGORITHM)
+                .build();
+
+        Instant now = Instant.now();
+        JwtClaimsSet claims = JwtClaimsSet
+            .builder()
+            .issuedAt(now)
+            .expiresAt(now.plus(1, ChronoUnit.DAYS))
+            .subject("user")
+            .claim(AUTHORITIES_KEY, "ROLE_USER")
+            .build();
+        token =
+            securityJwtConfiguration
+                .jwtEncoder()
+                .encode(JwtEncoderParameters.from(JwsHeader.with(JWT_ALGORITHM).build(), claims))
+                .getTokenValue();
+        jwtDecoder.decode(token);
+    }
+
+    @Benchmark
+    public Jwt cachedDecode() {
+        return jwtDecoder.decode(token);
+    }
+
+    @Benchmark
+    public Jwt verifyingDecode() {
+        return verifyingDecoder.decode(token);
+    }
+}
@@ -0,0 +1,14 @@
+package com.mycompany.myapp.service;
+
+import org.springframework.stereotype.Service;
+
+/**
+ * Service matched by the {@link com.mycompany.myapp.aop.logging.LoggingAspect} pointcuts, used to measure the cost of the advice.
+ */
+@Service
+public class LoggingAspectBenchmarkService {
+
+    public long sum(long first, long second) {
+        return first + second;
+    }
+}
@@ -0,0 +1,61 @@
+package com.mycompany.myapp.web.rest;
+
+import com.mycompany.myapp.BenchmarkFixtures;
+import com.mycompany.myapp.config.SecurityJwtConfiguration;
+import com.mycompany.myapp.security.AuthoritiesConstants;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+/**
+ * Cost of {@link AuthenticateController#createToken} once the credentials are checked, i.e. building and signing the JWT.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AuthenticateControllerBenchmark {
+
+    private AuthenticateController authenticateController;
+
+    private Authentication authentication;
+
+    @Setup
+    public void setUp() {
+        SecurityJwtConfiguration securityJwtConfiguration = new SecurityJwtConfiguration();
+        BenchmarkFixtures.setField(securityJwtConfiguration, "jwtKey", BenchmarkFixtures.JWT_BASE64_SECRET);
+        authenticateController = new AuthenticateController(securityJwtConfiguration.jwtEncoder(), null);
+        BenchmarkFixtures.setField(authenticateController, "tokenValidityInSeconds", 86400L);
+        BenchmarkFixtures.setField(authenticateController, "tokenValidityInSecondsForRememberMe", 2592000L);
+        authentication =
+            new UsernamePasswordAuthenticationToken(
+                "admin",
+                null,
+                List.of(new SimpleGrantedAuthority(AuthoritiesConstants.ADMIN), new SimpleGrantedAuthority(AuthoritiesConstants.USER))
+            );
+    }
+
+    @Benchmark
+    public String createToken() {
+        return authenticateController.createToken(authentication, false);
+    }
+
+    @Benchmark
+    public String createRememberMeToken() {
+        return authenticateController.createToken(authentication, true);
+    }
+}
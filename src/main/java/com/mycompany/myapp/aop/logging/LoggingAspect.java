@@ -1,12 +1,17 @@
 package com.mycompany.myapp.aop.logging;
 
 import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
 import org.aspectj.lang.JoinPoint;
 import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.Signature;
 import org.aspectj.lang.annotation.AfterThrowing;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.annotation.Pointcut;
+import org.aspectj.lang.reflect.MethodSignature;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.core.env.Environment;
@@ -16,15 +21,29 @@ import tech.jhipster.config.JHipsterConstants;
 /**
  * Aspect for logging execution of service and repository Spring components.
  *
- * By default, it only runs with the "dev" profile.
+ * By default, it only runs with the "dev" profile. The latency of the methods is recorded by the {@link MethodTimingAspect},
+ * which can run in production.
  */
 @Aspect
 public class LoggingAspect {
 
     private final Environment env;
 
+    private final int debugSampleRate;
+
+    private final ConcurrentMap<Object, Logger> loggers = new ConcurrentHashMap<>();
+
     public LoggingAspect(Environment env) {
+        this(env, 1);
+    }
+
+    /**
+     * @param env the environment.
+     * @param debugSampleRate logs the arguments and the result of one call out of this number.
+     */
+    public LoggingAspect(Environment env, int debugSampleRate) {
         this.env = env;
+        this.debugSampleRate = Math.max(1, debugSampleRate);
     }
 
     /**
@@ -58,7 +77,18 @@ public class LoggingAspect {
      * @return {@link Logger} associated to the given {@link JoinPoint}.
      */
     private Logger logger(JoinPoint joinPoint) {
-        return LoggerFactory.getLogger(joinPoint.getSignature().getDeclaringTypeName());
+        // Spring AOP creates a new Signature for each call, so the loggers are keyed by the Method it designates
+        Signature signature = joinPoint.getSignature();
+        Object key = signature instanceof MethodSignature methodSignature ? methodSignature.getMethod() : signature.toLongString();
+        Logger log = loggers.get(key);
+        if (log == null) {
+            log = loggers.computeIfAbsent(key, k -> LoggerFactory.getLogger(signature.getDeclaringTypeName()));
+        }
+        return log;
+    }
+
+    private boolean sampled() {
+        return debugSampleRate == 1 || ThreadLocalRandom.current().nextInt(debugSampleRate) == 0;
     }
 
     /**
@@ -98,18 +128,20 @@ public class LoggingAspect {
     @Around("applicationPackagePointcut() && springBeanPointcut()")
     public Object logAround(ProceedingJoinPoint joinPoint) throws Throwable {
         Logger log = logger(joinPoint);
-        if (log.isDebugEnabled()) {
+        boolean debug = log.isDebugEnabled() && sampled();
+        if (debug) {
             log.debug("Enter: {}() with argument[s] = {}", joinPoint.getSignature().getName(), Arrays.toString(joinPoint.getArgs()));
         }
+        Object result;
         try {
-            Object result = joinPoint.proceed();
-            if (log.isDebugEnabled()) {
-                log.debug("Exit: {}() with result = {}", joinPoint.getSignature().getName(), result);
-            }
-            return result;
+            result = joinPoint.proceed();
         } catch (IllegalArgumentException e) {
             log.error("Illegal argument: {} in {}()", Arrays.toString(joinPoint.getArgs()), joinPoint.getSignature().getName());
             throw e;
         }
+        if (debug) {
+            log.debug("Exit: {}() with result = {}", joinPoint.getSignature().getName(), result);
+        }
+        return result;
     }
 }
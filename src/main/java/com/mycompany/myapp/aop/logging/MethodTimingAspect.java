@@ -0,0 +1,63 @@
+package com.mycompany.myapp.aop.logging;
+
+import com.mycompany.myapp.management.MethodMetersService;
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.Signature;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+
+/**
+ * Aspect recording the latency of the methods advised by the {@link LoggingAspect} into their timer, see
+ * {@link MethodMetersService}.
+ *
+ * It only runs with {@code application.logging.aspect.timing-enabled}, in any profile: it never logs, and only costs a
+ * lookup of the cached timer and a {@link System#nanoTime()} pair per call.
+ */
+@Aspect
+public class MethodTimingAspect {
+
+    private final MethodMetersService methodMetersService;
+
+    private final ConcurrentMap<Object, Timer> timers = new ConcurrentHashMap<>();
+
+    public MethodTimingAspect(MethodMetersService methodMetersService) {
+        this.methodMetersService = methodMetersService;
+    }
+
+    private Timer timer(ProceedingJoinPoint joinPoint) {
+        // Spring AOP creates a new Signature for each call, so the timers are keyed by the Method it designates
+        Signature signature = joinPoint.getSignature();
+        Object key = signature instanceof MethodSignature methodSignature ? methodSignature.getMethod() : signature.toLongString();
+        Timer timer = timers.get(key);
+        if (timer == null) {
+            timer = timers.computeIfAbsent(key, k -> methodMetersService.timerFor(signature.getDeclaringType(), signature.getName()));
+        }
+        return timer;
+    }
+
+    /**
+     * Advice that records the latency of a method, including failing calls.
+     *
+     * @param joinPoint join point for advice.
+     * @return result.
+     * @throws Throwable the exception of the method.
+     */
+    @Around(
+        "com.mycompany.myapp.aop.logging.LoggingAspect.applicationPackagePointcut()" +
+        " && com.mycompany.myapp.aop.logging.LoggingAspect.springBeanPointcut()"
+    )
+    public Object timeAround(ProceedingJoinPoint joinPoint) throws Throwable {
+        Timer timer = timer(joinPoint);
+        long start = System.nanoTime();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+}
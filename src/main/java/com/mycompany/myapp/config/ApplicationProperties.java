@@ -1,5 +1,6 @@
 package com.mycompany.myapp.config;
 
+import java.time.Duration;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -10,7 +11,401 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
  */
 @ConfigurationProperties(prefix = "application", ignoreUnknownFields = false)
 public class ApplicationProperties {
+
+    private final Cache cache = new Cache();
+
+    private final Security security = new Security();
+
+    private final Mail mail = new Mail();
+
+    private final Logging logging = new Logging();
+
+    private final HotPaths hotPaths = new HotPaths();
+
+    private final CatalogVersion catalogVersion = new CatalogVersion();
+
     // jhipster-needle-application-properties-property
+
+    public Cache getCache() {
+        return cache;
+    }
+
+    public Security getSecurity() {
+        return security;
+    }
+
+    public Mail getMail() {
+        return mail;
+    }
+
+    public Logging getLogging() {
+        return logging;
+    }
+
+    public HotPaths getHotPaths() {
+        return hotPaths;
+    }
+
+    public CatalogVersion getCatalogVersion() {
+        return catalogVersion;
+    }
+
     // jhipster-needle-application-properties-property-getter
+
+    public static class Cache {
+
+        private final Region catalog = new Region(3600, 1000);
+
+        private final Region security = new Region(3600, 100);
+
+        private final Region availability = new Region(300, 10000);
+
+        private final Region calendar = new Region(300, 10000);
+
+        private int bundleItemIndexTimeToLiveSeconds = 600;
+
+        /**
+         * Limits of the bundle, item and bundle item regions, including cached bundle item queries.
+         */
+        public Region getCatalog() {
+            return catalog;
+        }
+
+        /**
+         * Limits of the user, authority and user authorities regions.
+         */
+        public Region getSecurity() {
+            return security;
+        }
+
+        /**
+         * Limits of the booking interval trees of the availability queries, one per bundle.
+         */
+        public Region getAvailability() {
+            return availability;
+        }
+
+        /**
+         * Limits of the item calendars of the calendar and free days queries, one per item.
+         */
+        public Region getCalendar() {
+            return calendar;
+        }
+
+        /**
+         * Time after which the bundle item index is loaded again, so that it shows the writes of the other nodes.
+         */
+        public int getBundleItemIndexTimeToLiveSeconds() {
+            return bundleItemIndexTimeToLiveSeconds;
+        }
+
+        public void setBundleItemIndexTimeToLiveSeconds(int bundleItemIndexTimeToLiveSeconds) {
+            this.bundleItemIndexTimeToLiveSeconds = bundleItemIndexTimeToLiveSeconds;
+        }
+
+        public static class Region {
+
+            private int timeToLiveSeconds;
+
+            private long maxEntries;
+
+            public Region(int timeToLiveSeconds, long maxEntries) {
+                this.timeToLiveSeconds = timeToLiveSeconds;
+                this.maxEntries = maxEntries;
+            }
+
+            public int getTimeToLiveSeconds() {
+                return timeToLiveSeconds;
+            }
+
+            public void setTimeToLiveSeconds(int timeToLiveSeconds) {
+                this.timeToLiveSeconds = timeToLiveSeconds;
+            }
+
+            public long getMaxEntries() {
+                return maxEntries;
+            }
+
+            public void setMaxEntries(long maxEntries) {
+                this.maxEntries = maxEntries;
+            }
+        }
+    }
+
+    public static class Security {
+
+        private long tokenCacheMaxEntries = 10000;
+
+        private final Password password = new Password();
+
+        /**
+         * Maximum number of verified JWT kept by the {@code JwtDecoder}.
+         */
+        public long getTokenCacheMaxEntries() {
+            return tokenCacheMaxEntries;
+        }
+
+        public void setTokenCacheMaxEntries(long tokenCacheMaxEntries) {
+            this.tokenCacheMaxEntries = tokenCacheMaxEntries;
+        }
+
+        public Password getPassword() {
+            return password;
+        }
+
+        public static class Password {
+
+            private int strength = 10;
+
+            private int poolSize = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+
+            private int queueCapacity = 200;
+
+            private Duration timeout = Duration.ofSeconds(10);
+
+            /**
+             * BCrypt cost of new hashes. Hashes with another cost are rehashed on login.
+             */
+            public int getStrength() {
+                return strength;
+            }
+
+            public void setStrength(int strength) {
+                this.strength = strength;
+            }
+
+            /**
+             * Number of threads hashing and verifying passwords.
+             */
+            public int getPoolSize() {
+                return poolSize;
+            }
+
+            public void setPoolSize(int poolSize) {
+                this.poolSize = poolSize;
+            }
+
+            /**
+             * Number of password operations allowed to wait for a thread before new ones are rejected.
+             */
+            public int getQueueCapacity() {
+                return queueCapacity;
+            }
+
+            public void setQueueCapacity(int queueCapacity) {
+                this.queueCapacity = queueCapacity;
+            }
+
+            /**
+             * Time a password operation may wait and run before it fails as if the queue were full.
+             */
+            public Duration getTimeout() {
+                return timeout;
+            }
+
+            public void setTimeout(Duration timeout) {
+                this.timeout = timeout;
+            }
+        }
+    }
+
+    public static class Mail {
+
+        private final Outbox outbox = new Outbox();
+
+        public Outbox getOutbox() {
+            return outbox;
+        }
+
+        public static class Outbox {
+
+            private Duration pollInterval = Duration.ofSeconds(5);
+
+            private int batchSize = 50;
+
+            private int maxAttempts = 10;
+
+            private Duration initialBackoff = Duration.ofSeconds(30);
+
+            private Duration maxBackoff = Duration.ofHours(1);
+
+            private Duration lease = Duration.ofMinutes(5);
+
+            /**
+             * Delay between the end of a dispatch and the start of the next one.
+             */
+            public Duration getPollInterval() {
+                return pollInterval;
+            }
+
+            public void setPollInterval(Duration pollInterval) {
+                this.pollInterval = pollInterval;
+            }
+
+            /**
+             * Number of emails claimed and sent over a single SMTP connection.
+             */
+            public int getBatchSize() {
+                return batchSize;
+            }
+
+            public void setBatchSize(int batchSize) {
+                this.batchSize = batchSize;
+            }
+
+            /**
+             * Number of failed attempts after which an email is left in the outbox unsent.
+             */
+            public int getMaxAttempts() {
+                return maxAttempts;
+            }
+
+            public void setMaxAttempts(int maxAttempts) {
+                this.maxAttempts = maxAttempts;
+            }
+
+            /**
+             * Delay before retrying an email which failed once, doubled on every further failure.
+             */
+            public Duration getInitialBackoff() {
+                return initialBackoff;
+            }
+
+            public void setInitialBackoff(Duration initialBackoff) {
+                this.initialBackoff = initialBackoff;
+            }
+
+            public Duration getMaxBackoff() {
+                return maxBackoff;
+            }
+
+            public void setMaxBackoff(Duration maxBackoff) {
+                this.maxBackoff = maxBackoff;
+            }
+
+            /**
+             * Time after which an email claimed by a dispatcher that died before sending it is claimed again.
+             */
+            public Duration getLease() {
+                return lease;
+            }
+
+            public void setLease(Duration lease) {
+                this.lease = lease;
+            }
+        }
+    }
+
+    public static class Logging {
+
+        private final Aspect aspect = new Aspect();
+
+        public Aspect getAspect() {
+            return aspect;
+        }
+
+        public static class Aspect {
+
+            private boolean timingEnabled = false;
+
+            private int maxTimedMethods = 500;
+
+            private int debugSampleRate = 1;
+
+            /**
+             * Whether the {@code MethodTimingAspect} records the latency of each service, repository and REST controller
+             * method into a timer, in any profile.
+             */
+            public boolean isTimingEnabled() {
+                return timingEnabled;
+            }
+
+            public void setTimingEnabled(boolean timingEnabled) {
+                this.timingEnabled = timingEnabled;
+            }
+
+            /**
+             * Number of methods with their own timer, the latency of further methods is recorded into a single timer.
+             */
+            public int getMaxTimedMethods() {
+                return maxTimedMethods;
+            }
+
+            public void setMaxTimedMethods(int maxTimedMethods) {
+                this.maxTimedMethods = maxTimedMethods;
+            }
+
+            /**
+             * Logs the arguments and the result of one call out of this number, when the logger of the method is at
+             * {@code DEBUG} level and the {@code LoggingAspect} runs, with the {@code dev} profile.
+             */
+            public int getDebugSampleRate() {
+                return debugSampleRate;
+            }
+
+            public void setDebugSampleRate(int debugSampleRate) {
+                this.debugSampleRate = debugSampleRate;
+            }
+        }
+    }
+
+    public static class HotPaths {
+
+        private Duration window = Duration.ofMinutes(5);
+
+        private Duration sampleInterval = Duration.ofSeconds(10);
+
+        private int top = 10;
+
+        /**
+         * Period over which the {@code hotpaths} management endpoint computes its latencies, rates and maximums.
+         */
+        public Duration getWindow() {
+            return window;
+        }
+
+        public void setWindow(Duration window) {
+            this.window = window;
+        }
+
+        /**
+         * Delay between two samples of the meters, the window slides by this step.
+         */
+        public Duration getSampleInterval() {
+            return sampleInterval;
+        }
+
+        public void setSampleInterval(Duration sampleInterval) {
+            this.sampleInterval = sampleInterval;
+        }
+
+        /**
+         * Number of HTTP routes and repository methods listed when the request does not set it.
+         */
+        public int getTop() {
+            return top;
+        }
+
+        public void setTop(int top) {
+            this.top = top;
+        }
+    }
+
+    public static class CatalogVersion {
+
+        private Duration maxAge = Duration.ofSeconds(1);
+
+        /**
+         * Time during which the catalog versions last read answer the conditional requests of the clients holding the
+         * current ETag without any query, and so the longest time a change may be answered with a {@code 304}.
+         */
+        public Duration getMaxAge() {
+            return maxAge;
+        }
+
+        public void setMaxAge(Duration maxAge) {
+            this.maxAge = maxAge;
+        }
+    }
     // jhipster-needle-application-properties-property-class
 }
@@ -0,0 +1,64 @@
+package com.mycompany.myapp.config;
+
+import com.mycompany.myapp.service.BundleSizingBackfill;
+import java.sql.SQLException;
+import liquibase.change.custom.CustomTaskChange;
+import liquibase.database.Database;
+import liquibase.database.jvm.JdbcConnection;
+import liquibase.exception.CustomChangeException;
+import liquibase.exception.DatabaseException;
+import liquibase.exception.ValidationErrors;
+import liquibase.resource.ResourceAccessor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Liquibase change filling the typed price and capacity columns of the existing bundles, see
+ * {@link BundleSizingBackfill}. Each batch is committed on its own, so that a large table is not locked by a single
+ * long transaction.
+ */
+public class BundleSizingBackfillChange implements CustomTaskChange {
+
+    private final Logger log = LoggerFactory.getLogger(BundleSizingBackfillChange.class);
+
+    private long rows;
+
+    @Override
+    public void execute(Database database) throws CustomChangeException {
+        BundleSizingBackfill backfill = new BundleSizingBackfill(
+            ((JdbcConnection) database.getConnection()).getUnderlyingConnection(),
+            Long.MIN_VALUE,
+            Long.MAX_VALUE
+        );
+        try {
+            int batch;
+            while ((batch = backfill.nextBatch()) > 0) {
+                database.commit();
+                rows += batch;
+                log.debug("Filled the price and capacity of {} bundles", rows);
+            }
+        } catch (SQLException | DatabaseException e) {
+            throw new CustomChangeException("Cannot fill the price and capacity of the bundles", e);
+        }
+    }
+
+    @Override
+    public String getConfirmationMessage() {
+        return "Filled the price and capacity of " + rows + " bundles";
+    }
+
+    @Override
+    public void setUp() {
+        // Nothing to set up
+    }
+
+    @Override
+    public void setFileOpener(ResourceAccessor resourceAccessor) {
+        // No resource is read
+    }
+
+    @Override
+    public ValidationErrors validate(Database database) {
+        return new ValidationErrors();
+    }
+}
@@ -43,26 +43,86 @@ public class CRLFLogConverter extends CompositeConverter<ILoggingEvent> {
         ELEMENTS = Collections.unmodifiableMap(ansiElements);
     }
 
+    private String replacement;
+
     @Override
-    protected String transform(ILoggingEvent event, String in) {
+    public void start() {
         AnsiElement element = ELEMENTS.get(getFirstOption());
-        List<Marker> markers = event.getMarkerList();
-        if ((markers != null && !markers.isEmpty() && markers.get(0).contains(CRLF_SAFE_MARKER)) || isLoggerSafe(event)) {
+        replacement = element == null ? "_" : toAnsiString("_", element);
+        super.start();
+    }
+
+    @Override
+    protected String transform(ILoggingEvent event, String in) {
+        if (isMarkedSafe(event) || isLoggerSafe(event)) {
             return in;
         }
-        String replacement = element == null ? "_" : toAnsiString("_", element);
-        return in.replaceAll("[\n\r\t]", replacement);
+        return sanitize(in, replacement);
     }
 
     protected boolean isLoggerSafe(ILoggingEvent event) {
+        return isSafeLogger(event.getLoggerName());
+    }
+
+    /**
+     * Whether the CR/LF characters of an event can be written as is, because it is marked with {@link #CRLF_SAFE_MARKER}
+     * or logged by one of the safe loggers.
+     *
+     * @param event the logging event.
+     * @return {@code true} if the event does not need to be sanitized.
+     */
+    static boolean isCrlfSafe(ILoggingEvent event) {
+        return isMarkedSafe(event) || isSafeLogger(event.getLoggerName());
+    }
+
+    private static boolean isMarkedSafe(ILoggingEvent event) {
+        List<Marker> markers = event.getMarkerList();
+        return markers != null && !markers.isEmpty() && markers.get(0).contains(CRLF_SAFE_MARKER);
+    }
+
+    private static boolean isSafeLogger(String loggerName) {
         for (String safeLogger : SAFE_LOGGERS) {
-            if (event.getLoggerName().startsWith(safeLogger)) {
+            if (loggerName.startsWith(safeLogger)) {
                 return true;
             }
         }
         return false;
     }
 
+    /**
+     * Replaces the CR, LF and tab characters of a message.
+     * <p>
+     * Most messages have none, so they are scanned first and returned as is, without allocating.
+     *
+     * @param in the message.
+     * @param replacement the replacement of each CR, LF and tab character.
+     * @return the sanitized message.
+     */
+    static String sanitize(String in, String replacement) {
+        int length = in.length();
+        int i = 0;
+        while (i < length && !isCrlf(in.charAt(i))) {
+            i++;
+        }
+        if (i == length) {
+            return in;
+        }
+        StringBuilder sanitized = new StringBuilder(length + 16).append(in, 0, i);
+        for (; i < length; i++) {
+            char c = in.charAt(i);
+            if (isCrlf(c)) {
+                sanitized.append(replacement);
+            } else {
+                sanitized.append(c);
+            }
+        }
+        return sanitized.toString();
+    }
+
+    static boolean isCrlf(char c) {
+        return c == '\n' || c == '\r' || c == '\t';
+    }
+
     protected String toAnsiString(String in, AnsiElement element) {
         return AnsiOutput.toString(element, in);
     }
@@ -0,0 +1,82 @@
+package com.mycompany.myapp.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import java.util.OptionalLong;
+import java.util.concurrent.TimeUnit;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.spi.RegionFactory;
+import org.springframework.boot.autoconfigure.cache.JCacheManagerCustomizer;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Caffeine backed JCache regions used by the Hibernate second-level cache.
+ * <p>
+ * Every region is bounded in size and time, with the limits of its group in {@link ApplicationProperties.Cache}.
+ * Statistics are enabled on all regions, so Spring Boot binds their {@code cache.gets} hit/miss meters to Micrometer.
+ * <p>
+ * No method uses the Spring cache annotations, but {@link EnableCaching} is still required: Spring Boot only creates
+ * the JCache {@link javax.cache.CacheManager} given to Hibernate, and applies the {@link JCacheManagerCustomizer}, when
+ * caching is enabled.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfiguration {
+
+    private final javax.cache.configuration.Configuration<Object, Object> catalogConfiguration;
+    private final javax.cache.configuration.Configuration<Object, Object> securityConfiguration;
+    private final javax.cache.configuration.Configuration<Object, Object> timestampsConfiguration;
+
+    public CacheConfiguration(ApplicationProperties applicationProperties) {
+        ApplicationProperties.Cache cache = applicationProperties.getCache();
+        catalogConfiguration = regionConfiguration(cache.getCatalog());
+        securityConfiguration = regionConfiguration(cache.getSecurity());
+        // Update timestamps must never expire before the query results they invalidate, and hold one entry per table
+        CaffeineConfiguration<Object, Object> timestamps = new CaffeineConfiguration<>();
+        timestamps.setStatisticsEnabled(true);
+        timestampsConfiguration = timestamps;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer hibernatePropertiesCustomizer(javax.cache.CacheManager cacheManager) {
+        return hibernateProperties -> hibernateProperties.put(ConfigSettings.CACHE_MANAGER, cacheManager);
+    }
+
+    @Bean
+    public JCacheManagerCustomizer cacheManagerCustomizer() {
+        return cm -> {
+            createCache(cm, RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME, timestampsConfiguration);
+            createCache(cm, RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME, catalogConfiguration);
+            createCache(cm, com.mycompany.myapp.domain.User.class.getName(), securityConfiguration);
+            createCache(cm, com.mycompany.myapp.domain.Authority.class.getName(), securityConfiguration);
+            createCache(cm, com.mycompany.myapp.domain.User.class.getName() + ".authorities", securityConfiguration);
+            createCache(cm, com.mycompany.myapp.domain.Bundle.class.getName(), catalogConfiguration);
+            createCache(cm, com.mycompany.myapp.domain.Item.class.getName(), catalogConfiguration);
+            createCache(cm, com.mycompany.myapp.domain.BundleItem.class.getName(), catalogConfiguration);
+            createCache(cm, com.mycompany.myapp.repository.BundleItemRepository.BUNDLE_ITEMS_CACHE, catalogConfiguration);
+        };
+    }
+
+    private static javax.cache.configuration.Configuration<Object, Object> regionConfiguration(ApplicationProperties.Cache.Region region) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setMaximumSize(OptionalLong.of(region.getMaxEntries()));
+        configuration.setExpireAfterWrite(OptionalLong.of(TimeUnit.SECONDS.toNanos(region.getTimeToLiveSeconds())));
+        configuration.setStatisticsEnabled(true);
+        return configuration;
+    }
+
+    private void createCache(
+        javax.cache.CacheManager cm,
+        String cacheName,
+        javax.cache.configuration.Configuration<Object, Object> configuration
+    ) {
+        javax.cache.Cache<Object, Object> cache = cm.getCache(cacheName);
+        if (cache != null) {
+            cache.clear();
+        } else {
+            cm.createCache(cacheName, configuration);
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.mycompany.myapp.config;
+
+import com.mycompany.myapp.service.CsvImportException;
+import com.mycompany.myapp.service.CsvImportService;
+import com.mycompany.myapp.service.dto.CsvImportResultDTO;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ApplicationContext;
+import org.springframework.stereotype.Component;
+
+/**
+ * Imports CSV files given on the command line, then stops the application:
+ * <pre>
+ * java -jar marriage-bundle.jar --csv-import=bundle:/data/bundle.csv --csv-import=bundle_item:/data/bundle_item.csv
+ * </pre>
+ * Files are imported in the given order, each one in its own transaction, and the import stops at the first invalid
+ * file with exit code 1. Without the option the application starts normally.
+ */
+@Component
+public class CsvImportRunner implements ApplicationRunner {
+
+    public static final String OPTION = "csv-import";
+
+    private final Logger log = LoggerFactory.getLogger(CsvImportRunner.class);
+
+    private final CsvImportService csvImportService;
+
+    private final ApplicationContext applicationContext;
+
+    public CsvImportRunner(CsvImportService csvImportService, ApplicationContext applicationContext) {
+        this.csvImportService = csvImportService;
+        this.applicationContext = applicationContext;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!args.containsOption(OPTION)) {
+            return;
+        }
+        int exitCode = importFiles(args.getOptionValues(OPTION));
+        System.exit(SpringApplication.exit(applicationContext, () -> exitCode));
+    }
+
+    private int importFiles(List<String> files) {
+        for (String file : files) {
+            int separator = file.indexOf(':');
+            if (separator < 0) {
+                log.error("Invalid --{} value '{}', expected <table>:<path>", OPTION, file);
+                return 1;
+            }
+            String tableName = file.substring(0, separator);
+            Path path = Path.of(file.substring(separator + 1));
+            CsvImportService.Table table = CsvImportService.Table.fromTableName(tableName).orElse(null);
+            if (table == null) {
+                log.error("Cannot import {}: unknown table {}", path, tableName);
+                return 1;
+            }
+            try (Reader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+                CsvImportResultDTO result = csvImportService.importCsv(table, reader);
+                log.info("Imported {}: {} rows inserted, {} rows updated", path, result.getInserted(), result.getUpdated());
+            } catch (CsvImportException | IOException e) {
+                log.error("Cannot import {} into {}: {}", path, tableName, e.getMessage());
+                return 1;
+            }
+        }
+        return 0;
+    }
+}
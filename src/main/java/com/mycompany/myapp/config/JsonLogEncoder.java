@@ -0,0 +1,206 @@
+package com.mycompany.myapp.config;
+
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.IThrowableProxy;
+import ch.qos.logback.classic.spi.ThrowableProxyUtil;
+import ch.qos.logback.core.encoder.EncoderBase;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * Encodes logging events as JSON lines, writing the fields straight into a reusable byte buffer instead of going
+ * through a layout, a {@link StringBuilder} and {@link String#getBytes}.
+ * <p>
+ * The CR, LF and tab characters of the messages are replaced with {@code _} as by {@link CRLFLogConverter}, unless the
+ * event is marked with {@link CRLFLogConverter#CRLF_SAFE_MARKER} or logged by one of its safe loggers, in which case
+ * they are escaped as JSON.
+ * <p>
+ * The buffer is shared by the calls, which are serialized: behind an {@link ch.qos.logback.classic.AsyncAppender} only
+ * its worker thread encodes, so the lock is never contended. The returned array is the only allocation of an event
+ * without arguments nor exception, as required by the {@link ch.qos.logback.core.encoder.Encoder} contract.
+ */
+public class JsonLogEncoder extends EncoderBase<ILoggingEvent> {
+
+    private static final byte[] HEX = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+
+    private byte[] buffer = new byte[1024];
+
+    private int size;
+
+    private String appName;
+
+    private long cachedEpochDay = Long.MIN_VALUE;
+
+    private byte[] cachedDate;
+
+    /**
+     * Sets the value of the {@code app_name} field of each event, the field is omitted when not set.
+     *
+     * @param appName the name of the application.
+     */
+    public void setAppName(String appName) {
+        this.appName = appName;
+    }
+
+    @Override
+    public byte[] headerBytes() {
+        return null;
+    }
+
+    @Override
+    public synchronized byte[] encode(ILoggingEvent event) {
+        size = 0;
+        writeAscii("{\"@timestamp\":\"");
+        writeTimestamp(event.getTimeStamp());
+        writeAscii("\",\"level\":\"");
+        writeAscii(event.getLevel().levelStr);
+        writeAscii("\",\"thread_name\":");
+        writeString(event.getThreadName(), true);
+        writeAscii(",\"logger_name\":");
+        writeString(event.getLoggerName(), true);
+        writeAscii(",\"message\":");
+        writeString(event.getFormattedMessage(), CRLFLogConverter.isCrlfSafe(event));
+        Map<String, String> mdc = event.getMDCPropertyMap();
+        if (mdc != null && !mdc.isEmpty()) {
+            for (Map.Entry<String, String> entry : mdc.entrySet()) {
+                writeByte(',');
+                writeString(entry.getKey(), false);
+                writeByte(':');
+                writeString(entry.getValue(), false);
+            }
+        }
+        if (appName != null) {
+            writeAscii(",\"app_name\":");
+            writeString(appName, true);
+        }
+        IThrowableProxy throwable = event.getThrowableProxy();
+        if (throwable != null) {
+            writeAscii(",\"stack_trace\":");
+            writeString(ThrowableProxyUtil.asString(throwable), true);
+        }
+        writeAscii("}\n");
+        return Arrays.copyOf(buffer, size);
+    }
+
+    @Override
+    public byte[] footerBytes() {
+        return null;
+    }
+
+    /**
+     * Writes an ISO-8601 UTC timestamp with milliseconds, reusing the date part of the previous event of the same day.
+     */
+    private void writeTimestamp(long epochMillis) {
+        long epochDay = Math.floorDiv(epochMillis, 86_400_000L);
+        if (epochDay != cachedEpochDay) {
+            cachedDate = (LocalDate.ofEpochDay(epochDay) + "T").getBytes(StandardCharsets.US_ASCII);
+            cachedEpochDay = epochDay;
+        }
+        ensureCapacity(cachedDate.length + 13);
+        System.arraycopy(cachedDate, 0, buffer, size, cachedDate.length);
+        size += cachedDate.length;
+        int millisOfDay = (int) Math.floorMod(epochMillis, 86_400_000L);
+        writeDigits(millisOfDay / 3_600_000, 2);
+        writeByte(':');
+        writeDigits(millisOfDay / 60_000 % 60, 2);
+        writeByte(':');
+        writeDigits(millisOfDay / 1000 % 60, 2);
+        writeByte('.');
+        writeDigits(millisOfDay % 1000, 3);
+        writeByte('Z');
+    }
+
+    private void writeDigits(int value, int digits) {
+        for (int i = digits - 1; i >= 0; i--) {
+            buffer[size + i] = (byte) ('0' + value % 10);
+            value /= 10;
+        }
+        size += digits;
+    }
+
+    /**
+     * Writes a JSON string encoded as UTF-8, replacing its CR, LF and tab characters with {@code _} unless
+     * {@code crlfSafe}.
+     */
+    private void writeString(String value, boolean crlfSafe) {
+        if (value == null) {
+            writeAscii("null");
+            return;
+        }
+        int length = value.length();
+        // At most 6 bytes per char, for an escaped control character
+        ensureCapacity(length * 6 + 2);
+        byte[] bytes = buffer;
+        int position = size;
+        bytes[position++] = '"';
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c >= 0x20 && c < 0x80 && c != '"' && c != '\\') {
+                bytes[position++] = (byte) c;
+            } else if (c < 0x80) {
+                if (!crlfSafe && CRLFLogConverter.isCrlf(c)) {
+                    bytes[position++] = '_';
+                } else {
+                    position = writeEscaped(bytes, position, c);
+                }
+            } else if (c < 0x800) {
+                bytes[position++] = (byte) (0xc0 | (c >> 6));
+                bytes[position++] = (byte) (0x80 | (c & 0x3f));
+            } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                bytes[position++] = (byte) (0xf0 | (codePoint >> 18));
+                bytes[position++] = (byte) (0x80 | ((codePoint >> 12) & 0x3f));
+                bytes[position++] = (byte) (0x80 | ((codePoint >> 6) & 0x3f));
+                bytes[position++] = (byte) (0x80 | (codePoint & 0x3f));
+            } else if (Character.isSurrogate(c)) {
+                bytes[position++] = '?';
+            } else {
+                bytes[position++] = (byte) (0xe0 | (c >> 12));
+                bytes[position++] = (byte) (0x80 | ((c >> 6) & 0x3f));
+                bytes[position++] = (byte) (0x80 | (c & 0x3f));
+            }
+        }
+        bytes[position++] = '"';
+        size = position;
+    }
+
+    private static int writeEscaped(byte[] bytes, int position, char c) {
+        bytes[position++] = '\\';
+        switch (c) {
+            case '"' -> bytes[position++] = '"';
+            case '\\' -> bytes[position++] = '\\';
+            case '\n' -> bytes[position++] = 'n';
+            case '\r' -> bytes[position++] = 'r';
+            case '\t' -> bytes[position++] = 't';
+            default -> {
+                bytes[position++] = 'u';
+                bytes[position++] = '0';
+                bytes[position++] = '0';
+                bytes[position++] = HEX[c >> 4];
+                bytes[position++] = HEX[c & 0xf];
+            }
+        }
+        return position;
+    }
+
+    private void writeAscii(String value) {
+        int length = value.length();
+        ensureCapacity(length);
+        for (int i = 0; i < length; i++) {
+            buffer[size++] = (byte) value.charAt(i);
+        }
+    }
+
+    private void writeByte(char c) {
+        ensureCapacity(1);
+        buffer[size++] = (byte) c;
+    }
+
+    private void ensureCapacity(int additional) {
+        if (size + additional > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, size + additional));
+        }
+    }
+}
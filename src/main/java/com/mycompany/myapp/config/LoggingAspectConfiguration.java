@@ -1,6 +1,9 @@
 package com.mycompany.myapp.config;
 
 import com.mycompany.myapp.aop.logging.LoggingAspect;
+import com.mycompany.myapp.aop.logging.MethodTimingAspect;
+import com.mycompany.myapp.management.MethodMetersService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.*;
 import org.springframework.core.env.Environment;
 import tech.jhipster.config.JHipsterConstants;
@@ -11,7 +14,13 @@ public class LoggingAspectConfiguration {
 
     @Bean
     @Profile(JHipsterConstants.SPRING_PROFILE_DEVELOPMENT)
-    public LoggingAspect loggingAspect(Environment env) {
-        return new LoggingAspect(env);
+    public LoggingAspect loggingAspect(Environment env, ApplicationProperties applicationProperties) {
+        return new LoggingAspect(env, applicationProperties.getLogging().getAspect().getDebugSampleRate());
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "application.logging.aspect", name = "timing-enabled", havingValue = "true")
+    public MethodTimingAspect methodTimingAspect(MethodMetersService methodMetersService) {
+        return new MethodTimingAspect(methodMetersService);
     }
 }
@@ -0,0 +1,86 @@
+package com.mycompany.myapp.config;
+
+import com.mycompany.myapp.config.ReplicaRoutingDataSource.Route;
+import com.zaxxer.hikari.HikariDataSource;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+/**
+ * Splits the database traffic between the primary database and a read replica, when
+ * {@code spring.datasource.replica.url} is set.
+ * <p>
+ * Two Hikari pools are created: the primary one from the usual {@code spring.datasource} properties, and the replica
+ * one from {@code spring.datasource.replica}, whose {@code url}, {@code username} and {@code password} default to the
+ * primary ones and whose pool is configured under {@code spring.datasource.replica.hikari}. Both pools are beans, so
+ * each has its own {@code hikaricp.*} metrics, tagged with its pool name.
+ * <p>
+ * The application {@link DataSource} sends the {@code @Transactional(readOnly = true)} transactions which are not
+ * nested in a read-write one to the replica, and everything else, Liquibase included, to the primary. A read-only
+ * transaction may then not see a write committed just before it on the primary, unless the replica applies the
+ * commits synchronously ({@code synchronous_commit = remote_apply}).
+ * <p>
+ * The loads of the in-memory indexes must not lag behind the primary, and run in read-write transactions for this
+ * reason, see {@link com.mycompany.myapp.service.PrimaryReadService}. The ETag-guarded catalog reads stay on the
+ * replica: their versions and data are read in the same {@code REPEATABLE READ} snapshot.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "spring.datasource.replica", name = "url")
+public class ReplicaDataSourceConfiguration {
+
+    private final Logger log = LoggerFactory.getLogger(ReplicaDataSourceConfiguration.class);
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("Hikari");
+        return dataSource;
+    }
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(DataSourceProperties properties, Environment environment) {
+        DataSourceProperties replica = Binder
+            .get(environment)
+            .bind("spring.datasource.replica", DataSourceProperties.class)
+            .orElseGet(DataSourceProperties::new);
+        log.debug("Sending read-only transactions to the replica at {}", replica.getUrl());
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setJdbcUrl(replica.getUrl());
+        if (replica.getUsername() != null) {
+            dataSource.setUsername(replica.getUsername());
+        }
+        if (replica.getPassword() != null) {
+            dataSource.setPassword(replica.getPassword());
+        }
+        // Like the primary pool, see hibernate.connection.provider_disables_autocommit
+        dataSource.setAutoCommit(false);
+        dataSource.setPoolName("HikariReplica");
+        return dataSource;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(
+        @Qualifier("primaryDataSource") HikariDataSource primaryDataSource,
+        @Qualifier("replicaDataSource") HikariDataSource replicaDataSource
+    ) {
+        ReplicaRoutingDataSource routingDataSource = new ReplicaRoutingDataSource();
+        routingDataSource.setTargetDataSources(Map.<Object, Object>of(Route.PRIMARY, primaryDataSource, Route.REPLICA, replicaDataSource));
+        routingDataSource.setDefaultTargetDataSource(primaryDataSource);
+        routingDataSource.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+}
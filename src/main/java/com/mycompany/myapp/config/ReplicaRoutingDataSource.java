@@ -0,0 +1,30 @@
+package com.mycompany.myapp.config;
+
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * {@link DataSource} sending the connections of read-only transactions to the replica pool, and all the other
+ * connections to the primary pool.
+ * <p>
+ * The read-only flag of a transaction is only exposed once the transaction has begun, after the transaction manager
+ * asked for its connection, so this data source must be wrapped in a
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}, which only asks for the target connection
+ * when the first statement runs.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    /**
+     * The keys of the target data sources.
+     */
+    public enum Route {
+        PRIMARY,
+        REPLICA,
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return TransactionSynchronizationManager.isCurrentTransactionReadOnly() ? Route.REPLICA : Route.PRIMARY;
+    }
+}
@@ -2,6 +2,7 @@ package com.mycompany.myapp.config;
 
 import static org.springframework.security.config.Customizer.withDefaults;
 
+import com.mycompany.myapp.management.SecurityMetersService;
 import com.mycompany.myapp.security.*;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -30,8 +31,16 @@ public class SecurityConfiguration {
     }
 
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(ApplicationProperties applicationProperties, SecurityMetersService metersService) {
+        ApplicationProperties.Security.Password password = applicationProperties.getSecurity().getPassword();
+        return new BoundedPasswordEncoder(
+            new BCryptPasswordEncoder(password.getStrength()),
+            password.getStrength(),
+            password.getPoolSize(),
+            password.getQueueCapacity(),
+            password.getTimeout(),
+            metersService
+        );
     }
 
     @Bean
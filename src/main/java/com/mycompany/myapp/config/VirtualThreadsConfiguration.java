@@ -0,0 +1,34 @@
+package com.mycompany.myapp.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.web.embedded.undertow.UndertowDeploymentInfoCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+
+/**
+ * Runs servlet requests on virtual threads when {@code spring.threads.virtual.enabled} is set on Java 21+.
+ * <p>
+ * Spring Boot does not switch Undertow to virtual threads by itself, so blocking requests are dispatched to a
+ * virtual thread per request instead of the Undertow worker pool. {@code @Async} methods use the virtual thread
+ * executor of {@link AsyncConfiguration}, and {@code @Scheduled} jobs the virtual thread scheduler that
+ * Spring Boot auto-configures in this mode.
+ * <p>
+ * Concurrency is then no longer capped by a thread pool: database work is still bounded by the Hikari pool,
+ * where requests wait at most {@code spring.datasource.hikari.connection-timeout} for a connection.
+ */
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadsConfiguration {
+
+    private final Logger log = LoggerFactory.getLogger(VirtualThreadsConfiguration.class);
+
+    @Bean
+    public UndertowDeploymentInfoCustomizer virtualThreadsUndertowCustomizer() {
+        log.debug("Dispatching servlet requests on virtual threads");
+        return deploymentInfo -> deploymentInfo.setExecutor(new VirtualThreadTaskExecutor("undertow-virtual-"));
+    }
+}
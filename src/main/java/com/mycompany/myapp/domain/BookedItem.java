@@ -3,12 +3,14 @@ package com.mycompany.myapp.domain;
 import jakarta.persistence.*;
 import java.io.Serializable;
 import java.time.LocalDate;
+import org.hibernate.annotations.DynamicUpdate;
 
 /**
  * A BookedItem.
  */
 @Entity
 @Table(name = "booked_item")
+@DynamicUpdate
 @SuppressWarnings("common-java:DuplicatedBlocks")
 public class BookedItem implements Serializable {
 
@@ -32,6 +34,10 @@ public class BookedItem implements Serializable {
     @Column(name = "available_date")
     private LocalDate availableDate;
 
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     // jhipster-needle-entity-add-field - JHipster will add fields here
 
     public Long getId() {
@@ -99,6 +105,19 @@ public class BookedItem implements Serializable {
         this.availableDate = availableDate;
     }
 
+    public Long getVersion() {
+        return this.version;
+    }
+
+    public BookedItem version(Long version) {
+        this.setVersion(version);
+        return this;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
     // jhipster-needle-entity-add-getters-setters - JHipster will add getters and setters here
 
     @Override
@@ -4,12 +4,14 @@ import jakarta.persistence.*;
 import java.io.Serializable;
 import java.time.LocalDate;
 import java.time.ZonedDateTime;
+import org.hibernate.annotations.DynamicUpdate;
 
 /**
  * A Booking.
  */
 @Entity
 @Table(name = "booking")
+@DynamicUpdate
 @SuppressWarnings("common-java:DuplicatedBlocks")
 public class Booking implements Serializable {
 
@@ -42,6 +44,10 @@ public class Booking implements Serializable {
     @Column(name = "user_id")
     private Long userId;
 
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     // jhipster-needle-entity-add-field - JHipster will add fields here
 
     public Long getId() {
@@ -137,6 +143,19 @@ public class Booking implements Serializable {
 
     
 
+    public Long getVersion() {
+        return this.version;
+    }
+
+    public Booking version(Long version) {
+        this.setVersion(version);
+        return this;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
     // jhipster-needle-entity-add-getters-setters - JHipster will add getters and
     // setters here
 
@@ -1,13 +1,26 @@
 package com.mycompany.myapp.domain;
 
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.mycompany.myapp.domain.BundleSizing.PriceRange;
 import jakarta.persistence.*;
 import java.io.Serializable;
+import java.math.BigDecimal;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.DynamicUpdate;
 
 /**
  * A Bundle.
+ * <p>
+ * The {@code minPrice}, {@code maxPrice} and {@code capacity} are read from the free-text {@code priceRange} and
+ * {@code maxPeople} whenever the bundle is saved, see {@link BundleSizing}, so that bundles can be searched by price and
+ * capacity with indexed range queries. They cannot be written by clients.
  */
 @Entity
 @Table(name = "bundle")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@DynamicUpdate
+@JsonIgnoreProperties(value = { "minPrice", "maxPrice", "capacity" }, allowGetters = true)
 @SuppressWarnings("common-java:DuplicatedBlocks")
 public class Bundle implements Serializable {
 
@@ -28,6 +41,19 @@ public class Bundle implements Serializable {
     @Column(name = "max_people")
     private String maxPeople;
 
+    @Column(name = "min_price", precision = 21, scale = 2)
+    private BigDecimal minPrice;
+
+    @Column(name = "max_price", precision = 21, scale = 2)
+    private BigDecimal maxPrice;
+
+    @Column(name = "capacity")
+    private Integer capacity;
+
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     // jhipster-needle-entity-add-field - JHipster will add fields here
 
     public Long getId() {
@@ -82,8 +108,69 @@ public class Bundle implements Serializable {
         this.maxPeople = maxPeople;
     }
 
+    public BigDecimal getMinPrice() {
+        return this.minPrice;
+    }
+
+    public Bundle minPrice(BigDecimal minPrice) {
+        this.setMinPrice(minPrice);
+        return this;
+    }
+
+    public void setMinPrice(BigDecimal minPrice) {
+        this.minPrice = minPrice;
+    }
+
+    public BigDecimal getMaxPrice() {
+        return this.maxPrice;
+    }
+
+    public Bundle maxPrice(BigDecimal maxPrice) {
+        this.setMaxPrice(maxPrice);
+        return this;
+    }
+
+    public void setMaxPrice(BigDecimal maxPrice) {
+        this.maxPrice = maxPrice;
+    }
+
+    public Integer getCapacity() {
+        return this.capacity;
+    }
+
+    public Bundle capacity(Integer capacity) {
+        this.setCapacity(capacity);
+        return this;
+    }
+
+    public void setCapacity(Integer capacity) {
+        this.capacity = capacity;
+    }
+
+    public Long getVersion() {
+        return this.version;
+    }
+
+    public Bundle version(Long version) {
+        this.setVersion(version);
+        return this;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
     // jhipster-needle-entity-add-getters-setters - JHipster will add getters and setters here
 
+    @PrePersist
+    @PreUpdate
+    void readSizing() {
+        PriceRange range = BundleSizing.parsePriceRange(priceRange);
+        this.minPrice = range.min();
+        this.maxPrice = range.max();
+        this.capacity = BundleSizing.parseCapacity(maxPeople);
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -109,6 +196,9 @@ public class Bundle implements Serializable {
             ", bundleName='" + getBundleName() + "'" +
             ", priceRange='" + getPriceRange() + "'" +
             ", maxPeople='" + getMaxPeople() + "'" +
+            ", minPrice=" + getMinPrice() +
+            ", maxPrice=" + getMaxPrice() +
+            ", capacity=" + getCapacity() +
             "}";
     }
 }
@@ -2,12 +2,17 @@ package com.mycompany.myapp.domain;
 
 import jakarta.persistence.*;
 import java.io.Serializable;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.DynamicUpdate;
 
 /**
  * A BundleItem.
  */
 @Entity
 @Table(name = "bundle_item")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@DynamicUpdate
 @SuppressWarnings("common-java:DuplicatedBlocks")
 public class BundleItem implements Serializable {
 
@@ -25,6 +30,10 @@ public class BundleItem implements Serializable {
     @Column(name = "item_id")
     private Integer itemId;
 
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     // jhipster-needle-entity-add-field - JHipster will add fields here
 
     public Long getId() {
@@ -66,6 +75,19 @@ public class BundleItem implements Serializable {
         this.itemId = itemId;
     }
 
+    public Long getVersion() {
+        return this.version;
+    }
+
+    public BundleItem version(Long version) {
+        this.setVersion(version);
+        return this;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
     // jhipster-needle-entity-add-getters-setters - JHipster will add getters and setters here
 
     @Override
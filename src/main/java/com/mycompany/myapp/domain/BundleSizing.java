@@ -0,0 +1,97 @@
+package com.mycompany.myapp.domain;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Reads the typed price range and capacity of a {@link Bundle} from its free-text {@code priceRange} and
+ * {@code maxPeople}, such as {@code "€1,500 - 3,000"}, {@code "from 800"} or {@code "up to 250 guests"}.
+ * <p>
+ * Thousands may be grouped with {@code ,}, {@code .}, {@code '} or a space, and decimals separated with {@code .} or
+ * {@code ,}. Text without any number, or with numbers too large for the typed columns, gives {@code null} values.
+ */
+public final class BundleSizing {
+
+    /**
+     * A price range, whose bounds are {@code null} when they are not known.
+     */
+    public record PriceRange(BigDecimal min, BigDecimal max) {
+        public static final PriceRange UNKNOWN = new PriceRange(null, null);
+    }
+
+    private static final Pattern NUMBER = Pattern.compile("(\\d+(?:[,.' ]\\d{3})*)(?:[.,](\\d{1,2}))?(?!\\d)");
+
+    private static final Pattern UPPER_BOUND = Pattern.compile("up to|under|below|less than|max|<");
+
+    private static final Pattern LOWER_BOUND = Pattern.compile("from|starting|over|more than|min|>|\\+");
+
+    /**
+     * The largest number of integer digits of the {@code decimal(21,2)} price columns.
+     */
+    private static final int MAX_PRICE_DIGITS = 19;
+
+    private BundleSizing() {}
+
+    /**
+     * Read a price range: the smallest and largest amounts of the text, or a single bound when the text has a single
+     * amount qualified by "from" or "up to".
+     *
+     * @param priceRange the text of the price range, may be {@code null}.
+     * @return the price range, {@link PriceRange#UNKNOWN} if the text has no amount.
+     */
+    public static PriceRange parsePriceRange(String priceRange) {
+        List<BigDecimal> amounts = numbers(priceRange)
+            .stream()
+            .filter(amount -> amount.precision() - amount.scale() <= MAX_PRICE_DIGITS)
+            .toList();
+        if (amounts.isEmpty()) {
+            return PriceRange.UNKNOWN;
+        }
+        BigDecimal min = Collections.min(amounts);
+        BigDecimal max = Collections.max(amounts);
+        if (amounts.size() == 1) {
+            String text = priceRange.toLowerCase(Locale.ROOT);
+            if (UPPER_BOUND.matcher(text).find()) {
+                return new PriceRange(null, max);
+            }
+            if (LOWER_BOUND.matcher(text).find()) {
+                return new PriceRange(min, null);
+            }
+        }
+        return new PriceRange(min, max);
+    }
+
+    /**
+     * Read a capacity: the largest whole number of the text, so that {@code "100-250"} gives {@code 250}.
+     *
+     * @param maxPeople the text of the maximum number of people, may be {@code null}.
+     * @return the capacity, {@code null} if the text has no number.
+     */
+    public static Integer parseCapacity(String maxPeople) {
+        return numbers(maxPeople)
+            .stream()
+            .filter(number -> number.compareTo(BigDecimal.valueOf(Integer.MAX_VALUE)) <= 0)
+            .max(BigDecimal::compareTo)
+            .map(BigDecimal::intValue)
+            .orElse(null);
+    }
+
+    private static List<BigDecimal> numbers(String text) {
+        List<BigDecimal> numbers = new ArrayList<>();
+        if (text == null) {
+            return numbers;
+        }
+        Matcher matcher = NUMBER.matcher(text);
+        while (matcher.find()) {
+            String integerPart = matcher.group(1).replaceAll("\\D", "");
+            String fractionPart = matcher.group(2);
+            numbers.add(new BigDecimal(fractionPart == null ? integerPart : integerPart + "." + fractionPart));
+        }
+        return numbers;
+    }
+}
@@ -2,12 +2,17 @@ package com.mycompany.myapp.domain;
 
 import jakarta.persistence.*;
 import java.io.Serializable;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.DynamicUpdate;
 
 /**
  * A Item.
  */
 @Entity
 @Table(name = "item")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@DynamicUpdate
 @SuppressWarnings("common-java:DuplicatedBlocks")
 public class Item implements Serializable {
 
@@ -22,6 +27,10 @@ public class Item implements Serializable {
     @Column(name = "item_name")
     private String itemName;
 
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     // jhipster-needle-entity-add-field - JHipster will add fields here
 
     public Long getId() {
@@ -50,6 +59,19 @@ public class Item implements Serializable {
         this.itemName = itemName;
     }
 
+    public Long getVersion() {
+        return this.version;
+    }
+
+    public Item version(Long version) {
+        this.setVersion(version);
+        return this;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
     // jhipster-needle-entity-add-getters-setters - JHipster will add getters and setters here
 
     @Override
@@ -0,0 +1,65 @@
+package com.mycompany.myapp.management;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.TimeUnit;
+import org.springframework.stereotype.Service;
+
+@Service
+public class BookingReservationMetersService {
+
+    public static final String LOCK_WAIT_METER_NAME = "booking.reservation.lock-wait";
+    public static final String LOCK_WAIT_METER_DESCRIPTION =
+        "Indicates the time reservations wait for the lock of their bundle, by lock (local stripe or database advisory lock).";
+    public static final String LOCK_WAIT_METER_LOCK_DIMENSION = "lock";
+
+    public static final String RESERVATIONS_METER_NAME = "booking.reservations";
+    public static final String RESERVATIONS_METER_DESCRIPTION =
+        "Indicates reservation attempts, by result (reserved or conflict with an existing booking).";
+    public static final String RESERVATIONS_METER_RESULT_DIMENSION = "result";
+
+    private final Timer localLockWaitTimer;
+    private final Timer databaseLockWaitTimer;
+
+    private final Counter reservedCounter;
+    private final Counter conflictCounter;
+
+    public BookingReservationMetersService(MeterRegistry registry) {
+        this.localLockWaitTimer = lockWaitTimerForLockBuilder("local").register(registry);
+        this.databaseLockWaitTimer = lockWaitTimerForLockBuilder("database").register(registry);
+
+        this.reservedCounter = reservationsCounterForResultBuilder("reserved").register(registry);
+        this.conflictCounter = reservationsCounterForResultBuilder("conflict").register(registry);
+    }
+
+    private Timer.Builder lockWaitTimerForLockBuilder(String lock) {
+        return Timer
+            .builder(LOCK_WAIT_METER_NAME)
+            .description(LOCK_WAIT_METER_DESCRIPTION)
+            .tag(LOCK_WAIT_METER_LOCK_DIMENSION, lock);
+    }
+
+    private Counter.Builder reservationsCounterForResultBuilder(String result) {
+        return Counter
+            .builder(RESERVATIONS_METER_NAME)
+            .description(RESERVATIONS_METER_DESCRIPTION)
+            .tag(RESERVATIONS_METER_RESULT_DIMENSION, result);
+    }
+
+    public void recordLocalLockWait(long nanos) {
+        this.localLockWaitTimer.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordDatabaseLockWait(long nanos) {
+        this.databaseLockWaitTimer.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void trackReserved() {
+        this.reservedCounter.increment();
+    }
+
+    public void trackConflict() {
+        this.conflictCounter.increment();
+    }
+}
@@ -0,0 +1,38 @@
+package com.mycompany.myapp.management;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Service;
+
+@Service
+public class ConditionalRequestMetersService {
+
+    public static final String CONDITIONAL_REQUESTS_METER_NAME = "http.server.conditional-requests";
+    public static final String CONDITIONAL_REQUESTS_METER_DESCRIPTION =
+        "Indicates requests to the ETag enabled endpoints, by endpoint and by result (not-modified or full).";
+    public static final String CONDITIONAL_REQUESTS_METER_ENDPOINT_DIMENSION = "endpoint";
+    public static final String CONDITIONAL_REQUESTS_METER_RESULT_DIMENSION = "result";
+
+    private final MeterRegistry registry;
+
+    public ConditionalRequestMetersService(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    public void trackNotModified(String endpoint) {
+        conditionalRequestsCounter(endpoint, "not-modified").increment();
+    }
+
+    public void trackFull(String endpoint) {
+        conditionalRequestsCounter(endpoint, "full").increment();
+    }
+
+    private Counter conditionalRequestsCounter(String endpoint, String result) {
+        return Counter
+            .builder(CONDITIONAL_REQUESTS_METER_NAME)
+            .description(CONDITIONAL_REQUESTS_METER_DESCRIPTION)
+            .tag(CONDITIONAL_REQUESTS_METER_ENDPOINT_DIMENSION, endpoint)
+            .tag(CONDITIONAL_REQUESTS_METER_RESULT_DIMENSION, result)
+            .register(registry);
+    }
+}
@@ -0,0 +1,37 @@
+package com.mycompany.myapp.management;
+
+import com.mycompany.myapp.config.ApplicationProperties;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+/**
+ * Management endpoint showing in a single place where the application spends its time over the last minutes: the
+ * slowest HTTP routes and repository methods, the connection pools, the {@code taskExecutor} queue and the garbage
+ * collection, see {@link HotPathsService}.
+ */
+@Component
+@Endpoint(id = "hotpaths")
+public class HotPathsEndpoint {
+
+    private final HotPathsService hotPathsService;
+
+    private final int defaultTop;
+
+    public HotPathsEndpoint(HotPathsService hotPathsService, ApplicationProperties applicationProperties) {
+        this.hotPathsService = hotPathsService;
+        this.defaultTop = applicationProperties.getHotPaths().getTop();
+    }
+
+    /**
+     * {@code GET /management/hotpaths?top=} : get the hot paths over the window.
+     *
+     * @param top the number of HTTP routes and repository methods to list, {@code application.hot-paths.top} by default.
+     * @return the hot paths.
+     */
+    @ReadOperation
+    public HotPathsReport hotPaths(@Nullable Integer top) {
+        return hotPathsService.report(top != null && top > 0 ? top : defaultTop);
+    }
+}
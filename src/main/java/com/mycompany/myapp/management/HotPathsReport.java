@@ -0,0 +1,59 @@
+package com.mycompany.myapp.management;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Hot paths of the application over a sliding window, as returned by the {@code hotpaths} management endpoint.
+ *
+ * @param from the start of the window.
+ * @param to the end of the window.
+ * @param httpRoutes the slowest HTTP routes over the window, by mean latency.
+ * @param repositoryMethods the slowest repository methods over the window, by mean latency.
+ * @param connectionPools the Hikari connection pools.
+ * @param taskExecutor the {@code taskExecutor} of the {@code @Async} methods, {@code null} when it has no queue.
+ * @param jvm the garbage collection of the JVM.
+ */
+public record HotPathsReport(
+    Instant from,
+    Instant to,
+    List<Latency> httpRoutes,
+    List<Latency> repositoryMethods,
+    List<ConnectionPool> connectionPools,
+    TaskExecutor taskExecutor,
+    Jvm jvm
+) {
+    /**
+     * @param name the HTTP method and URI template, or the repository and method names.
+     * @param count the number of calls over the window.
+     * @param meanMs the mean latency over the window, in milliseconds.
+     * @param totalMs the time spent over the window, in milliseconds.
+     */
+    public record Latency(String name, long count, double meanMs, double totalMs) {}
+
+    /**
+     * @param name the name of the pool.
+     * @param active the number of connections in use.
+     * @param pending the number of threads waiting for a connection.
+     * @param maxActive the highest number of connections in use sampled over the window.
+     * @param maxPending the highest number of threads waiting for a connection sampled over the window.
+     * @param timeouts the number of connection requests which timed out over the window.
+     */
+    public record ConnectionPool(String name, long active, long pending, long maxActive, long maxPending, long timeouts) {}
+
+    /**
+     * @param queued the number of tasks in the queue.
+     * @param active the number of threads running a task.
+     * @param maxQueued the highest number of tasks in the queue sampled over the window.
+     * @param rejected the number of tasks rejected by a full queue over the window.
+     */
+    public record TaskExecutor(long queued, long active, long maxQueued, long rejected) {}
+
+    /**
+     * @param gcPauses the number of garbage collection pauses over the window.
+     * @param gcPauseMs the time spent in garbage collection pauses over the window, in milliseconds.
+     * @param gcPauseRatio the share of the window spent in garbage collection pauses.
+     * @param allocationRateMbPerSecond the mean allocation rate over the window, in megabytes per second.
+     */
+    public record Jvm(long gcPauses, double gcPauseMs, double gcPauseRatio, double allocationRateMbPerSecond) {}
+}
@@ -0,0 +1,253 @@
+package com.mycompany.myapp.management;
+
+import com.mycompany.myapp.config.ApplicationProperties;
+import io.micrometer.core.instrument.Clock;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * Computes the {@link HotPathsReport} from the meters of the registry.
+ * <p>
+ * The cumulative meters (timers and counters) and the gauges are sampled every
+ * {@code application.hot-paths.sample-interval}, and the samples of the last {@code application.hot-paths.window} are
+ * kept. A report compares the current values with the oldest sample kept, so its latencies and rates only cover the
+ * window, and takes the maximums of the gauges over the samples of the window.
+ */
+@Service
+public class HotPathsService {
+
+    static final String HTTP_METER_NAME = "http.server.requests";
+    static final String REPOSITORY_METER_NAME = "spring.data.repository.invocations";
+    static final String POOL_ACTIVE_METER_NAME = "hikaricp.connections.active";
+    static final String POOL_PENDING_METER_NAME = "hikaricp.connections.pending";
+    static final String POOL_TIMEOUT_METER_NAME = "hikaricp.connections.timeout";
+    static final String GC_PAUSE_METER_NAME = "jvm.gc.pause";
+    static final String GC_ALLOCATED_METER_NAME = "jvm.gc.memory.allocated";
+    static final String TASK_EXECUTOR_NAME = "taskExecutor";
+
+    private static final double BYTES_PER_MEGABYTE = 1024 * 1024;
+
+    private record Totals(long count, double totalNanos) {
+        private static final Totals ZERO = new Totals(0, 0);
+
+        Totals plus(Totals other) {
+            return new Totals(count + other.count, totalNanos + other.totalNanos);
+        }
+    }
+
+    private record PoolSample(double active, double pending, double timeouts) {
+        private static final PoolSample ZERO = new PoolSample(0, 0, 0);
+    }
+
+    private record ExecutorSample(double queued, double active, double rejected) {}
+
+    private record Sample(
+        long monotonicTime,
+        long wallTime,
+        Map<String, Totals> httpRoutes,
+        Map<String, Totals> repositoryMethods,
+        Map<String, PoolSample> pools,
+        ExecutorSample executor,
+        Totals gcPauses,
+        double allocatedBytes
+    ) {}
+
+    private final MeterRegistry registry;
+
+    private final Clock clock;
+
+    private final long windowNanos;
+
+    private final Deque<Sample> samples = new ArrayDeque<>();
+
+    public HotPathsService(MeterRegistry registry, ApplicationProperties applicationProperties) {
+        this.registry = registry;
+        this.clock = registry.config().clock();
+        this.windowNanos = applicationProperties.getHotPaths().getWindow().toNanos();
+        // Until the first sample, the reports cover the time since startup
+        samples.add(takeSample());
+    }
+
+    /**
+     * Samples the meters, and forgets the samples which left the window.
+     */
+    @Scheduled(fixedDelayString = "${application.hot-paths.sample-interval:PT10S}")
+    public void sample() {
+        Sample sample = takeSample();
+        synchronized (samples) {
+            samples.addLast(sample);
+            while (samples.size() > 1 && samples.peekFirst().monotonicTime() < sample.monotonicTime() - windowNanos) {
+                samples.removeFirst();
+            }
+        }
+    }
+
+    /**
+     * Computes the hot paths over the window.
+     *
+     * @param top the number of HTTP routes and repository methods to list.
+     * @return the hot paths.
+     */
+    public HotPathsReport report(int top) {
+        Sample now = takeSample();
+        List<Sample> window;
+        synchronized (samples) {
+            window = new ArrayList<>(samples);
+        }
+        window.add(now);
+        Sample from = window.get(0);
+        double seconds = Math.max(now.monotonicTime() - from.monotonicTime(), 1) / 1e9;
+
+        List<HotPathsReport.ConnectionPool> pools = new ArrayList<>();
+        now
+            .pools()
+            .forEach((name, pool) -> {
+                PoolSample before = from.pools().getOrDefault(name, PoolSample.ZERO);
+                pools.add(
+                    new HotPathsReport.ConnectionPool(
+                        name,
+                        (long) pool.active(),
+                        (long) pool.pending(),
+                        (long) max(window, sample -> sample.pools().getOrDefault(name, PoolSample.ZERO).active()),
+                        (long) max(window, sample -> sample.pools().getOrDefault(name, PoolSample.ZERO).pending()),
+                        (long) (pool.timeouts() - before.timeouts())
+                    )
+                );
+            });
+        pools.sort(Comparator.comparing(HotPathsReport.ConnectionPool::name));
+
+        HotPathsReport.TaskExecutor taskExecutor = null;
+        if (now.executor() != null) {
+            double rejectedBefore = from.executor() != null ? from.executor().rejected() : 0;
+            taskExecutor =
+                new HotPathsReport.TaskExecutor(
+                    (long) now.executor().queued(),
+                    (long) now.executor().active(),
+                    (long) max(window, sample -> sample.executor() != null ? sample.executor().queued() : 0),
+                    (long) (now.executor().rejected() - rejectedBefore)
+                );
+        }
+
+        double gcPauseNanos = now.gcPauses().totalNanos() - from.gcPauses().totalNanos();
+        HotPathsReport.Jvm jvm = new HotPathsReport.Jvm(
+            now.gcPauses().count() - from.gcPauses().count(),
+            gcPauseNanos / 1e6,
+            gcPauseNanos / (seconds * 1e9),
+            (now.allocatedBytes() - from.allocatedBytes()) / BYTES_PER_MEGABYTE / seconds
+        );
+
+        return new HotPathsReport(
+            Instant.ofEpochMilli(from.wallTime()),
+            Instant.ofEpochMilli(now.wallTime()),
+            slowest(from.httpRoutes(), now.httpRoutes(), top),
+            slowest(from.repositoryMethods(), now.repositoryMethods(), top),
+            pools,
+            taskExecutor,
+            jvm
+        );
+    }
+
+    private static List<HotPathsReport.Latency> slowest(Map<String, Totals> before, Map<String, Totals> now, int top) {
+        List<HotPathsReport.Latency> latencies = new ArrayList<>();
+        now.forEach((name, totals) -> {
+            Totals previous = before.getOrDefault(name, Totals.ZERO);
+            long count = totals.count() - previous.count();
+            if (count > 0) {
+                double totalNanos = totals.totalNanos() - previous.totalNanos();
+                latencies.add(new HotPathsReport.Latency(name, count, totalNanos / count / 1e6, totalNanos / 1e6));
+            }
+        });
+        return latencies.stream().sorted(Comparator.comparingDouble(HotPathsReport.Latency::meanMs).reversed()).limit(top).toList();
+    }
+
+    private static double max(List<Sample> window, ToDoubleFunction<Sample> value) {
+        return window.stream().mapToDouble(value).max().orElse(0);
+    }
+
+    private Sample takeSample() {
+        Map<String, PoolSample> pools = new HashMap<>();
+        for (Gauge active : registry.find(POOL_ACTIVE_METER_NAME).gauges()) {
+            String pool = active.getId().getTag("pool");
+            pools.put(
+                pool,
+                new PoolSample(
+                    gaugeValue(active),
+                    gaugeValue(registry.find(POOL_PENDING_METER_NAME).tag("pool", pool).gauge()),
+                    counterValue(registry.find(POOL_TIMEOUT_METER_NAME).tag("pool", pool).counter())
+                )
+            );
+        }
+
+        ExecutorSample executor = null;
+        Gauge queued = registry
+            .find(TaskExecutorMetersService.QUEUED_METER_NAME)
+            .tag(TaskExecutorMetersService.EXECUTOR_NAME_DIMENSION, TASK_EXECUTOR_NAME)
+            .gauge();
+        if (queued != null) {
+            executor =
+                new ExecutorSample(
+                    gaugeValue(queued),
+                    gaugeValue(
+                        registry
+                            .find(TaskExecutorMetersService.ACTIVE_METER_NAME)
+                            .tag(TaskExecutorMetersService.EXECUTOR_NAME_DIMENSION, TASK_EXECUTOR_NAME)
+                            .gauge()
+                    ),
+                    counterValue(
+                        registry
+                            .find(TaskExecutorMetersService.REJECTED_METER_NAME)
+                            .tag(TaskExecutorMetersService.EXECUTOR_NAME_DIMENSION, TASK_EXECUTOR_NAME)
+                            .counter()
+                    )
+                );
+        }
+
+        return new Sample(
+            clock.monotonicTime(),
+            clock.wallTime(),
+            timerTotals(HTTP_METER_NAME, id -> id.getTag("method") + " " + id.getTag("uri")),
+            timerTotals(REPOSITORY_METER_NAME, id -> id.getTag("repository") + "." + id.getTag("method")),
+            pools,
+            executor,
+            timerTotals(GC_PAUSE_METER_NAME, id -> "").getOrDefault("", Totals.ZERO),
+            registry.find(GC_ALLOCATED_METER_NAME).counters().stream().mapToDouble(Counter::count).sum()
+        );
+    }
+
+    /**
+     * Sums the timers of a meter by key, over their other tags such as the status or the exception.
+     */
+    private Map<String, Totals> timerTotals(String name, Function<Meter.Id, String> key) {
+        Map<String, Totals> totals = new HashMap<>();
+        for (Timer timer : registry.find(name).timers()) {
+            totals.merge(key.apply(timer.getId()), new Totals(timer.count(), timer.totalTime(TimeUnit.NANOSECONDS)), Totals::plus);
+        }
+        return totals;
+    }
+
+    private static double gaugeValue(Gauge gauge) {
+        // A gauge whose state was garbage collected reports NaN
+        double value = gauge != null ? gauge.value() : 0;
+        return Double.isNaN(value) ? 0 : value;
+    }
+
+    private static double counterValue(Counter counter) {
+        return counter != null ? counter.count() : 0;
+    }
+}
@@ -0,0 +1,59 @@
+package com.mycompany.myapp.management;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.stereotype.Service;
+
+@Service
+public class MailOutboxMetersService {
+
+    public static final String DEPTH_METER_NAME = "mail.outbox.depth";
+    public static final String DEPTH_METER_DESCRIPTION = "Indicates the emails waiting in the mail outbox, as of the last dispatch.";
+
+    public static final String SEND_METER_NAME = "mail.outbox.send";
+    public static final String SEND_METER_DESCRIPTION = "Indicates the time spent sending a batch of emails.";
+
+    public static final String DELIVERY_METER_NAME = "mail.outbox.delivery";
+    public static final String DELIVERY_METER_DESCRIPTION = "Indicates the time between queuing and sending an email.";
+
+    public static final String FAILURES_METER_NAME = "mail.outbox.failures";
+    public static final String FAILURES_METER_DESCRIPTION = "Indicates failed email sending attempts.";
+
+    private final AtomicLong depth = new AtomicLong();
+
+    private final Timer sendTimer;
+    private final Timer deliveryTimer;
+    private final Counter failureCounter;
+
+    public MailOutboxMetersService(MeterRegistry registry) {
+        depthGaugeBuilder().register(registry);
+        this.sendTimer = Timer.builder(SEND_METER_NAME).description(SEND_METER_DESCRIPTION).register(registry);
+        this.deliveryTimer = Timer.builder(DELIVERY_METER_NAME).description(DELIVERY_METER_DESCRIPTION).register(registry);
+        this.failureCounter = Counter.builder(FAILURES_METER_NAME).description(FAILURES_METER_DESCRIPTION).register(registry);
+    }
+
+    private Gauge.Builder<AtomicLong> depthGaugeBuilder() {
+        return Gauge.builder(DEPTH_METER_NAME, depth, AtomicLong::get).description(DEPTH_METER_DESCRIPTION).strongReference(true);
+    }
+
+    public void recordDepth(long emails) {
+        this.depth.set(emails);
+    }
+
+    public void recordSend(long nanos) {
+        this.sendTimer.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordDelivery(Duration delay) {
+        this.deliveryTimer.record(delay);
+    }
+
+    public void trackFailure() {
+        this.failureCounter.increment();
+    }
+}
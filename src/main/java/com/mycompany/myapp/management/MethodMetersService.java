@@ -0,0 +1,58 @@
+package com.mycompany.myapp.management;
+
+import com.mycompany.myapp.config.ApplicationProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.springframework.stereotype.Service;
+
+/**
+ * Timers of the methods advised by the {@link com.mycompany.myapp.aop.logging.MethodTimingAspect}.
+ * <p>
+ * Each method gets a timer tagged with its class and name, up to {@code application.logging.aspect.max-timed-methods}
+ * methods, after which the methods share a single timer tagged {@value #OVERFLOW_TAG_VALUE}, so that the number of
+ * time series stays bounded.
+ */
+@Service
+public class MethodMetersService {
+
+    public static final String METHOD_METER_NAME = "application.method";
+    public static final String METHOD_METER_DESCRIPTION =
+        "Indicates the time spent in the service, repository and REST controller methods.";
+    public static final String METHOD_METER_CLASS_DIMENSION = "class";
+    public static final String METHOD_METER_METHOD_DIMENSION = "method";
+    public static final String OVERFLOW_TAG_VALUE = "other";
+
+    private final MeterRegistry registry;
+
+    private final int maxTimedMethods;
+
+    private final AtomicInteger timedMethods = new AtomicInteger();
+
+    public MethodMetersService(MeterRegistry registry, ApplicationProperties applicationProperties) {
+        this.registry = registry;
+        this.maxTimedMethods = applicationProperties.getLogging().getAspect().getMaxTimedMethods();
+    }
+
+    /**
+     * Returns the timer of a method. Callers are expected to keep it, each call counts towards the bound.
+     *
+     * @param type the class declaring the method.
+     * @param methodName the name of the method.
+     * @return the timer of the method, or the shared overflow timer once the bound is reached.
+     */
+    public Timer timerFor(Class<?> type, String methodName) {
+        if (timedMethods.incrementAndGet() > maxTimedMethods) {
+            return methodTimerBuilder(OVERFLOW_TAG_VALUE, OVERFLOW_TAG_VALUE).register(registry);
+        }
+        return methodTimerBuilder(type.getSimpleName(), methodName).register(registry);
+    }
+
+    private Timer.Builder methodTimerBuilder(String className, String methodName) {
+        return Timer
+            .builder(METHOD_METER_NAME)
+            .description(METHOD_METER_DESCRIPTION)
+            .tag(METHOD_METER_CLASS_DIMENSION, className)
+            .tag(METHOD_METER_METHOD_DIMENSION, methodName);
+    }
+}
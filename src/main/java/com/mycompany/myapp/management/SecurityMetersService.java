@@ -2,6 +2,8 @@ package com.mycompany.myapp.management;
 
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.TimeUnit;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -13,16 +15,56 @@ public class SecurityMetersService {
     public static final String INVALID_TOKENS_METER_BASE_UNIT = "errors";
     public static final String INVALID_TOKENS_METER_CAUSE_DIMENSION = "cause";
 
+    public static final String TOKEN_CACHE_METER_NAME = "security.authentication.token-cache";
+    public static final String TOKEN_CACHE_METER_DESCRIPTION = "Indicates lookups of the presented tokens in the verified tokens cache.";
+    public static final String TOKEN_CACHE_METER_RESULT_DIMENSION = "result";
+
+    public static final String TOKEN_CACHE_EVICTIONS_METER_NAME = "security.authentication.token-cache.evictions";
+    public static final String TOKEN_CACHE_EVICTIONS_METER_DESCRIPTION = "Indicates evictions from the verified tokens cache.";
+    public static final String TOKEN_CACHE_EVICTIONS_METER_CAUSE_DIMENSION = "cause";
+
+    public static final String PASSWORD_HASH_METER_NAME = "security.password.hash";
+    public static final String PASSWORD_HASH_METER_DESCRIPTION = "Indicates the time spent hashing and verifying passwords.";
+    public static final String PASSWORD_HASH_METER_OPERATION_DIMENSION = "operation";
+
+    public static final String PASSWORD_QUEUE_WAIT_METER_NAME = "security.password.queue-wait";
+    public static final String PASSWORD_QUEUE_WAIT_METER_DESCRIPTION = "Indicates the time password operations wait for a free thread.";
+
+    public static final String PASSWORD_REJECTED_METER_NAME = "security.password.rejected";
+    public static final String PASSWORD_REJECTED_METER_DESCRIPTION = "Indicates password operations rejected by a full queue.";
+
     private final Counter tokenInvalidSignatureCounter;
     private final Counter tokenExpiredCounter;
     private final Counter tokenUnsupportedCounter;
     private final Counter tokenMalformedCounter;
 
+    private final Counter tokenCacheHitCounter;
+    private final Counter tokenCacheMissCounter;
+    private final Counter tokenCacheSizeEvictionCounter;
+    private final Counter tokenCacheExpiryEvictionCounter;
+
+    private final Timer passwordEncodeTimer;
+    private final Timer passwordMatchesTimer;
+    private final Timer passwordQueueWaitTimer;
+    private final Counter passwordRejectedCounter;
+
     public SecurityMetersService(MeterRegistry registry) {
         this.tokenInvalidSignatureCounter = invalidTokensCounterForCauseBuilder("invalid-signature").register(registry);
         this.tokenExpiredCounter = invalidTokensCounterForCauseBuilder("expired").register(registry);
         this.tokenUnsupportedCounter = invalidTokensCounterForCauseBuilder("unsupported").register(registry);
         this.tokenMalformedCounter = invalidTokensCounterForCauseBuilder("malformed").register(registry);
+
+        this.tokenCacheHitCounter = tokenCacheCounterForResultBuilder("hit").register(registry);
+        this.tokenCacheMissCounter = tokenCacheCounterForResultBuilder("miss").register(registry);
+        this.tokenCacheSizeEvictionCounter = tokenCacheEvictionsCounterForCauseBuilder("size").register(registry);
+        this.tokenCacheExpiryEvictionCounter = tokenCacheEvictionsCounterForCauseBuilder("expired").register(registry);
+
+        this.passwordEncodeTimer = passwordHashTimerForOperationBuilder("encode").register(registry);
+        this.passwordMatchesTimer = passwordHashTimerForOperationBuilder("matches").register(registry);
+        this.passwordQueueWaitTimer =
+            Timer.builder(PASSWORD_QUEUE_WAIT_METER_NAME).description(PASSWORD_QUEUE_WAIT_METER_DESCRIPTION).register(registry);
+        this.passwordRejectedCounter =
+            Counter.builder(PASSWORD_REJECTED_METER_NAME).description(PASSWORD_REJECTED_METER_DESCRIPTION).register(registry);
     }
 
     private Counter.Builder invalidTokensCounterForCauseBuilder(String cause) {
@@ -33,6 +75,27 @@ public class SecurityMetersService {
             .tag(INVALID_TOKENS_METER_CAUSE_DIMENSION, cause);
     }
 
+    private Counter.Builder tokenCacheCounterForResultBuilder(String result) {
+        return Counter
+            .builder(TOKEN_CACHE_METER_NAME)
+            .description(TOKEN_CACHE_METER_DESCRIPTION)
+            .tag(TOKEN_CACHE_METER_RESULT_DIMENSION, result);
+    }
+
+    private Counter.Builder tokenCacheEvictionsCounterForCauseBuilder(String cause) {
+        return Counter
+            .builder(TOKEN_CACHE_EVICTIONS_METER_NAME)
+            .description(TOKEN_CACHE_EVICTIONS_METER_DESCRIPTION)
+            .tag(TOKEN_CACHE_EVICTIONS_METER_CAUSE_DIMENSION, cause);
+    }
+
+    private Timer.Builder passwordHashTimerForOperationBuilder(String operation) {
+        return Timer
+            .builder(PASSWORD_HASH_METER_NAME)
+            .description(PASSWORD_HASH_METER_DESCRIPTION)
+            .tag(PASSWORD_HASH_METER_OPERATION_DIMENSION, operation);
+    }
+
     public void trackTokenInvalidSignature() {
         this.tokenInvalidSignatureCounter.increment();
     }
@@ -48,4 +111,32 @@ public class SecurityMetersService {
     public void trackTokenMalformed() {
         this.tokenMalformedCounter.increment();
     }
+
+    public void trackTokenCacheHit() {
+        this.tokenCacheHitCounter.increment();
+    }
+
+    public void trackTokenCacheMiss() {
+        this.tokenCacheMissCounter.increment();
+    }
+
+    public void trackTokenCacheEvictedBySize() {
+        this.tokenCacheSizeEvictionCounter.increment();
+    }
+
+    public void trackTokenCacheEvictedByExpiry() {
+        this.tokenCacheExpiryEvictionCounter.increment();
+    }
+
+    public void recordPasswordHash(String operation, long nanos) {
+        ("encode".equals(operation) ? this.passwordEncodeTimer : this.passwordMatchesTimer).record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordPasswordQueueWait(long nanos) {
+        this.passwordQueueWaitTimer.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void trackPasswordRejected() {
+        this.passwordRejectedCounter.increment();
+    }
 }
@@ -0,0 +1,73 @@
+package com.mycompany.myapp.management;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.concurrent.RejectedExecutionHandler;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+/**
+ * Meters of the application task executors, which are not bound by Spring Boot as they are wrapped in an
+ * {@link tech.jhipster.async.ExceptionHandlingAsyncTaskExecutor}. The names follow the Micrometer executor metrics.
+ */
+@Service
+public class TaskExecutorMetersService {
+
+    public static final String QUEUED_METER_NAME = "executor.queued";
+    public static final String QUEUED_METER_DESCRIPTION = "Indicates the number of tasks waiting in the queue of the executor.";
+
+    public static final String ACTIVE_METER_NAME = "executor.active";
+    public static final String ACTIVE_METER_DESCRIPTION = "Indicates the number of threads of the executor running a task.";
+
+    public static final String REJECTED_METER_NAME = "executor.rejected";
+    public static final String REJECTED_METER_DESCRIPTION = "Indicates tasks rejected by the executor because its queue was full.";
+
+    public static final String EXECUTOR_NAME_DIMENSION = "name";
+
+    private final MeterRegistry registry;
+
+    public TaskExecutorMetersService(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    /**
+     * Registers the queue depth and active threads gauges of an executor.
+     *
+     * @param name the name of the executor.
+     * @param executor the executor, which may not be initialized yet.
+     */
+    public void bindTaskExecutor(String name, ThreadPoolTaskExecutor executor) {
+        Gauge
+            .builder(QUEUED_METER_NAME, executor, ThreadPoolTaskExecutor::getQueueSize)
+            .description(QUEUED_METER_DESCRIPTION)
+            .tag(EXECUTOR_NAME_DIMENSION, name)
+            .strongReference(true)
+            .register(registry);
+        Gauge
+            .builder(ACTIVE_METER_NAME, executor, ThreadPoolTaskExecutor::getActiveCount)
+            .description(ACTIVE_METER_DESCRIPTION)
+            .tag(EXECUTOR_NAME_DIMENSION, name)
+            .strongReference(true)
+            .register(registry);
+    }
+
+    /**
+     * Wraps the rejection policy of an executor to count its rejections.
+     *
+     * @param name the name of the executor.
+     * @param rejectedExecutionHandler the rejection policy.
+     * @return the rejection policy counting the rejections.
+     */
+    public RejectedExecutionHandler countingRejections(String name, RejectedExecutionHandler rejectedExecutionHandler) {
+        Counter rejectedCounter = Counter
+            .builder(REJECTED_METER_NAME)
+            .description(REJECTED_METER_DESCRIPTION)
+            .tag(EXECUTOR_NAME_DIMENSION, name)
+            .register(registry);
+        return (task, executor) -> {
+            rejectedCounter.increment();
+            rejectedExecutionHandler.rejectedExecution(task, executor);
+        };
+    }
+}
@@ -1,6 +1,10 @@
 package com.mycompany.myapp.repository;
 
 import com.mycompany.myapp.domain.BookedItem;
+import jakarta.persistence.QueryHint;
+import java.util.List;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.*;
 import org.springframework.stereotype.Repository;
 
@@ -9,4 +13,24 @@ import org.springframework.stereotype.Repository;
  */
 @SuppressWarnings("unused")
 @Repository
-public interface BookedItemRepository extends JpaRepository<BookedItem, Long> {}
+public interface BookedItemRepository extends JpaRepository<BookedItem, Long>, JpaSpecificationExecutor<BookedItem> {
+    /**
+     * Number of rows fetched per round trip by {@link #streamAllForExport()}.
+     */
+    String EXPORT_FETCH_SIZE = "500";
+
+    List<BookedItem> findAllByItemId(Integer itemId);
+
+    /**
+     * Stream all the booked items, ordered by id, fetching {@link #EXPORT_FETCH_SIZE} rows per round trip.
+     * Must be called in a transaction, and the returned stream closed.
+     */
+    @QueryHints(
+        {
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+        }
+    )
+    @Query("select bookedItem from BookedItem bookedItem order by bookedItem.id")
+    Stream<BookedItem> streamAllForExport();
+}
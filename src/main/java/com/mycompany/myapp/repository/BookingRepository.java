@@ -1,6 +1,12 @@
 package com.mycompany.myapp.repository;
 
 import com.mycompany.myapp.domain.Booking;
+import jakarta.persistence.QueryHint;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.*;
 import org.springframework.stereotype.Repository;
 
@@ -9,4 +15,53 @@ import org.springframework.stereotype.Repository;
  */
 @SuppressWarnings("unused")
 @Repository
-public interface BookingRepository extends JpaRepository<Booking, Long> {}
+public interface BookingRepository extends JpaRepository<Booking, Long>, JpaSpecificationExecutor<Booking> {
+    /**
+     * Number of rows fetched per round trip by {@link #streamAllForExport()}.
+     */
+    String EXPORT_FETCH_SIZE = "500";
+
+    List<Booking> findAllByBundleId(Integer bundleId);
+
+    /**
+     * Find the ids of the bookings of a bundle whose period overlaps the given {@code [start, end)} period.
+     * <p>
+     * The period of a booking is the one of {@code BookingAvailabilityService.periodOf}: its times when they are set and
+     * differ, otherwise its days, the end date being inclusive. The bookings of the bundle are read through the
+     * {@code idx_booking_bundle_id_booking_start_date} index.
+     */
+    @Query(
+        value = "SELECT b.id FROM booking b WHERE b.bundle_id = :bundleId AND " +
+        "(CASE WHEN b.booking_start_time IS NOT NULL AND b.booking_end_time IS NOT NULL " +
+        "AND b.booking_start_time <> b.booking_end_time " +
+        "THEN tsrange(least(b.booking_start_time, b.booking_end_time), greatest(b.booking_start_time, b.booking_end_time)) " +
+        "WHEN b.booking_start_date IS NOT NULL " +
+        "THEN tsrange(CAST(least(b.booking_start_date, coalesce(b.booking_end_date, b.booking_start_date)) AS timestamp), " +
+        "CAST(greatest(b.booking_start_date, coalesce(b.booking_end_date, b.booking_start_date)) + 1 AS timestamp)) END) " +
+        "&& tsrange(:start, :end) ORDER BY b.id",
+        nativeQuery = true
+    )
+    List<Long> findOverlappingIds(Integer bundleId, LocalDateTime start, LocalDateTime end);
+
+    /**
+     * Lock a booking with {@code FOR KEY SHARE} until the end of the current transaction: it cannot be deleted meanwhile,
+     * as with the foreign key checks of its booked items, but its other columns can still be updated.
+     *
+     * @return the id of the booking, or empty if it does not exist.
+     */
+    @Query(value = "SELECT b.id FROM booking b WHERE b.id = :id FOR KEY SHARE", nativeQuery = true)
+    Optional<Long> lockIdForKeyShare(Long id);
+
+    /**
+     * Stream all the bookings, ordered by id, fetching {@link #EXPORT_FETCH_SIZE} rows per round trip.
+     * Must be called in a transaction, and the returned stream closed.
+     */
+    @QueryHints(
+        {
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+        }
+    )
+    @Query("select booking from Booking booking order by booking.id")
+    Stream<Booking> streamAllForExport();
+}
@@ -3,7 +3,12 @@ package com.mycompany.myapp.repository;
 import com.mycompany.myapp.domain.BundleItem;
 import com.mycompany.myapp.domain.Item;
 
+import jakarta.persistence.QueryHint;
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 
 import org.springframework.data.jpa.repository.*;
 import org.springframework.stereotype.Repository;
@@ -14,6 +19,35 @@ import org.springframework.stereotype.Repository;
 @SuppressWarnings("unused")
 @Repository
 public interface BundleItemRepository extends JpaRepository<BundleItem, Long> {
+    String BUNDLE_ITEMS_CACHE = "bundleItemsByBundleId";
+
     @Query("SELECT i FROM Item i join BundleItem bi on i.id = bi.itemId WHERE bi.bundleId=:bundleId")
+    @QueryHints(
+        {
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = BUNDLE_ITEMS_CACHE),
+        }
+    )
     List<Item> findAllBundleItems(Integer bundleId);
+
+    List<BundleItem> findAllByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+    @Query("select bundleItem.id from BundleItem bundleItem where bundleItem.id in :ids")
+    Set<Long> findExistingIds(Collection<Long> ids);
+
+    @Modifying
+    @Query("delete from BundleItem bundleItem where bundleItem.bundleId = :bundleId")
+    int deleteAllByBundleId(Integer bundleId);
+
+    @Query("SELECT bi.bundleId AS bundleId, i AS item FROM Item i join BundleItem bi on i.id = bi.itemId WHERE bi.bundleId IN :bundleIds")
+    List<BundleItemEntry> findAllBundleItemEntries(Collection<Integer> bundleIds);
+
+    /**
+     * An {@link Item} together with the id of a bundle containing it.
+     */
+    interface BundleItemEntry {
+        Integer getBundleId();
+
+        Item getItem();
+    }
 }
@@ -3,7 +3,9 @@ package com.mycompany.myapp.repository;
 import com.mycompany.myapp.domain.Bundle;
 import com.mycompany.myapp.domain.Item;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 
 import org.springframework.data.jpa.repository.*;
 import org.springframework.stereotype.Repository;
@@ -13,5 +15,7 @@ import org.springframework.stereotype.Repository;
  */
 @SuppressWarnings("unused")
 @Repository
-public interface BundleRepository extends JpaRepository<Bundle, Long> {
+public interface BundleRepository extends JpaRepository<Bundle, Long>, JpaSpecificationExecutor<Bundle> {
+    @Query("select bundle.id from Bundle bundle where bundle.id in :ids")
+    Set<Long> findExistingIds(Collection<Long> ids);
 }
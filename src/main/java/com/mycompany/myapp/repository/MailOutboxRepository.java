@@ -0,0 +1,26 @@
+package com.mycompany.myapp.repository;
+
+import com.mycompany.myapp.domain.MailOutbox;
+import java.time.Instant;
+import java.util.List;
+import org.springframework.data.jpa.repository.*;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Spring Data JPA repository for the {@link MailOutbox} entity.
+ */
+@Repository
+public interface MailOutboxRepository extends JpaRepository<MailOutbox, Long> {
+    /**
+     * Lock the oldest emails due for sending. Rows already locked by another dispatcher are skipped,
+     * so concurrent dispatchers claim disjoint batches.
+     */
+    @Query(
+        value = "SELECT * FROM mail_outbox WHERE next_attempt_at <= :now AND attempts < :maxAttempts " +
+        "ORDER BY next_attempt_at LIMIT :batchSize FOR UPDATE SKIP LOCKED",
+        nativeQuery = true
+    )
+    List<MailOutbox> findDueForUpdateSkipLocked(Instant now, int maxAttempts, int batchSize);
+
+    long countByAttemptsLessThan(int maxAttempts);
+}
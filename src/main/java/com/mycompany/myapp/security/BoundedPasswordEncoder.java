@@ -0,0 +1,137 @@
+package com.mycompany.myapp.security;
+
+import com.mycompany.myapp.management.SecurityMetersService;
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * {@link PasswordEncoder} running the work of its BCrypt delegate on a dedicated, size-limited pool.
+ * <p>
+ * Callers wait for the result, but at most {@code poolSize} hashes are computed at once, so a burst of logins
+ * cannot take every core from the other endpoints. When {@code queueCapacity} callers are already waiting,
+ * further calls fail fast with a {@link PasswordEncoderOverloadedException}, as do calls whose operation is not done
+ * within {@code timeout}, so a stuck hash never pins the request thread.
+ * <p>
+ * Hashes whose BCrypt cost differs from the configured {@code strength} are reported by
+ * {@link #upgradeEncoding(String)}, so they are transparently rehashed on the next successful login.
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder {
+
+    private static final Pattern BCRYPT_COST_PATTERN = Pattern.compile("\\A\\$2[aby]?\\$(\\d\\d)\\$");
+
+    private final PasswordEncoder delegate;
+
+    private final int strength;
+
+    private final SecurityMetersService metersService;
+
+    private final long timeoutNanos;
+
+    private final ThreadPoolExecutor executor;
+
+    public BoundedPasswordEncoder(
+        PasswordEncoder delegate,
+        int strength,
+        int poolSize,
+        int queueCapacity,
+        Duration timeout,
+        SecurityMetersService metersService
+    ) {
+        this.delegate = delegate;
+        this.strength = strength;
+        this.metersService = metersService;
+        this.timeoutNanos = timeout.toNanos();
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("password-encoder-");
+        threadFactory.setDaemon(true);
+        this.executor =
+            new ThreadPoolExecutor(
+                poolSize,
+                poolSize,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                threadFactory,
+                new ThreadPoolExecutor.AbortPolicy()
+            );
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return execute("encode", () -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return execute("matches", () -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        if (encodedPassword == null) {
+            return false;
+        }
+        Matcher matcher = BCRYPT_COST_PATTERN.matcher(encodedPassword);
+        return matcher.find() && Integer.parseInt(matcher.group(1)) != strength;
+    }
+
+    /**
+     * Stops the pool once the application context is closed.
+     */
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    int queuedOperations() {
+        return executor.getQueue().size();
+    }
+
+    private <T> T execute(String operation, Supplier<T> work) {
+        long submittedAt = System.nanoTime();
+        Future<T> future;
+        try {
+            future =
+                executor.submit(() -> {
+                    long startedAt = System.nanoTime();
+                    metersService.recordPasswordQueueWait(startedAt - submittedAt);
+                    try {
+                        return work.get();
+                    } finally {
+                        metersService.recordPasswordHash(operation, System.nanoTime() - startedAt);
+                    }
+                });
+        } catch (RejectedExecutionException e) {
+            metersService.trackPasswordRejected();
+            throw new PasswordEncoderOverloadedException();
+        }
+        try {
+            return future.get(timeoutNanos - (System.nanoTime() - submittedAt), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            metersService.trackPasswordRejected();
+            throw new PasswordEncoderOverloadedException();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for password " + operation, e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+}
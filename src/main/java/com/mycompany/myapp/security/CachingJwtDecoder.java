@@ -0,0 +1,120 @@
+package com.mycompany.myapp.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.mycompany.myapp.management.SecurityMetersService;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.HexFormat;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+
+/**
+ * {@link JwtDecoder} remembering the tokens already verified by its delegate, so a token presented again is
+ * neither parsed nor checked against its signature a second time.
+ * <p>
+ * Tokens are keyed by their SHA-256 digest, so raw tokens are never kept in memory. An entry expires at the
+ * {@code exp} claim of its token, and its expiry is checked again on every hit. Tokens without an {@code exp}
+ * claim are never cached.
+ */
+public class CachingJwtDecoder implements JwtDecoder {
+
+    private final JwtDecoder delegate;
+
+    private final SecurityMetersService metersService;
+
+    private final Clock clock;
+
+    private final Cache<String, Jwt> verifiedTokens;
+
+    public CachingJwtDecoder(JwtDecoder delegate, SecurityMetersService metersService, long maxEntries, Clock clock) {
+        this.delegate = delegate;
+        this.metersService = metersService;
+        this.clock = clock;
+        this.verifiedTokens =
+            Caffeine
+                .newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfter(new UntilTokenExpiry(clock))
+                .evictionListener((String digest, Jwt jwt, RemovalCause cause) -> trackEviction(cause))
+                .build();
+    }
+
+    @Override
+    public Jwt decode(String token) throws JwtException {
+        String digest = digest(token);
+        Jwt jwt = verifiedTokens.getIfPresent(digest);
+        if (jwt != null && isUnexpired(jwt)) {
+            metersService.trackTokenCacheHit();
+            return jwt;
+        }
+        metersService.trackTokenCacheMiss();
+        jwt = delegate.decode(token);
+        if (jwt.getExpiresAt() != null && isUnexpired(jwt)) {
+            verifiedTokens.put(digest, jwt);
+        }
+        return jwt;
+    }
+
+    private boolean isUnexpired(Jwt jwt) {
+        return jwt.getExpiresAt().isAfter(clock.instant());
+    }
+
+    private void trackEviction(RemovalCause cause) {
+        if (cause == RemovalCause.SIZE) {
+            metersService.trackTokenCacheEvictedBySize();
+        } else if (cause == RemovalCause.EXPIRED) {
+            metersService.trackTokenCacheEvictedByExpiry();
+        }
+    }
+
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    /**
+     * Expires entries at the {@code exp} claim of their token. Updates and reads keep the current expiry.
+     */
+    private static final class UntilTokenExpiry implements Expiry<String, Jwt> {
+
+        private final Clock clock;
+
+        private UntilTokenExpiry(Clock clock) {
+            this.clock = clock;
+        }
+
+        @Override
+        public long expireAfterCreate(String digest, Jwt jwt, long currentTime) {
+            Duration ttl = Duration.between(clock.instant(), jwt.getExpiresAt());
+            if (ttl.isNegative()) {
+                return 0;
+            }
+            try {
+                return ttl.toNanos();
+            } catch (ArithmeticException e) {
+                return Long.MAX_VALUE;
+            }
+        }
+
+        @Override
+        public long expireAfterUpdate(String digest, Jwt jwt, long currentTime, long currentDuration) {
+            return expireAfterCreate(digest, jwt, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String digest, Jwt jwt, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
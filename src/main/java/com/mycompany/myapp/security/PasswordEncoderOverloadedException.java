@@ -0,0 +1,17 @@
+package com.mycompany.myapp.security;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * This exception is thrown when the password hashing queue is full.
+ */
+@ResponseStatus(value = HttpStatus.SERVICE_UNAVAILABLE, reason = "Too many password operations in progress")
+public class PasswordEncoderOverloadedException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    public PasswordEncoderOverloadedException() {
+        super("Password hashing queue is full");
+    }
+}
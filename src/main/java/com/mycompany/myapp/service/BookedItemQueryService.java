@@ -0,0 +1,104 @@
+package com.mycompany.myapp.service;
+
+import com.mycompany.myapp.domain.*; // for static metamodels
+import com.mycompany.myapp.domain.BookedItem;
+import com.mycompany.myapp.repository.BookedItemRepository;
+import com.mycompany.myapp.service.criteria.BookedItemCriteria;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import tech.jhipster.service.QueryService;
+
+/**
+ * Service for executing complex queries for {@link BookedItem} entities in the database.
+ * The main input is a {@link BookedItemCriteria} which gets converted to {@link Specification},
+ * in a way that all the filters must apply.
+ * It returns a {@link List} of {@link BookedItem} which fulfills the criteria.
+ */
+@Service
+@Transactional(readOnly = true)
+public class BookedItemQueryService extends QueryService<BookedItem> {
+
+    private final Logger log = LoggerFactory.getLogger(BookedItemQueryService.class);
+
+    private final BookedItemRepository bookedItemRepository;
+
+    public BookedItemQueryService(BookedItemRepository bookedItemRepository) {
+        this.bookedItemRepository = bookedItemRepository;
+    }
+
+    /**
+     * Return a {@link List} of {@link BookedItem} which matches the criteria from the database.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @return the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public List<BookedItem> findByCriteria(BookedItemCriteria criteria) {
+        log.debug("find by criteria : {}", criteria);
+        final Specification<BookedItem> specification = createSpecification(criteria);
+        return bookedItemRepository.findAll(specification);
+    }
+
+    /**
+     * Return a keyset page of {@link BookedItem} which matches the criteria from the database.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param afterId The id after which the page starts.
+     * @param limit The maximum number of entities to return.
+     * @return the matching entities, ordered by id.
+     */
+    @Transactional(readOnly = true)
+    public List<BookedItem> findByCriteria(BookedItemCriteria criteria, long afterId, Limit limit) {
+        log.debug("find by criteria : {}, after : {}, limit : {}", criteria, afterId, limit);
+        final Specification<BookedItem> specification = createSpecification(criteria)
+            .and((root, query, builder) -> builder.greaterThan(root.get(BookedItem_.id), afterId));
+        return bookedItemRepository.findBy(specification, q -> q.sortBy(Sort.by(BookedItem_.ID)).limit(limit.max()).all());
+    }
+
+    /**
+     * Return the number of matching entities in the database.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @return the number of matching entities.
+     */
+    @Transactional(readOnly = true)
+    public long countByCriteria(BookedItemCriteria criteria) {
+        log.debug("count by criteria : {}", criteria);
+        final Specification<BookedItem> specification = createSpecification(criteria);
+        return bookedItemRepository.count(specification);
+    }
+
+    /**
+     * Function to convert {@link BookedItemCriteria} to a {@link Specification}
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @return the matching {@link Specification} of the entity.
+     */
+    protected Specification<BookedItem> createSpecification(BookedItemCriteria criteria) {
+        Specification<BookedItem> specification = Specification.where(null);
+        if (criteria != null) {
+            // This has to be called first, because the distinct method returns null
+            if (criteria.getDistinct() != null) {
+                specification = specification.and(distinct(criteria.getDistinct()));
+            }
+            if (criteria.getId() != null) {
+                specification = specification.and(buildRangeSpecification(criteria.getId(), BookedItem_.id));
+            }
+            if (criteria.getBookingId() != null) {
+                specification = specification.and(buildRangeSpecification(criteria.getBookingId(), BookedItem_.bookingId));
+            }
+            if (criteria.getItemId() != null) {
+                specification = specification.and(buildRangeSpecification(criteria.getItemId(), BookedItem_.itemId));
+            }
+            if (criteria.getCustomItemName() != null) {
+                specification = specification.and(buildStringSpecification(criteria.getCustomItemName(), BookedItem_.customItemName));
+            }
+            if (criteria.getAvailableDate() != null) {
+                specification = specification.and(buildRangeSpecification(criteria.getAvailableDate(), BookedItem_.availableDate));
+            }
+        }
+        return specification;
+    }
+}
@@ -0,0 +1,155 @@
+package com.mycompany.myapp.service;
+
+import static com.mycompany.myapp.service.util.TransactionUtils.afterCommit;
+
+import com.mycompany.myapp.config.ApplicationProperties;
+import com.mycompany.myapp.domain.Booking;
+import com.mycompany.myapp.repository.BookingRepository;
+import com.mycompany.myapp.service.dto.BookingAvailabilityDTO;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Service answering bundle availability questions from an in-memory index of {@link Booking} periods.
+ * <p>
+ * One {@link BookingIntervalTree} is kept per bundle in a {@link LazyIndex}. A tree is loaded from the database the
+ * first time its bundle is queried, and is then kept in sync by the booking write paths, which report their changes
+ * through {@link #bookingSaved(Booking)} and {@link #bookingDeleted(Long)}. Changes are applied once the
+ * surrounding transaction has committed, so rolled back writes never reach the index.
+ * <p>
+ * At most {@code application.cache.availability.max-entries} trees are kept, each for its time to live, after which
+ * it is loaded again and shows the bookings written by the other nodes.
+ * <p>
+ * Trees are loaded from the primary database through the {@link PrimaryReadService}, even within the read-only
+ * transactions which read the replica.
+ */
+@Service
+public class BookingAvailabilityService {
+
+    private final Logger log = LoggerFactory.getLogger(BookingAvailabilityService.class);
+
+    private final BookingRepository bookingRepository;
+
+    private final PrimaryReadService primaryReadService;
+
+    private final LazyIndex<Integer, Long, long[], BookingIntervalTree> trees;
+
+    public BookingAvailabilityService(
+        BookingRepository bookingRepository,
+        PrimaryReadService primaryReadService,
+        ApplicationProperties applicationProperties
+    ) {
+        this.bookingRepository = bookingRepository;
+        this.primaryReadService = primaryReadService;
+        ApplicationProperties.Cache.Region region = applicationProperties.getCache().getAvailability();
+        this.trees =
+            new LazyIndex<>(
+                this::loadPeriods,
+                BookingIntervalTree::new,
+                (tree, bookingId, period) -> tree.put(bookingId, period[0], period[1]),
+                BookingIntervalTree::remove,
+                region.getMaxEntries(),
+                Duration.ofSeconds(region.getTimeToLiveSeconds())
+            );
+    }
+
+    /**
+     * Get the bookings of a bundle overlapping the given date range.
+     *
+     * @param bundleId the id of the bundle.
+     * @param from the first day of the range, inclusive.
+     * @param to the last day of the range, inclusive.
+     * @return the availability of the bundle over the range.
+     */
+    @Transactional(readOnly = true)
+    public BookingAvailabilityDTO getAvailability(Integer bundleId, LocalDate from, LocalDate to) {
+        log.debug("Request to get availability of bundle {} from {} to {}", bundleId, from, to);
+        BookingIntervalTree tree = trees.get(bundleId);
+        List<Long> conflictingBookingIds;
+        synchronized (tree) {
+            conflictingBookingIds = tree.findOverlapping(startOfDay(from), startOfDay(to.plusDays(1)));
+        }
+        return new BookingAvailabilityDTO(bundleId, from, to, conflictingBookingIds);
+    }
+
+    /**
+     * Record a created or updated booking, once the current transaction commits.
+     *
+     * @param booking the saved booking.
+     */
+    public void bookingSaved(Booking booking) {
+        Long bookingId = booking.getId();
+        Integer bundleId = booking.getBundleId();
+        long[] period = periodOf(booking);
+        afterCommit(() -> trees.apply(bookingId, bundleId, period));
+    }
+
+    /**
+     * Forget a deleted booking, once the current transaction commits.
+     *
+     * @param bookingId the id of the deleted booking.
+     */
+    public void bookingDeleted(Long bookingId) {
+        afterCommit(() -> trees.apply(bookingId, null, null));
+    }
+
+    /**
+     * Forget all the indexed bookings, after bookings were written without going through the write paths.
+     * Trees are loaded again from the database when their bundle is next queried.
+     */
+    public void clear() {
+        log.debug("Clearing all booking interval trees");
+        trees.clear();
+    }
+
+    private Map<Long, long[]> loadPeriods(Integer bundleId) {
+        log.debug("Loading booking interval tree for bundle {}", bundleId);
+        Map<Long, long[]> periods = new LinkedHashMap<>();
+        for (Booking booking : primaryReadService.read(() -> bookingRepository.findAllByBundleId(bundleId))) {
+            long[] period = periodOf(booking);
+            if (period != null) {
+                periods.put(booking.getId(), period);
+            }
+        }
+        return periods;
+    }
+
+    /**
+     * Computes the {@code [start, end)} epoch-second period reserved by a booking.
+     * <p>
+     * The booking times are used when they describe a non-empty period, otherwise the booking dates are
+     * used, the end date being inclusive. Returns {@code null} when the booking has no usable period.
+     */
+    static long[] periodOf(Booking booking) {
+        if (booking.getBookingStartTime() != null && booking.getBookingEndTime() != null) {
+            long start = booking.getBookingStartTime().toEpochSecond();
+            long end = booking.getBookingEndTime().toEpochSecond();
+            if (start != end) {
+                return new long[] { Math.min(start, end), Math.max(start, end) };
+            }
+        }
+        LocalDate startDate = booking.getBookingStartDate();
+        LocalDate endDate = booking.getBookingEndDate() != null ? booking.getBookingEndDate() : startDate;
+        if (startDate == null) {
+            return null;
+        }
+        if (endDate.isBefore(startDate)) {
+            LocalDate swap = startDate;
+            startDate = endDate;
+            endDate = swap;
+        }
+        return new long[] { startOfDay(startDate), startOfDay(endDate.plusDays(1)) };
+    }
+
+    private static long startOfDay(LocalDate date) {
+        return date.atStartOfDay(ZoneOffset.UTC).toEpochSecond();
+    }
+}
@@ -0,0 +1,32 @@
+package com.mycompany.myapp.service;
+
+import java.util.List;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Thrown when a booking overlaps existing bookings of its bundle. Nothing is saved.
+ */
+@ResponseStatus(value = HttpStatus.CONFLICT, reason = "The bundle is already booked over this period")
+public class BookingConflictException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final Integer bundleId;
+
+    private final List<Long> conflictingBookingIds;
+
+    public BookingConflictException(Integer bundleId, List<Long> conflictingBookingIds) {
+        super("Bundle " + bundleId + " is already booked by " + conflictingBookingIds);
+        this.bundleId = bundleId;
+        this.conflictingBookingIds = List.copyOf(conflictingBookingIds);
+    }
+
+    public Integer getBundleId() {
+        return bundleId;
+    }
+
+    public List<Long> getConflictingBookingIds() {
+        return conflictingBookingIds;
+    }
+}
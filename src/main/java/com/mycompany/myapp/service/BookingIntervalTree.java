@@ -0,0 +1,225 @@
+package com.mycompany.myapp.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Augmented AVL interval tree holding the reserved periods of a single bundle.
+ * <p>
+ * Intervals are half-open {@code [start, end)} epoch-second ranges keyed by the booking id, so
+ * re-inserting a booking replaces its previous interval. Insert, remove and overlap tests are
+ * {@code O(log n)}; collecting all overlaps is {@code O(log n + k)}.
+ * <p>
+ * This class is not thread-safe, callers must synchronize on the instance.
+ */
+public final class BookingIntervalTree {
+
+    private Node root;
+
+    private final Map<Long, Node> nodesByBookingId = new HashMap<>();
+
+    /**
+     * Adds or replaces the interval of the given booking.
+     *
+     * @param bookingId the booking id.
+     * @param start inclusive start, in epoch seconds.
+     * @param end exclusive end, in epoch seconds.
+     */
+    public void put(long bookingId, long start, long end) {
+        remove(bookingId);
+        Node node = new Node(bookingId, start, end);
+        root = insert(root, node);
+        nodesByBookingId.put(bookingId, node);
+    }
+
+    /**
+     * Removes the interval of the given booking, if any.
+     *
+     * @param bookingId the booking id.
+     * @return {@code true} if an interval was removed.
+     */
+    public boolean remove(long bookingId) {
+        Node existing = nodesByBookingId.remove(bookingId);
+        if (existing == null) {
+            return false;
+        }
+        root = delete(root, existing.start, existing.bookingId);
+        return true;
+    }
+
+    public int size() {
+        return nodesByBookingId.size();
+    }
+
+    /**
+     * Checks whether any interval overlaps {@code [start, end)}.
+     *
+     * @param start inclusive start, in epoch seconds.
+     * @param end exclusive end, in epoch seconds.
+     * @return {@code true} if at least one stored interval overlaps.
+     */
+    public boolean overlaps(long start, long end) {
+        Node node = root;
+        while (node != null) {
+            if (node.start < end && start < node.end) {
+                return true;
+            }
+            if (node.left != null && node.left.maxEnd > start) {
+                node = node.left;
+            } else {
+                node = node.right;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Collects the booking ids whose interval overlaps {@code [start, end)}.
+     *
+     * @param start inclusive start, in epoch seconds.
+     * @param end exclusive end, in epoch seconds.
+     * @return the overlapping booking ids, ordered by interval start.
+     */
+    public List<Long> findOverlapping(long start, long end) {
+        List<Long> result = new ArrayList<>();
+        collect(root, start, end, result);
+        return result;
+    }
+
+    private static void collect(Node node, long start, long end, List<Long> result) {
+        if (node == null || node.maxEnd <= start) {
+            return;
+        }
+        collect(node.left, start, end, result);
+        if (node.start < end && start < node.end) {
+            result.add(node.bookingId);
+        }
+        if (node.start < end) {
+            collect(node.right, start, end, result);
+        }
+    }
+
+    private static int compare(long start, long bookingId, Node node) {
+        int cmp = Long.compare(start, node.start);
+        return cmp != 0 ? cmp : Long.compare(bookingId, node.bookingId);
+    }
+
+    private static Node insert(Node node, Node inserted) {
+        if (node == null) {
+            return inserted;
+        }
+        if (compare(inserted.start, inserted.bookingId, node) < 0) {
+            node.left = insert(node.left, inserted);
+        } else {
+            node.right = insert(node.right, inserted);
+        }
+        return rebalance(node);
+    }
+
+    private static Node delete(Node node, long start, long bookingId) {
+        if (node == null) {
+            return null;
+        }
+        int cmp = compare(start, bookingId, node);
+        if (cmp < 0) {
+            node.left = delete(node.left, start, bookingId);
+        } else if (cmp > 0) {
+            node.right = delete(node.right, start, bookingId);
+        } else {
+            if (node.left == null) {
+                return node.right;
+            }
+            if (node.right == null) {
+                return node.left;
+            }
+            Node successor = node.right;
+            while (successor.left != null) {
+                successor = successor.left;
+            }
+            successor.right = deleteMin(node.right);
+            successor.left = node.left;
+            return rebalance(successor);
+        }
+        return rebalance(node);
+    }
+
+    private static Node deleteMin(Node node) {
+        if (node.left == null) {
+            return node.right;
+        }
+        node.left = deleteMin(node.left);
+        return rebalance(node);
+    }
+
+    private static int height(Node node) {
+        return node == null ? 0 : node.height;
+    }
+
+    private static void update(Node node) {
+        node.height = 1 + Math.max(height(node.left), height(node.right));
+        long maxEnd = node.end;
+        if (node.left != null) {
+            maxEnd = Math.max(maxEnd, node.left.maxEnd);
+        }
+        if (node.right != null) {
+            maxEnd = Math.max(maxEnd, node.right.maxEnd);
+        }
+        node.maxEnd = maxEnd;
+    }
+
+    private static Node rebalance(Node node) {
+        update(node);
+        int balance = height(node.left) - height(node.right);
+        if (balance > 1) {
+            if (height(node.left.left) < height(node.left.right)) {
+                node.left = rotateLeft(node.left);
+            }
+            return rotateRight(node);
+        }
+        if (balance < -1) {
+            if (height(node.right.right) < height(node.right.left)) {
+                node.right = rotateRight(node.right);
+            }
+            return rotateLeft(node);
+        }
+        return node;
+    }
+
+    private static Node rotateRight(Node node) {
+        Node pivot = node.left;
+        node.left = pivot.right;
+        pivot.right = node;
+        update(node);
+        update(pivot);
+        return pivot;
+    }
+
+    private static Node rotateLeft(Node node) {
+        Node pivot = node.right;
+        node.right = pivot.left;
+        pivot.left = node;
+        update(node);
+        update(pivot);
+        return pivot;
+    }
+
+    private static final class Node {
+
+        private final long bookingId;
+        private final long start;
+        private final long end;
+        private long maxEnd;
+        private int height = 1;
+        private Node left;
+        private Node right;
+
+        private Node(long bookingId, long start, long end) {
+            this.bookingId = bookingId;
+            this.start = start;
+            this.end = end;
+            this.maxEnd = end;
+        }
+    }
+}
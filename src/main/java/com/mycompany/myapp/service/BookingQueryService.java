@@ -0,0 +1,113 @@
+package com.mycompany.myapp.service;
+
+import com.mycompany.myapp.domain.*; // for static metamodels
+import com.mycompany.myapp.domain.Booking;
+import com.mycompany.myapp.repository.BookingRepository;
+import com.mycompany.myapp.service.criteria.BookingCriteria;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import tech.jhipster.service.QueryService;
+
+/**
+ * Service for executing complex queries for {@link Booking} entities in the database.
+ * The main input is a {@link BookingCriteria} which gets converted to {@link Specification},
+ * in a way that all the filters must apply.
+ * It returns a {@link List} of {@link Booking} which fulfills the criteria.
+ */
+@Service
+@Transactional(readOnly = true)
+public class BookingQueryService extends QueryService<Booking> {
+
+    private final Logger log = LoggerFactory.getLogger(BookingQueryService.class);
+
+    private final BookingRepository bookingRepository;
+
+    public BookingQueryService(BookingRepository bookingRepository) {
+        this.bookingRepository = bookingRepository;
+    }
+
+    /**
+     * Return a {@link List} of {@link Booking} which matches the criteria from the database.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @return the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public List<Booking> findByCriteria(BookingCriteria criteria) {
+        log.debug("find by criteria : {}", criteria);
+        final Specification<Booking> specification = createSpecification(criteria);
+        return bookingRepository.findAll(specification);
+    }
+
+    /**
+     * Return a keyset page of {@link Booking} which matches the criteria from the database.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param afterId The id after which the page starts.
+     * @param limit The maximum number of entities to return.
+     * @return the matching entities, ordered by id.
+     */
+    @Transactional(readOnly = true)
+    public List<Booking> findByCriteria(BookingCriteria criteria, long afterId, Limit limit) {
+        log.debug("find by criteria : {}, after : {}, limit : {}", criteria, afterId, limit);
+        final Specification<Booking> specification = createSpecification(criteria)
+            .and((root, query, builder) -> builder.greaterThan(root.get(Booking_.id), afterId));
+        return bookingRepository.findBy(specification, q -> q.sortBy(Sort.by(Booking_.ID)).limit(limit.max()).all());
+    }
+
+    /**
+     * Return the number of matching entities in the database.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @return the number of matching entities.
+     */
+    @Transactional(readOnly = true)
+    public long countByCriteria(BookingCriteria criteria) {
+        log.debug("count by criteria : {}", criteria);
+        final Specification<Booking> specification = createSpecification(criteria);
+        return bookingRepository.count(specification);
+    }
+
+    /**
+     * Function to convert {@link BookingCriteria} to a {@link Specification}
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @return the matching {@link Specification} of the entity.
+     */
+    protected Specification<Booking> createSpecification(BookingCriteria criteria) {
+        Specification<Booking> specification = Specification.where(null);
+        if (criteria != null) {
+            // This has to be called first, because the distinct method returns null
+            if (criteria.getDistinct() != null) {
+                specification = specification.and(distinct(criteria.getDistinct()));
+            }
+            if (criteria.getId() != null) {
+                specification = specification.and(buildRangeSpecification(criteria.getId(), Booking_.id));
+            }
+            if (criteria.getBundleId() != null) {
+                specification = specification.and(buildRangeSpecification(criteria.getBundleId(), Booking_.bundleId));
+            }
+            if (criteria.getCustomerName() != null) {
+                specification = specification.and(buildStringSpecification(criteria.getCustomerName(), Booking_.customerName));
+            }
+            if (criteria.getBookingStartDate() != null) {
+                specification = specification.and(buildRangeSpecification(criteria.getBookingStartDate(), Booking_.bookingStartDate));
+            }
+            if (criteria.getBookingEndDate() != null) {
+                specification = specification.and(buildRangeSpecification(criteria.getBookingEndDate(), Booking_.bookingEndDate));
+            }
+            if (criteria.getBookingStartTime() != null) {
+                specification = specification.and(buildRangeSpecification(criteria.getBookingStartTime(), Booking_.bookingStartTime));
+            }
+            if (criteria.getBookingEndTime() != null) {
+                specification = specification.and(buildRangeSpecification(criteria.getBookingEndTime(), Booking_.bookingEndTime));
+            }
+            if (criteria.getUserId() != null) {
+                specification = specification.and(buildRangeSpecification(criteria.getUserId(), Booking_.userId));
+            }
+        }
+        return specification;
+    }
+}
@@ -0,0 +1,244 @@
+package com.mycompany.myapp.service;
+
+import com.mycompany.myapp.domain.Booking;
+import com.mycompany.myapp.management.BookingReservationMetersService;
+import com.mycompany.myapp.repository.BookingRepository;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Service creating and updating {@link Booking} rows without double-booking their bundle.
+ * <p>
+ * A reservation locks its bundle, checks that no committed booking of the bundle overlaps its period, and saves it. An
+ * update locks both its stored and its new bundle, and checks its new period against the other bookings of its new
+ * bundle. Two locks are taken per bundle, and all are held until the transaction completes:
+ * <ul>
+ * <li>a {@link ReentrantLock} picked among {@link #STRIPES} by the bundle id, so that the requests of one node queue
+ * in memory instead of holding database connections while they wait;</li>
+ * <li>a PostgreSQL transaction-level advisory lock on the bundle id, which serializes the reservations of the bundle
+ * across nodes.</li>
+ * </ul>
+ * Reservations of other bundles only wait when their bundle shares a stripe, so they otherwise proceed in parallel.
+ * <p>
+ * The locks of an update are taken in a consistent order, the stripes by index and the advisory locks by bundle id, so
+ * that two updates swapping bundles cannot deadlock. An update reads its stored bundle before locking, and so already
+ * holds a connection: it only takes the stripes which are free, and otherwise waits on the advisory locks, so that it
+ * never waits for a stripe whose holder waits for a connection.
+ */
+@Service
+@Transactional
+public class BookingReservationService {
+
+    /**
+     * Number of local locks, a power of two.
+     */
+    static final int STRIPES = 256;
+
+    /**
+     * First key of the advisory locks taken on bundles, so that they do not collide with other advisory locks.
+     */
+    static final int ADVISORY_LOCK_CLASS = 0x424b4e47;
+
+    private final Logger log = LoggerFactory.getLogger(BookingReservationService.class);
+
+    private final BookingRepository bookingRepository;
+
+    private final BookingAvailabilityService bookingAvailabilityService;
+
+    private final BookingReservationMetersService bookingReservationMetersService;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final MergePatchService mergePatchService;
+
+    private final ReentrantLock[] stripes = new ReentrantLock[STRIPES];
+
+    public BookingReservationService(
+        BookingRepository bookingRepository,
+        BookingAvailabilityService bookingAvailabilityService,
+        BookingReservationMetersService bookingReservationMetersService,
+        JdbcTemplate jdbcTemplate,
+        MergePatchService mergePatchService
+    ) {
+        this.bookingRepository = bookingRepository;
+        this.bookingAvailabilityService = bookingAvailabilityService;
+        this.bookingReservationMetersService = bookingReservationMetersService;
+        this.jdbcTemplate = jdbcTemplate;
+        this.mergePatchService = mergePatchService;
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+    }
+
+    /**
+     * Save a new booking, unless it overlaps an existing booking of its bundle.
+     * <p>
+     * Bookings without bundle or without period cannot conflict, and are saved without locking.
+     *
+     * @param booking the booking to create.
+     * @return the saved booking.
+     * @throws BookingConflictException if the booking overlaps existing bookings of its bundle.
+     */
+    public Booking reserve(Booking booking) {
+        log.debug("Request to reserve Booking : {}", booking);
+        if (BookingAvailabilityService.periodOf(booking) != null) {
+            lockBundles(booking.getBundleId(), null, true);
+            checkOverlaps(booking, null);
+        }
+        Booking result = bookingRepository.save(booking);
+        bookingAvailabilityService.bookingSaved(result);
+        bookingReservationMetersService.trackReserved();
+        return result;
+    }
+
+    /**
+     * Replace all the values of a booking, unless its new period overlaps another booking of its new bundle.
+     *
+     * @param id the id of the booking.
+     * @param booking the new values, and optionally the expected version.
+     * @return the updated booking, or empty if there is no booking with this id.
+     * @throws BookingConflictException if the booking overlaps other bookings of its new bundle.
+     */
+    public Optional<Booking> replace(Long id, Booking booking) {
+        log.debug("Request to replace reserved Booking : {}", id);
+        return update(id, booking, false);
+    }
+
+    /**
+     * Apply a JSON merge patch to a booking, unless its patched period overlaps another booking of its patched bundle.
+     *
+     * @param id the id of the booking.
+     * @param patch the values to change, and optionally the expected version.
+     * @return the updated booking, or empty if there is no booking with this id.
+     * @throws BookingConflictException if the booking overlaps other bookings of its patched bundle.
+     */
+    public Optional<Booking> patch(Long id, Booking patch) {
+        log.debug("Request to patch reserved Booking : {}", id);
+        return update(id, patch, true);
+    }
+
+    private Optional<Booking> update(Long id, Booking values, boolean skipNulls) {
+        Booking stored = bookingRepository.findById(id).orElse(null);
+        if (stored == null) {
+            return Optional.empty();
+        }
+        lockBundles(stored.getBundleId(), values.getBundleId(), false);
+        // The new values are checked before they are copied onto the stored booking, so that a conflict writes nothing
+        checkOverlaps(skipNulls ? patched(stored, values) : values, id);
+        Optional<Booking> result = skipNulls
+            ? mergePatchService.patch(Booking.class, id, values)
+            : mergePatchService.replace(Booking.class, id, values);
+        result.ifPresent(updated -> {
+            bookingAvailabilityService.bookingSaved(updated);
+            bookingReservationMetersService.trackReserved();
+        });
+        return result;
+    }
+
+    /**
+     * Checks that no other booking of the bundle of a booking overlaps its period. Bookings without bundle or without
+     * period cannot conflict.
+     *
+     * @param booking the bundle and the period of the booking.
+     * @param bookingId the id of the stored booking, which does not conflict with itself, {@code null} for a new one.
+     */
+    private void checkOverlaps(Booking booking, Long bookingId) {
+        Integer bundleId = booking.getBundleId();
+        long[] period = BookingAvailabilityService.periodOf(booking);
+        if (bundleId == null || period == null) {
+            return;
+        }
+        List<Long> conflictingBookingIds = bookingRepository
+            .findOverlappingIds(
+                bundleId,
+                LocalDateTime.ofEpochSecond(period[0], 0, ZoneOffset.UTC),
+                LocalDateTime.ofEpochSecond(period[1], 0, ZoneOffset.UTC)
+            )
+            .stream()
+            .filter(conflictingId -> !conflictingId.equals(bookingId))
+            .toList();
+        if (!conflictingBookingIds.isEmpty()) {
+            bookingReservationMetersService.trackConflict();
+            throw new BookingConflictException(bundleId, conflictingBookingIds);
+        }
+    }
+
+    /**
+     * The values of the period of a stored booking once a merge patch is applied.
+     */
+    private static Booking patched(Booking stored, Booking patch) {
+        return new Booking()
+            .bundleId(patch.getBundleId() != null ? patch.getBundleId() : stored.getBundleId())
+            .bookingStartDate(patch.getBookingStartDate() != null ? patch.getBookingStartDate() : stored.getBookingStartDate())
+            .bookingEndDate(patch.getBookingEndDate() != null ? patch.getBookingEndDate() : stored.getBookingEndDate())
+            .bookingStartTime(patch.getBookingStartTime() != null ? patch.getBookingStartTime() : stored.getBookingStartTime())
+            .bookingEndTime(patch.getBookingEndTime() != null ? patch.getBookingEndTime() : stored.getBookingEndTime());
+    }
+
+    /**
+     * Locks up to two bundles until the current transaction completes, the stripes in ascending index order, taking a
+     * stripe shared by both bundles once, and then the advisory locks in ascending bundle id order.
+     *
+     * @param waitForStripes whether to wait for the stripes, or only take the free ones.
+     */
+    private void lockBundles(Integer bundleId, Integer otherBundleId, boolean waitForStripes) {
+        int[] bundleIds = Stream
+            .of(bundleId, otherBundleId)
+            .filter(Objects::nonNull)
+            .mapToInt(Integer::intValue)
+            .distinct()
+            .sorted()
+            .toArray();
+        if (bundleIds.length == 0) {
+            return;
+        }
+        long start = System.nanoTime();
+        for (int stripeIndex : Arrays.stream(bundleIds).map(BookingReservationService::stripeOf).distinct().sorted().toArray()) {
+            ReentrantLock stripe = stripes[stripeIndex];
+            if (waitForStripes) {
+                stripe.lock();
+            } else if (!stripe.tryLock()) {
+                continue;
+            }
+            try {
+                TransactionSynchronizationManager.registerSynchronization(
+                    new TransactionSynchronization() {
+                        @Override
+                        public void afterCompletion(int status) {
+                            stripe.unlock();
+                        }
+                    }
+                );
+            } catch (RuntimeException e) {
+                stripe.unlock();
+                throw e;
+            }
+        }
+        long locked = System.nanoTime();
+        bookingReservationMetersService.recordLocalLockWait(locked - start);
+
+        for (int lockedBundleId : bundleIds) {
+            jdbcTemplate.query("SELECT pg_advisory_xact_lock(?, ?)", resultSet -> {}, ADVISORY_LOCK_CLASS, lockedBundleId);
+        }
+        bookingReservationMetersService.recordDatabaseLockWait(System.nanoTime() - locked);
+    }
+
+    static int stripeOf(int bundleId) {
+        // Spread the bits, so that bundle ids sharing their low bits do not share a stripe
+        int hash = bundleId * 0x9E3779B9;
+        return (hash ^ (hash >>> 16)) & (STRIPES - 1);
+    }
+}
@@ -0,0 +1,211 @@
+package com.mycompany.myapp.service;
+
+import com.mycompany.myapp.domain.BookedItem;
+import com.mycompany.myapp.domain.BundleItem;
+import com.mycompany.myapp.repository.BookedItemRepository;
+import com.mycompany.myapp.repository.BookingRepository;
+import com.mycompany.myapp.repository.BundleItemRepository;
+import com.mycompany.myapp.repository.BundleRepository;
+import com.mycompany.myapp.repository.ItemRepository;
+import com.mycompany.myapp.service.dto.BulkRowResultDTO;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Service writing lists of {@link BookedItem} and {@link BundleItem} in a single transaction.
+ * <p>
+ * Rows are validated one by one, as the single-row endpoints would, and rejected rows are reported without
+ * failing the others. The rows referring to missing rows are rejected up front, with one query per referenced
+ * table, so that a foreign key violation cannot fail the whole flush. The accepted rows are written with one flush,
+ * so Hibernate groups them in JDBC batches of {@code hibernate.jdbc.batch_size} statements, and new ids are taken
+ * from the pooled {@code sequenceGenerator}, which needs one sequence call per allocation block instead of one per
+ * row.
+ */
+@Service
+@Transactional
+public class BulkWriteService {
+
+    /**
+     * Maximum number of rows accepted in one bulk request.
+     */
+    public static final int MAX_ROWS = 1000;
+
+    private final Logger log = LoggerFactory.getLogger(BulkWriteService.class);
+
+    private final BookedItemRepository bookedItemRepository;
+
+    private final BookingRepository bookingRepository;
+
+    private final BundleItemRepository bundleItemRepository;
+
+    private final BundleRepository bundleRepository;
+
+    private final ItemRepository itemRepository;
+
+    private final BundleItemIndexService bundleItemIndexService;
+
+    private final ItemCalendarService itemCalendarService;
+
+    public BulkWriteService(
+        BookedItemRepository bookedItemRepository,
+        BookingRepository bookingRepository,
+        BundleItemRepository bundleItemRepository,
+        BundleRepository bundleRepository,
+        ItemRepository itemRepository,
+        BundleItemIndexService bundleItemIndexService,
+        ItemCalendarService itemCalendarService
+    ) {
+        this.bookedItemRepository = bookedItemRepository;
+        this.bookingRepository = bookingRepository;
+        this.bundleItemRepository = bundleItemRepository;
+        this.bundleRepository = bundleRepository;
+        this.itemRepository = itemRepository;
+        this.bundleItemIndexService = bundleItemIndexService;
+        this.itemCalendarService = itemCalendarService;
+    }
+
+    /**
+     * Create the booked items of a booking.
+     * <p>
+     * The booking is looked up in the write transaction, on the primary database, and locked until the booked items
+     * are flushed, so that it cannot be deleted meanwhile.
+     *
+     * @param bookingId the id of the booking.
+     * @param bookedItems the booked items to create, their {@code bookingId} is set to the given booking.
+     * @return the result of each row, in the order of the request, rows being rejected as well when the id of the
+     * booking does not fit in the {@code booking_id} column, or empty if the booking does not exist.
+     */
+    public Optional<List<BulkRowResultDTO>> createBookedItems(Long bookingId, List<BookedItem> bookedItems) {
+        log.debug("Request to create {} BookedItems of Booking : {}", bookedItems.size(), bookingId);
+        if (bookingRepository.lockIdForKeyShare(bookingId).isEmpty()) {
+            return Optional.empty();
+        }
+        boolean bookingIdInRange = bookingId.longValue() == bookingId.intValue();
+        Set<Long> existingItemIds = bundleItemRepository.findExistingIds(
+            referencedIds(bookedItems.stream().filter(Objects::nonNull).map(BookedItem::getItemId).toList())
+        );
+
+        List<BulkRowResultDTO> results = new ArrayList<>(bookedItems.size());
+        List<BookedItem> accepted = new ArrayList<>(bookedItems.size());
+        for (int i = 0; i < bookedItems.size(); i++) {
+            BookedItem bookedItem = bookedItems.get(i);
+            if (bookedItem == null) {
+                results.add(rejected(i, null, HttpStatus.BAD_REQUEST, "rownull"));
+            } else if (bookedItem.getId() != null) {
+                results.add(rejected(i, bookedItem.getId(), HttpStatus.BAD_REQUEST, "idexists"));
+            } else if (!bookingIdInRange) {
+                results.add(rejected(i, null, HttpStatus.BAD_REQUEST, "bookingidoutofrange"));
+            } else if (bookedItem.getItemId() == null) {
+                results.add(rejected(i, null, HttpStatus.BAD_REQUEST, "itemidnull"));
+            } else if (!existingItemIds.contains(bookedItem.getItemId().longValue())) {
+                // booked_item.item_id refers to bundle_item.id
+                results.add(rejected(i, null, HttpStatus.BAD_REQUEST, "itemnotfound"));
+            } else {
+                bookedItem.setBookingId(bookingId.intValue());
+                accepted.add(bookedItem);
+                results.add(null);
+            }
+        }
+        bookedItemRepository.saveAllAndFlush(accepted);
+        accepted.forEach(itemCalendarService::bookedItemSaved);
+        fillAccepted(results, accepted, HttpStatus.CREATED, BookedItem::getId);
+        return Optional.of(results);
+    }
+
+    /**
+     * Update existing bundle items.
+     * <p>
+     * The existing rows are loaded with a single query and updated in place, so only the rows whose values
+     * changed are written. A row carrying a {@code version} other than the stored one is rejected with a
+     * {@code 409 (Conflict)}, as the single-row update would be.
+     *
+     * @param bundleItems the bundle items to update.
+     * @return the result of each row, in the order of the request.
+     */
+    public List<BulkRowResultDTO> updateBundleItems(List<BundleItem> bundleItems) {
+        log.debug("Request to update {} BundleItems", bundleItems.size());
+        Set<Long> ids = bundleItems
+            .stream()
+            .filter(bundleItem -> bundleItem != null && bundleItem.getId() != null)
+            .map(BundleItem::getId)
+            .collect(Collectors.toSet());
+        Map<Long, BundleItem> existing = bundleItemRepository
+            .findAllById(ids)
+            .stream()
+            .collect(Collectors.toMap(BundleItem::getId, Function.identity()));
+        List<BundleItem> rows = bundleItems.stream().filter(Objects::nonNull).toList();
+        Set<Long> existingBundleIds = bundleRepository.findExistingIds(referencedIds(rows.stream().map(BundleItem::getBundleId).toList()));
+        Set<Long> existingItemIds = itemRepository.findExistingIds(referencedIds(rows.stream().map(BundleItem::getItemId).toList()));
+
+        List<BulkRowResultDTO> results = new ArrayList<>(bundleItems.size());
+        List<BundleItem> accepted = new ArrayList<>(bundleItems.size());
+        Set<Long> seen = new HashSet<>();
+        for (int i = 0; i < bundleItems.size(); i++) {
+            BundleItem bundleItem = bundleItems.get(i);
+            if (bundleItem == null) {
+                results.add(rejected(i, null, HttpStatus.BAD_REQUEST, "rownull"));
+            } else if (bundleItem.getId() == null) {
+                results.add(rejected(i, null, HttpStatus.BAD_REQUEST, "idnull"));
+            } else if (!existing.containsKey(bundleItem.getId())) {
+                results.add(rejected(i, bundleItem.getId(), HttpStatus.NOT_FOUND, "idnotfound"));
+            } else if (!seen.add(bundleItem.getId())) {
+                results.add(rejected(i, bundleItem.getId(), HttpStatus.BAD_REQUEST, "idduplicate"));
+            } else if (bundleItem.getBundleId() == null || !existingBundleIds.contains(bundleItem.getBundleId().longValue())) {
+                results.add(rejected(i, bundleItem.getId(), HttpStatus.BAD_REQUEST, "bundlenotfound"));
+            } else if (bundleItem.getItemId() == null || !existingItemIds.contains(bundleItem.getItemId().longValue())) {
+                results.add(rejected(i, bundleItem.getId(), HttpStatus.BAD_REQUEST, "itemnotfound"));
+            } else if (
+                bundleItem.getVersion() != null && !bundleItem.getVersion().equals(existing.get(bundleItem.getId()).getVersion())
+            ) {
+                results.add(rejected(i, bundleItem.getId(), HttpStatus.CONFLICT, "concurrencyfailure"));
+            } else {
+                BundleItem managed = existing.get(bundleItem.getId());
+                managed.setBundleId(bundleItem.getBundleId());
+                managed.setItemId(bundleItem.getItemId());
+                accepted.add(managed);
+                results.add(null);
+            }
+        }
+        bundleItemRepository.flush();
+        accepted.forEach(bundleItemIndexService::bundleItemSaved);
+        fillAccepted(results, accepted, HttpStatus.OK, BundleItem::getId);
+        return results;
+    }
+
+    private static Set<Long> referencedIds(List<Integer> ids) {
+        return ids.stream().filter(Objects::nonNull).map(Integer::longValue).collect(Collectors.toSet());
+    }
+
+    private static BulkRowResultDTO rejected(int index, Long id, HttpStatus status, String error) {
+        return new BulkRowResultDTO(index, id, status.value(), error);
+    }
+
+    /**
+     * Replaces the {@code null} placeholders of the accepted rows, which are in the same order as the placeholders.
+     */
+    private static <T> void fillAccepted(
+        List<BulkRowResultDTO> results,
+        List<T> accepted,
+        HttpStatus status,
+        Function<T, Long> idExtractor
+    ) {
+        int next = 0;
+        for (int i = 0; i < results.size(); i++) {
+            if (results.get(i) == null) {
+                results.set(i, new BulkRowResultDTO(i, idExtractor.apply(accepted.get(next++)), status.value(), null));
+            }
+        }
+    }
+}
@@ -0,0 +1,385 @@
+package com.mycompany.myapp.service;
+
+import static com.mycompany.myapp.service.util.TransactionUtils.afterCommit;
+
+import com.mycompany.myapp.config.ApplicationProperties;
+import com.mycompany.myapp.domain.BundleItem;
+import com.mycompany.myapp.domain.Item;
+import java.text.Normalizer;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+/**
+ * Service answering "bundles containing these items" questions from an in-memory inverted index.
+ * <p>
+ * The index maps every item id to the {@link CompressedBitmap} of the ids of the bundles containing it, and every
+ * token of the item names to the ids of the items, so a query over dozens of items is a few bitmap intersections and
+ * unions. It is loaded from the {@code bundle_item} and {@code item} tables when the application starts, and is then
+ * kept in sync by the write paths, which report their changes through {@link #bundleItemSaved(BundleItem)},
+ * {@link #bundleItemDeleted(Long)}, {@link #bundleDeleted(Long)}, {@link #itemSaved(Item)} and {@link #itemDeleted(Long)}.
+ * Changes are applied once the surrounding transaction has committed, so rolled back writes never reach the index.
+ * <p>
+ * The writes of the other nodes are never reported to this one, so the index is loaded again on the first query after
+ * {@code application.cache.bundle-item-index-time-to-live-seconds}.
+ * <p>
+ * The index is loaded from the primary database through the {@link PrimaryReadService}, as changes committed before
+ * the load are never applied again.
+ */
+@Service
+public class BundleItemIndexService {
+
+    private static final Pattern ITEM_ID = Pattern.compile("\\d{1,9}");
+
+    private static final Pattern TOKEN_SEPARATOR = Pattern.compile("[^\\p{Alnum}]+");
+
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}");
+
+    private final Logger log = LoggerFactory.getLogger(BundleItemIndexService.class);
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final PrimaryReadService primaryReadService;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<Integer, CompressedBitmap> bundlesByItemId = new HashMap<>();
+
+    private final Map<Long, Long> pairsByBundleItemId = new HashMap<>();
+
+    private final Map<Long, Integer> bundleItemCountsByPair = new HashMap<>();
+
+    private final Map<Integer, Set<String>> tokensByItemId = new HashMap<>();
+
+    private final Map<String, Set<Integer>> itemIdsByToken = new HashMap<>();
+
+    private final long timeToLiveNanos;
+
+    private volatile boolean loaded;
+
+    private volatile long loadedAtNanos;
+
+    public BundleItemIndexService(
+        JdbcTemplate jdbcTemplate,
+        PrimaryReadService primaryReadService,
+        ApplicationProperties applicationProperties
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.primaryReadService = primaryReadService;
+        this.timeToLiveNanos = Duration.ofSeconds(applicationProperties.getCache().getBundleItemIndexTimeToLiveSeconds()).toNanos();
+    }
+
+    /**
+     * Find the bundles containing items.
+     * <p>
+     * A term is either an item id, or words of an item name, matching the items whose name contains all these words
+     * whatever their case and accents, such as {@code "photographer"} or {@code "wedding cake"}.
+     *
+     * @param allOf the terms which must all match an item of the bundles.
+     * @param anyOf the terms of which at least one must match an item of the bundles, ignored if empty.
+     * @param afterId the bundles with a greater id are returned.
+     * @param limit the maximum number of bundle ids to return.
+     * @return the ids of the matching bundles, in ascending order.
+     */
+    public List<Long> findBundleIds(List<String> allOf, List<String> anyOf, long afterId, int limit) {
+        log.debug("Request to find bundles containing all of {} and any of {}", allOf, anyOf);
+        ensureLoaded();
+        lock.readLock().lock();
+        try {
+            CompressedBitmap bundles = null;
+            if (!anyOf.isEmpty()) {
+                bundles = new CompressedBitmap();
+                for (String term : anyOf) {
+                    bundles = CompressedBitmap.or(bundles, match(term));
+                }
+            }
+            // Smallest sets first, so that the intermediate results stay small
+            List<CompressedBitmap> required = allOf
+                .stream()
+                .map(this::match)
+                .sorted(Comparator.comparingInt(CompressedBitmap::cardinality))
+                .toList();
+            for (CompressedBitmap term : required) {
+                bundles = bundles == null ? term : CompressedBitmap.and(bundles, term);
+                if (bundles.isEmpty()) {
+                    break;
+                }
+            }
+            if (bundles == null) {
+                return List.of();
+            }
+            int after = (int) Math.max(Math.min(afterId, Integer.MAX_VALUE), -1);
+            return Arrays.stream(bundles.values(after, limit)).mapToObj(id -> (long) id).toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Record a created or updated bundle item, once the current transaction commits.
+     *
+     * @param bundleItem the saved bundle item.
+     */
+    public void bundleItemSaved(BundleItem bundleItem) {
+        Long id = bundleItem.getId();
+        Integer bundleId = bundleItem.getBundleId();
+        Integer itemId = bundleItem.getItemId();
+        afterCommit(() -> applyIfLoaded(() -> indexBundleItem(id, bundleId, itemId)));
+    }
+
+    /**
+     * Forget a deleted bundle item, once the current transaction commits.
+     *
+     * @param id the id of the deleted bundle item.
+     */
+    public void bundleItemDeleted(Long id) {
+        afterCommit(() -> applyIfLoaded(() -> indexBundleItem(id, null, null)));
+    }
+
+    /**
+     * Forget the bundle items of a deleted bundle, once the current transaction commits.
+     *
+     * @param id the id of the deleted bundle.
+     */
+    public void bundleDeleted(Long id) {
+        Integer bundleId = Math.toIntExact(id);
+        afterCommit(() -> applyIfLoaded(() -> forgetBundle(bundleId)));
+    }
+
+    /**
+     * Record the name of a created or updated item, once the current transaction commits.
+     *
+     * @param item the saved item.
+     */
+    public void itemSaved(Item item) {
+        Integer id = Math.toIntExact(item.getId());
+        String itemName = item.getItemName();
+        afterCommit(() -> applyIfLoaded(() -> indexItem(id, itemName)));
+    }
+
+    /**
+     * Forget the name of a deleted item, once the current transaction commits.
+     *
+     * @param id the id of the deleted item.
+     */
+    public void itemDeleted(Long id) {
+        Integer itemId = Math.toIntExact(id);
+        afterCommit(() -> applyIfLoaded(() -> indexItem(itemId, null)));
+    }
+
+    /**
+     * Load the whole index again, after bundle items or items were written without going through the write paths.
+     */
+    public void reload() {
+        log.debug("Reloading the bundle item index");
+        lock.writeLock().lock();
+        try {
+            clearAndLoad();
+        } catch (DataAccessException e) {
+            log.warn("Could not reload the bundle item index, it will be loaded on the next query: {}", e.getMessage());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        try {
+            ensureLoaded();
+        } catch (DataAccessException e) {
+            log.warn("Could not load the bundle item index, it will be loaded on the first query: {}", e.getMessage());
+        }
+    }
+
+    private void ensureLoaded() {
+        if (loaded && !isExpired()) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            if (!loaded) {
+                load();
+            } else if (isExpired()) {
+                log.debug("Reloading the expired bundle item index");
+                clearAndLoad();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private boolean isExpired() {
+        return System.nanoTime() - loadedAtNanos >= timeToLiveNanos;
+    }
+
+    private void clearAndLoad() {
+        loaded = false;
+        bundlesByItemId.clear();
+        pairsByBundleItemId.clear();
+        bundleItemCountsByPair.clear();
+        tokensByItemId.clear();
+        itemIdsByToken.clear();
+        load();
+    }
+
+    /**
+     * Loads the index, the caller holding the write lock: changes committed meanwhile wait for the load to finish and
+     * are then applied on top of it. Applying a change already read by the load leaves the index unchanged.
+     */
+    private void load() {
+        long start = System.nanoTime();
+        primaryReadService.read(() -> {
+            jdbcTemplate.query(
+                "SELECT id, bundle_id, item_id FROM bundle_item",
+                resultSet -> {
+                    indexBundleItem(resultSet.getLong(1), (Integer) resultSet.getObject(2), (Integer) resultSet.getObject(3));
+                }
+            );
+            jdbcTemplate.query(
+                "SELECT id, item_name FROM item",
+                resultSet -> {
+                    indexItem(Math.toIntExact(resultSet.getLong(1)), resultSet.getString(2));
+                }
+            );
+            return null;
+        });
+        loadedAtNanos = start;
+        loaded = true;
+        log.info(
+            "Loaded the bundle item index: {} bundle items, {} items, {} tokens in {} ms",
+            pairsByBundleItemId.size(),
+            bundlesByItemId.size(),
+            itemIdsByToken.size(),
+            (System.nanoTime() - start) / 1_000_000
+        );
+    }
+
+    private CompressedBitmap match(String term) {
+        String trimmed = term.trim();
+        if (ITEM_ID.matcher(trimmed).matches()) {
+            return bundlesByItemId.getOrDefault(Integer.valueOf(trimmed), new CompressedBitmap());
+        }
+        Set<Integer> itemIds = null;
+        for (String token : tokenize(trimmed)) {
+            Set<Integer> tokenItemIds = itemIdsByToken.getOrDefault(token, Set.of());
+            if (itemIds == null) {
+                itemIds = new HashSet<>(tokenItemIds);
+            } else {
+                itemIds.retainAll(tokenItemIds);
+            }
+        }
+        CompressedBitmap bundles = new CompressedBitmap();
+        if (itemIds != null) {
+            for (Integer itemId : itemIds) {
+                CompressedBitmap itemBundles = bundlesByItemId.get(itemId);
+                if (itemBundles != null) {
+                    bundles = CompressedBitmap.or(bundles, itemBundles);
+                }
+            }
+        }
+        return bundles;
+    }
+
+    private void indexBundleItem(Long id, Integer bundleId, Integer itemId) {
+        // The bitmaps only hold non-negative values, so the rows with a negative bundle id are left out
+        boolean indexed = bundleId != null && itemId != null && bundleId >= 0;
+        Long previous = indexed ? pairsByBundleItemId.put(id, pair(bundleId, itemId)) : pairsByBundleItemId.remove(id);
+        if (previous != null) {
+            if (bundleItemCountsByPair.merge(previous, -1, Integer::sum) == 0) {
+                bundleItemCountsByPair.remove(previous);
+                int previousItemId = (int) (long) previous;
+                CompressedBitmap bundles = bundlesByItemId.get(previousItemId);
+                bundles.remove((int) (previous >>> 32));
+                if (bundles.isEmpty()) {
+                    bundlesByItemId.remove(previousItemId);
+                }
+            }
+        }
+        if (indexed) {
+            bundleItemCountsByPair.merge(pair(bundleId, itemId), 1, Integer::sum);
+            bundlesByItemId.computeIfAbsent(itemId, key -> new CompressedBitmap()).add(bundleId);
+        }
+    }
+
+    private void forgetBundle(int bundleId) {
+        List<Long> ids = pairsByBundleItemId
+            .entrySet()
+            .stream()
+            .filter(entry -> (int) (entry.getValue() >>> 32) == bundleId)
+            .map(Map.Entry::getKey)
+            .toList();
+        ids.forEach(id -> indexBundleItem(id, null, null));
+    }
+
+    private void indexItem(Integer id, String itemName) {
+        Set<String> previous = tokensByItemId.remove(id);
+        if (previous != null) {
+            for (String token : previous) {
+                Set<Integer> itemIds = itemIdsByToken.get(token);
+                itemIds.remove(id);
+                if (itemIds.isEmpty()) {
+                    itemIdsByToken.remove(token);
+                }
+            }
+        }
+        Set<String> tokens = tokenize(itemName);
+        if (!tokens.isEmpty()) {
+            tokensByItemId.put(id, tokens);
+            for (String token : tokens) {
+                itemIdsByToken.computeIfAbsent(token, key -> new HashSet<>()).add(id);
+            }
+        }
+    }
+
+    /**
+     * Splits a name into lower case words without accents.
+     */
+    static Set<String> tokenize(String name) {
+        Set<String> tokens = new HashSet<>();
+        if (name == null) {
+            return tokens;
+        }
+        String normalized = DIACRITICS.matcher(Normalizer.normalize(name, Normalizer.Form.NFD)).replaceAll("");
+        normalized = normalized.toLowerCase(Locale.ROOT);
+        for (String token : TOKEN_SEPARATOR.split(normalized)) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    private static long pair(int bundleId, int itemId) {
+        return (long) bundleId << 32 | (itemId & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Applies a change to a loaded index; an index not loaded yet reads the change from the database when it loads.
+     */
+    private void applyIfLoaded(Runnable change) {
+        lock.writeLock().lock();
+        try {
+            if (loaded) {
+                change.run();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+}
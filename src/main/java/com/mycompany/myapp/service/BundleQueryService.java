@@ -0,0 +1,110 @@
+package com.mycompany.myapp.service;
+
+import com.mycompany.myapp.domain.*; // for static metamodels
+import com.mycompany.myapp.domain.Bundle;
+import com.mycompany.myapp.repository.BundleRepository;
+import com.mycompany.myapp.service.criteria.BundleCriteria;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import tech.jhipster.service.QueryService;
+
+/**
+ * Service for executing complex queries for {@link Bundle} entities in the database.
+ * The main input is a {@link BundleCriteria} which gets converted to {@link Specification},
+ * in a way that all the filters must apply.
+ * It returns a {@link List} of {@link Bundle} which fulfills the criteria.
+ */
+@Service
+@Transactional(readOnly = true)
+public class BundleQueryService extends QueryService<Bundle> {
+
+    private final Logger log = LoggerFactory.getLogger(BundleQueryService.class);
+
+    private final BundleRepository bundleRepository;
+
+    public BundleQueryService(BundleRepository bundleRepository) {
+        this.bundleRepository = bundleRepository;
+    }
+
+    /**
+     * Return a {@link List} of {@link Bundle} which matches the criteria from the database.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @return the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public List<Bundle> findByCriteria(BundleCriteria criteria) {
+        log.debug("find by criteria : {}", criteria);
+        final Specification<Bundle> specification = createSpecification(criteria);
+        return bundleRepository.findAll(specification);
+    }
+
+    /**
+     * Return a keyset page of {@link Bundle} which matches the criteria from the database.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param afterId The id after which the page starts.
+     * @param limit The maximum number of entities to return.
+     * @return the matching entities, ordered by id.
+     */
+    @Transactional(readOnly = true)
+    public List<Bundle> findByCriteria(BundleCriteria criteria, long afterId, Limit limit) {
+        log.debug("find by criteria : {}, after : {}, limit : {}", criteria, afterId, limit);
+        final Specification<Bundle> specification = createSpecification(criteria)
+            .and((root, query, builder) -> builder.greaterThan(root.get(Bundle_.id), afterId));
+        return bundleRepository.findBy(specification, q -> q.sortBy(Sort.by(Bundle_.ID)).limit(limit.max()).all());
+    }
+
+    /**
+     * Return the number of matching entities in the database.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @return the number of matching entities.
+     */
+    @Transactional(readOnly = true)
+    public long countByCriteria(BundleCriteria criteria) {
+        log.debug("count by criteria : {}", criteria);
+        final Specification<Bundle> specification = createSpecification(criteria);
+        return bundleRepository.count(specification);
+    }
+
+    /**
+     * Function to convert {@link BundleCriteria} to a {@link Specification}
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @return the matching {@link Specification} of the entity.
+     */
+    protected Specification<Bundle> createSpecification(BundleCriteria criteria) {
+        Specification<Bundle> specification = Specification.where(null);
+        if (criteria != null) {
+            // This has to be called first, because the distinct method returns null
+            if (criteria.getDistinct() != null) {
+                specification = specification.and(distinct(criteria.getDistinct()));
+            }
+            if (criteria.getId() != null) {
+                specification = specification.and(buildRangeSpecification(criteria.getId(), Bundle_.id));
+            }
+            if (criteria.getBundleName() != null) {
+                specification = specification.and(buildStringSpecification(criteria.getBundleName(), Bundle_.bundleName));
+            }
+            if (criteria.getPriceRange() != null) {
+                specification = specification.and(buildStringSpecification(criteria.getPriceRange(), Bundle_.priceRange));
+            }
+            if (criteria.getMaxPeople() != null) {
+                specification = specification.and(buildStringSpecification(criteria.getMaxPeople(), Bundle_.maxPeople));
+            }
+            if (criteria.getMinPrice() != null) {
+                specification = specification.and(buildRangeSpecification(criteria.getMinPrice(), Bundle_.minPrice));
+            }
+            if (criteria.getMaxPrice() != null) {
+                specification = specification.and(buildRangeSpecification(criteria.getMaxPrice(), Bundle_.maxPrice));
+            }
+            if (criteria.getCapacity() != null) {
+                specification = specification.and(buildRangeSpecification(criteria.getCapacity(), Bundle_.capacity));
+            }
+        }
+        return specification;
+    }
+}
@@ -0,0 +1,57 @@
+package com.mycompany.myapp.service;
+
+import com.mycompany.myapp.domain.Bundle;
+import com.mycompany.myapp.domain.Item;
+import com.mycompany.myapp.repository.BundleItemRepository;
+import com.mycompany.myapp.repository.BundleItemRepository.BundleItemEntry;
+import com.mycompany.myapp.service.dto.BundleWithItemsDTO;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Service for reading {@link Bundle} aggregates.
+ */
+@Service
+@Transactional(readOnly = true)
+public class BundleService {
+
+    private final Logger log = LoggerFactory.getLogger(BundleService.class);
+
+    private final BundleItemRepository bundleItemRepository;
+
+    public BundleService(BundleItemRepository bundleItemRepository) {
+        this.bundleItemRepository = bundleItemRepository;
+    }
+
+    /**
+     * Attach their items to the given bundles.
+     * <p>
+     * The items of all the bundles are fetched with a single query, whatever the number of bundles.
+     *
+     * @param bundles the bundles to expand.
+     * @return the bundles with their items, in the same order.
+     */
+    public List<BundleWithItemsDTO> withItems(List<Bundle> bundles) {
+        log.debug("Request to expand the items of {} bundles", bundles.size());
+        if (bundles.isEmpty()) {
+            return new ArrayList<>();
+        }
+        Set<Integer> bundleIds = bundles.stream().map(bundle -> bundle.getId().intValue()).collect(Collectors.toSet());
+        Map<Integer, List<Item>> itemsByBundleId = new HashMap<>();
+        for (BundleItemEntry entry : bundleItemRepository.findAllBundleItemEntries(bundleIds)) {
+            itemsByBundleId.computeIfAbsent(entry.getBundleId(), id -> new ArrayList<>()).add(entry.getItem());
+        }
+        return bundles
+            .stream()
+            .map(bundle -> new BundleWithItemsDTO(bundle, itemsByBundleId.getOrDefault(bundle.getId().intValue(), new ArrayList<>())))
+            .toList();
+    }
+}
@@ -0,0 +1,79 @@
+package com.mycompany.myapp.service;
+
+import com.mycompany.myapp.domain.BundleSizing;
+import com.mycompany.myapp.domain.BundleSizing.PriceRange;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+
+/**
+ * Fills the typed {@code min_price}, {@code max_price} and {@code capacity} columns of the bundles from their
+ * free-text {@code price_range} and {@code max_people}, for the bundles written without Hibernate: the rows which
+ * existed before the columns were added, and the rows of a CSV import.
+ * <p>
+ * The bundles of an id range are read and updated in batches of {@link #BATCH_SIZE} rows in id order, each batch with
+ * one query and one batched update, so that the caller may commit between batches.
+ */
+public class BundleSizingBackfill {
+
+    public static final int BATCH_SIZE = 500;
+
+    private static final String SELECT =
+        "SELECT id, price_range, max_people FROM bundle WHERE id > ? AND id <= ? ORDER BY id LIMIT " + BATCH_SIZE;
+
+    private static final String UPDATE = "UPDATE bundle SET min_price = ?, max_price = ?, capacity = ? WHERE id = ?";
+
+    private final Connection connection;
+
+    private final long lastId;
+
+    private long afterId;
+
+    /**
+     * @param connection the connection to read and update the bundles with.
+     * @param afterId the bundles with a greater id are filled.
+     * @param lastId the bundles up to this id are filled.
+     */
+    public BundleSizingBackfill(Connection connection, long afterId, long lastId) {
+        this.connection = connection;
+        this.afterId = afterId;
+        this.lastId = lastId;
+    }
+
+    /**
+     * Fill the next batch of bundles.
+     *
+     * @return the number of bundles of the batch, {@code 0} once all the bundles of the range are filled.
+     * @throws SQLException if the bundles cannot be read or updated.
+     */
+    public int nextBatch() throws SQLException {
+        int rows = 0;
+        try (
+            PreparedStatement select = connection.prepareStatement(SELECT);
+            PreparedStatement update = connection.prepareStatement(UPDATE)
+        ) {
+            select.setLong(1, afterId);
+            select.setLong(2, lastId);
+            try (ResultSet resultSet = select.executeQuery()) {
+                while (resultSet.next()) {
+                    long id = resultSet.getLong(1);
+                    PriceRange range = BundleSizing.parsePriceRange(resultSet.getString(2));
+                    Integer capacity = BundleSizing.parseCapacity(resultSet.getString(3));
+                    update.setBigDecimal(1, range.min());
+                    update.setBigDecimal(2, range.max());
+                    update.setObject(3, capacity, Types.INTEGER);
+                    update.setLong(4, id);
+                    update.addBatch();
+                    afterId = id;
+                    rows++;
+                }
+            }
+            if (rows > 0) {
+                update.executeBatch();
+            }
+        }
+        return rows;
+    }
+}
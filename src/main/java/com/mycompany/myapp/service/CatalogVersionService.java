@@ -0,0 +1,162 @@
+package com.mycompany.myapp.service;
+
+import com.mycompany.myapp.config.ApplicationProperties;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Service reading the change version of the catalog tables, from which the catalog endpoints derive their ETags.
+ * <p>
+ * Versions are stored in the {@code catalog_version} table, and incremented by a trigger on every statement writing to
+ * a catalog table, in the transaction of the write: they are shared by all the nodes, and follow the CSV import and
+ * plain SQL writes as well as the entity writes. Each table has 16 rows, whose versions add up to the version of the
+ * table, and a transaction increments the row picked by its transaction id: concurrent writers of a table only wait
+ * for each other until commit when they pick the same row, instead of always queuing on a single row.
+ * <p>
+ * The ETag of a response must be computed before its data is read, from the same database: a response can then carry
+ * an older version than its data, which only costs a full response on the next poll, but never a newer one. The
+ * ETag-guarded endpoints read the versions and the data in a single read-only {@code REPEATABLE READ} transaction, so
+ * that both come from the same snapshot of the same database, the primary or the replica, and the ETag matches the
+ * data exactly.
+ * <p>
+ * The versions last read are kept for {@code application.catalog-version.max-age}, during which a client already
+ * holding the current ETag gets its {@code 304 (Not Modified)} without any query, see {@link #cachedEtag(Table...)}.
+ * A change is then answered with {@code 304} for at most that long. The other requests always read the versions.
+ */
+@Service
+@Transactional(readOnly = true)
+public class CatalogVersionService {
+
+    /**
+     * The versioned catalog tables.
+     */
+    public enum Table {
+        BUNDLE("bundle"),
+        ITEM("item"),
+        BUNDLE_ITEM("bundle_item");
+
+        private final String tableName;
+
+        Table(String tableName) {
+            this.tableName = tableName;
+        }
+
+        public String getTableName() {
+            return tableName;
+        }
+
+        /**
+         * Find a versioned table by name.
+         *
+         * @param tableName the name of the table.
+         * @return the table, if it is versioned.
+         */
+        public static Optional<Table> fromTableName(String tableName) {
+            return Arrays.stream(values()).filter(table -> table.tableName.equals(tableName)).findFirst();
+        }
+    }
+
+    private final Logger log = LoggerFactory.getLogger(CatalogVersionService.class);
+
+    /**
+     * Versions read from the database, and when they were read.
+     */
+    private record CachedVersions(Map<Table, Long> versions, long readAtNanos) {}
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final long maxAgeNanos;
+
+    private volatile CachedVersions cachedVersions;
+
+    public CatalogVersionService(JdbcTemplate jdbcTemplate, ApplicationProperties applicationProperties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.maxAgeNanos = applicationProperties.getCatalogVersion().getMaxAge().toNanos();
+    }
+
+    /**
+     * Get the current version of a table.
+     *
+     * @param table the table.
+     * @return its version, incremented by every committed change.
+     */
+    public long version(Table table) {
+        return versions().get(table);
+    }
+
+    /**
+     * Get the strong ETag of a response built from the given tables.
+     *
+     * @param tables the tables the response is built from.
+     * @return the quoted ETag.
+     */
+    public String etag(Table... tables) {
+        return etag(versions(), tables);
+    }
+
+    /**
+     * Get the strong ETag of a response built from the given tables, from the versions read at most
+     * {@code application.catalog-version.max-age} ago, without any query.
+     * <p>
+     * It may be older than the current ETag by that much, so it must only be used to answer
+     * {@code 304 (Not Modified)} to the clients already holding it, the other requests being checked against
+     * {@link #etag(Table...)}.
+     *
+     * @param tables the tables the response is built from.
+     * @return the quoted ETag, or empty if the versions were not read recently.
+     */
+    public Optional<String> cachedEtag(Table... tables) {
+        CachedVersions cached = cachedVersions;
+        if (cached == null || System.nanoTime() - cached.readAtNanos() >= maxAgeNanos) {
+            return Optional.empty();
+        }
+        return Optional.of(etag(cached.versions(), tables));
+    }
+
+    /**
+     * Increment the version of a table in a new transaction, so that the ETags computed before are not current anymore.
+     *
+     * @param table the table.
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void bump(Table table) {
+        jdbcTemplate.update("UPDATE catalog_version SET version = version + 1 WHERE table_name = ? AND slot = 0", table.tableName);
+    }
+
+    private static String etag(Map<Table, Long> versions, Table... tables) {
+        StringBuilder etag = new StringBuilder("\"");
+        for (Table table : tables) {
+            if (etag.length() > 1) {
+                etag.append('-');
+            }
+            etag.append(versions.get(table));
+        }
+        return etag.append('"').toString();
+    }
+
+    private Map<Table, Long> versions() {
+        long readAtNanos = System.nanoTime();
+        Map<Table, Long> versions = new EnumMap<>(Table.class);
+        jdbcTemplate.query(
+            "SELECT table_name, sum(version) FROM catalog_version GROUP BY table_name",
+            resultSet -> {
+                for (Table table : Table.values()) {
+                    if (table.tableName.equals(resultSet.getString(1))) {
+                        versions.put(table, resultSet.getLong(2));
+                    }
+                }
+            }
+        );
+        log.debug("Catalog versions: {}", versions);
+        cachedVersions = new CachedVersions(versions, readAtNanos);
+        return versions;
+    }
+}
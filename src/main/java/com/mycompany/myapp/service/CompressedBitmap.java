@@ -0,0 +1,429 @@
+package com.mycompany.myapp.service;
+
+import java.util.Arrays;
+
+/**
+ * Compressed set of non-negative {@code int} values, after the layout of Roaring bitmaps.
+ * <p>
+ * Values are grouped in chunks of 2<sup>16</sup> by their high 16 bits. A chunk holding up to {@link #ARRAY_MAX_SIZE}
+ * values stores them as a sorted {@code char[]}, 2 bytes per value; a denser chunk stores them as a bitmap of 1024
+ * {@code long}s, 8 KB whatever its size. Sparse sets stay small and dense ones are intersected a word at a time.
+ * <p>
+ * This class is not thread-safe, callers must synchronize access to an instance.
+ */
+public final class CompressedBitmap {
+
+    static final int ARRAY_MAX_SIZE = 4096;
+
+    private static final int BITMAP_WORDS = 1024;
+
+    private char[] keys = new char[4];
+
+    private Chunk[] chunks = new Chunk[4];
+
+    private int size;
+
+    /**
+     * Adds a value.
+     *
+     * @param value the value, non-negative.
+     * @return {@code true} if the value was not already in the set.
+     */
+    public boolean add(int value) {
+        checkValue(value);
+        char key = (char) (value >>> 16);
+        int index = indexOf(key);
+        if (index < 0) {
+            index = -index - 1;
+            insertChunk(index, key, new Chunk());
+        }
+        return chunks[index].add((char) value);
+    }
+
+    /**
+     * Removes a value.
+     *
+     * @param value the value.
+     * @return {@code true} if the value was in the set.
+     */
+    public boolean remove(int value) {
+        if (value < 0) {
+            return false;
+        }
+        int index = indexOf((char) (value >>> 16));
+        if (index < 0 || !chunks[index].remove((char) value)) {
+            return false;
+        }
+        if (chunks[index].cardinality == 0) {
+            removeChunk(index);
+        }
+        return true;
+    }
+
+    public boolean contains(int value) {
+        if (value < 0) {
+            return false;
+        }
+        int index = indexOf((char) (value >>> 16));
+        return index >= 0 && chunks[index].contains((char) value);
+    }
+
+    public int cardinality() {
+        int cardinality = 0;
+        for (int i = 0; i < size; i++) {
+            cardinality += chunks[i].cardinality;
+        }
+        return cardinality;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the smallest value of the set greater than the given one.
+     *
+     * @param after the value to start after, may be negative.
+     * @return the next value, or {@code -1} if there is none.
+     */
+    public int nextValue(int after) {
+        if (after == Integer.MAX_VALUE) {
+            return -1;
+        }
+        int from = Math.max(after + 1, 0);
+        char key = (char) (from >>> 16);
+        int index = indexOf(key);
+        if (index >= 0) {
+            int low = chunks[index].next((char) from);
+            if (low >= 0) {
+                return key << 16 | low;
+            }
+            index++;
+        } else {
+            index = -index - 1;
+        }
+        return index < size ? keys[index] << 16 | chunks[index].next((char) 0) : -1;
+    }
+
+    /**
+     * Returns the values of the set greater than the given one, in ascending order.
+     *
+     * @param after the value to start after, may be negative.
+     * @param limit the maximum number of values to return.
+     * @return the values.
+     */
+    public int[] values(int after, int limit) {
+        int[] values = new int[Math.min(limit, cardinality())];
+        int count = 0;
+        int value = nextValue(after);
+        while (value >= 0 && count < values.length) {
+            values[count++] = value;
+            value = nextValue(value);
+        }
+        return count == values.length ? values : Arrays.copyOf(values, count);
+    }
+
+    /**
+     * @return a copy of the set, which can be modified independently.
+     */
+    public CompressedBitmap copy() {
+        CompressedBitmap copy = new CompressedBitmap();
+        copy.keys = Arrays.copyOf(keys, Math.max(size, 4));
+        copy.chunks = new Chunk[copy.keys.length];
+        for (int i = 0; i < size; i++) {
+            copy.chunks[i] = chunks[i].copy();
+        }
+        copy.size = size;
+        return copy;
+    }
+
+    /**
+     * @return a new set holding the values present in both sets.
+     */
+    public static CompressedBitmap and(CompressedBitmap left, CompressedBitmap right) {
+        CompressedBitmap result = new CompressedBitmap();
+        int i = 0;
+        int j = 0;
+        while (i < left.size && j < right.size) {
+            if (left.keys[i] < right.keys[j]) {
+                i++;
+            } else if (left.keys[i] > right.keys[j]) {
+                j++;
+            } else {
+                Chunk chunk = Chunk.and(left.chunks[i], right.chunks[j]);
+                if (chunk.cardinality > 0) {
+                    result.insertChunk(result.size, left.keys[i], chunk);
+                }
+                i++;
+                j++;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @return a new set holding the values present in either set.
+     */
+    public static CompressedBitmap or(CompressedBitmap left, CompressedBitmap right) {
+        CompressedBitmap result = new CompressedBitmap();
+        int i = 0;
+        int j = 0;
+        while (i < left.size || j < right.size) {
+            if (j == right.size || (i < left.size && left.keys[i] < right.keys[j])) {
+                result.insertChunk(result.size, left.keys[i], left.chunks[i].copy());
+                i++;
+            } else if (i == left.size || left.keys[i] > right.keys[j]) {
+                result.insertChunk(result.size, right.keys[j], right.chunks[j].copy());
+                j++;
+            } else {
+                result.insertChunk(result.size, left.keys[i], Chunk.or(left.chunks[i], right.chunks[j]));
+                i++;
+                j++;
+            }
+        }
+        return result;
+    }
+
+    private static void checkValue(int value) {
+        if (value < 0) {
+            throw new IllegalArgumentException("Negative value: " + value);
+        }
+    }
+
+    private int indexOf(char key) {
+        return Arrays.binarySearch(keys, 0, size, key);
+    }
+
+    private void insertChunk(int index, char key, Chunk chunk) {
+        if (size == keys.length) {
+            keys = Arrays.copyOf(keys, size * 2);
+            chunks = Arrays.copyOf(chunks, size * 2);
+        }
+        System.arraycopy(keys, index, keys, index + 1, size - index);
+        System.arraycopy(chunks, index, chunks, index + 1, size - index);
+        keys[index] = key;
+        chunks[index] = chunk;
+        size++;
+    }
+
+    private void removeChunk(int index) {
+        System.arraycopy(keys, index + 1, keys, index, size - index - 1);
+        System.arraycopy(chunks, index + 1, chunks, index, size - index - 1);
+        chunks[--size] = null;
+    }
+
+    /**
+     * The values of a chunk, as a sorted array when {@link #bits} is {@code null}, as a bitmap otherwise.
+     */
+    private static final class Chunk {
+
+        private char[] values;
+
+        private long[] bits;
+
+        private int cardinality;
+
+        Chunk() {
+            values = new char[4];
+        }
+
+        private Chunk(char[] values, long[] bits, int cardinality) {
+            this.values = values;
+            this.bits = bits;
+            this.cardinality = cardinality;
+        }
+
+        boolean contains(char low) {
+            return bits != null ? (bits[low >>> 6] & (1L << low)) != 0 : Arrays.binarySearch(values, 0, cardinality, low) >= 0;
+        }
+
+        boolean add(char low) {
+            if (bits != null) {
+                long before = bits[low >>> 6];
+                bits[low >>> 6] = before | (1L << low);
+                if (before == bits[low >>> 6]) {
+                    return false;
+                }
+                cardinality++;
+                return true;
+            }
+            int index = Arrays.binarySearch(values, 0, cardinality, low);
+            if (index >= 0) {
+                return false;
+            }
+            if (cardinality == ARRAY_MAX_SIZE) {
+                toBitmap();
+                return add(low);
+            }
+            index = -index - 1;
+            if (cardinality == values.length) {
+                values = Arrays.copyOf(values, Math.min(cardinality * 2, ARRAY_MAX_SIZE));
+            }
+            System.arraycopy(values, index, values, index + 1, cardinality - index);
+            values[index] = low;
+            cardinality++;
+            return true;
+        }
+
+        boolean remove(char low) {
+            if (bits != null) {
+                long before = bits[low >>> 6];
+                bits[low >>> 6] = before & ~(1L << low);
+                if (before == bits[low >>> 6]) {
+                    return false;
+                }
+                if (--cardinality <= ARRAY_MAX_SIZE / 2) {
+                    toArray();
+                }
+                return true;
+            }
+            int index = Arrays.binarySearch(values, 0, cardinality, low);
+            if (index < 0) {
+                return false;
+            }
+            System.arraycopy(values, index + 1, values, index, cardinality - index - 1);
+            cardinality--;
+            return true;
+        }
+
+        /**
+         * @return the smallest value greater than or equal to the given one, or {@code -1}.
+         */
+        int next(char from) {
+            if (bits != null) {
+                int word = from >>> 6;
+                long remaining = bits[word] & (-1L << from);
+                while (remaining == 0) {
+                    if (++word == BITMAP_WORDS) {
+                        return -1;
+                    }
+                    remaining = bits[word];
+                }
+                return word << 6 | Long.numberOfTrailingZeros(remaining);
+            }
+            int index = Arrays.binarySearch(values, 0, cardinality, from);
+            if (index < 0) {
+                index = -index - 1;
+            }
+            return index < cardinality ? values[index] : -1;
+        }
+
+        Chunk copy() {
+            return new Chunk(
+                bits == null ? Arrays.copyOf(values, Math.max(cardinality, 4)) : null,
+                bits == null ? null : bits.clone(),
+                cardinality
+            );
+        }
+
+        private void toBitmap() {
+            bits = new long[BITMAP_WORDS];
+            for (int i = 0; i < cardinality; i++) {
+                bits[values[i] >>> 6] |= 1L << values[i];
+            }
+            values = null;
+        }
+
+        private void toArray() {
+            char[] array = new char[Math.max(cardinality, 4)];
+            int count = 0;
+            for (int word = 0; word < BITMAP_WORDS; word++) {
+                long remaining = bits[word];
+                while (remaining != 0) {
+                    array[count++] = (char) (word << 6 | Long.numberOfTrailingZeros(remaining));
+                    remaining &= remaining - 1;
+                }
+            }
+            values = array;
+            bits = null;
+        }
+
+        static Chunk and(Chunk left, Chunk right) {
+            if (left.bits != null && right.bits != null) {
+                long[] bits = new long[BITMAP_WORDS];
+                int cardinality = 0;
+                for (int i = 0; i < BITMAP_WORDS; i++) {
+                    bits[i] = left.bits[i] & right.bits[i];
+                    cardinality += Long.bitCount(bits[i]);
+                }
+                Chunk chunk = new Chunk(null, bits, cardinality);
+                if (cardinality <= ARRAY_MAX_SIZE) {
+                    chunk.toArray();
+                }
+                return chunk;
+            }
+            if (left.bits != null) {
+                return and(right, left);
+            }
+            char[] values = new char[Math.max(Math.min(left.cardinality, right.cardinality), 4)];
+            int cardinality = 0;
+            if (right.bits != null) {
+                for (int i = 0; i < left.cardinality; i++) {
+                    if (right.contains(left.values[i])) {
+                        values[cardinality++] = left.values[i];
+                    }
+                }
+            } else {
+                int i = 0;
+                int j = 0;
+                while (i < left.cardinality && j < right.cardinality) {
+                    if (left.values[i] < right.values[j]) {
+                        i++;
+                    } else if (left.values[i] > right.values[j]) {
+                        j++;
+                    } else {
+                        values[cardinality++] = left.values[i];
+                        i++;
+                        j++;
+                    }
+                }
+            }
+            return new Chunk(values, null, cardinality);
+        }
+
+        static Chunk or(Chunk left, Chunk right) {
+            if (left.bits == null && right.bits == null && left.cardinality + right.cardinality <= ARRAY_MAX_SIZE) {
+                char[] values = new char[Math.max(left.cardinality + right.cardinality, 4)];
+                int cardinality = 0;
+                int i = 0;
+                int j = 0;
+                while (i < left.cardinality || j < right.cardinality) {
+                    if (j == right.cardinality || (i < left.cardinality && left.values[i] < right.values[j])) {
+                        values[cardinality++] = left.values[i++];
+                    } else if (i == left.cardinality || left.values[i] > right.values[j]) {
+                        values[cardinality++] = right.values[j++];
+                    } else {
+                        values[cardinality++] = left.values[i];
+                        i++;
+                        j++;
+                    }
+                }
+                return new Chunk(values, null, cardinality);
+            }
+            long[] bits = new long[BITMAP_WORDS];
+            orInto(bits, left);
+            orInto(bits, right);
+            int cardinality = 0;
+            for (long word : bits) {
+                cardinality += Long.bitCount(word);
+            }
+            Chunk result = new Chunk(null, bits, cardinality);
+            if (cardinality <= ARRAY_MAX_SIZE) {
+                result.toArray();
+            }
+            return result;
+        }
+
+        private static void orInto(long[] bits, Chunk chunk) {
+            if (chunk.bits != null) {
+                for (int i = 0; i < BITMAP_WORDS; i++) {
+                    bits[i] |= chunk.bits[i];
+                }
+            } else {
+                for (int i = 0; i < chunk.cardinality; i++) {
+                    bits[chunk.values[i] >>> 6] |= 1L << chunk.values[i];
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.mycompany.myapp.service;
+
+/**
+ * Thrown when a CSV import is rejected. Nothing of the file is imported.
+ */
+public class CsvImportException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    public CsvImportException(String message) {
+        super(message);
+    }
+
+    public CsvImportException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,430 @@
+package com.mycompany.myapp.service;
+
+import static com.mycompany.myapp.service.util.TransactionUtils.afterCommit;
+import static com.mycompany.myapp.service.util.TransactionUtils.beforeCommit;
+
+import com.mycompany.myapp.domain.BookedItem;
+import com.mycompany.myapp.domain.Booking;
+import com.mycompany.myapp.domain.Bundle;
+import com.mycompany.myapp.domain.BundleItem;
+import com.mycompany.myapp.domain.Item;
+import com.mycompany.myapp.service.dto.CsvImportResultDTO;
+import jakarta.persistence.EntityManagerFactory;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import org.hibernate.SessionFactory;
+import org.postgresql.PGConnection;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Service importing CSV files into the catalog and booking tables.
+ * <p>
+ * Files use the layout of {@code config/liquibase/fake-data/*.csv}: a header line naming the columns, then one row per
+ * line, fields being separated by {@code ;} and quoted with {@code "} when needed. Every row must have an id; rows whose
+ * id already exists update the columns present in the file and get a new {@code version}, the other rows are inserted.
+ * A file is imported in a single transaction: if any row is invalid, nothing is imported.
+ * <p>
+ * The file is streamed with PostgreSQL {@code COPY} into a temporary staging table, validated, then merged into the
+ * target table with set-based statements.
+ * <p>
+ * Imported bookings are held to the same rule as the reservations of {@link BookingReservationService}: the advisory
+ * locks of their bundles are taken before the merge, and the file is rejected if, once merged, an imported booking
+ * overlaps another booking of its bundle.
+ */
+@Service
+@Transactional
+public class CsvImportService {
+
+    /**
+     * The tables that can be imported.
+     */
+    public enum Table {
+        BUNDLE("bundle", Bundle.class, "id", "bundle_name", "price_range", "max_people"),
+        ITEM("item", Item.class, "id", "item_name"),
+        BUNDLE_ITEM("bundle_item", BundleItem.class, "id", "bundle_id", "item_id"),
+        BOOKING(
+            "booking",
+            Booking.class,
+            "id",
+            "bundle_id",
+            "customer_name",
+            "booking_start_date",
+            "booking_end_date",
+            "booking_start_time",
+            "booking_end_time",
+            "user_id"
+        ),
+        BOOKED_ITEM("booked_item", BookedItem.class, "id", "booking_id", "item_id", "custom_item_name", "available_date");
+
+        private final String tableName;
+
+        private final Class<?> entityClass;
+
+        private final List<String> columns;
+
+        Table(String tableName, Class<?> entityClass, String... columns) {
+            this.tableName = tableName;
+            this.entityClass = entityClass;
+            this.columns = List.of(columns);
+        }
+
+        public String getTableName() {
+            return tableName;
+        }
+
+        public List<String> getColumns() {
+            return columns;
+        }
+
+        /**
+         * Find a table by name, as used in the names of the {@code fake-data} files.
+         *
+         * @param tableName the name of the table.
+         * @return the table, if it can be imported.
+         */
+        public static Optional<Table> fromTableName(String tableName) {
+            return Arrays.stream(values()).filter(table -> table.tableName.equals(tableName)).findFirst();
+        }
+    }
+
+    private static final char SEPARATOR = ';';
+
+    private static final char QUOTE = '"';
+
+    private static final int MAX_REPORTED_IDS = 10;
+
+    private static final List<String> BOOKING_PERIOD_COLUMNS = List.of(
+        "bundle_id",
+        "booking_start_date",
+        "booking_end_date",
+        "booking_start_time",
+        "booking_end_time"
+    );
+
+    /**
+     * The {@code [start, end)} period of the booking aliased {@code %1$s}, {@code NULL} when it has none.
+     */
+    private static final String BOOKING_PERIOD =
+        "(CASE WHEN %1$s.booking_start_time IS NOT NULL AND %1$s.booking_end_time IS NOT NULL " +
+        "AND %1$s.booking_start_time <> %1$s.booking_end_time " +
+        "THEN tsrange(least(%1$s.booking_start_time, %1$s.booking_end_time), greatest(%1$s.booking_start_time, %1$s.booking_end_time)) " +
+        "WHEN %1$s.booking_start_date IS NOT NULL " +
+        "THEN tsrange(least(%1$s.booking_start_date, coalesce(%1$s.booking_end_date, %1$s.booking_start_date))::timestamp, " +
+        "(greatest(%1$s.booking_start_date, coalesce(%1$s.booking_end_date, %1$s.booking_start_date)) + 1)::timestamp) END)";
+
+    private final Logger log = LoggerFactory.getLogger(CsvImportService.class);
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    private final BookingAvailabilityService bookingAvailabilityService;
+
+    private final BundleItemIndexService bundleItemIndexService;
+
+    private final ItemCalendarService itemCalendarService;
+
+    private final CatalogVersionService catalogVersionService;
+
+    public CsvImportService(
+        JdbcTemplate jdbcTemplate,
+        EntityManagerFactory entityManagerFactory,
+        BookingAvailabilityService bookingAvailabilityService,
+        BundleItemIndexService bundleItemIndexService,
+        ItemCalendarService itemCalendarService,
+        CatalogVersionService catalogVersionService
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.entityManagerFactory = entityManagerFactory;
+        this.bookingAvailabilityService = bookingAvailabilityService;
+        this.bundleItemIndexService = bundleItemIndexService;
+        this.itemCalendarService = itemCalendarService;
+        this.catalogVersionService = catalogVersionService;
+    }
+
+    /**
+     * Import a CSV file into a table.
+     *
+     * @param table the table to import into.
+     * @param csv the content of the file, read once.
+     * @return the number of inserted and updated rows.
+     * @throws CsvImportException if the file is not valid, in which case nothing is imported.
+     * @throws IOException if the file cannot be read.
+     */
+    public CsvImportResultDTO importCsv(Table table, Reader csv) throws IOException {
+        BufferedReader reader = new BufferedReader(csv);
+        List<String> columns = readHeader(table, reader);
+        CsvImportResultDTO result = copyAndMerge(table, columns, reader);
+        log.info(
+            "Imported {} with {}: {} rows inserted, {} rows updated",
+            table.tableName,
+            result.getMethod(),
+            result.getInserted(),
+            result.getUpdated()
+        );
+        beforeCommit(() -> evictEntityCaches(table));
+        afterCommit(() -> evictCaches(table));
+        return result;
+    }
+
+    private List<String> readHeader(Table table, BufferedReader reader) throws IOException {
+        List<String> header = readRecord(reader);
+        if (header == null) {
+            throw new CsvImportException("The file is empty");
+        }
+        List<String> columns = header.stream().map(column -> column == null ? "" : column.trim().toLowerCase(Locale.ROOT)).toList();
+        for (String column : columns) {
+            if (!table.columns.contains(column)) {
+                throw new CsvImportException("Unknown column '" + column + "' for table " + table.tableName);
+            }
+        }
+        if (new HashSet<>(columns).size() != columns.size()) {
+            throw new CsvImportException("Duplicate column in the header");
+        }
+        if (!columns.contains("id")) {
+            throw new CsvImportException("The header must contain the id column");
+        }
+        return columns;
+    }
+
+    private CsvImportResultDTO copyAndMerge(Table table, List<String> columns, BufferedReader reader) {
+        String staging = "import_" + table.tableName;
+        String columnList = String.join(", ", columns);
+        jdbcTemplate.execute("CREATE TEMPORARY TABLE " + staging + " (LIKE " + table.tableName + " INCLUDING DEFAULTS) ON COMMIT DROP");
+        String copy = "COPY " + staging + " (" + columnList + ") FROM STDIN WITH (FORMAT csv, DELIMITER '" + SEPARATOR + "')";
+        long rows;
+        try {
+            rows = jdbcTemplate.execute(
+                (ConnectionCallback<Long>) connection -> {
+                    try {
+                        return connection.unwrap(PGConnection.class).getCopyAPI().copyIn(copy, reader);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }
+            );
+        } catch (DataAccessException e) {
+            throw new CsvImportException("Invalid row: " + NestedExceptionUtils.getMostSpecificCause(e).getMessage(), e);
+        }
+
+        List<Long> duplicates = jdbcTemplate.queryForList(
+            "SELECT id FROM " + staging + " GROUP BY id HAVING count(*) > 1 ORDER BY id LIMIT " + MAX_REPORTED_IDS,
+            Long.class
+        );
+        if (!duplicates.isEmpty()) {
+            throw new CsvImportException("Duplicate ids in the file: " + duplicates);
+        }
+
+        Long updated = jdbcTemplate.queryForObject(
+            "SELECT count(*) FROM " + staging + " s WHERE EXISTS (SELECT 1 FROM " + table.tableName + " t WHERE t.id = s.id)",
+            Long.class
+        );
+        String assignments = columns
+            .stream()
+            .filter(column -> !"id".equals(column))
+            .map(column -> column + " = EXCLUDED." + column)
+            .collect(Collectors.joining(", "));
+        if (!assignments.isEmpty()) {
+            // Updated rows get a new optimistic locking version, so that clients holding the old one get a conflict.
+            assignments += ", version = " + table.tableName + ".version + 1";
+        }
+        if (table == Table.BOOKING) {
+            lockBookedBundles(staging);
+            checkBookingOverlaps(staging, columns);
+        }
+        jdbcTemplate.update(
+            "INSERT INTO " +
+            table.tableName +
+            " (" +
+            columnList +
+            ") SELECT " +
+            columnList +
+            " FROM " +
+            staging +
+            " ON CONFLICT (id) DO " +
+            (assignments.isEmpty() ? "NOTHING" : "UPDATE SET " + assignments)
+        );
+        // Keep the shared sequence ahead of the imported ids, so that generated ids never collide with them.
+        jdbcTemplate.queryForList(
+            "SELECT setval('sequence_generator', m.max_id) FROM (SELECT max(id) AS max_id FROM " +
+            staging +
+            ") m WHERE m.max_id > (SELECT last_value FROM sequence_generator)"
+        );
+        if (rows > 0) {
+            Map<String, Object> ids = jdbcTemplate.queryForMap("SELECT min(id) AS first_id, max(id) AS last_id FROM " + staging);
+            fillBundleSizing(table, columns, ((Number) ids.get("first_id")).longValue(), ((Number) ids.get("last_id")).longValue());
+        }
+        long updatedRows = updated == null ? 0 : updated;
+        return new CsvImportResultDTO(table.tableName, "copy", rows - updatedRows, updatedRows);
+    }
+
+    /**
+     * Serializes the import with the reservations of the bundles the imported bookings belong to, before or after the
+     * merge. The locks are taken in ascending bundle id order, and released when the transaction completes.
+     */
+    private void lockBookedBundles(String staging) {
+        jdbcTemplate.query(
+            "SELECT pg_advisory_xact_lock(?, b.bundle_id) FROM (SELECT u.bundle_id FROM (SELECT bundle_id FROM " +
+            staging +
+            " UNION SELECT bundle_id FROM booking WHERE id IN (SELECT id FROM " +
+            staging +
+            ")) u WHERE u.bundle_id IS NOT NULL ORDER BY u.bundle_id) b",
+            resultSet -> {},
+            BookingReservationService.ADVISORY_LOCK_CLASS
+        );
+    }
+
+    /**
+     * Rejects the file if an imported booking would overlap another booking of its bundle once merged, the periods being
+     * computed as by {@link BookingAvailabilityService#periodOf(Booking)}. The merged bookings take the columns of the
+     * file, and the stored values of the other columns. Overlaps between bookings which are not imported are left alone.
+     */
+    private void checkBookingOverlaps(String staging, List<String> columns) {
+        String merged = BOOKING_PERIOD_COLUMNS
+            .stream()
+            .map(column -> (columns.contains(column) ? "s." : "t.") + column + " AS " + column)
+            .collect(Collectors.joining(", "));
+        List<String> overlaps = jdbcTemplate.queryForList(
+            "WITH merged AS (SELECT s.id, " +
+            merged +
+            " FROM " +
+            staging +
+            " s LEFT JOIN booking t ON t.id = s.id), " +
+            "others AS (SELECT * FROM merged UNION ALL SELECT id, " +
+            String.join(", ", BOOKING_PERIOD_COLUMNS) +
+            " FROM booking WHERE id NOT IN (SELECT id FROM merged)) " +
+            "SELECT a.id || '/' || b.id FROM merged a JOIN others b ON b.bundle_id = a.bundle_id AND b.id <> a.id " +
+            "WHERE (b.id > a.id OR b.id NOT IN (SELECT id FROM merged)) AND " +
+            BOOKING_PERIOD.formatted("a") +
+            " && " +
+            BOOKING_PERIOD.formatted("b") +
+            " ORDER BY a.id, b.id LIMIT " +
+            MAX_REPORTED_IDS,
+            String.class
+        );
+        if (!overlaps.isEmpty()) {
+            throw new CsvImportException("Overlapping bookings of the same bundle: " + overlaps);
+        }
+    }
+
+    /**
+     * The text of the imported bundles was written with SQL, so their typed price and capacity, otherwise read by the
+     * entity when it is saved, are filled here.
+     */
+    private void fillBundleSizing(Table table, List<String> columns, long firstId, long lastId) {
+        if (table != Table.BUNDLE || !(columns.contains("price_range") || columns.contains("max_people"))) {
+            return;
+        }
+        jdbcTemplate.execute(
+            (ConnectionCallback<Void>) connection -> {
+                BundleSizingBackfill backfill = new BundleSizingBackfill(connection, firstId - 1, lastId);
+                while (backfill.nextBatch() > 0) {
+                    log.debug("Filled the price and capacity of a batch of imported bundles");
+                }
+                return null;
+            }
+        );
+    }
+
+    /**
+     * Reads the fields of the next record, or returns {@code null} at the end of the file. Unquoted empty fields are
+     * {@code null}, as with the PostgreSQL {@code COPY} CSV format.
+     */
+    static List<String> readRecord(BufferedReader reader) throws IOException {
+        String line = reader.readLine();
+        while (line != null && line.isEmpty()) {
+            line = reader.readLine();
+        }
+        if (line == null) {
+            return null;
+        }
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        boolean wasQuoted = false;
+        int i = 0;
+        while (true) {
+            if (i == line.length()) {
+                if (!quoted) {
+                    break;
+                }
+                String next = reader.readLine();
+                if (next == null) {
+                    throw new CsvImportException("Unterminated quoted field");
+                }
+                field.append('\n');
+                line = next;
+                i = 0;
+                continue;
+            }
+            char c = line.charAt(i++);
+            if (quoted) {
+                if (c == QUOTE && i < line.length() && line.charAt(i) == QUOTE) {
+                    field.append(QUOTE);
+                    i++;
+                } else if (c == QUOTE) {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == QUOTE) {
+                quoted = true;
+                wasQuoted = true;
+            } else if (c == SEPARATOR) {
+                fields.add(field.isEmpty() && !wasQuoted ? null : field.toString());
+                field.setLength(0);
+                wasQuoted = false;
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.isEmpty() && !wasQuoted ? null : field.toString());
+        return Collections.unmodifiableList(fields);
+    }
+
+    /**
+     * The import bypasses Hibernate, so the cached entities and queries of the table are evicted before it commits, so
+     * that they are gone once the new catalog version is visible.
+     */
+    private void evictEntityCaches(Table table) {
+        entityManagerFactory.getCache().evict(table.entityClass);
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictQueryRegions();
+    }
+
+    /**
+     * A transaction reading the table between the first eviction and the commit may cache its old rows again, so the
+     * entity caches are evicted again once the import is committed, and the in-memory indexes are rebuilt. The catalog
+     * version of the table is then incremented once more, so that no ETag stays paired with the old rows.
+     */
+    private void evictCaches(Table table) {
+        evictEntityCaches(table);
+        if (table == Table.BOOKING) {
+            bookingAvailabilityService.clear();
+        }
+        if (table == Table.BOOKED_ITEM) {
+            itemCalendarService.clear();
+        }
+        if (table == Table.ITEM || table == Table.BUNDLE_ITEM) {
+            bundleItemIndexService.reload();
+        }
+        CatalogVersionService.Table.fromTableName(table.tableName).ifPresent(catalogVersionService::bump);
+    }
+}
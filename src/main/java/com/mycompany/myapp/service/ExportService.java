@@ -0,0 +1,195 @@
+package com.mycompany.myapp.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mycompany.myapp.domain.BookedItem;
+import com.mycompany.myapp.domain.Booking;
+import com.mycompany.myapp.repository.BookedItemRepository;
+import com.mycompany.myapp.repository.BookingRepository;
+import jakarta.persistence.EntityManager;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Service exporting whole tables as NDJSON or CSV.
+ * <p>
+ * Rows are read from a database cursor and written one at a time, each row being detached from the persistence
+ * context once written, so the memory used does not depend on the number of rows. The output is flushed to the
+ * client after every block of fetched rows.
+ */
+@Service
+@Transactional(readOnly = true)
+public class ExportService {
+
+    /**
+     * The supported export formats.
+     */
+    public enum Format {
+        NDJSON("application/x-ndjson", "ndjson"),
+        CSV("text/csv", "csv");
+
+        private final String contentType;
+
+        private final String extension;
+
+        Format(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        public String getExtension() {
+            return extension;
+        }
+    }
+
+    private static final List<Column<Booking>> BOOKING_COLUMNS = List.of(
+        new Column<>("id", Booking::getId),
+        new Column<>("bundleId", Booking::getBundleId),
+        new Column<>("customerName", Booking::getCustomerName),
+        new Column<>("bookingStartDate", Booking::getBookingStartDate),
+        new Column<>("bookingEndDate", Booking::getBookingEndDate),
+        new Column<>("bookingStartTime", Booking::getBookingStartTime),
+        new Column<>("bookingEndTime", Booking::getBookingEndTime),
+        new Column<>("userId", Booking::getUserId)
+    );
+
+    private static final List<Column<BookedItem>> BOOKED_ITEM_COLUMNS = List.of(
+        new Column<>("id", BookedItem::getId),
+        new Column<>("bookingId", BookedItem::getBookingId),
+        new Column<>("itemId", BookedItem::getItemId),
+        new Column<>("customItemName", BookedItem::getCustomItemName),
+        new Column<>("availableDate", BookedItem::getAvailableDate)
+    );
+
+    private final Logger log = LoggerFactory.getLogger(ExportService.class);
+
+    private final BookingRepository bookingRepository;
+
+    private final BookedItemRepository bookedItemRepository;
+
+    private final EntityManager entityManager;
+
+    private final ObjectMapper objectMapper;
+
+    public ExportService(
+        BookingRepository bookingRepository,
+        BookedItemRepository bookedItemRepository,
+        EntityManager entityManager,
+        ObjectMapper objectMapper
+    ) {
+        this.bookingRepository = bookingRepository;
+        this.bookedItemRepository = bookedItemRepository;
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Write all the bookings, ordered by id.
+     *
+     * @param format the output format.
+     * @param out the stream to write to, which is flushed but not closed.
+     * @return the number of exported bookings.
+     * @throws IOException if the output cannot be written.
+     */
+    public long exportBookings(Format format, OutputStream out) throws IOException {
+        log.debug("Request to export all Bookings as {}", format);
+        try (Stream<Booking> bookings = bookingRepository.streamAllForExport()) {
+            return export(bookings, format, BOOKING_COLUMNS, Integer.parseInt(BookingRepository.EXPORT_FETCH_SIZE), out);
+        }
+    }
+
+    /**
+     * Write all the booked items, ordered by id.
+     *
+     * @param format the output format.
+     * @param out the stream to write to, which is flushed but not closed.
+     * @return the number of exported booked items.
+     * @throws IOException if the output cannot be written.
+     */
+    public long exportBookedItems(Format format, OutputStream out) throws IOException {
+        log.debug("Request to export all BookedItems as {}", format);
+        try (Stream<BookedItem> bookedItems = bookedItemRepository.streamAllForExport()) {
+            return export(bookedItems, format, BOOKED_ITEM_COLUMNS, Integer.parseInt(BookedItemRepository.EXPORT_FETCH_SIZE), out);
+        }
+    }
+
+    private <T> long export(Stream<T> rows, Format format, List<Column<T>> columns, int flushInterval, OutputStream out)
+        throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        JsonGenerator generator = null;
+        if (format == Format.NDJSON) {
+            generator = objectMapper.getFactory().createGenerator(writer).disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);
+        } else {
+            writeCsvRow(writer, columns.stream().map(Column::header).toList());
+        }
+        long count = 0;
+        Iterator<T> iterator = rows.iterator();
+        while (iterator.hasNext()) {
+            T row = iterator.next();
+            if (generator != null) {
+                generator.writeObject(row);
+                generator.writeRaw('\n');
+            } else {
+                writeCsvRow(writer, columns.stream().map(column -> column.value().apply(row)).toList());
+            }
+            entityManager.detach(row);
+            if (++count % flushInterval == 0) {
+                flush(generator, writer);
+            }
+        }
+        flush(generator, writer);
+        return count;
+    }
+
+    private static void flush(JsonGenerator generator, Writer writer) throws IOException {
+        if (generator != null) {
+            generator.flush();
+        }
+        writer.flush();
+    }
+
+    private static void writeCsvRow(Writer writer, List<?> values) throws IOException {
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            Object value = values.get(i);
+            if (value != null) {
+                writer.write(escapeCsv(value.toString()));
+            }
+        }
+        writer.write("\r\n");
+    }
+
+    /**
+     * Quotes a CSV field as described in RFC 4180 when it contains a separator, a quote or a line break.
+     */
+    static String escapeCsv(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == ',' || c == '"' || c == '\n' || c == '\r') {
+                return '"' + value.replace("\"", "\"\"") + '"';
+            }
+        }
+        return value;
+    }
+
+    private record Column<T>(String header, Function<T, Object> value) {}
+}
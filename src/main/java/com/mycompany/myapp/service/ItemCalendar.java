@@ -0,0 +1,105 @@
+package com.mycompany.myapp.service;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Occupancy calendar of a single item: the days on which the item is booked.
+ * <p>
+ * Each year is a bitmap of 6 {@code long}s, one bit per day of the year, so a calendar costs 48 bytes per year with
+ * bookings, and the days booked over a range of several items are found by OR-ing a few words. The booked items are
+ * kept by id, so that re-inserting a booked item moves it to its new day, and counted by day, so that a day stays
+ * booked until all its booked items are removed.
+ * <p>
+ * This class is not thread-safe, callers must synchronize on the instance.
+ */
+public final class ItemCalendar {
+
+    /**
+     * Number of {@code long}s holding the days of a year, leap years included.
+     */
+    public static final int WORDS_PER_YEAR = 6;
+
+    private final Map<Integer, long[]> daysByYear = new HashMap<>();
+
+    private final Map<Long, LocalDate> datesByBookedItemId = new HashMap<>();
+
+    private final Map<LocalDate, Integer> bookedItemCountsByDate = new HashMap<>();
+
+    /**
+     * Books the item on the day of the given booked item, replacing its previous day.
+     *
+     * @param bookedItemId the booked item id.
+     * @param date the booked day.
+     */
+    public void put(long bookedItemId, LocalDate date) {
+        remove(bookedItemId);
+        datesByBookedItemId.put(bookedItemId, date);
+        bookedItemCountsByDate.merge(date, 1, Integer::sum);
+        daysByYear.computeIfAbsent(date.getYear(), year -> new long[WORDS_PER_YEAR])[word(date)] |= bit(date);
+    }
+
+    /**
+     * Removes the day of the given booked item, if any.
+     *
+     * @param bookedItemId the booked item id.
+     * @return {@code true} if a day was removed.
+     */
+    public boolean remove(long bookedItemId) {
+        LocalDate date = datesByBookedItemId.remove(bookedItemId);
+        if (date == null) {
+            return false;
+        }
+        if (bookedItemCountsByDate.merge(date, -1, Integer::sum) == 0) {
+            bookedItemCountsByDate.remove(date);
+            long[] days = daysByYear.get(date.getYear());
+            days[word(date)] &= ~bit(date);
+            if (isEmpty(days)) {
+                daysByYear.remove(date.getYear());
+            }
+        }
+        return true;
+    }
+
+    public int size() {
+        return datesByBookedItemId.size();
+    }
+
+    public boolean isBooked(LocalDate date) {
+        long[] days = daysByYear.get(date.getYear());
+        return days != null && (days[word(date)] & bit(date)) != 0;
+    }
+
+    /**
+     * Adds the booked days of a year to a bitmap, one bit per day of the year.
+     *
+     * @param year the year.
+     * @param days the bitmap of {@link #WORDS_PER_YEAR} words to add the booked days to.
+     */
+    public void orBookedDays(int year, long[] days) {
+        long[] booked = daysByYear.get(year);
+        if (booked != null) {
+            for (int i = 0; i < WORDS_PER_YEAR; i++) {
+                days[i] |= booked[i];
+            }
+        }
+    }
+
+    private static int word(LocalDate date) {
+        return (date.getDayOfYear() - 1) >>> 6;
+    }
+
+    private static long bit(LocalDate date) {
+        return 1L << (date.getDayOfYear() - 1);
+    }
+
+    private static boolean isEmpty(long[] days) {
+        for (long word : days) {
+            if (word != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,182 @@
+package com.mycompany.myapp.service;
+
+import static com.mycompany.myapp.service.util.TransactionUtils.afterCommit;
+
+import com.mycompany.myapp.config.ApplicationProperties;
+import com.mycompany.myapp.domain.BookedItem;
+import com.mycompany.myapp.repository.BookedItemRepository;
+import com.mycompany.myapp.service.dto.ItemCalendarDTO;
+import com.mycompany.myapp.service.dto.ItemFreeDaysDTO;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.Year;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Service answering item occupancy questions from in-memory day bitmaps of {@link BookedItem} rows.
+ * <p>
+ * One {@link ItemCalendar} is kept per item in a {@link LazyIndex}. A calendar is loaded from the database the first
+ * time its item is queried, and is then kept in sync by the booked item write paths, which report their changes through
+ * {@link #bookedItemSaved(BookedItem)} and {@link #bookedItemDeleted(Long)}. Changes are applied once the
+ * surrounding transaction has committed, so rolled back writes never reach the calendars.
+ * <p>
+ * The calendars of the items queried least are evicted beyond {@code application.cache.calendar.max-entries}, and
+ * every calendar is loaded again after its time to live, so that the booked items written by the other nodes show.
+ * <p>
+ * Calendars are loaded from the primary database through the {@link PrimaryReadService}, even within the read-only
+ * transactions which read the replica.
+ */
+@Service
+public class ItemCalendarService {
+
+    /**
+     * Maximum number of days of a queried range, about ten years.
+     */
+    public static final int MAX_RANGE_DAYS = 3660;
+
+    /**
+     * Maximum number of items of a free days query.
+     */
+    public static final int MAX_ITEMS = 100;
+
+    private final Logger log = LoggerFactory.getLogger(ItemCalendarService.class);
+
+    private final BookedItemRepository bookedItemRepository;
+
+    private final PrimaryReadService primaryReadService;
+
+    private final LazyIndex<Integer, Long, LocalDate, ItemCalendar> calendars;
+
+    public ItemCalendarService(
+        BookedItemRepository bookedItemRepository,
+        PrimaryReadService primaryReadService,
+        ApplicationProperties applicationProperties
+    ) {
+        this.bookedItemRepository = bookedItemRepository;
+        this.primaryReadService = primaryReadService;
+        ApplicationProperties.Cache.Region region = applicationProperties.getCache().getCalendar();
+        this.calendars =
+            new LazyIndex<>(
+                this::loadDates,
+                ItemCalendar::new,
+                ItemCalendar::put,
+                ItemCalendar::remove,
+                region.getMaxEntries(),
+                Duration.ofSeconds(region.getTimeToLiveSeconds())
+            );
+    }
+
+    /**
+     * Get the days on which an item is booked over the given date range.
+     *
+     * @param itemId the id of the item.
+     * @param from the first day of the range, inclusive.
+     * @param to the last day of the range, inclusive.
+     * @return the booked days of the item over the range, in ascending order.
+     */
+    @Transactional(readOnly = true)
+    public ItemCalendarDTO getCalendar(Integer itemId, LocalDate from, LocalDate to) {
+        log.debug("Request to get calendar of item {} from {} to {}", itemId, from, to);
+        List<LocalDate> bookedDays = collectDays(List.of(calendars.get(itemId)), from, to, false);
+        return new ItemCalendarDTO(itemId, from, to, bookedDays);
+    }
+
+    /**
+     * Get the days on which none of the given items is booked over the given date range.
+     * <p>
+     * The free days of all the items are the complement of the union of their booked days, so the bitmaps are
+     * OR-ed year by year and the unset bits are returned.
+     *
+     * @param itemIds the ids of the items.
+     * @param from the first day of the range, inclusive.
+     * @param to the last day of the range, inclusive.
+     * @return the days on which all the items are free over the range, in ascending order.
+     */
+    @Transactional(readOnly = true)
+    public ItemFreeDaysDTO findFreeDays(List<Integer> itemIds, LocalDate from, LocalDate to) {
+        log.debug("Request to find free days of items {} from {} to {}", itemIds, from, to);
+        List<ItemCalendar> itemCalendars = itemIds.stream().distinct().map(calendars::get).toList();
+        return new ItemFreeDaysDTO(itemIds, from, to, collectDays(itemCalendars, from, to, true));
+    }
+
+    /**
+     * Record a created or updated booked item, once the current transaction commits.
+     *
+     * @param bookedItem the saved booked item.
+     */
+    public void bookedItemSaved(BookedItem bookedItem) {
+        Long bookedItemId = bookedItem.getId();
+        Integer itemId = bookedItem.getItemId();
+        LocalDate date = bookedItem.getAvailableDate();
+        afterCommit(() -> calendars.apply(bookedItemId, itemId, date));
+    }
+
+    /**
+     * Forget a deleted booked item, once the current transaction commits.
+     *
+     * @param bookedItemId the id of the deleted booked item.
+     */
+    public void bookedItemDeleted(Long bookedItemId) {
+        afterCommit(() -> calendars.apply(bookedItemId, null, null));
+    }
+
+    /**
+     * Forget all the calendars, after booked items were written without going through the write paths.
+     * Calendars are loaded again from the database when their item is next queried.
+     */
+    public void clear() {
+        log.debug("Clearing all item calendars");
+        calendars.clear();
+    }
+
+    private Map<Long, LocalDate> loadDates(Integer itemId) {
+        log.debug("Loading calendar for item {}", itemId);
+        Map<Long, LocalDate> dates = new LinkedHashMap<>();
+        for (BookedItem bookedItem : primaryReadService.read(() -> bookedItemRepository.findAllByItemId(itemId))) {
+            if (bookedItem.getAvailableDate() != null) {
+                dates.put(bookedItem.getId(), bookedItem.getAvailableDate());
+            }
+        }
+        return dates;
+    }
+
+    /**
+     * Collects the days of a range booked by any of the calendars, or free in all of them.
+     */
+    private static List<LocalDate> collectDays(List<ItemCalendar> calendars, LocalDate from, LocalDate to, boolean free) {
+        List<LocalDate> days = new ArrayList<>();
+        long[] booked = new long[ItemCalendar.WORDS_PER_YEAR];
+        for (int year = from.getYear(); year <= to.getYear(); year++) {
+            Arrays.fill(booked, 0L);
+            for (ItemCalendar calendar : calendars) {
+                synchronized (calendar) {
+                    calendar.orBookedDays(year, booked);
+                }
+            }
+            int first = year == from.getYear() ? from.getDayOfYear() - 1 : 0;
+            int last = year == to.getYear() ? to.getDayOfYear() - 1 : Year.of(year).length() - 1;
+            for (int word = first >>> 6; word <= last >>> 6; word++) {
+                long bits = free ? ~booked[word] : booked[word];
+                while (bits != 0) {
+                    int day = (word << 6) + Long.numberOfTrailingZeros(bits);
+                    if (day > last) {
+                        break;
+                    }
+                    if (day >= first) {
+                        days.add(LocalDate.ofYearDay(year, day + 1));
+                    }
+                    bits &= bits - 1;
+                }
+            }
+        }
+        return days;
+    }
+}
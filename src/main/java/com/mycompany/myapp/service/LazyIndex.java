@@ -0,0 +1,258 @@
+package com.mycompany.myapp.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.Ticker;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * In-memory index of rows grouped by a key, such as the bookings of each bundle, keeping one structure per key.
+ * <p>
+ * The structure of a key is loaded from the database the first time the key is queried, and is then kept in sync by
+ * the changes reported through {@link #apply(Object, Object, Object)}. A structure is loaded without holding any lock:
+ * the changes applied meanwhile are recorded, and replayed on top of the loaded rows before the structure is installed,
+ * so that a row deleted or moved during the load is not kept. A structure loaded across a {@link #clear()} is used for
+ * the current query only.
+ * <p>
+ * At most {@code maxEntries} structures are kept, the least used ones being evicted first, and each structure is
+ * dropped {@code timeToLive} after its load, to be loaded again when its key is next queried. The time to live bounds
+ * both the memory held by rarely queried keys and the staleness of a structure when another node writes its rows: the
+ * changes of the other nodes are never reported to this one, and only show after the next load.
+ * <p>
+ * The structures are not thread-safe: callers must synchronize on a structure while reading it, as the index does
+ * while writing it.
+ *
+ * @param <K> the type of the keys, such as the bundle ids.
+ * @param <I> the type of the row ids.
+ * @param <D> the type of the indexed data of a row.
+ * @param <S> the type of the structures.
+ */
+public final class LazyIndex<K, I, D, S> {
+
+    /**
+     * Writes the data of a row into a structure.
+     */
+    @FunctionalInterface
+    public interface Writer<S, I, D> {
+        void put(S structure, I id, D data);
+    }
+
+    private record Change<K, I, D>(I id, K key, D data) {}
+
+    /**
+     * A loaded structure, and the ids of its rows.
+     */
+    private record Loaded<I, S>(S structure, Set<I> ids) {}
+
+    private record Evicted<K, I, S>(K key, Loaded<I, S> loaded) {}
+
+    private final Function<K, Map<I, D>> loader;
+
+    private final Supplier<S> factory;
+
+    private final Writer<S, I, D> writer;
+
+    private final BiConsumer<S, I> remover;
+
+    private final Cache<K, Loaded<I, S>> structuresByKey;
+
+    /**
+     * Structures evicted by the cache, whose rows are removed from the reverse map on the next change or load.
+     */
+    private final Queue<Evicted<K, I, S>> evicted = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Guards the changes to the structures, the reverse map and the changes recorded during loads.
+     */
+    private final Object changes = new Object();
+
+    private final Map<I, K> keysById = new HashMap<>();
+
+    private final List<Change<K, I, D>> changesDuringLoads = new ArrayList<>();
+
+    private int loadsInProgress;
+
+    private long generation;
+
+    /**
+     * @param loader reads the data of the rows of a key from the database, the rows without data being left out.
+     * @param factory creates an empty structure.
+     * @param writer writes the data of a row into a structure.
+     * @param remover removes a row from a structure.
+     * @param maxEntries the maximum number of structures kept.
+     * @param timeToLive the time after which a structure is loaded again.
+     */
+    public LazyIndex(
+        Function<K, Map<I, D>> loader,
+        Supplier<S> factory,
+        Writer<S, I, D> writer,
+        BiConsumer<S, I> remover,
+        long maxEntries,
+        Duration timeToLive
+    ) {
+        this(loader, factory, writer, remover, maxEntries, timeToLive, Ticker.systemTicker());
+    }
+
+    LazyIndex(
+        Function<K, Map<I, D>> loader,
+        Supplier<S> factory,
+        Writer<S, I, D> writer,
+        BiConsumer<S, I> remover,
+        long maxEntries,
+        Duration timeToLive,
+        Ticker ticker
+    ) {
+        this.loader = loader;
+        this.factory = factory;
+        this.writer = writer;
+        this.remover = remover;
+        // The listener may run within the cache maintenance, so it only queues the evicted structures
+        this.structuresByKey =
+            Caffeine
+                .newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfterWrite(timeToLive)
+                .ticker(ticker)
+                .removalListener((K key, Loaded<I, S> loaded, RemovalCause cause) -> {
+                    if (cause.wasEvicted()) {
+                        evicted.add(new Evicted<>(key, loaded));
+                    }
+                })
+                .build();
+    }
+
+    /**
+     * Get the structure of a key, loading it if needed.
+     *
+     * @param key the key.
+     * @return the structure of the key.
+     */
+    public S get(K key) {
+        Loaded<I, S> loaded = structuresByKey.getIfPresent(key);
+        return loaded != null ? loaded.structure() : load(key);
+    }
+
+    /**
+     * Apply a committed change of a row.
+     *
+     * @param id the id of the row.
+     * @param key the key of the row, or {@code null} if it was deleted.
+     * @param data the indexed data of the row, or {@code null} if it was deleted or has no data.
+     */
+    public void apply(I id, K key, D data) {
+        K newKey = data != null ? key : null;
+        synchronized (changes) {
+            forgetEvicted();
+            if (loadsInProgress > 0) {
+                changesDuringLoads.add(new Change<>(id, newKey, data));
+            }
+            K previousKey = keysById.remove(id);
+            if (previousKey != null && !previousKey.equals(newKey)) {
+                Loaded<I, S> previous = structuresByKey.getIfPresent(previousKey);
+                if (previous != null) {
+                    synchronized (previous.structure()) {
+                        remover.accept(previous.structure(), id);
+                    }
+                    previous.ids().remove(id);
+                }
+            }
+            Loaded<I, S> loaded = newKey != null ? structuresByKey.getIfPresent(newKey) : null;
+            if (loaded != null) {
+                synchronized (loaded.structure()) {
+                    writer.put(loaded.structure(), id, data);
+                }
+                loaded.ids().add(id);
+                keysById.put(id, newKey);
+            }
+        }
+    }
+
+    /**
+     * Forget all the structures, after rows were written without reporting their changes. Structures are loaded again
+     * when their key is next queried.
+     */
+    public void clear() {
+        synchronized (changes) {
+            generation++;
+            structuresByKey.invalidateAll();
+            keysById.clear();
+            evicted.clear();
+        }
+    }
+
+    private S load(K key) {
+        long loadGeneration;
+        int firstChange;
+        synchronized (changes) {
+            loadGeneration = generation;
+            firstChange = changesDuringLoads.size();
+            loadsInProgress++;
+        }
+        Map<I, D> rows;
+        try {
+            rows = new LinkedHashMap<>(loader.apply(key));
+        } catch (RuntimeException e) {
+            synchronized (changes) {
+                loadFinished();
+            }
+            throw e;
+        }
+        synchronized (changes) {
+            for (Change<K, I, D> change : changesDuringLoads.subList(firstChange, changesDuringLoads.size())) {
+                if (key.equals(change.key())) {
+                    rows.put(change.id(), change.data());
+                } else {
+                    rows.remove(change.id());
+                }
+            }
+            loadFinished();
+            S structure = factory.get();
+            rows.forEach((id, data) -> writer.put(structure, id, data));
+            if (loadGeneration != generation) {
+                return structure;
+            }
+            forgetEvicted();
+            Loaded<I, S> installed = structuresByKey.asMap().putIfAbsent(key, new Loaded<>(structure, new HashSet<>(rows.keySet())));
+            if (installed != null) {
+                return installed.structure();
+            }
+            rows.keySet().forEach(id -> keysById.put(id, key));
+            return structure;
+        }
+    }
+
+    /**
+     * Removes the rows of the evicted structures from the reverse map, unless they belong to a structure loaded since.
+     */
+    private void forgetEvicted() {
+        Evicted<K, I, S> evictedStructure;
+        while ((evictedStructure = evicted.poll()) != null) {
+            K key = evictedStructure.key();
+            Loaded<I, S> current = structuresByKey.getIfPresent(key);
+            for (I id : evictedStructure.loaded().ids()) {
+                if (current == null || !current.ids().contains(id)) {
+                    keysById.remove(id, key);
+                }
+            }
+        }
+    }
+
+    private void loadFinished() {
+        if (--loadsInProgress == 0) {
+            changesDuringLoads.clear();
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package com.mycompany.myapp.service;
+
+import com.mycompany.myapp.config.ApplicationProperties;
+import com.mycompany.myapp.domain.MailOutbox;
+import com.mycompany.myapp.management.MailOutboxMetersService;
+import com.mycompany.myapp.repository.MailOutboxRepository;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import tech.jhipster.config.JHipsterProperties;
+
+/**
+ * Service sending the emails stored in the mail outbox by the {@link MailService}.
+ * <p>
+ * Emails are claimed in batches with {@code SELECT ... FOR UPDATE SKIP LOCKED}, so several instances can dispatch
+ * concurrently. Claimed emails are leased for a while, then sent outside of any transaction over a single SMTP
+ * connection per batch. Sent emails are removed from the outbox, failed ones are retried with an exponential backoff.
+ */
+@Service
+public class MailOutboxDispatcher {
+
+    private final Logger log = LoggerFactory.getLogger(MailOutboxDispatcher.class);
+
+    private final MailOutboxRepository mailOutboxRepository;
+
+    private final JavaMailSender javaMailSender;
+
+    private final JHipsterProperties jHipsterProperties;
+
+    private final ApplicationProperties.Mail.Outbox outboxProperties;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final MailOutboxMetersService metersService;
+
+    public MailOutboxDispatcher(
+        MailOutboxRepository mailOutboxRepository,
+        JavaMailSender javaMailSender,
+        JHipsterProperties jHipsterProperties,
+        ApplicationProperties applicationProperties,
+        PlatformTransactionManager transactionManager,
+        MailOutboxMetersService metersService
+    ) {
+        this.mailOutboxRepository = mailOutboxRepository;
+        this.javaMailSender = javaMailSender;
+        this.jHipsterProperties = jHipsterProperties;
+        this.outboxProperties = applicationProperties.getMail().getOutbox();
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.metersService = metersService;
+    }
+
+    /**
+     * Send the emails due for sending, batch by batch, until the outbox has no full batch left.
+     */
+    @Scheduled(fixedDelayString = "${application.mail.outbox.poll-interval:PT5S}")
+    public void dispatchPendingMail() {
+        int claimed;
+        do {
+            claimed = dispatchBatch();
+        } while (claimed == outboxProperties.getBatchSize());
+        metersService.recordDepth(mailOutboxRepository.countByAttemptsLessThan(outboxProperties.getMaxAttempts()));
+    }
+
+    private int dispatchBatch() {
+        List<MailOutbox> batch = transactionTemplate.execute(status -> claimBatch());
+        if (batch == null || batch.isEmpty()) {
+            return 0;
+        }
+
+        Map<MimeMessage, MailOutbox> mailsByMessage = new IdentityHashMap<>();
+        Map<MailOutbox, Exception> failures = new IdentityHashMap<>();
+        for (MailOutbox mail : batch) {
+            try {
+                mailsByMessage.put(toMimeMessage(mail), mail);
+            } catch (MessagingException | IllegalArgumentException e) {
+                failures.put(mail, e);
+            }
+        }
+        if (!mailsByMessage.isEmpty()) {
+            long start = System.nanoTime();
+            try {
+                javaMailSender.send(mailsByMessage.keySet().toArray(MimeMessage[]::new));
+            } catch (MailSendException e) {
+                if (e.getFailedMessages().isEmpty()) {
+                    mailsByMessage.values().forEach(mail -> failures.put(mail, e));
+                } else {
+                    e.getFailedMessages().forEach((message, cause) -> failures.put(mailsByMessage.get(message), cause));
+                }
+            } catch (MailException e) {
+                mailsByMessage.values().forEach(mail -> failures.put(mail, e));
+            } finally {
+                metersService.recordSend(System.nanoTime() - start);
+            }
+        }
+
+        transactionTemplate.executeWithoutResult(status -> complete(batch, failures));
+        return batch.size();
+    }
+
+    private List<MailOutbox> claimBatch() {
+        Instant now = Instant.now();
+        List<MailOutbox> batch = mailOutboxRepository.findDueForUpdateSkipLocked(
+            now,
+            outboxProperties.getMaxAttempts(),
+            outboxProperties.getBatchSize()
+        );
+        Instant leaseEnd = now.plus(outboxProperties.getLease());
+        batch.forEach(mail -> mail.setNextAttemptAt(leaseEnd));
+        return batch;
+    }
+
+    private void complete(List<MailOutbox> batch, Map<MailOutbox, Exception> failures) {
+        Instant now = Instant.now();
+        List<Long> sentIds = new ArrayList<>();
+        List<MailOutbox> failedMails = new ArrayList<>();
+        for (MailOutbox mail : batch) {
+            Exception failure = failures.get(mail);
+            if (failure == null) {
+                log.debug("Sent email to User '{}'", mail.getRecipient());
+                sentIds.add(mail.getId());
+                metersService.recordDelivery(Duration.between(mail.getCreatedDate(), now));
+            } else {
+                log.warn("Email could not be sent to user '{}'", mail.getRecipient(), failure);
+                metersService.trackFailure();
+                mail.setAttempts(mail.getAttempts() + 1);
+                mail.setNextAttemptAt(now.plus(backoff(mail.getAttempts())));
+                mail.setLastError(StringUtils.abbreviate(String.valueOf(failure.getMessage()), 1000));
+                failedMails.add(mail);
+            }
+        }
+        mailOutboxRepository.deleteAllByIdInBatch(sentIds);
+        mailOutboxRepository.saveAll(failedMails);
+    }
+
+    private Duration backoff(int attempts) {
+        Duration backoff = outboxProperties.getInitialBackoff().multipliedBy(1L << Math.min(attempts - 1, 20));
+        return backoff.compareTo(outboxProperties.getMaxBackoff()) > 0 ? outboxProperties.getMaxBackoff() : backoff;
+    }
+
+    private MimeMessage toMimeMessage(MailOutbox mail) throws MessagingException {
+        MimeMessage mimeMessage = javaMailSender.createMimeMessage();
+        MimeMessageHelper message = new MimeMessageHelper(mimeMessage, mail.isMultipart(), StandardCharsets.UTF_8.name());
+        message.setTo(mail.getRecipient());
+        message.setFrom(jHipsterProperties.getMail().getFrom());
+        message.setSubject(mail.getSubject());
+        message.setText(mail.getContent(), mail.isHtml());
+        return mimeMessage;
+    }
+}
@@ -0,0 +1,118 @@
+package com.mycompany.myapp.service;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.OptimisticLockException;
+import jakarta.persistence.metamodel.EntityType;
+import jakarta.persistence.metamodel.SingularAttribute;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.DirectFieldAccessor;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Service applying full and partial updates to entities, shared by the entity resources.
+ * <p>
+ * The entity is loaded once, from the second level cache when it is cached, then the given values are copied onto it
+ * and it is flushed. Entities are mapped with {@code @DynamicUpdate}, so the flush is a single {@code UPDATE} of the
+ * changed columns only, guarded by their {@code @Version}. When the request carries a version it must match the stored
+ * one, otherwise the update is rejected with an {@link ObjectOptimisticLockingFailureException}, answered with
+ * {@code 409 (Conflict)}; a concurrent update committed between the load and the flush is rejected the same way.
+ */
+@Service
+@Transactional
+public class MergePatchService {
+
+    private final Logger log = LoggerFactory.getLogger(MergePatchService.class);
+
+    private final EntityManager entityManager;
+
+    private final ConcurrentMap<Class<?>, EntityAttributes> attributesByType = new ConcurrentHashMap<>();
+
+    public MergePatchService(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    /**
+     * Apply a JSON merge patch to an entity: the non-null values of the patch replace the stored ones, the other
+     * values are left untouched.
+     *
+     * @param type the type of the entity.
+     * @param id the id of the entity.
+     * @param patch the values to change, and optionally the expected version.
+     * @param <T> the type of the entity.
+     * @return the updated entity, or empty if there is no entity with this id.
+     */
+    public <T> Optional<T> patch(Class<T> type, Object id, T patch) {
+        log.debug("Request to patch {} {}", type.getSimpleName(), id);
+        return apply(type, id, patch, true);
+    }
+
+    /**
+     * Replace all the values of an entity, {@code null} values included.
+     *
+     * @param type the type of the entity.
+     * @param id the id of the entity.
+     * @param entity the new values, and optionally the expected version.
+     * @param <T> the type of the entity.
+     * @return the updated entity, or empty if there is no entity with this id.
+     */
+    public <T> Optional<T> replace(Class<T> type, Object id, T entity) {
+        log.debug("Request to replace {} {}", type.getSimpleName(), id);
+        return apply(type, id, entity, false);
+    }
+
+    private <T> Optional<T> apply(Class<T> type, Object id, T source, boolean skipNulls) {
+        T managed = entityManager.find(type, id);
+        if (managed == null) {
+            return Optional.empty();
+        }
+        EntityAttributes attributes = attributesByType.computeIfAbsent(type, this::readAttributes);
+        DirectFieldAccessor from = new DirectFieldAccessor(source);
+        DirectFieldAccessor to = new DirectFieldAccessor(managed);
+        if (attributes.version() != null) {
+            Object expectedVersion = from.getPropertyValue(attributes.version());
+            if (expectedVersion != null && !Objects.equals(expectedVersion, to.getPropertyValue(attributes.version()))) {
+                throw new ObjectOptimisticLockingFailureException(type, id);
+            }
+        }
+        for (String attribute : attributes.values()) {
+            Object value = from.getPropertyValue(attribute);
+            if (value != null || !skipNulls) {
+                to.setPropertyValue(attribute, value);
+            }
+        }
+        try {
+            entityManager.flush();
+        } catch (OptimisticLockException e) {
+            throw new ObjectOptimisticLockingFailureException(type, id, e);
+        }
+        return Optional.of(managed);
+    }
+
+    private EntityAttributes readAttributes(Class<?> type) {
+        EntityType<?> entityType = entityManager.getMetamodel().entity(type);
+        String version = null;
+        List<String> values = new ArrayList<>();
+        for (SingularAttribute<?, ?> attribute : entityType.getSingularAttributes()) {
+            if (attribute.isVersion()) {
+                version = attribute.getName();
+            } else if (!attribute.isId()) {
+                values.add(attribute.getName());
+            }
+        }
+        return new EntityAttributes(version, List.copyOf(values));
+    }
+
+    /**
+     * The name of the version attribute of an entity, and the names of the attributes an update may change.
+     */
+    private record EntityAttributes(String version, List<String> values) {}
+}
@@ -0,0 +1,50 @@
+package com.mycompany.myapp.service;
+
+import java.util.function.Supplier;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Service running the reads which must see every committed write on the primary database, such as the loads of the
+ * in-memory indexes: an index loaded from a lagging replica would miss the writes committed before the load, and would
+ * never be corrected.
+ * <p>
+ * With a read replica, see {@code ReplicaDataSourceConfiguration}, such a read runs in a new read-write transaction when
+ * the current transaction is read-only or when there is none, which the replica routing sends to the primary. Within a
+ * read-write transaction, or without a replica, it runs in the current transaction, so that it never holds a second
+ * connection of the primary pool.
+ */
+@Service
+public class PrimaryReadService {
+
+    private final TransactionTemplate newReadWriteTransaction;
+
+    private final boolean replicaEnabled;
+
+    public PrimaryReadService(PlatformTransactionManager transactionManager, Environment environment) {
+        this.newReadWriteTransaction = new TransactionTemplate(transactionManager);
+        this.newReadWriteTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.replicaEnabled = environment.containsProperty("spring.datasource.replica.url");
+    }
+
+    /**
+     * Run a read on the primary database.
+     *
+     * @param read the read.
+     * @param <T> the type of the result.
+     * @return the result of the read.
+     */
+    public <T> T read(Supplier<T> read) {
+        if (
+            !replicaEnabled ||
+            (TransactionSynchronizationManager.isActualTransactionActive() && !TransactionSynchronizationManager.isCurrentTransactionReadOnly())
+        ) {
+            return read.get();
+        }
+        return newReadWriteTransaction.execute(status -> read.get());
+    }
+}
@@ -0,0 +1,171 @@
+package com.mycompany.myapp.service.criteria;
+
+import java.io.Serializable;
+import java.util.Objects;
+import org.springdoc.core.annotations.ParameterObject;
+import tech.jhipster.service.Criteria;
+import tech.jhipster.service.filter.*;
+
+/**
+ * Criteria class for the {@link com.mycompany.myapp.domain.BookedItem} entity. This class is used
+ * in {@link com.mycompany.myapp.web.rest.BookedItemResource} to receive all the possible filtering options from
+ * the Http GET request parameters.
+ * For example the following could be a valid request:
+ * {@code /booked-items?id.greaterThan=5&attr1.contains=something&attr2.specified=false}
+ * As Spring is unable to properly convert the types, unless specific {@link Filter} class are used, we need to use
+ * fix type specific filters.
+ */
+@ParameterObject
+@SuppressWarnings("common-java:DuplicatedBlocks")
+public class BookedItemCriteria implements Serializable, Criteria {
+
+    private static final long serialVersionUID = 1L;
+
+    private LongFilter id;
+
+    private IntegerFilter bookingId;
+
+    private IntegerFilter itemId;
+
+    private StringFilter customItemName;
+
+    private LocalDateFilter availableDate;
+
+    private Boolean distinct;
+
+    public BookedItemCriteria() {}
+
+    public BookedItemCriteria(BookedItemCriteria other) {
+        this.id = other.id == null ? null : other.id.copy();
+        this.bookingId = other.bookingId == null ? null : other.bookingId.copy();
+        this.itemId = other.itemId == null ? null : other.itemId.copy();
+        this.customItemName = other.customItemName == null ? null : other.customItemName.copy();
+        this.availableDate = other.availableDate == null ? null : other.availableDate.copy();
+        this.distinct = other.distinct;
+    }
+
+    @Override
+    public BookedItemCriteria copy() {
+        return new BookedItemCriteria(this);
+    }
+
+    public LongFilter getId() {
+        return id;
+    }
+
+    public LongFilter id() {
+        if (id == null) {
+            id = new LongFilter();
+        }
+        return id;
+    }
+
+    public void setId(LongFilter id) {
+        this.id = id;
+    }
+
+    public IntegerFilter getBookingId() {
+        return bookingId;
+    }
+
+    public IntegerFilter bookingId() {
+        if (bookingId == null) {
+            bookingId = new IntegerFilter();
+        }
+        return bookingId;
+    }
+
+    public void setBookingId(IntegerFilter bookingId) {
+        this.bookingId = bookingId;
+    }
+
+    public IntegerFilter getItemId() {
+        return itemId;
+    }
+
+    public IntegerFilter itemId() {
+        if (itemId == null) {
+            itemId = new IntegerFilter();
+        }
+        return itemId;
+    }
+
+    public void setItemId(IntegerFilter itemId) {
+        this.itemId = itemId;
+    }
+
+    public StringFilter getCustomItemName() {
+        return customItemName;
+    }
+
+    public StringFilter customItemName() {
+        if (customItemName == null) {
+            customItemName = new StringFilter();
+        }
+        return customItemName;
+    }
+
+    public void setCustomItemName(StringFilter customItemName) {
+        this.customItemName = customItemName;
+    }
+
+    public LocalDateFilter getAvailableDate() {
+        return availableDate;
+    }
+
+    public LocalDateFilter availableDate() {
+        if (availableDate == null) {
+            availableDate = new LocalDateFilter();
+        }
+        return availableDate;
+    }
+
+    public void setAvailableDate(LocalDateFilter availableDate) {
+        this.availableDate = availableDate;
+    }
+
+    public Boolean getDistinct() {
+        return distinct;
+    }
+
+    public void setDistinct(Boolean distinct) {
+        this.distinct = distinct;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final BookedItemCriteria that = (BookedItemCriteria) o;
+        return (
+            Objects.equals(id, that.id) &&
+            Objects.equals(bookingId, that.bookingId) &&
+            Objects.equals(itemId, that.itemId) &&
+            Objects.equals(customItemName, that.customItemName) &&
+            Objects.equals(availableDate, that.availableDate) &&
+            Objects.equals(distinct, that.distinct)
+        );
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, bookingId, itemId, customItemName, availableDate, distinct);
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "BookedItemCriteria{" +
+            (id != null ? "id=" + id + ", " : "") +
+            (bookingId != null ? "bookingId=" + bookingId + ", " : "") +
+            (itemId != null ? "itemId=" + itemId + ", " : "") +
+            (customItemName != null ? "customItemName=" + customItemName + ", " : "") +
+            (availableDate != null ? "availableDate=" + availableDate + ", " : "") +
+            (distinct != null ? "distinct=" + distinct + ", " : "") +
+            "}";
+    }
+}
@@ -0,0 +1,231 @@
+package com.mycompany.myapp.service.criteria;
+
+import java.io.Serializable;
+import java.util.Objects;
+import org.springdoc.core.annotations.ParameterObject;
+import tech.jhipster.service.Criteria;
+import tech.jhipster.service.filter.*;
+
+/**
+ * Criteria class for the {@link com.mycompany.myapp.domain.Booking} entity. This class is used
+ * in {@link com.mycompany.myapp.web.rest.BookingResource} to receive all the possible filtering options from
+ * the Http GET request parameters.
+ * For example the following could be a valid request:
+ * {@code /bookings?id.greaterThan=5&attr1.contains=something&attr2.specified=false}
+ * As Spring is unable to properly convert the types, unless specific {@link Filter} class are used, we need to use
+ * fix type specific filters.
+ */
+@ParameterObject
+@SuppressWarnings("common-java:DuplicatedBlocks")
+public class BookingCriteria implements Serializable, Criteria {
+
+    private static final long serialVersionUID = 1L;
+
+    private LongFilter id;
+
+    private IntegerFilter bundleId;
+
+    private StringFilter customerName;
+
+    private LocalDateFilter bookingStartDate;
+
+    private LocalDateFilter bookingEndDate;
+
+    private ZonedDateTimeFilter bookingStartTime;
+
+    private ZonedDateTimeFilter bookingEndTime;
+
+    private LongFilter userId;
+
+    private Boolean distinct;
+
+    public BookingCriteria() {}
+
+    public BookingCriteria(BookingCriteria other) {
+        this.id = other.id == null ? null : other.id.copy();
+        this.bundleId = other.bundleId == null ? null : other.bundleId.copy();
+        this.customerName = other.customerName == null ? null : other.customerName.copy();
+        this.bookingStartDate = other.bookingStartDate == null ? null : other.bookingStartDate.copy();
+        this.bookingEndDate = other.bookingEndDate == null ? null : other.bookingEndDate.copy();
+        this.bookingStartTime = other.bookingStartTime == null ? null : other.bookingStartTime.copy();
+        this.bookingEndTime = other.bookingEndTime == null ? null : other.bookingEndTime.copy();
+        this.userId = other.userId == null ? null : other.userId.copy();
+        this.distinct = other.distinct;
+    }
+
+    @Override
+    public BookingCriteria copy() {
+        return new BookingCriteria(this);
+    }
+
+    public LongFilter getId() {
+        return id;
+    }
+
+    public LongFilter id() {
+        if (id == null) {
+            id = new LongFilter();
+        }
+        return id;
+    }
+
+    public void setId(LongFilter id) {
+        this.id = id;
+    }
+
+    public IntegerFilter getBundleId() {
+        return bundleId;
+    }
+
+    public IntegerFilter bundleId() {
+        if (bundleId == null) {
+            bundleId = new IntegerFilter();
+        }
+        return bundleId;
+    }
+
+    public void setBundleId(IntegerFilter bundleId) {
+        this.bundleId = bundleId;
+    }
+
+    public StringFilter getCustomerName() {
+        return customerName;
+    }
+
+    public StringFilter customerName() {
+        if (customerName == null) {
+            customerName = new StringFilter();
+        }
+        return customerName;
+    }
+
+    public void setCustomerName(StringFilter customerName) {
+        this.customerName = customerName;
+    }
+
+    public LocalDateFilter getBookingStartDate() {
+        return bookingStartDate;
+    }
+
+    public LocalDateFilter bookingStartDate() {
+        if (bookingStartDate == null) {
+            bookingStartDate = new LocalDateFilter();
+        }
+        return bookingStartDate;
+    }
+
+    public void setBookingStartDate(LocalDateFilter bookingStartDate) {
+        this.bookingStartDate = bookingStartDate;
+    }
+
+    public LocalDateFilter getBookingEndDate() {
+        return bookingEndDate;
+    }
+
+    public LocalDateFilter bookingEndDate() {
+        if (bookingEndDate == null) {
+            bookingEndDate = new LocalDateFilter();
+        }
+        return bookingEndDate;
+    }
+
+    public void setBookingEndDate(LocalDateFilter bookingEndDate) {
+        this.bookingEndDate = bookingEndDate;
+    }
+
+    public ZonedDateTimeFilter getBookingStartTime() {
+        return bookingStartTime;
+    }
+
+    public ZonedDateTimeFilter bookingStartTime() {
+        if (bookingStartTime == null) {
+            bookingStartTime = new ZonedDateTimeFilter();
+        }
+        return bookingStartTime;
+    }
+
+    public void setBookingStartTime(ZonedDateTimeFilter bookingStartTime) {
+        this.bookingStartTime = bookingStartTime;
+    }
+
+    public ZonedDateTimeFilter getBookingEndTime() {
+        return bookingEndTime;
+    }
+
+    public ZonedDateTimeFilter bookingEndTime() {
+        if (bookingEndTime == null) {
+            bookingEndTime = new ZonedDateTimeFilter();
+        }
+        return bookingEndTime;
+    }
+
+    public void setBookingEndTime(ZonedDateTimeFilter bookingEndTime) {
+        this.bookingEndTime = bookingEndTime;
+    }
+
+    public LongFilter getUserId() {
+        return userId;
+    }
+
+    public LongFilter userId() {
+        if (userId == null) {
+            userId = new LongFilter();
+        }
+        return userId;
+    }
+
+    public void setUserId(LongFilter userId) {
+        this.userId = userId;
+    }
+
+    public Boolean getDistinct() {
+        return distinct;
+    }
+
+    public void setDistinct(Boolean distinct) {
+        this.distinct = distinct;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final BookingCriteria that = (BookingCriteria) o;
+        return (
+            Objects.equals(id, that.id) &&
+            Objects.equals(bundleId, that.bundleId) &&
+            Objects.equals(customerName, that.customerName) &&
+            Objects.equals(bookingStartDate, that.bookingStartDate) &&
+            Objects.equals(bookingEndDate, that.bookingEndDate) &&
+            Objects.equals(bookingStartTime, that.bookingStartTime) &&
+            Objects.equals(bookingEndTime, that.bookingEndTime) &&
+            Objects.equals(userId, that.userId) &&
+            Objects.equals(distinct, that.distinct)
+        );
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, bundleId, customerName, bookingStartDate, bookingEndDate, bookingStartTime, bookingEndTime, userId, distinct);
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "BookingCriteria{" +
+            (id != null ? "id=" + id + ", " : "") +
+            (bundleId != null ? "bundleId=" + bundleId + ", " : "") +
+            (customerName != null ? "customerName=" + customerName + ", " : "") +
+            (bookingStartDate != null ? "bookingStartDate=" + bookingStartDate + ", " : "") +
+            (bookingEndDate != null ? "bookingEndDate=" + bookingEndDate + ", " : "") +
+            (bookingStartTime != null ? "bookingStartTime=" + bookingStartTime + ", " : "") +
+            (bookingEndTime != null ? "bookingEndTime=" + bookingEndTime + ", " : "") +
+            (userId != null ? "userId=" + userId + ", " : "") +
+            (distinct != null ? "distinct=" + distinct + ", " : "") +
+            "}";
+    }
+}
@@ -0,0 +1,211 @@
+package com.mycompany.myapp.service.criteria;
+
+import java.io.Serializable;
+import java.util.Objects;
+import org.springdoc.core.annotations.ParameterObject;
+import tech.jhipster.service.Criteria;
+import tech.jhipster.service.filter.*;
+
+/**
+ * Criteria class for the {@link com.mycompany.myapp.domain.Bundle} entity. This class is used
+ * in {@link com.mycompany.myapp.web.rest.BundleResource} to receive all the possible filtering options from
+ * the Http GET request parameters.
+ * For example the following could be a valid request:
+ * {@code /bundles?id.greaterThan=5&attr1.contains=something&attr2.specified=false}
+ * As Spring is unable to properly convert the types, unless specific {@link Filter} class are used, we need to use
+ * fix type specific filters.
+ */
+@ParameterObject
+@SuppressWarnings("common-java:DuplicatedBlocks")
+public class BundleCriteria implements Serializable, Criteria {
+
+    private static final long serialVersionUID = 1L;
+
+    private LongFilter id;
+
+    private StringFilter bundleName;
+
+    private StringFilter priceRange;
+
+    private StringFilter maxPeople;
+
+    private BigDecimalFilter minPrice;
+
+    private BigDecimalFilter maxPrice;
+
+    private IntegerFilter capacity;
+
+    private Boolean distinct;
+
+    public BundleCriteria() {}
+
+    public BundleCriteria(BundleCriteria other) {
+        this.id = other.id == null ? null : other.id.copy();
+        this.bundleName = other.bundleName == null ? null : other.bundleName.copy();
+        this.priceRange = other.priceRange == null ? null : other.priceRange.copy();
+        this.maxPeople = other.maxPeople == null ? null : other.maxPeople.copy();
+        this.minPrice = other.minPrice == null ? null : other.minPrice.copy();
+        this.maxPrice = other.maxPrice == null ? null : other.maxPrice.copy();
+        this.capacity = other.capacity == null ? null : other.capacity.copy();
+        this.distinct = other.distinct;
+    }
+
+    @Override
+    public BundleCriteria copy() {
+        return new BundleCriteria(this);
+    }
+
+    public LongFilter getId() {
+        return id;
+    }
+
+    public LongFilter id() {
+        if (id == null) {
+            id = new LongFilter();
+        }
+        return id;
+    }
+
+    public void setId(LongFilter id) {
+        this.id = id;
+    }
+
+    public StringFilter getBundleName() {
+        return bundleName;
+    }
+
+    public StringFilter bundleName() {
+        if (bundleName == null) {
+            bundleName = new StringFilter();
+        }
+        return bundleName;
+    }
+
+    public void setBundleName(StringFilter bundleName) {
+        this.bundleName = bundleName;
+    }
+
+    public StringFilter getPriceRange() {
+        return priceRange;
+    }
+
+    public StringFilter priceRange() {
+        if (priceRange == null) {
+            priceRange = new StringFilter();
+        }
+        return priceRange;
+    }
+
+    public void setPriceRange(StringFilter priceRange) {
+        this.priceRange = priceRange;
+    }
+
+    public StringFilter getMaxPeople() {
+        return maxPeople;
+    }
+
+    public StringFilter maxPeople() {
+        if (maxPeople == null) {
+            maxPeople = new StringFilter();
+        }
+        return maxPeople;
+    }
+
+    public void setMaxPeople(StringFilter maxPeople) {
+        this.maxPeople = maxPeople;
+    }
+
+    public BigDecimalFilter getMinPrice() {
+        return minPrice;
+    }
+
+    public BigDecimalFilter minPrice() {
+        if (minPrice == null) {
+            minPrice = new BigDecimalFilter();
+        }
+        return minPrice;
+    }
+
+    public void setMinPrice(BigDecimalFilter minPrice) {
+        this.minPrice = minPrice;
+    }
+
+    public BigDecimalFilter getMaxPrice() {
+        return maxPrice;
+    }
+
+    public BigDecimalFilter maxPrice() {
+        if (maxPrice == null) {
+            maxPrice = new BigDecimalFilter();
+        }
+        return maxPrice;
+    }
+
+    public void setMaxPrice(BigDecimalFilter maxPrice) {
+        this.maxPrice = maxPrice;
+    }
+
+    public IntegerFilter getCapacity() {
+        return capacity;
+    }
+
+    public IntegerFilter capacity() {
+        if (capacity == null) {
+            capacity = new IntegerFilter();
+        }
+        return capacity;
+    }
+
+    public void setCapacity(IntegerFilter capacity) {
+        this.capacity = capacity;
+    }
+
+    public Boolean getDistinct() {
+        return distinct;
+    }
+
+    public void setDistinct(Boolean distinct) {
+        this.distinct = distinct;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final BundleCriteria that = (BundleCriteria) o;
+        return (
+            Objects.equals(id, that.id) &&
+            Objects.equals(bundleName, that.bundleName) &&
+            Objects.equals(priceRange, that.priceRange) &&
+            Objects.equals(maxPeople, that.maxPeople) &&
+            Objects.equals(minPrice, that.minPrice) &&
+            Objects.equals(maxPrice, that.maxPrice) &&
+            Objects.equals(capacity, that.capacity) &&
+            Objects.equals(distinct, that.distinct)
+        );
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, bundleName, priceRange, maxPeople, minPrice, maxPrice, capacity, distinct);
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "BundleCriteria{" +
+            (id != null ? "id=" + id + ", " : "") +
+            (bundleName != null ? "bundleName=" + bundleName + ", " : "") +
+            (priceRange != null ? "priceRange=" + priceRange + ", " : "") +
+            (maxPeople != null ? "maxPeople=" + maxPeople + ", " : "") +
+            (minPrice != null ? "minPrice=" + minPrice + ", " : "") +
+            (maxPrice != null ? "maxPrice=" + maxPrice + ", " : "") +
+            (capacity != null ? "capacity=" + capacity + ", " : "") +
+            (distinct != null ? "distinct=" + distinct + ", " : "") +
+            "}";
+    }
+}
@@ -0,0 +1,4 @@
+/**
+ * Criteria classes for the entity query services.
+ */
+package com.mycompany.myapp.service.criteria;
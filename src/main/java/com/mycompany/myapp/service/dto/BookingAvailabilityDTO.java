@@ -0,0 +1,88 @@
+package com.mycompany.myapp.service.dto;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A DTO representing the availability of a bundle over a date range.
+ */
+public class BookingAvailabilityDTO implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private Integer bundleId;
+
+    private LocalDate from;
+
+    private LocalDate to;
+
+    private boolean available;
+
+    private List<Long> conflictingBookingIds = new ArrayList<>();
+
+    public BookingAvailabilityDTO() {
+        // Empty constructor needed for Jackson.
+    }
+
+    public BookingAvailabilityDTO(Integer bundleId, LocalDate from, LocalDate to, List<Long> conflictingBookingIds) {
+        this.bundleId = bundleId;
+        this.from = from;
+        this.to = to;
+        this.conflictingBookingIds = conflictingBookingIds;
+        this.available = conflictingBookingIds.isEmpty();
+    }
+
+    public Integer getBundleId() {
+        return bundleId;
+    }
+
+    public void setBundleId(Integer bundleId) {
+        this.bundleId = bundleId;
+    }
+
+    public LocalDate getFrom() {
+        return from;
+    }
+
+    public void setFrom(LocalDate from) {
+        this.from = from;
+    }
+
+    public LocalDate getTo() {
+        return to;
+    }
+
+    public void setTo(LocalDate to) {
+        this.to = to;
+    }
+
+    public boolean isAvailable() {
+        return available;
+    }
+
+    public void setAvailable(boolean available) {
+        this.available = available;
+    }
+
+    public List<Long> getConflictingBookingIds() {
+        return conflictingBookingIds;
+    }
+
+    public void setConflictingBookingIds(List<Long> conflictingBookingIds) {
+        this.conflictingBookingIds = conflictingBookingIds;
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "BookingAvailabilityDTO{" +
+            "bundleId=" + bundleId +
+            ", from='" + from + "'" +
+            ", to='" + to + "'" +
+            ", available=" + available +
+            ", conflictingBookingIds=" + conflictingBookingIds +
+            "}";
+    }
+}
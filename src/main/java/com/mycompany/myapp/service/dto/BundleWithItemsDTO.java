@@ -0,0 +1,89 @@
+package com.mycompany.myapp.service.dto;
+
+import com.mycompany.myapp.domain.Bundle;
+import com.mycompany.myapp.domain.Item;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A DTO representing a bundle, with the items it contains.
+ */
+public class BundleWithItemsDTO implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private Long id;
+
+    private String bundleName;
+
+    private String priceRange;
+
+    private String maxPeople;
+
+    private List<Item> items = new ArrayList<>();
+
+    public BundleWithItemsDTO() {
+        // Empty constructor needed for Jackson.
+    }
+
+    public BundleWithItemsDTO(Bundle bundle, List<Item> items) {
+        this.id = bundle.getId();
+        this.bundleName = bundle.getBundleName();
+        this.priceRange = bundle.getPriceRange();
+        this.maxPeople = bundle.getMaxPeople();
+        this.items = items;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getBundleName() {
+        return bundleName;
+    }
+
+    public void setBundleName(String bundleName) {
+        this.bundleName = bundleName;
+    }
+
+    public String getPriceRange() {
+        return priceRange;
+    }
+
+    public void setPriceRange(String priceRange) {
+        this.priceRange = priceRange;
+    }
+
+    public String getMaxPeople() {
+        return maxPeople;
+    }
+
+    public void setMaxPeople(String maxPeople) {
+        this.maxPeople = maxPeople;
+    }
+
+    public List<Item> getItems() {
+        return items;
+    }
+
+    public void setItems(List<Item> items) {
+        this.items = items;
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "BundleWithItemsDTO{" +
+            "id=" + id +
+            ", bundleName='" + bundleName + "'" +
+            ", priceRange='" + priceRange + "'" +
+            ", maxPeople='" + maxPeople + "'" +
+            ", items=" + items +
+            "}";
+    }
+}
@@ -0,0 +1,73 @@
+package com.mycompany.myapp.service.dto;
+
+import java.io.Serializable;
+
+/**
+ * A DTO representing the outcome of a CSV import.
+ */
+public class CsvImportResultDTO implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private String table;
+
+    private String method;
+
+    private long inserted;
+
+    private long updated;
+
+    public CsvImportResultDTO() {
+        // Empty constructor needed for Jackson.
+    }
+
+    public CsvImportResultDTO(String table, String method, long inserted, long updated) {
+        this.table = table;
+        this.method = method;
+        this.inserted = inserted;
+        this.updated = updated;
+    }
+
+    public String getTable() {
+        return table;
+    }
+
+    public void setTable(String table) {
+        this.table = table;
+    }
+
+    public String getMethod() {
+        return method;
+    }
+
+    public void setMethod(String method) {
+        this.method = method;
+    }
+
+    public long getInserted() {
+        return inserted;
+    }
+
+    public void setInserted(long inserted) {
+        this.inserted = inserted;
+    }
+
+    public long getUpdated() {
+        return updated;
+    }
+
+    public void setUpdated(long updated) {
+        this.updated = updated;
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "CsvImportResultDTO{" +
+            "table='" + table + "'" +
+            ", method='" + method + "'" +
+            ", inserted=" + inserted +
+            ", updated=" + updated +
+            "}";
+    }
+}
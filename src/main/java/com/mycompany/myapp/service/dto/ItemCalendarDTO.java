@@ -0,0 +1,76 @@
+package com.mycompany.myapp.service.dto;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A DTO representing the days on which an item is booked over a date range.
+ */
+public class ItemCalendarDTO implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private Integer itemId;
+
+    private LocalDate from;
+
+    private LocalDate to;
+
+    private List<LocalDate> bookedDays = new ArrayList<>();
+
+    public ItemCalendarDTO() {
+        // Empty constructor needed for Jackson.
+    }
+
+    public ItemCalendarDTO(Integer itemId, LocalDate from, LocalDate to, List<LocalDate> bookedDays) {
+        this.itemId = itemId;
+        this.from = from;
+        this.to = to;
+        this.bookedDays = bookedDays;
+    }
+
+    public Integer getItemId() {
+        return itemId;
+    }
+
+    public void setItemId(Integer itemId) {
+        this.itemId = itemId;
+    }
+
+    public LocalDate getFrom() {
+        return from;
+    }
+
+    public void setFrom(LocalDate from) {
+        this.from = from;
+    }
+
+    public LocalDate getTo() {
+        return to;
+    }
+
+    public void setTo(LocalDate to) {
+        this.to = to;
+    }
+
+    public List<LocalDate> getBookedDays() {
+        return bookedDays;
+    }
+
+    public void setBookedDays(List<LocalDate> bookedDays) {
+        this.bookedDays = bookedDays;
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "ItemCalendarDTO{" +
+            "itemId=" + itemId +
+            ", from='" + from + "'" +
+            ", to='" + to + "'" +
+            ", bookedDays=" + bookedDays +
+            "}";
+    }
+}
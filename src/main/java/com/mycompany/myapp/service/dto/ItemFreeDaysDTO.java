@@ -0,0 +1,76 @@
+package com.mycompany.myapp.service.dto;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A DTO representing the days on which all the items of a list are free over a date range.
+ */
+public class ItemFreeDaysDTO implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private List<Integer> itemIds = new ArrayList<>();
+
+    private LocalDate from;
+
+    private LocalDate to;
+
+    private List<LocalDate> freeDays = new ArrayList<>();
+
+    public ItemFreeDaysDTO() {
+        // Empty constructor needed for Jackson.
+    }
+
+    public ItemFreeDaysDTO(List<Integer> itemIds, LocalDate from, LocalDate to, List<LocalDate> freeDays) {
+        this.itemIds = itemIds;
+        this.from = from;
+        this.to = to;
+        this.freeDays = freeDays;
+    }
+
+    public List<Integer> getItemIds() {
+        return itemIds;
+    }
+
+    public void setItemIds(List<Integer> itemIds) {
+        this.itemIds = itemIds;
+    }
+
+    public LocalDate getFrom() {
+        return from;
+    }
+
+    public void setFrom(LocalDate from) {
+        this.from = from;
+    }
+
+    public LocalDate getTo() {
+        return to;
+    }
+
+    public void setTo(LocalDate to) {
+        this.to = to;
+    }
+
+    public List<LocalDate> getFreeDays() {
+        return freeDays;
+    }
+
+    public void setFreeDays(List<LocalDate> freeDays) {
+        this.freeDays = freeDays;
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "ItemFreeDaysDTO{" +
+            "itemIds=" + itemIds +
+            ", from='" + from + "'" +
+            ", to='" + to + "'" +
+            ", freeDays=" + freeDays +
+            "}";
+    }
+}
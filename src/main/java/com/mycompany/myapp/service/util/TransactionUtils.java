@@ -0,0 +1,57 @@
+package com.mycompany.myapp.service.util;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Utility class for the transactions of the services.
+ */
+public final class TransactionUtils {
+
+    private TransactionUtils() {}
+
+    /**
+     * Run an action once the current transaction has committed, or right away outside of a transaction.
+     * <p>
+     * This is how the in-memory indexes follow the database: an action registered by a transaction which rolls back
+     * never runs.
+     *
+     * @param action the action to run.
+     */
+    public static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        action.run();
+                    }
+                }
+            );
+        } else {
+            action.run();
+        }
+    }
+
+    /**
+     * Run an action just before the current transaction commits, or right away outside of a transaction.
+     * <p>
+     * The action still runs when the commit then fails, so it must only discard state, such as cached entries.
+     *
+     * @param action the action to run.
+     */
+    public static void beforeCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronization() {
+                    @Override
+                    public void beforeCommit(boolean readOnly) {
+                        action.run();
+                    }
+                }
+            );
+        } else {
+            action.run();
+        }
+    }
+}
@@ -2,7 +2,16 @@ package com.mycompany.myapp.web.rest;
 
 import com.mycompany.myapp.domain.BookedItem;
 import com.mycompany.myapp.repository.BookedItemRepository;
+import com.mycompany.myapp.service.BookedItemQueryService;
+import com.mycompany.myapp.service.ExportService;
+import com.mycompany.myapp.service.ItemCalendarService;
+import com.mycompany.myapp.service.MergePatchService;
+import com.mycompany.myapp.service.criteria.BookedItemCriteria;
 import com.mycompany.myapp.web.rest.errors.BadRequestAlertException;
+import com.mycompany.myapp.web.rest.util.ExportUtil;
+import com.mycompany.myapp.web.rest.util.KeysetPaginationUtil;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.List;
@@ -14,6 +23,7 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.ResponseEntity;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 import tech.jhipster.web.util.HeaderUtil;
 import tech.jhipster.web.util.ResponseUtil;
 
@@ -34,8 +44,26 @@ public class BookedItemResource {
 
     private final BookedItemRepository bookedItemRepository;
 
-    public BookedItemResource(BookedItemRepository bookedItemRepository) {
+    private final BookedItemQueryService bookedItemQueryService;
+
+    private final ExportService exportService;
+
+    private final ItemCalendarService itemCalendarService;
+
+    private final MergePatchService mergePatchService;
+
+    public BookedItemResource(
+        BookedItemRepository bookedItemRepository,
+        BookedItemQueryService bookedItemQueryService,
+        ExportService exportService,
+        ItemCalendarService itemCalendarService,
+        MergePatchService mergePatchService
+    ) {
         this.bookedItemRepository = bookedItemRepository;
+        this.bookedItemQueryService = bookedItemQueryService;
+        this.exportService = exportService;
+        this.itemCalendarService = itemCalendarService;
+        this.mergePatchService = mergePatchService;
     }
 
     /**
@@ -52,6 +80,7 @@ public class BookedItemResource {
             throw new BadRequestAlertException("A new bookedItem cannot already have an ID", ENTITY_NAME, "idexists");
         }
         BookedItem result = bookedItemRepository.save(bookedItem);
+        itemCalendarService.bookedItemSaved(result);
         return ResponseEntity
             .created(new URI("/api/booked-items/" + result.getId()))
             .headers(HeaderUtil.createEntityCreationAlert(applicationName, false, ENTITY_NAME, result.getId().toString()))
@@ -65,6 +94,7 @@ public class BookedItemResource {
      * @param bookedItem the bookedItem to update.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the updated bookedItem,
      * or with status {@code 400 (Bad Request)} if the bookedItem is not valid,
+     * or with status {@code 409 (Conflict)} if the version of the bookedItem is not the stored one,
      * or with status {@code 500 (Internal Server Error)} if the bookedItem couldn't be updated.
      * @throws URISyntaxException if the Location URI syntax is incorrect.
      */
@@ -81,11 +111,10 @@ public class BookedItemResource {
             throw new BadRequestAlertException("Invalid ID", ENTITY_NAME, "idinvalid");
         }
 
-        if (!bookedItemRepository.existsById(id)) {
-            throw new BadRequestAlertException("Entity not found", ENTITY_NAME, "idnotfound");
-        }
-
-        BookedItem result = bookedItemRepository.save(bookedItem);
+        BookedItem result = mergePatchService
+            .replace(BookedItem.class, id, bookedItem)
+            .orElseThrow(() -> new BadRequestAlertException("Entity not found", ENTITY_NAME, "idnotfound"));
+        itemCalendarService.bookedItemSaved(result);
         return ResponseEntity
             .ok()
             .headers(HeaderUtil.createEntityUpdateAlert(applicationName, false, ENTITY_NAME, bookedItem.getId().toString()))
@@ -100,6 +129,7 @@ public class BookedItemResource {
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the updated bookedItem,
      * or with status {@code 400 (Bad Request)} if the bookedItem is not valid,
      * or with status {@code 404 (Not Found)} if the bookedItem is not found,
+     * or with status {@code 409 (Conflict)} if the version of the bookedItem is not the stored one,
      * or with status {@code 500 (Internal Server Error)} if the bookedItem couldn't be updated.
      * @throws URISyntaxException if the Location URI syntax is incorrect.
      */
@@ -116,29 +146,8 @@ public class BookedItemResource {
             throw new BadRequestAlertException("Invalid ID", ENTITY_NAME, "idinvalid");
         }
 
-        if (!bookedItemRepository.existsById(id)) {
-            throw new BadRequestAlertException("Entity not found", ENTITY_NAME, "idnotfound");
-        }
-
-        Optional<BookedItem> result = bookedItemRepository
-            .findById(bookedItem.getId())
-            .map(existingBookedItem -> {
-                if (bookedItem.getBookingId() != null) {
-                    existingBookedItem.setBookingId(bookedItem.getBookingId());
-                }
-                if (bookedItem.getItemId() != null) {
-                    existingBookedItem.setItemId(bookedItem.getItemId());
-                }
-                if (bookedItem.getCustomItemName() != null) {
-                    existingBookedItem.setCustomItemName(bookedItem.getCustomItemName());
-                }
-                if (bookedItem.getAvailableDate() != null) {
-                    existingBookedItem.setAvailableDate(bookedItem.getAvailableDate());
-                }
-
-                return existingBookedItem;
-            })
-            .map(bookedItemRepository::save);
+        Optional<BookedItem> result = mergePatchService.patch(BookedItem.class, id, bookedItem);
+        result.ifPresent(itemCalendarService::bookedItemSaved);
 
         return ResponseUtil.wrapOrNotFound(
             result,
@@ -147,14 +156,63 @@ public class BookedItemResource {
     }
 
     /**
-     * {@code GET  /booked-items} : get all the bookedItems.
+     * {@code GET  /booked-items} : get a page of the bookedItems matching the criteria, ordered by id whatever the {@code sort}
+     * parameter.
      *
+     * @param criteria the criteria which the requested entities should match.
+     * @param after the cursor of the page to retrieve, taken from the {@code next} link of the previous page.
+     * @param size the maximum number of bookedItems in the page.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of bookedItems in body.
      */
     @GetMapping("")
-    public List<BookedItem> getAllBookedItems() {
-        log.debug("REST request to get all BookedItems");
-        return bookedItemRepository.findAll();
+    @Transactional(readOnly = true)
+    public ResponseEntity<List<BookedItem>> getAllBookedItems(
+        BookedItemCriteria criteria,
+        @RequestParam(value = KeysetPaginationUtil.AFTER_PARAM, required = false) String after,
+        @RequestParam(value = KeysetPaginationUtil.SIZE_PARAM, defaultValue = "" + KeysetPaginationUtil.DEFAULT_SIZE) int size
+    ) {
+        log.debug("REST request to get BookedItems by criteria: {}", criteria);
+        int pageSize = KeysetPaginationUtil.pageSize(size);
+        List<BookedItem> rows = bookedItemQueryService.findByCriteria(
+            criteria,
+            KeysetPaginationUtil.decodeCursor(after, ENTITY_NAME),
+            KeysetPaginationUtil.fetchLimit(pageSize)
+        );
+        return KeysetPaginationUtil.toResponse(ServletUriComponentsBuilder.fromCurrentRequest(), rows, pageSize, BookedItem::getId);
+    }
+
+    /**
+     * {@code GET  /booked-items/count} : count all the bookedItems.
+     *
+     * @param criteria the criteria which the requested entities should match.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the count in body.
+     */
+    @GetMapping("/count")
+    @Transactional(readOnly = true)
+    public ResponseEntity<Long> countBookedItems(BookedItemCriteria criteria) {
+        log.debug("REST request to count BookedItems by criteria: {}", criteria);
+        return ResponseEntity.ok().body(bookedItemQueryService.countByCriteria(criteria));
+    }
+
+    /**
+     * {@code GET  /booked-items/export} : stream all the booked items, ordered by id.
+     * <p>
+     * The rows are written as they are read from the database, so the export does not need to fit in memory.
+     *
+     * @param format the format of the export, {@code ndjson} (the default) or {@code csv}.
+     * @param response the HTTP response the export is written to, with status {@code 200 (OK)},
+     * or with status {@code 400 (Bad Request)} if the format is not supported.
+     * @throws IOException if the export cannot be written.
+     */
+    @GetMapping("/export")
+    @Transactional(readOnly = true)
+    public void exportBookedItems(
+        @RequestParam(value = ExportUtil.FORMAT_PARAM, defaultValue = ExportUtil.DEFAULT_FORMAT) String format,
+        HttpServletResponse response
+    ) throws IOException {
+        log.debug("REST request to export BookedItems as {}", format);
+        ExportService.Format exportFormat = ExportUtil.prepareResponse(response, format, "booked-items", ENTITY_NAME);
+        exportService.exportBookedItems(exportFormat, response.getOutputStream());
     }
 
     /**
@@ -164,6 +222,7 @@ public class BookedItemResource {
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the bookedItem, or with status {@code 404 (Not Found)}.
      */
     @GetMapping("/{id}")
+    @Transactional(readOnly = true)
     public ResponseEntity<BookedItem> getBookedItem(@PathVariable("id") Long id) {
         log.debug("REST request to get BookedItem : {}", id);
         Optional<BookedItem> bookedItem = bookedItemRepository.findById(id);
@@ -180,6 +239,7 @@ public class BookedItemResource {
     public ResponseEntity<Void> deleteBookedItem(@PathVariable("id") Long id) {
         log.debug("REST request to delete BookedItem : {}", id);
         bookedItemRepository.deleteById(id);
+        itemCalendarService.bookedItemDeleted(id);
         return ResponseEntity
             .noContent()
             .headers(HeaderUtil.createEntityDeletionAlert(applicationName, false, ENTITY_NAME, id.toString()))
@@ -2,9 +2,20 @@ package com.mycompany.myapp.web.rest;
 
 import com.mycompany.myapp.domain.Booking;
 import com.mycompany.myapp.repository.BookingRepository;
+import com.mycompany.myapp.service.BookingAvailabilityService;
+import com.mycompany.myapp.service.BookingQueryService;
+import com.mycompany.myapp.service.BookingReservationService;
+import com.mycompany.myapp.service.ExportService;
+import com.mycompany.myapp.service.criteria.BookingCriteria;
+import com.mycompany.myapp.service.dto.BookingAvailabilityDTO;
 import com.mycompany.myapp.web.rest.errors.BadRequestAlertException;
+import com.mycompany.myapp.web.rest.util.ExportUtil;
+import com.mycompany.myapp.web.rest.util.KeysetPaginationUtil;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -14,6 +25,7 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.ResponseEntity;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 import tech.jhipster.web.util.HeaderUtil;
 import tech.jhipster.web.util.ResponseUtil;
 
@@ -34,15 +46,34 @@ public class BookingResource {
 
     private final BookingRepository bookingRepository;
 
-    public BookingResource(BookingRepository bookingRepository) {
+    private final BookingQueryService bookingQueryService;
+
+    private final BookingAvailabilityService bookingAvailabilityService;
+
+    private final BookingReservationService bookingReservationService;
+
+    private final ExportService exportService;
+
+    public BookingResource(
+        BookingRepository bookingRepository,
+        BookingQueryService bookingQueryService,
+        BookingAvailabilityService bookingAvailabilityService,
+        BookingReservationService bookingReservationService,
+        ExportService exportService
+    ) {
         this.bookingRepository = bookingRepository;
+        this.bookingQueryService = bookingQueryService;
+        this.bookingAvailabilityService = bookingAvailabilityService;
+        this.bookingReservationService = bookingReservationService;
+        this.exportService = exportService;
     }
 
     /**
      * {@code POST  /bookings} : Create a new booking.
      *
      * @param booking the booking to create.
-     * @return the {@link ResponseEntity} with status {@code 201 (Created)} and with body the new booking, or with status {@code 400 (Bad Request)} if the booking has already an ID.
+     * @return the {@link ResponseEntity} with status {@code 201 (Created)} and with body the new booking, or with status {@code 400 (Bad Request)} if the booking has already an ID,
+     * or with status {@code 409 (Conflict)} if the bundle is already booked over the period of the booking.
      * @throws URISyntaxException if the Location URI syntax is incorrect.
      */
     @PostMapping("")
@@ -51,7 +82,7 @@ public class BookingResource {
         if (booking.getId() != null) {
             throw new BadRequestAlertException("A new booking cannot already have an ID", ENTITY_NAME, "idexists");
         }
-        Booking result = bookingRepository.save(booking);
+        Booking result = bookingReservationService.reserve(booking);
         return ResponseEntity
             .created(new URI("/api/bookings/" + result.getId()))
             .headers(HeaderUtil.createEntityCreationAlert(applicationName, false, ENTITY_NAME, result.getId().toString()))
@@ -65,6 +96,8 @@ public class BookingResource {
      * @param booking the booking to update.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the updated booking,
      * or with status {@code 400 (Bad Request)} if the booking is not valid,
+     * or with status {@code 409 (Conflict)} if the version of the booking is not the stored one
+     * or if the bundle is already booked over the new period of the booking,
      * or with status {@code 500 (Internal Server Error)} if the booking couldn't be updated.
      * @throws URISyntaxException if the Location URI syntax is incorrect.
      */
@@ -79,11 +112,9 @@ public class BookingResource {
             throw new BadRequestAlertException("Invalid ID", ENTITY_NAME, "idinvalid");
         }
 
-        if (!bookingRepository.existsById(id)) {
-            throw new BadRequestAlertException("Entity not found", ENTITY_NAME, "idnotfound");
-        }
-
-        Booking result = bookingRepository.save(booking);
+        Booking result = bookingReservationService
+            .replace(id, booking)
+            .orElseThrow(() -> new BadRequestAlertException("Entity not found", ENTITY_NAME, "idnotfound"));
         return ResponseEntity
             .ok()
             .headers(HeaderUtil.createEntityUpdateAlert(applicationName, false, ENTITY_NAME, booking.getId().toString()))
@@ -98,6 +129,8 @@ public class BookingResource {
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the updated booking,
      * or with status {@code 400 (Bad Request)} if the booking is not valid,
      * or with status {@code 404 (Not Found)} if the booking is not found,
+     * or with status {@code 409 (Conflict)} if the version of the booking is not the stored one
+     * or if the bundle is already booked over the new period of the booking,
      * or with status {@code 500 (Internal Server Error)} if the booking couldn't be updated.
      * @throws URISyntaxException if the Location URI syntax is incorrect.
      */
@@ -114,35 +147,7 @@ public class BookingResource {
             throw new BadRequestAlertException("Invalid ID", ENTITY_NAME, "idinvalid");
         }
 
-        if (!bookingRepository.existsById(id)) {
-            throw new BadRequestAlertException("Entity not found", ENTITY_NAME, "idnotfound");
-        }
-
-        Optional<Booking> result = bookingRepository
-            .findById(booking.getId())
-            .map(existingBooking -> {
-                if (booking.getBundleId() != null) {
-                    existingBooking.setBundleId(booking.getBundleId());
-                }
-                if (booking.getCustomerName() != null) {
-                    existingBooking.setCustomerName(booking.getCustomerName());
-                }
-                if (booking.getBookingStartDate() != null) {
-                    existingBooking.setBookingStartDate(booking.getBookingStartDate());
-                }
-                if (booking.getBookingEndDate() != null) {
-                    existingBooking.setBookingEndDate(booking.getBookingEndDate());
-                }
-                if (booking.getBookingStartTime() != null) {
-                    existingBooking.setBookingStartTime(booking.getBookingStartTime());
-                }
-                if (booking.getBookingEndTime() != null) {
-                    existingBooking.setBookingEndTime(booking.getBookingEndTime());
-                }
-
-                return existingBooking;
-            })
-            .map(bookingRepository::save);
+        Optional<Booking> result = bookingReservationService.patch(id, booking);
 
         return ResponseUtil.wrapOrNotFound(
             result,
@@ -151,14 +156,85 @@ public class BookingResource {
     }
 
     /**
-     * {@code GET  /bookings} : get all the bookings.
+     * {@code GET  /bookings} : get a page of the bookings matching the criteria, ordered by id whatever the {@code sort} parameter.
      *
+     * @param criteria the criteria which the requested entities should match.
+     * @param after the cursor of the page to retrieve, taken from the {@code next} link of the previous page.
+     * @param size the maximum number of bookings in the page.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of bookings in body.
      */
     @GetMapping("")
-    public List<Booking> getAllBookings() {
-        log.debug("REST request to get all Bookings");
-        return bookingRepository.findAll();
+    @Transactional(readOnly = true)
+    public ResponseEntity<List<Booking>> getAllBookings(
+        BookingCriteria criteria,
+        @RequestParam(value = KeysetPaginationUtil.AFTER_PARAM, required = false) String after,
+        @RequestParam(value = KeysetPaginationUtil.SIZE_PARAM, defaultValue = "" + KeysetPaginationUtil.DEFAULT_SIZE) int size
+    ) {
+        log.debug("REST request to get Bookings by criteria: {}", criteria);
+        int pageSize = KeysetPaginationUtil.pageSize(size);
+        List<Booking> rows = bookingQueryService.findByCriteria(
+            criteria,
+            KeysetPaginationUtil.decodeCursor(after, ENTITY_NAME),
+            KeysetPaginationUtil.fetchLimit(pageSize)
+        );
+        return KeysetPaginationUtil.toResponse(ServletUriComponentsBuilder.fromCurrentRequest(), rows, pageSize, Booking::getId);
+    }
+
+    /**
+     * {@code GET  /bookings/count} : count all the bookings.
+     *
+     * @param criteria the criteria which the requested entities should match.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the count in body.
+     */
+    @GetMapping("/count")
+    @Transactional(readOnly = true)
+    public ResponseEntity<Long> countBookings(BookingCriteria criteria) {
+        log.debug("REST request to count Bookings by criteria: {}", criteria);
+        return ResponseEntity.ok().body(bookingQueryService.countByCriteria(criteria));
+    }
+
+    /**
+     * {@code GET  /bookings/availability} : get the bookings of a bundle overlapping a date range.
+     *
+     * @param bundleId the id of the bundle.
+     * @param from the first day of the range, inclusive.
+     * @param to the last day of the range, inclusive.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the availability of the bundle in body,
+     * or with status {@code 400 (Bad Request)} if the range is not valid.
+     */
+    @GetMapping("/availability")
+    @Transactional(readOnly = true)
+    public ResponseEntity<BookingAvailabilityDTO> getBookingAvailability(
+        @RequestParam("bundleId") Integer bundleId,
+        @RequestParam("from") LocalDate from,
+        @RequestParam("to") LocalDate to
+    ) {
+        log.debug("REST request to get availability of bundle {} from {} to {}", bundleId, from, to);
+        if (to.isBefore(from)) {
+            throw new BadRequestAlertException("Invalid date range", ENTITY_NAME, "rangeinvalid");
+        }
+        return ResponseEntity.ok(bookingAvailabilityService.getAvailability(bundleId, from, to));
+    }
+
+    /**
+     * {@code GET  /bookings/export} : stream all the bookings, ordered by id.
+     * <p>
+     * The rows are written as they are read from the database, so the export does not need to fit in memory.
+     *
+     * @param format the format of the export, {@code ndjson} (the default) or {@code csv}.
+     * @param response the HTTP response the export is written to, with status {@code 200 (OK)},
+     * or with status {@code 400 (Bad Request)} if the format is not supported.
+     * @throws IOException if the export cannot be written.
+     */
+    @GetMapping("/export")
+    @Transactional(readOnly = true)
+    public void exportBookings(
+        @RequestParam(value = ExportUtil.FORMAT_PARAM, defaultValue = ExportUtil.DEFAULT_FORMAT) String format,
+        HttpServletResponse response
+    ) throws IOException {
+        log.debug("REST request to export Bookings as {}", format);
+        ExportService.Format exportFormat = ExportUtil.prepareResponse(response, format, "bookings", ENTITY_NAME);
+        exportService.exportBookings(exportFormat, response.getOutputStream());
     }
 
     /**
@@ -168,6 +244,7 @@ public class BookingResource {
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the booking, or with status {@code 404 (Not Found)}.
      */
     @GetMapping("/{id}")
+    @Transactional(readOnly = true)
     public ResponseEntity<Booking> getBooking(@PathVariable("id") Long id) {
         log.debug("REST request to get Booking : {}", id);
         Optional<Booking> booking = bookingRepository.findById(id);
@@ -184,6 +261,7 @@ public class BookingResource {
     public ResponseEntity<Void> deleteBooking(@PathVariable("id") Long id) {
         log.debug("REST request to delete Booking : {}", id);
         bookingRepository.deleteById(id);
+        bookingAvailabilityService.bookingDeleted(id);
         return ResponseEntity
             .noContent()
             .headers(HeaderUtil.createEntityDeletionAlert(applicationName, false, ENTITY_NAME, id.toString()))
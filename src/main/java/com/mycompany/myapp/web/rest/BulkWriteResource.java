@@ -0,0 +1,78 @@
+package com.mycompany.myapp.web.rest;
+
+import com.mycompany.myapp.domain.BookedItem;
+import com.mycompany.myapp.domain.BundleItem;
+import com.mycompany.myapp.service.BulkWriteService;
+import com.mycompany.myapp.service.dto.BulkRowResultDTO;
+import com.mycompany.myapp.web.rest.errors.BadRequestAlertException;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * REST controller writing lists of {@link BookedItem} and {@link BundleItem} in one request and one transaction.
+ * <p>
+ * Every row gets its own result, see {@link BulkRowResultDTO}: rejected rows do not prevent the other rows from
+ * being written.
+ */
+@RestController
+@RequestMapping("/api")
+@Transactional
+public class BulkWriteResource {
+
+    private final Logger log = LoggerFactory.getLogger(BulkWriteResource.class);
+
+    private final BulkWriteService bulkWriteService;
+
+    public BulkWriteResource(BulkWriteService bulkWriteService) {
+        this.bulkWriteService = bulkWriteService;
+    }
+
+    /**
+     * {@code POST  /bookings/:id/booked-items:bulk} : Create the booked items of a booking.
+     *
+     * @param id the id of the booking.
+     * @param bookedItems the booked items to create.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the result of each row,
+     * or with status {@code 400 (Bad Request)} if the booking does not exist or there are too many rows.
+     */
+    @PostMapping("/bookings/{id}/booked-items:bulk")
+    public ResponseEntity<List<BulkRowResultDTO>> createBookedItems(
+        @PathVariable("id") Long id,
+        @RequestBody List<BookedItem> bookedItems
+    ) {
+        log.debug("REST request to create {} BookedItems of Booking : {}", bookedItems.size(), id);
+        checkSize(bookedItems, "bookedItem");
+        List<BulkRowResultDTO> results = bulkWriteService
+            .createBookedItems(id, bookedItems)
+            .orElseThrow(() -> new BadRequestAlertException("Entity not found", "booking", "idnotfound"));
+        return ResponseEntity.ok(results);
+    }
+
+    /**
+     * {@code PUT  /bundle-items:bulk} : Updates existing bundle items.
+     *
+     * @param bundleItems the bundle items to update.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the result of each row,
+     * or with status {@code 400 (Bad Request)} if there are too many rows.
+     */
+    @PutMapping("/bundle-items:bulk")
+    public ResponseEntity<List<BulkRowResultDTO>> updateBundleItems(@RequestBody List<BundleItem> bundleItems) {
+        log.debug("REST request to update {} BundleItems", bundleItems.size());
+        checkSize(bundleItems, "bundleItem");
+        return ResponseEntity.ok(bulkWriteService.updateBundleItems(bundleItems));
+    }
+
+    private static void checkSize(List<?> rows, String entityName) {
+        if (rows.size() > BulkWriteService.MAX_ROWS) {
+            throw new BadRequestAlertException(
+                "At most " + BulkWriteService.MAX_ROWS + " rows can be written at once",
+                entityName,
+                "bulktoolarge"
+            );
+        }
+    }
+}
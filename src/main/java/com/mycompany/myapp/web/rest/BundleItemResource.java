@@ -2,7 +2,10 @@ package com.mycompany.myapp.web.rest;
 
 import com.mycompany.myapp.domain.BundleItem;
 import com.mycompany.myapp.repository.BundleItemRepository;
+import com.mycompany.myapp.service.BundleItemIndexService;
+import com.mycompany.myapp.service.MergePatchService;
 import com.mycompany.myapp.web.rest.errors.BadRequestAlertException;
+import com.mycompany.myapp.web.rest.util.KeysetPaginationUtil;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.List;
@@ -14,6 +17,7 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.ResponseEntity;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 import tech.jhipster.web.util.HeaderUtil;
 import tech.jhipster.web.util.ResponseUtil;
 
@@ -34,8 +38,18 @@ public class BundleItemResource {
 
     private final BundleItemRepository bundleItemRepository;
 
-    public BundleItemResource(BundleItemRepository bundleItemRepository) {
+    private final BundleItemIndexService bundleItemIndexService;
+
+    private final MergePatchService mergePatchService;
+
+    public BundleItemResource(
+        BundleItemRepository bundleItemRepository,
+        BundleItemIndexService bundleItemIndexService,
+        MergePatchService mergePatchService
+    ) {
         this.bundleItemRepository = bundleItemRepository;
+        this.bundleItemIndexService = bundleItemIndexService;
+        this.mergePatchService = mergePatchService;
     }
 
     /**
@@ -52,6 +66,7 @@ public class BundleItemResource {
             throw new BadRequestAlertException("A new bundleItem cannot already have an ID", ENTITY_NAME, "idexists");
         }
         BundleItem result = bundleItemRepository.save(bundleItem);
+        bundleItemIndexService.bundleItemSaved(result);
         return ResponseEntity
             .created(new URI("/api/bundle-items/" + result.getId()))
             .headers(HeaderUtil.createEntityCreationAlert(applicationName, false, ENTITY_NAME, result.getId().toString()))
@@ -65,6 +80,7 @@ public class BundleItemResource {
      * @param bundleItem the bundleItem to update.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the updated bundleItem,
      * or with status {@code 400 (Bad Request)} if the bundleItem is not valid,
+     * or with status {@code 409 (Conflict)} if the version of the bundleItem is not the stored one,
      * or with status {@code 500 (Internal Server Error)} if the bundleItem couldn't be updated.
      * @throws URISyntaxException if the Location URI syntax is incorrect.
      */
@@ -81,11 +97,10 @@ public class BundleItemResource {
             throw new BadRequestAlertException("Invalid ID", ENTITY_NAME, "idinvalid");
         }
 
-        if (!bundleItemRepository.existsById(id)) {
-            throw new BadRequestAlertException("Entity not found", ENTITY_NAME, "idnotfound");
-        }
-
-        BundleItem result = bundleItemRepository.save(bundleItem);
+        BundleItem result = mergePatchService
+            .replace(BundleItem.class, id, bundleItem)
+            .orElseThrow(() -> new BadRequestAlertException("Entity not found", ENTITY_NAME, "idnotfound"));
+        bundleItemIndexService.bundleItemSaved(result);
         return ResponseEntity
             .ok()
             .headers(HeaderUtil.createEntityUpdateAlert(applicationName, false, ENTITY_NAME, bundleItem.getId().toString()))
@@ -100,6 +115,7 @@ public class BundleItemResource {
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the updated bundleItem,
      * or with status {@code 400 (Bad Request)} if the bundleItem is not valid,
      * or with status {@code 404 (Not Found)} if the bundleItem is not found,
+     * or with status {@code 409 (Conflict)} if the version of the bundleItem is not the stored one,
      * or with status {@code 500 (Internal Server Error)} if the bundleItem couldn't be updated.
      * @throws URISyntaxException if the Location URI syntax is incorrect.
      */
@@ -116,24 +132,11 @@ public class BundleItemResource {
             throw new BadRequestAlertException("Invalid ID", ENTITY_NAME, "idinvalid");
         }
 
-        if (!bundleItemRepository.existsById(id)) {
-            throw new BadRequestAlertException("Entity not found", ENTITY_NAME, "idnotfound");
+        Optional<BundleItem> result = mergePatchService.patch(BundleItem.class, id, bundleItem);
+        if (result.isPresent()) {
+            bundleItemIndexService.bundleItemSaved(result.get());
         }
 
-        Optional<BundleItem> result = bundleItemRepository
-            .findById(bundleItem.getId())
-            .map(existingBundleItem -> {
-                if (bundleItem.getBundleId() != null) {
-                    existingBundleItem.setBundleId(bundleItem.getBundleId());
-                }
-                if (bundleItem.getItemId() != null) {
-                    existingBundleItem.setItemId(bundleItem.getItemId());
-                }
-
-                return existingBundleItem;
-            })
-            .map(bundleItemRepository::save);
-
         return ResponseUtil.wrapOrNotFound(
             result,
             HeaderUtil.createEntityUpdateAlert(applicationName, false, ENTITY_NAME, bundleItem.getId().toString())
@@ -141,14 +144,25 @@ public class BundleItemResource {
     }
 
     /**
-     * {@code GET  /bundle-items} : get all the bundleItems.
+     * {@code GET  /bundle-items} : get a page of the bundleItems, ordered by id whatever the {@code sort} parameter.
      *
+     * @param after the cursor of the page to retrieve, taken from the {@code next} link of the previous page.
+     * @param size the maximum number of bundleItems in the page.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of bundleItems in body.
      */
     @GetMapping("")
-    public List<BundleItem> getAllBundleItems() {
-        log.debug("REST request to get all BundleItems");
-        return bundleItemRepository.findAll();
+    @Transactional(readOnly = true)
+    public ResponseEntity<List<BundleItem>> getAllBundleItems(
+        @RequestParam(value = KeysetPaginationUtil.AFTER_PARAM, required = false) String after,
+        @RequestParam(value = KeysetPaginationUtil.SIZE_PARAM, defaultValue = "" + KeysetPaginationUtil.DEFAULT_SIZE) int size
+    ) {
+        log.debug("REST request to get a page of BundleItems");
+        int pageSize = KeysetPaginationUtil.pageSize(size);
+        List<BundleItem> rows = bundleItemRepository.findAllByIdGreaterThanOrderByIdAsc(
+            KeysetPaginationUtil.decodeCursor(after, ENTITY_NAME),
+            KeysetPaginationUtil.fetchLimit(pageSize)
+        );
+        return KeysetPaginationUtil.toResponse(ServletUriComponentsBuilder.fromCurrentRequest(), rows, pageSize, BundleItem::getId);
     }
 
     /**
@@ -158,6 +172,7 @@ public class BundleItemResource {
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the bundleItem, or with status {@code 404 (Not Found)}.
      */
     @GetMapping("/{id}")
+    @Transactional(readOnly = true)
     public ResponseEntity<BundleItem> getBundleItem(@PathVariable("id") Long id) {
         log.debug("REST request to get BundleItem : {}", id);
         Optional<BundleItem> bundleItem = bundleItemRepository.findById(id);
@@ -174,6 +189,7 @@ public class BundleItemResource {
     public ResponseEntity<Void> deleteBundleItem(@PathVariable("id") Long id) {
         log.debug("REST request to delete BundleItem : {}", id);
         bundleItemRepository.deleteById(id);
+        bundleItemIndexService.bundleItemDeleted(id);
         return ResponseEntity
             .noContent()
             .headers(HeaderUtil.createEntityDeletionAlert(applicationName, false, ENTITY_NAME, id.toString()))
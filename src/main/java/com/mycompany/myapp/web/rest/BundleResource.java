@@ -2,11 +2,24 @@ package com.mycompany.myapp.web.rest;
 
 import com.mycompany.myapp.domain.Bundle;
 import com.mycompany.myapp.domain.Item;
+import com.mycompany.myapp.management.ConditionalRequestMetersService;
 import com.mycompany.myapp.repository.BundleItemRepository;
 import com.mycompany.myapp.repository.BundleRepository;
+import com.mycompany.myapp.service.BundleItemIndexService;
+import com.mycompany.myapp.service.BundleQueryService;
+import com.mycompany.myapp.service.BundleService;
+import com.mycompany.myapp.service.CatalogVersionService;
+import com.mycompany.myapp.service.CatalogVersionService.Table;
+import com.mycompany.myapp.service.MergePatchService;
+import com.mycompany.myapp.service.criteria.BundleCriteria;
+import com.mycompany.myapp.service.dto.BundleWithItemsDTO;
 import com.mycompany.myapp.web.rest.errors.BadRequestAlertException;
+import com.mycompany.myapp.web.rest.util.ConditionalGetUtil;
+import com.mycompany.myapp.web.rest.util.KeysetPaginationUtil;
+import java.math.BigDecimal;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -14,8 +27,11 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.annotation.Isolation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 import tech.jhipster.web.util.HeaderUtil;
 import tech.jhipster.web.util.ResponseUtil;
 
@@ -35,11 +51,39 @@ public class BundleResource {
     private String applicationName;
 
     private final BundleRepository bundleRepository;
+
     private final BundleItemRepository bundleItemRepository;
 
-    public BundleResource(BundleRepository bundleRepository, BundleItemRepository bundleItemRepository) {
+    private final BundleItemIndexService bundleItemIndexService;
+
+    private final BundleQueryService bundleQueryService;
+
+    private final BundleService bundleService;
+
+    private final CatalogVersionService catalogVersionService;
+
+    private final ConditionalRequestMetersService conditionalRequestMetersService;
+
+    private final MergePatchService mergePatchService;
+
+    public BundleResource(
+        BundleRepository bundleRepository,
+        BundleItemRepository bundleItemRepository,
+        BundleItemIndexService bundleItemIndexService,
+        BundleQueryService bundleQueryService,
+        BundleService bundleService,
+        CatalogVersionService catalogVersionService,
+        ConditionalRequestMetersService conditionalRequestMetersService,
+        MergePatchService mergePatchService
+    ) {
         this.bundleRepository = bundleRepository;
         this.bundleItemRepository = bundleItemRepository;
+        this.bundleItemIndexService = bundleItemIndexService;
+        this.bundleQueryService = bundleQueryService;
+        this.bundleService = bundleService;
+        this.catalogVersionService = catalogVersionService;
+        this.conditionalRequestMetersService = conditionalRequestMetersService;
+        this.mergePatchService = mergePatchService;
     }
 
     /**
@@ -59,10 +103,9 @@ public class BundleResource {
         }
         Bundle result = bundleRepository.save(bundle);
         return ResponseEntity
-                .created(new URI("/api/bundles/" + result.getId()))
-                .headers(HeaderUtil.createEntityCreationAlert(applicationName, false, ENTITY_NAME,
-                        result.getId().toString()))
-                .body(result);
+            .created(new URI("/api/bundles/" + result.getId()))
+            .headers(HeaderUtil.createEntityCreationAlert(applicationName, false, ENTITY_NAME, result.getId().toString()))
+            .body(result);
     }
 
     /**
@@ -73,14 +116,14 @@ public class BundleResource {
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body
      *         the updated bundle,
      *         or with status {@code 400 (Bad Request)} if the bundle is not valid,
+     *         or with status {@code 409 (Conflict)} if the version of the bundle is not the stored one,
      *         or with status {@code 500 (Internal Server Error)} if the bundle
      *         couldn't be updated.
      * @throws URISyntaxException if the Location URI syntax is incorrect.
      */
     @PutMapping("/{id}")
-    public ResponseEntity<Bundle> updateBundle(@PathVariable(value = "id", required = false) final Long id,
-            @RequestBody Bundle bundle)
-            throws URISyntaxException {
+    public ResponseEntity<Bundle> updateBundle(@PathVariable(value = "id", required = false) final Long id, @RequestBody Bundle bundle)
+        throws URISyntaxException {
         log.debug("REST request to update Bundle : {}, {}", id, bundle);
         if (bundle.getId() == null) {
             throw new BadRequestAlertException("Invalid id", ENTITY_NAME, "idnull");
@@ -89,16 +132,13 @@ public class BundleResource {
             throw new BadRequestAlertException("Invalid ID", ENTITY_NAME, "idinvalid");
         }
 
-        if (!bundleRepository.existsById(id)) {
-            throw new BadRequestAlertException("Entity not found", ENTITY_NAME, "idnotfound");
-        }
-
-        Bundle result = bundleRepository.save(bundle);
+        Bundle result = mergePatchService
+            .replace(Bundle.class, id, bundle)
+            .orElseThrow(() -> new BadRequestAlertException("Entity not found", ENTITY_NAME, "idnotfound"));
         return ResponseEntity
-                .ok()
-                .headers(HeaderUtil.createEntityUpdateAlert(applicationName, false, ENTITY_NAME,
-                        bundle.getId().toString()))
-                .body(result);
+            .ok()
+            .headers(HeaderUtil.createEntityUpdateAlert(applicationName, false, ENTITY_NAME, bundle.getId().toString()))
+            .body(result);
     }
 
     /**
@@ -111,14 +151,16 @@ public class BundleResource {
      *         the updated bundle,
      *         or with status {@code 400 (Bad Request)} if the bundle is not valid,
      *         or with status {@code 404 (Not Found)} if the bundle is not found,
+     *         or with status {@code 409 (Conflict)} if the version of the bundle is not the stored one,
      *         or with status {@code 500 (Internal Server Error)} if the bundle
      *         couldn't be updated.
      * @throws URISyntaxException if the Location URI syntax is incorrect.
      */
     @PatchMapping(value = "/{id}", consumes = { "application/json", "application/merge-patch+json" })
     public ResponseEntity<Bundle> partialUpdateBundle(
-            @PathVariable(value = "id", required = false) final Long id,
-            @RequestBody Bundle bundle) throws URISyntaxException {
+        @PathVariable(value = "id", required = false) final Long id,
+        @RequestBody Bundle bundle
+    ) throws URISyntaxException {
         log.debug("REST request to partial update Bundle partially : {}, {}", id, bundle);
         if (bundle.getId() == null) {
             throw new BadRequestAlertException("Invalid id", ENTITY_NAME, "idnull");
@@ -127,42 +169,168 @@ public class BundleResource {
             throw new BadRequestAlertException("Invalid ID", ENTITY_NAME, "idinvalid");
         }
 
-        if (!bundleRepository.existsById(id)) {
-            throw new BadRequestAlertException("Entity not found", ENTITY_NAME, "idnotfound");
-        }
-
-        Optional<Bundle> result = bundleRepository
-                .findById(bundle.getId())
-                .map(existingBundle -> {
-                    if (bundle.getBundleName() != null) {
-                        existingBundle.setBundleName(bundle.getBundleName());
-                    }
-                    if (bundle.getPriceRange() != null) {
-                        existingBundle.setPriceRange(bundle.getPriceRange());
-                    }
-                    if (bundle.getMaxPeople() != null) {
-                        existingBundle.setMaxPeople(bundle.getMaxPeople());
-                    }
-
-                    return existingBundle;
-                })
-                .map(bundleRepository::save);
+        Optional<Bundle> result = mergePatchService.patch(Bundle.class, id, bundle);
 
         return ResponseUtil.wrapOrNotFound(
-                result,
-                HeaderUtil.createEntityUpdateAlert(applicationName, false, ENTITY_NAME, bundle.getId().toString()));
+            result,
+            HeaderUtil.createEntityUpdateAlert(applicationName, false, ENTITY_NAME, bundle.getId().toString())
+        );
     }
 
     /**
-     * {@code GET  /bundles} : get all the bundles.
+     * {@code GET  /bundles} : get a page of the bundles matching the criteria, ordered by id whatever the {@code sort} parameter.
+     * <p>
+     * Answers {@code 304 (Not Modified)} without reading the bundles when the {@code If-None-Match} header matches the
+     * current version of the bundles.
      *
-     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list
-     *         of bundles in body.
+     * @param criteria the criteria which the requested entities should match.
+     * @param after the cursor of the page to retrieve, taken from the {@code next} link of the previous page.
+     * @param size the maximum number of bundles in the page.
+     * @param request the current request.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of bundles in body.
      */
     @GetMapping("")
-    public List<Bundle> getAllBundles() {
-        log.debug("REST request to get all Bundles");
-        return bundleRepository.findAll();
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public ResponseEntity<List<Bundle>> getAllBundles(
+        BundleCriteria criteria,
+        @RequestParam(value = KeysetPaginationUtil.AFTER_PARAM, required = false) String after,
+        @RequestParam(value = KeysetPaginationUtil.SIZE_PARAM, defaultValue = "" + KeysetPaginationUtil.DEFAULT_SIZE) int size,
+        ServletWebRequest request
+    ) {
+        log.debug("REST request to get Bundles by criteria: {}", criteria);
+        if (checkNotModified(request, "bundles", Table.BUNDLE)) {
+            return null;
+        }
+        return findPage(criteria, after, size);
+    }
+
+    /**
+     * {@code GET  /bundles?expand=items} : get a page of the bundles matching the criteria, with their items.
+     * <p>
+     * The items of the whole page are loaded with a single query.
+     *
+     * @param criteria the criteria which the requested entities should match.
+     * @param after the cursor of the page to retrieve, taken from the {@code next} link of the previous page.
+     * @param size the maximum number of bundles in the page.
+     * @param request the current request.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of bundles with their items in body.
+     */
+    @GetMapping(value = "", params = "expand=items")
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public ResponseEntity<List<BundleWithItemsDTO>> getAllBundlesWithItems(
+        BundleCriteria criteria,
+        @RequestParam(value = KeysetPaginationUtil.AFTER_PARAM, required = false) String after,
+        @RequestParam(value = KeysetPaginationUtil.SIZE_PARAM, defaultValue = "" + KeysetPaginationUtil.DEFAULT_SIZE) int size,
+        ServletWebRequest request
+    ) {
+        log.debug("REST request to get Bundles with their items by criteria: {}", criteria);
+        if (checkNotModified(request, "bundles-with-items", Table.BUNDLE, Table.ITEM, Table.BUNDLE_ITEM)) {
+            return null;
+        }
+        ResponseEntity<List<Bundle>> page = findPage(criteria, after, size);
+        return ResponseEntity.ok().headers(page.getHeaders()).body(bundleService.withItems(page.getBody()));
+    }
+
+    /**
+     * {@code GET  /bundles/search} : get a page of the bundles for a number of guests and within a budget, ordered by id.
+     * <p>
+     * The bundles are matched on their {@code capacity} and {@code minPrice}, read from their free-text maximum number
+     * of people and price range, with a range scan of their index.
+     *
+     * @param guests the number of guests the bundles must accept, if any.
+     * @param maxPrice the budget the lowest price of the bundles must fit in, if any.
+     * @param after the cursor of the page to retrieve, taken from the {@code next} link of the previous page.
+     * @param size the maximum number of bundles in the page.
+     * @param request the current request.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of bundles in body.
+     */
+    @GetMapping("/search")
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public ResponseEntity<List<Bundle>> searchBundles(
+        @RequestParam(value = "guests", required = false) Integer guests,
+        @RequestParam(value = "maxPrice", required = false) BigDecimal maxPrice,
+        @RequestParam(value = KeysetPaginationUtil.AFTER_PARAM, required = false) String after,
+        @RequestParam(value = KeysetPaginationUtil.SIZE_PARAM, defaultValue = "" + KeysetPaginationUtil.DEFAULT_SIZE) int size,
+        ServletWebRequest request
+    ) {
+        log.debug("REST request to search Bundles for {} guests under {}", guests, maxPrice);
+        if (checkNotModified(request, "bundles-search", Table.BUNDLE)) {
+            return null;
+        }
+        BundleCriteria criteria = new BundleCriteria();
+        if (guests != null) {
+            criteria.capacity().setGreaterThanOrEqual(guests);
+        }
+        if (maxPrice != null) {
+            criteria.minPrice().setLessThanOrEqual(maxPrice);
+        }
+        return findPage(criteria, after, size);
+    }
+
+    /**
+     * {@code GET  /bundles/by-items} : get a page of the bundles containing items, ordered by id.
+     * <p>
+     * An item term is either an item id or words of an item name, such as {@code all=photographer&all=12} or
+     * {@code any=catering&any=wedding cake}. The bundles are found in memory by {@link BundleItemIndexService}.
+     *
+     * @param allOf the terms which must all match an item of the bundles.
+     * @param anyOf the terms of which at least one must match an item of the bundles.
+     * @param after the cursor of the page to retrieve, taken from the {@code next} link of the previous page.
+     * @param size the maximum number of bundles in the page.
+     * @param request the current request.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of bundles in body,
+     *         or with status {@code 400 (Bad Request)} if no term is given.
+     */
+    @GetMapping("/by-items")
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public ResponseEntity<List<Bundle>> getBundlesByItems(
+        @RequestParam(value = "all", defaultValue = "") List<String> allOf,
+        @RequestParam(value = "any", defaultValue = "") List<String> anyOf,
+        @RequestParam(value = KeysetPaginationUtil.AFTER_PARAM, required = false) String after,
+        @RequestParam(value = KeysetPaginationUtil.SIZE_PARAM, defaultValue = "" + KeysetPaginationUtil.DEFAULT_SIZE) int size,
+        ServletWebRequest request
+    ) {
+        log.debug("REST request to get Bundles containing all of {} and any of {}", allOf, anyOf);
+        List<String> allTerms = allOf.stream().filter(term -> !term.isBlank()).toList();
+        List<String> anyTerms = anyOf.stream().filter(term -> !term.isBlank()).toList();
+        if (allTerms.isEmpty() && anyTerms.isEmpty()) {
+            throw new BadRequestAlertException("At least one item is required", ENTITY_NAME, "itemsrequired");
+        }
+        if (checkNotModified(request, "bundles-by-items", Table.BUNDLE, Table.ITEM, Table.BUNDLE_ITEM)) {
+            return null;
+        }
+        int pageSize = KeysetPaginationUtil.pageSize(size);
+        List<Long> ids = bundleItemIndexService.findBundleIds(
+            allTerms,
+            anyTerms,
+            KeysetPaginationUtil.decodeCursor(after, ENTITY_NAME),
+            KeysetPaginationUtil.fetchLimit(pageSize).max()
+        );
+        List<Bundle> rows = bundleRepository.findAllById(ids).stream().sorted(Comparator.comparing(Bundle::getId)).toList();
+        return KeysetPaginationUtil.toResponse(ServletUriComponentsBuilder.fromCurrentRequest(), rows, pageSize, Bundle::getId);
+    }
+
+    private ResponseEntity<List<Bundle>> findPage(BundleCriteria criteria, String after, int size) {
+        int pageSize = KeysetPaginationUtil.pageSize(size);
+        List<Bundle> rows = bundleQueryService.findByCriteria(
+            criteria,
+            KeysetPaginationUtil.decodeCursor(after, ENTITY_NAME),
+            KeysetPaginationUtil.fetchLimit(pageSize)
+        );
+        return KeysetPaginationUtil.toResponse(ServletUriComponentsBuilder.fromCurrentRequest(), rows, pageSize, Bundle::getId);
+    }
+
+    /**
+     * {@code GET  /bundles/count} : count all the bundles.
+     *
+     * @param criteria the criteria which the requested entities should match.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the count in body.
+     */
+    @GetMapping("/count")
+    @Transactional(readOnly = true)
+    public ResponseEntity<Long> countBundles(BundleCriteria criteria) {
+        log.debug("REST request to count Bundles by criteria: {}", criteria);
+        return ResponseEntity.ok().body(bundleQueryService.countByCriteria(criteria));
     }
 
     /**
@@ -173,6 +341,7 @@ public class BundleResource {
      *         the bundle, or with status {@code 404 (Not Found)}.
      */
     @GetMapping("/{id}")
+    @Transactional(readOnly = true)
     public ResponseEntity<Bundle> getBundle(@PathVariable("id") Long id) {
         log.debug("REST request to get Bundle : {}", id);
         Optional<Bundle> bundle = bundleRepository.findById(id);
@@ -180,7 +349,11 @@ public class BundleResource {
     }
 
     /**
-     * {@code DELETE  /bundles/:id} : delete the "id" bundle.
+     * {@code DELETE  /bundles/:id} : delete the "id" bundle, and its bundle items.
+     * <p>
+     * The {@code bundle_item} rows of the bundle are deleted first, in the same transaction, by a single bulk
+     * {@code DELETE} statement: the items themselves are kept, and the deleted bundle items are never loaded, so no
+     * entity listener runs for them. The bundle is then removed from the bundle item index once the transaction commits.
      *
      * @param id the id of the bundle to delete.
      * @return the {@link ResponseEntity} with status {@code 204 (NO_CONTENT)}.
@@ -188,16 +361,46 @@ public class BundleResource {
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteBundle(@PathVariable("id") Long id) {
         log.debug("REST request to delete Bundle : {}", id);
+        bundleItemRepository.deleteAllByBundleId(Math.toIntExact(id));
         bundleRepository.deleteById(id);
+        bundleItemIndexService.bundleDeleted(id);
         return ResponseEntity
-                .noContent()
-                .headers(HeaderUtil.createEntityDeletionAlert(applicationName, false, ENTITY_NAME, id.toString()))
-                .build();
+            .noContent()
+            .headers(HeaderUtil.createEntityDeletionAlert(applicationName, false, ENTITY_NAME, id.toString()))
+            .build();
     }
 
+    /**
+     * {@code GET  /bundles/:id/items} : get the items of the "id" bundle.
+     * <p>
+     * Answers {@code 304 (Not Modified)} without reading the items when the {@code If-None-Match} header matches the
+     * current version of the items and of the bundle items.
+     *
+     * @param id the id of the bundle.
+     * @param request the current request.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of items in body.
+     */
     @GetMapping("/{id}/items")
-    public List<Item> getAllBundleItems(@PathVariable Integer id) {
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public ResponseEntity<List<Item>> getAllBundleItems(@PathVariable Integer id, ServletWebRequest request) {
         log.debug("REST request to get all Bundles");
-        return bundleItemRepository.findAllBundleItems(id);
+        if (checkNotModified(request, "bundle-items", Table.ITEM, Table.BUNDLE_ITEM)) {
+            return null;
+        }
+        return ResponseEntity.ok(bundleItemRepository.findAllBundleItems(id));
+    }
+
+    /**
+     * Checks a conditional request against the versions of the given tables, answering the clients holding the current
+     * ETag without any query when the versions were read recently, see {@link CatalogVersionService#cachedEtag(Table...)}.
+     */
+    private boolean checkNotModified(ServletWebRequest request, String endpoint, Table... tables) {
+        return ConditionalGetUtil.checkNotModified(
+            request,
+            catalogVersionService.cachedEtag(tables).orElse(null),
+            () -> catalogVersionService.etag(tables),
+            endpoint,
+            conditionalRequestMetersService
+        );
     }
 }
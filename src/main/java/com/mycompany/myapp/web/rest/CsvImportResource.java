@@ -0,0 +1,60 @@
+package com.mycompany.myapp.web.rest;
+
+import com.mycompany.myapp.security.AuthoritiesConstants;
+import com.mycompany.myapp.service.CsvImportException;
+import com.mycompany.myapp.service.CsvImportService;
+import com.mycompany.myapp.service.dto.CsvImportResultDTO;
+import com.mycompany.myapp.web.rest.errors.BadRequestAlertException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * REST controller importing CSV files, in the layout of the Liquibase {@code fake-data} files, into the catalog and
+ * booking tables.
+ */
+@RestController
+@RequestMapping("/api/admin")
+public class CsvImportResource {
+
+    private static final String ENTITY_NAME = "csvImport";
+
+    private final Logger log = LoggerFactory.getLogger(CsvImportResource.class);
+
+    private final CsvImportService csvImportService;
+
+    public CsvImportResource(CsvImportService csvImportService) {
+        this.csvImportService = csvImportService;
+    }
+
+    /**
+     * {@code POST  /admin/import/:table} : Import a CSV file into a table.
+     * <p>
+     * The request body is the file itself, which is streamed to the database as it is received.
+     *
+     * @param table the name of the table: {@code bundle}, {@code item}, {@code bundle_item}, {@code booking} or {@code booked_item}.
+     * @param csv the CSV file, encoded in UTF-8.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the number of imported rows,
+     * or with status {@code 400 (Bad Request)} if the table or the file is not valid, in which case nothing is imported.
+     * @throws IOException if the request body cannot be read.
+     */
+    @PostMapping(value = "/import/{table}", consumes = { "text/csv", "text/plain" })
+    @PreAuthorize("hasAuthority(\"" + AuthoritiesConstants.ADMIN + "\")")
+    public ResponseEntity<CsvImportResultDTO> importCsv(@PathVariable("table") String table, InputStream csv) throws IOException {
+        log.debug("REST request to import a CSV file into {}", table);
+        CsvImportService.Table importTable = CsvImportService.Table
+            .fromTableName(table)
+            .orElseThrow(() -> new BadRequestAlertException("Unknown table", ENTITY_NAME, "tableinvalid"));
+        try {
+            return ResponseEntity.ok(csvImportService.importCsv(importTable, new InputStreamReader(csv, StandardCharsets.UTF_8)));
+        } catch (CsvImportException e) {
+            throw new BadRequestAlertException(e.getMessage(), ENTITY_NAME, "importinvalid");
+        }
+    }
+}
@@ -1,10 +1,22 @@
 package com.mycompany.myapp.web.rest;
 
 import com.mycompany.myapp.domain.Item;
+import com.mycompany.myapp.management.ConditionalRequestMetersService;
 import com.mycompany.myapp.repository.ItemRepository;
+import com.mycompany.myapp.service.BundleItemIndexService;
+import com.mycompany.myapp.service.CatalogVersionService;
+import com.mycompany.myapp.service.CatalogVersionService.Table;
+import com.mycompany.myapp.service.ItemCalendarService;
+import com.mycompany.myapp.service.MergePatchService;
+import com.mycompany.myapp.service.dto.ItemCalendarDTO;
+import com.mycompany.myapp.service.dto.ItemFreeDaysDTO;
 import com.mycompany.myapp.web.rest.errors.BadRequestAlertException;
+import com.mycompany.myapp.web.rest.util.ConditionalGetUtil;
+import com.mycompany.myapp.web.rest.util.KeysetPaginationUtil;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -12,8 +24,11 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.annotation.Isolation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 import tech.jhipster.web.util.HeaderUtil;
 import tech.jhipster.web.util.ResponseUtil;
 
@@ -34,8 +49,30 @@ public class ItemResource {
 
     private final ItemRepository itemRepository;
 
-    public ItemResource(ItemRepository itemRepository) {
+    private final BundleItemIndexService bundleItemIndexService;
+
+    private final CatalogVersionService catalogVersionService;
+
+    private final ConditionalRequestMetersService conditionalRequestMetersService;
+
+    private final ItemCalendarService itemCalendarService;
+
+    private final MergePatchService mergePatchService;
+
+    public ItemResource(
+        ItemRepository itemRepository,
+        BundleItemIndexService bundleItemIndexService,
+        CatalogVersionService catalogVersionService,
+        ConditionalRequestMetersService conditionalRequestMetersService,
+        ItemCalendarService itemCalendarService,
+        MergePatchService mergePatchService
+    ) {
         this.itemRepository = itemRepository;
+        this.bundleItemIndexService = bundleItemIndexService;
+        this.catalogVersionService = catalogVersionService;
+        this.conditionalRequestMetersService = conditionalRequestMetersService;
+        this.itemCalendarService = itemCalendarService;
+        this.mergePatchService = mergePatchService;
     }
 
     /**
@@ -52,6 +89,7 @@ public class ItemResource {
             throw new BadRequestAlertException("A new item cannot already have an ID", ENTITY_NAME, "idexists");
         }
         Item result = itemRepository.save(item);
+        bundleItemIndexService.itemSaved(result);
         return ResponseEntity
             .created(new URI("/api/items/" + result.getId()))
             .headers(HeaderUtil.createEntityCreationAlert(applicationName, false, ENTITY_NAME, result.getId().toString()))
@@ -65,6 +103,7 @@ public class ItemResource {
      * @param item the item to update.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the updated item,
      * or with status {@code 400 (Bad Request)} if the item is not valid,
+     * or with status {@code 409 (Conflict)} if the version of the item is not the stored one,
      * or with status {@code 500 (Internal Server Error)} if the item couldn't be updated.
      * @throws URISyntaxException if the Location URI syntax is incorrect.
      */
@@ -79,11 +118,10 @@ public class ItemResource {
             throw new BadRequestAlertException("Invalid ID", ENTITY_NAME, "idinvalid");
         }
 
-        if (!itemRepository.existsById(id)) {
-            throw new BadRequestAlertException("Entity not found", ENTITY_NAME, "idnotfound");
-        }
-
-        Item result = itemRepository.save(item);
+        Item result = mergePatchService
+            .replace(Item.class, id, item)
+            .orElseThrow(() -> new BadRequestAlertException("Entity not found", ENTITY_NAME, "idnotfound"));
+        bundleItemIndexService.itemSaved(result);
         return ResponseEntity
             .ok()
             .headers(HeaderUtil.createEntityUpdateAlert(applicationName, false, ENTITY_NAME, item.getId().toString()))
@@ -98,6 +136,7 @@ public class ItemResource {
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the updated item,
      * or with status {@code 400 (Bad Request)} if the item is not valid,
      * or with status {@code 404 (Not Found)} if the item is not found,
+     * or with status {@code 409 (Conflict)} if the version of the item is not the stored one,
      * or with status {@code 500 (Internal Server Error)} if the item couldn't be updated.
      * @throws URISyntaxException if the Location URI syntax is incorrect.
      */
@@ -112,21 +151,11 @@ public class ItemResource {
             throw new BadRequestAlertException("Invalid ID", ENTITY_NAME, "idinvalid");
         }
 
-        if (!itemRepository.existsById(id)) {
-            throw new BadRequestAlertException("Entity not found", ENTITY_NAME, "idnotfound");
+        Optional<Item> result = mergePatchService.patch(Item.class, id, item);
+        if (result.isPresent()) {
+            bundleItemIndexService.itemSaved(result.get());
         }
 
-        Optional<Item> result = itemRepository
-            .findById(item.getId())
-            .map(existingItem -> {
-                if (item.getItemName() != null) {
-                    existingItem.setItemName(item.getItemName());
-                }
-
-                return existingItem;
-            })
-            .map(itemRepository::save);
-
         return ResponseUtil.wrapOrNotFound(
             result,
             HeaderUtil.createEntityUpdateAlert(applicationName, false, ENTITY_NAME, item.getId().toString())
@@ -134,14 +163,79 @@ public class ItemResource {
     }
 
     /**
-     * {@code GET  /items} : get all the items.
+     * {@code GET  /items} : get a page of the items, ordered by id whatever the {@code sort} parameter.
      *
-     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of items in body.
+     * @param after the cursor of the page to retrieve, taken from the {@code next} link of the previous page.
+     * @param size the maximum number of items in the page.
+     * @param request the current request.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of items in body,
+     * or with status {@code 304 (Not Modified)} if the {@code If-None-Match} header matches the current version of the items.
      */
     @GetMapping("")
-    public List<Item> getAllItems() {
-        log.debug("REST request to get all Items");
-        return itemRepository.findAll();
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public ResponseEntity<List<Item>> getAllItems(
+        @RequestParam(value = KeysetPaginationUtil.AFTER_PARAM, required = false) String after,
+        @RequestParam(value = KeysetPaginationUtil.SIZE_PARAM, defaultValue = "" + KeysetPaginationUtil.DEFAULT_SIZE) int size,
+        ServletWebRequest request
+    ) {
+        log.debug("REST request to get a page of Items");
+        if (checkNotModified(request, "items", Table.ITEM)) {
+            return null;
+        }
+        int pageSize = KeysetPaginationUtil.pageSize(size);
+        List<Item> rows = itemRepository.findAllByIdGreaterThanOrderByIdAsc(
+            KeysetPaginationUtil.decodeCursor(after, ENTITY_NAME),
+            KeysetPaginationUtil.fetchLimit(pageSize)
+        );
+        return KeysetPaginationUtil.toResponse(ServletUriComponentsBuilder.fromCurrentRequest(), rows, pageSize, Item::getId);
+    }
+
+    /**
+     * {@code GET  /items/free-days} : get the days on which none of the given items is booked over a date range.
+     *
+     * @param ids the ids of the items.
+     * @param from the first day of the range, inclusive.
+     * @param to the last day of the range, inclusive.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the free days of the items in body,
+     * or with status {@code 400 (Bad Request)} if the items or the range are not valid.
+     */
+    @GetMapping("/free-days")
+    @Transactional(readOnly = true)
+    public ResponseEntity<ItemFreeDaysDTO> getItemsFreeDays(
+        @RequestParam("ids") List<Integer> ids,
+        @RequestParam("from") LocalDate from,
+        @RequestParam("to") LocalDate to
+    ) {
+        log.debug("REST request to get free days of items {} from {} to {}", ids, from, to);
+        if (ids.isEmpty() || ids.contains(null)) {
+            throw new BadRequestAlertException("At least one item is required", ENTITY_NAME, "itemsrequired");
+        }
+        if (ids.size() > ItemCalendarService.MAX_ITEMS) {
+            throw new BadRequestAlertException("Too many items", ENTITY_NAME, "toomanyitems");
+        }
+        validateRange(from, to);
+        return ResponseEntity.ok(itemCalendarService.findFreeDays(ids, from, to));
+    }
+
+    /**
+     * {@code GET  /items/:id/calendar} : get the days on which the "id" item is booked over a date range.
+     *
+     * @param id the id of the item.
+     * @param from the first day of the range, inclusive.
+     * @param to the last day of the range, inclusive.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the booked days of the item in body,
+     * or with status {@code 400 (Bad Request)} if the range is not valid.
+     */
+    @GetMapping("/{id}/calendar")
+    @Transactional(readOnly = true)
+    public ResponseEntity<ItemCalendarDTO> getItemCalendar(
+        @PathVariable("id") Integer id,
+        @RequestParam("from") LocalDate from,
+        @RequestParam("to") LocalDate to
+    ) {
+        log.debug("REST request to get calendar of item {} from {} to {}", id, from, to);
+        validateRange(from, to);
+        return ResponseEntity.ok(itemCalendarService.getCalendar(id, from, to));
     }
 
     /**
@@ -151,6 +245,7 @@ public class ItemResource {
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the item, or with status {@code 404 (Not Found)}.
      */
     @GetMapping("/{id}")
+    @Transactional(readOnly = true)
     public ResponseEntity<Item> getItem(@PathVariable("id") Long id) {
         log.debug("REST request to get Item : {}", id);
         Optional<Item> item = itemRepository.findById(id);
@@ -167,9 +262,32 @@ public class ItemResource {
     public ResponseEntity<Void> deleteItem(@PathVariable("id") Long id) {
         log.debug("REST request to delete Item : {}", id);
         itemRepository.deleteById(id);
+        bundleItemIndexService.itemDeleted(id);
         return ResponseEntity
             .noContent()
             .headers(HeaderUtil.createEntityDeletionAlert(applicationName, false, ENTITY_NAME, id.toString()))
             .build();
     }
+
+    private static void validateRange(LocalDate from, LocalDate to) {
+        if (to.isBefore(from)) {
+            throw new BadRequestAlertException("Invalid date range", ENTITY_NAME, "rangeinvalid");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= ItemCalendarService.MAX_RANGE_DAYS) {
+            throw new BadRequestAlertException("Date range too long", ENTITY_NAME, "rangetoolong");
+        }
+    }
+
+    /**
+     * Checks a conditional request against the cached, then the current versions of the given tables.
+     */
+    private boolean checkNotModified(ServletWebRequest request, String endpoint, Table... tables) {
+        return ConditionalGetUtil.checkNotModified(
+            request,
+            catalogVersionService.cachedEtag(tables).orElse(null),
+            () -> catalogVersionService.etag(tables),
+            endpoint,
+            conditionalRequestMetersService
+        );
+    }
 }
@@ -0,0 +1,90 @@
+package com.mycompany.myapp.web.rest.util;
+
+import com.mycompany.myapp.management.ConditionalRequestMetersService;
+import jakarta.servlet.http.HttpServletResponse;
+import java.util.function.Supplier;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.context.request.ServletWebRequest;
+
+/**
+ * Utility class for the endpoints answering conditional {@code GET} requests with {@code 304 (Not Modified)}.
+ */
+public final class ConditionalGetUtil {
+
+    private ConditionalGetUtil() {}
+
+    /**
+     * Check the {@code If-None-Match} header of the request against the current ETag of the resource.
+     * <p>
+     * The ETag is added to the response, which may be stored by the client but must be revalidated on every use.
+     * When this method returns {@code true}, the response status is already set to {@code 304 (Not Modified)}, and
+     * the endpoint must return without a body, and without reading its data.
+     *
+     * @param request the current request.
+     * @param etag the current ETag of the resource, computed before reading its data.
+     * @param endpoint the name of the endpoint in the metrics.
+     * @param metersService the service tracking the result of the check.
+     * @return {@code true} if the client already has the current version.
+     */
+    public static boolean checkNotModified(
+        ServletWebRequest request,
+        String etag,
+        String endpoint,
+        ConditionalRequestMetersService metersService
+    ) {
+        HttpServletResponse response = request.getResponse();
+        if (response != null) {
+            response.setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.noCache().cachePrivate().getHeaderValue());
+        }
+        boolean notModified = request.checkNotModified(etag);
+        if (notModified) {
+            metersService.trackNotModified(endpoint);
+        } else {
+            metersService.trackFull(endpoint);
+        }
+        return notModified;
+    }
+
+    /**
+     * Check the {@code If-None-Match} header of the request against an ETag known without any query, then against the
+     * current ETag of the resource.
+     * <p>
+     * The known ETag, which may be older than the current one, only answers {@code 304 (Not Modified)} to the clients
+     * holding it. For the other requests, the current ETag is computed and checked as by
+     * {@link #checkNotModified(ServletWebRequest, String, String, ConditionalRequestMetersService)}.
+     *
+     * @param request the current request.
+     * @param knownEtag an ETag of the resource known without any query, or {@code null}.
+     * @param etag computes the current ETag of the resource, before reading its data.
+     * @param endpoint the name of the endpoint in the metrics.
+     * @param metersService the service tracking the result of the check.
+     * @return {@code true} if the client already has the known or the current version.
+     */
+    public static boolean checkNotModified(
+        ServletWebRequest request,
+        String knownEtag,
+        Supplier<String> etag,
+        String endpoint,
+        ConditionalRequestMetersService metersService
+    ) {
+        return checkNotModified(request, ifNoneMatch(request, knownEtag) ? knownEtag : etag.get(), endpoint, metersService);
+    }
+
+    private static boolean ifNoneMatch(ServletWebRequest request, String etag) {
+        String[] values = request.getHeaderValues(HttpHeaders.IF_NONE_MATCH);
+        if (etag == null || values == null) {
+            return false;
+        }
+        for (String value : values) {
+            for (String tag : value.split(",")) {
+                String trimmed = tag.trim();
+                // If-None-Match uses the weak comparison
+                if (trimmed.equals(etag) || trimmed.equals("W/" + etag)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,51 @@
+package com.mycompany.myapp.web.rest.util;
+
+import com.mycompany.myapp.service.ExportService;
+import com.mycompany.myapp.web.rest.errors.BadRequestAlertException;
+import jakarta.servlet.http.HttpServletResponse;
+import java.util.Locale;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+
+/**
+ * Utility class for the endpoints streaming an export file.
+ */
+public final class ExportUtil {
+
+    public static final String FORMAT_PARAM = "format";
+
+    public static final String DEFAULT_FORMAT = "ndjson";
+
+    private ExportUtil() {}
+
+    /**
+     * Parse the requested format and prepare the headers of the export response, before any row is written.
+     *
+     * @param response the HTTP response.
+     * @param format the requested format, {@code ndjson} or {@code csv}.
+     * @param fileName the name of the downloaded file, without extension.
+     * @param entityName the name of the exported entity, used in error messages.
+     * @return the export format.
+     * @throws BadRequestAlertException if the format is not supported.
+     */
+    public static ExportService.Format prepareResponse(
+        HttpServletResponse response,
+        String format,
+        String fileName,
+        String entityName
+    ) {
+        ExportService.Format exportFormat;
+        try {
+            exportFormat = ExportService.Format.valueOf(format.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestAlertException("Unsupported export format", entityName, "formatinvalid");
+        }
+        response.setContentType(exportFormat.getContentType());
+        response.setCharacterEncoding("UTF-8");
+        response.setHeader(
+            HttpHeaders.CONTENT_DISPOSITION,
+            ContentDisposition.attachment().filename(fileName + "." + exportFormat.getExtension()).build().toString()
+        );
+        return exportFormat;
+    }
+}
@@ -0,0 +1,126 @@
+package com.mycompany.myapp.web.rest.util;
+
+import com.mycompany.myapp.web.rest.errors.BadRequestAlertException;
+import java.nio.charset.StandardCharsets;
+import java.text.MessageFormat;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.util.UriComponentsBuilder;
+
+/**
+ * Utility class for handling keyset (seek) pagination.
+ * <p>
+ * Pages are ordered by ascending id. A client asks for the next page with the opaque {@code after} cursor
+ * found in the {@code next} link of the previous page, so every page is an index range scan starting at
+ * that id, and no count query is ever needed. No other order is offered: a {@code sort} parameter is ignored.
+ * <p>
+ * Links are generated in the same format as {@link tech.jhipster.web.util.PaginationUtil}.
+ */
+public final class KeysetPaginationUtil {
+
+    public static final String AFTER_PARAM = "after";
+    public static final String SIZE_PARAM = "size";
+
+    public static final int DEFAULT_SIZE = 20;
+    public static final int MAX_SIZE = 1000;
+
+    private static final String CURSOR_PREFIX = "id:";
+    private static final String HEADER_LINK_FORMAT = "<{0}>; rel=\"{1}\"";
+
+    private KeysetPaginationUtil() {}
+
+    /**
+     * Decode the id from which the page starts.
+     *
+     * @param cursor the {@code after} cursor, or {@code null} for the first page.
+     * @param entityName the name of the paged entity, used in error messages.
+     * @return the id after which the page starts.
+     * @throws BadRequestAlertException if the cursor cannot be decoded.
+     */
+    public static long decodeCursor(String cursor, String entityName) {
+        if (cursor == null || cursor.isEmpty()) {
+            return Long.MIN_VALUE;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (!decoded.startsWith(CURSOR_PREFIX)) {
+                throw new IllegalArgumentException("Unknown cursor format");
+            }
+            return Long.parseLong(decoded.substring(CURSOR_PREFIX.length()));
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestAlertException("Invalid cursor", entityName, "cursorinvalid");
+        }
+    }
+
+    /**
+     * Encode the cursor pointing after the given id.
+     *
+     * @param id the last id of a page.
+     * @return the opaque cursor.
+     */
+    public static String encodeCursor(long id) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString((CURSOR_PREFIX + id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Clamp the requested page size between 1 and {@link #MAX_SIZE}.
+     *
+     * @param size the requested page size.
+     * @return the page size to use.
+     */
+    public static int pageSize(int size) {
+        return Math.max(1, Math.min(size, MAX_SIZE));
+    }
+
+    /**
+     * Limit to pass to the repository: one row more than the page size, to detect whether a next page exists.
+     *
+     * @param pageSize the page size.
+     * @return the repository {@link Limit}.
+     */
+    public static Limit fetchLimit(int pageSize) {
+        return Limit.of(pageSize + 1);
+    }
+
+    /**
+     * Build the response of a page from the rows fetched with {@link #fetchLimit(int)}.
+     *
+     * @param uriBuilder the URI builder of the current request.
+     * @param rows the fetched rows, ordered by ascending id.
+     * @param pageSize the page size.
+     * @param idExtractor function returning the id of a row.
+     * @param <T> the type of the rows.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)}, the page in body and its {@code Link} header.
+     */
+    public static <T> ResponseEntity<List<T>> toResponse(
+        UriComponentsBuilder uriBuilder,
+        List<T> rows,
+        int pageSize,
+        Function<T, Long> idExtractor
+    ) {
+        List<T> page = rows.size() > pageSize ? rows.subList(0, pageSize) : rows;
+        HttpHeaders headers = new HttpHeaders();
+        StringBuilder link = new StringBuilder();
+        if (rows.size() > pageSize) {
+            String cursor = encodeCursor(idExtractor.apply(page.get(page.size() - 1)));
+            link.append(prepareLink(uriBuilder, cursor, pageSize, "next")).append(",");
+        }
+        link.append(prepareLink(uriBuilder, null, pageSize, "first"));
+        headers.add(HttpHeaders.LINK, link.toString());
+        return ResponseEntity.ok().headers(headers).body(page);
+    }
+
+    private static String prepareLink(UriComponentsBuilder uriBuilder, String cursor, int pageSize, String relType) {
+        String uri = uriBuilder
+            .replaceQueryParam(AFTER_PARAM, cursor == null ? new Object[0] : new Object[] { cursor })
+            .replaceQueryParam(SIZE_PARAM, pageSize)
+            .toUriString()
+            .replace(",", "%2C")
+            .replace(";", "%3B");
+        return MessageFormat.format(HEADER_LINK_FORMAT, uri, relType);
+    }
+}
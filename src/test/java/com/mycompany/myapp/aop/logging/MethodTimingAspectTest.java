@@ -0,0 +1,70 @@
+package com.mycompany.myapp.aop.logging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.mycompany.myapp.config.ApplicationProperties;
+import com.mycompany.myapp.management.MethodMetersService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.lang.reflect.Method;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link MethodTimingAspect}.
+ */
+class MethodTimingAspectTest {
+
+    private MeterRegistry meterRegistry;
+
+    private MethodTimingAspect methodTimingAspect;
+
+    @BeforeEach
+    public void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+        MethodMetersService methodMetersService = new MethodMetersService(meterRegistry, new ApplicationProperties());
+        methodTimingAspect = new MethodTimingAspect(methodMetersService);
+    }
+
+    @Test
+    void shouldRecordLatencyIntoTheTimerOfTheMethod() throws Throwable {
+        Method method = String.class.getMethod("trim");
+
+        assertThat(methodTimingAspect.timeAround(joinPoint(method, "result"))).isEqualTo("result");
+        assertThat(methodTimingAspect.timeAround(joinPoint(method, "result"))).isEqualTo("result");
+
+        Timer timer = meterRegistry.get("application.method").tag("class", "String").tag("method", "trim").timer();
+        assertThat(timer.count()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldRecordLatencyOfFailingCalls() throws Throwable {
+        Method method = String.class.getMethod("strip");
+        ProceedingJoinPoint joinPoint = joinPoint(method, null);
+        when(joinPoint.proceed()).thenThrow(new IllegalArgumentException("invalid"));
+
+        assertThatThrownBy(() -> methodTimingAspect.timeAround(joinPoint)).isInstanceOf(IllegalArgumentException.class);
+
+        assertThat(meterRegistry.get("application.method").tag("method", "strip").timer().count()).isEqualTo(1);
+    }
+
+    private static ProceedingJoinPoint joinPoint(Method method, Object result) throws Throwable {
+        // Spring AOP creates a new signature for each call
+        MethodSignature signature = mock(MethodSignature.class);
+        when(signature.getMethod()).thenReturn(method);
+        when(signature.getDeclaringType()).thenReturn(method.getDeclaringClass());
+        when(signature.getDeclaringTypeName()).thenReturn(method.getDeclaringClass().getName());
+        when(signature.getName()).thenReturn(method.getName());
+        ProceedingJoinPoint joinPoint = mock(ProceedingJoinPoint.class);
+        when(joinPoint.getSignature()).thenReturn(signature);
+        when(joinPoint.getArgs()).thenReturn(new Object[0]);
+        when(joinPoint.proceed()).thenReturn(result);
+        return joinPoint;
+    }
+}
@@ -0,0 +1,84 @@
+package com.mycompany.myapp.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.mycompany.myapp.management.TaskExecutorMetersService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.boot.autoconfigure.task.TaskExecutionProperties;
+import org.springframework.mock.env.MockEnvironment;
+import tech.jhipster.async.ExceptionHandlingAsyncTaskExecutor;
+
+/**
+ * Unit tests for the {@link AsyncConfiguration} class.
+ */
+class AsyncConfigurationTest {
+
+    private TaskExecutionProperties taskExecutionProperties;
+
+    private MockEnvironment env;
+
+    private ObjectProvider<TaskExecutorMetersService> noTaskExecutorMetersService;
+
+    @BeforeEach
+    public void setup() {
+        taskExecutionProperties = new TaskExecutionProperties();
+        taskExecutionProperties.setThreadNamePrefix("test-task-");
+        env = new MockEnvironment();
+        noTaskExecutorMetersService = new StaticListableBeanFactory().getBeanProvider(TaskExecutorMetersService.class);
+    }
+
+    @Test
+    void shouldRunTasksOnPlatformThreadPoolByDefault() throws Exception {
+        Executor executor = new AsyncConfiguration(taskExecutionProperties, env, noTaskExecutorMetersService).getAsyncExecutor();
+
+        assertThat(executor).isInstanceOf(ExceptionHandlingAsyncTaskExecutor.class);
+        ((ExceptionHandlingAsyncTaskExecutor) executor).afterPropertiesSet();
+        try {
+            assertThat(threadNameOf((ExceptionHandlingAsyncTaskExecutor) executor)).startsWith("test-task-");
+        } finally {
+            ((ExceptionHandlingAsyncTaskExecutor) executor).destroy();
+        }
+    }
+
+    @Test
+    void shouldRegisterExecutorMetersWhenAvailable() {
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+        beanFactory.addBean("taskExecutorMetersService", new TaskExecutorMetersService(meterRegistry));
+
+        ObjectProvider<TaskExecutorMetersService> taskExecutorMetersService = beanFactory.getBeanProvider(TaskExecutorMetersService.class);
+
+        new AsyncConfiguration(taskExecutionProperties, env, taskExecutorMetersService).getAsyncExecutor();
+
+        assertThat(meterRegistry.find(TaskExecutorMetersService.QUEUED_METER_NAME).tag("name", "taskExecutor").gauge()).isNotNull();
+        assertThat(meterRegistry.find(TaskExecutorMetersService.ACTIVE_METER_NAME).tag("name", "taskExecutor").gauge()).isNotNull();
+        assertThat(meterRegistry.find(TaskExecutorMetersService.REJECTED_METER_NAME).tag("name", "taskExecutor").counter()).isNotNull();
+    }
+
+    @Test
+    @EnabledForJreRange(min = JRE.JAVA_21)
+    void shouldRunTasksOnVirtualThreadsWhenEnabled() throws Exception {
+        env.setProperty("spring.threads.virtual.enabled", "true");
+
+        Executor executor = new AsyncConfiguration(taskExecutionProperties, env, noTaskExecutorMetersService).getAsyncExecutor();
+
+        assertThat(executor).isInstanceOf(ExceptionHandlingAsyncTaskExecutor.class);
+        assertThat(threadNameOf((ExceptionHandlingAsyncTaskExecutor) executor)).startsWith("test-task-");
+        Callable<Boolean> isVirtual = () -> (Boolean) Thread.class.getMethod("isVirtual").invoke(Thread.currentThread());
+        assertThat(((ExceptionHandlingAsyncTaskExecutor) executor).submit(isVirtual).get(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    private static String threadNameOf(ExceptionHandlingAsyncTaskExecutor executor) throws Exception {
+        return executor.submit(() -> Thread.currentThread().getName()).get(5, TimeUnit.SECONDS);
+    }
+}
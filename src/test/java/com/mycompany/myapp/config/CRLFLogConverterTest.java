@@ -0,0 +1,66 @@
+package com.mycompany.myapp.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import ch.qos.logback.classic.spi.LoggingEvent;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.ansi.AnsiColor;
+import org.springframework.boot.ansi.AnsiElement;
+
+/**
+ * Unit tests for {@link CRLFLogConverter}.
+ */
+class CRLFLogConverterTest {
+
+    private CRLFLogConverter converter;
+
+    @BeforeEach
+    public void setup() {
+        converter = new CRLFLogConverter();
+        converter.start();
+    }
+
+    @Test
+    void shouldReturnCleanMessageAsIs() {
+        String in = "Enter: findOne() with argument[s] = [1051]";
+
+        assertThat(converter.transform(event("com.mycompany.myapp.service.BookingService"), in)).isSameAs(in);
+    }
+
+    @Test
+    void shouldReplaceCrlfOfApplicationMessages() {
+        assertThat(converter.transform(event("com.mycompany.myapp.service.UserService"), "forged\r\nINFO\tadmin"))
+            .isEqualTo("forged__INFO_admin");
+    }
+
+    @Test
+    void shouldKeepCrlfOfSafeLoggersAndMarkedEvents() {
+        LoggingEvent marked = event("com.mycompany.myapp.service.UserService");
+        marked.addMarker(CRLFLogConverter.CRLF_SAFE_MARKER);
+
+        assertThat(converter.transform(marked, "first\nsecond")).isEqualTo("first\nsecond");
+        assertThat(converter.transform(event("org.hibernate.SQL"), "select\n1")).isEqualTo("select\n1");
+    }
+
+    @Test
+    void shouldColorReplacementWithOption() {
+        CRLFLogConverter redConverter = new CRLFLogConverter() {
+            @Override
+            protected String toAnsiString(String in, AnsiElement element) {
+                return element == AnsiColor.RED ? "<red>" + in : in;
+            }
+        };
+        redConverter.setOptionList(List.of("red"));
+        redConverter.start();
+
+        assertThat(redConverter.transform(event("com.mycompany.myapp.service.UserService"), "a\nb")).isEqualTo("a<red>_b");
+    }
+
+    private static LoggingEvent event(String loggerName) {
+        LoggingEvent event = new LoggingEvent();
+        event.setLoggerName(loggerName);
+        return event;
+    }
+}
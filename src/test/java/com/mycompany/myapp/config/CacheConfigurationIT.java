@@ -0,0 +1,42 @@
+package com.mycompany.myapp.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.mycompany.myapp.IntegrationTest;
+import com.mycompany.myapp.domain.Bundle;
+import com.mycompany.myapp.domain.User;
+import com.mycompany.myapp.repository.BundleItemRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import javax.cache.CacheManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+/**
+ * Integration tests for {@link CacheConfiguration}.
+ */
+@IntegrationTest
+class CacheConfigurationIT {
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void shouldCreateSecondLevelCacheRegions() {
+        assertThat(cacheManager.getCacheNames()).contains(
+            Bundle.class.getName(),
+            User.class.getName() + ".authorities",
+            BundleItemRepository.BUNDLE_ITEMS_CACHE
+        );
+    }
+
+    @Test
+    void shouldExposeHitAndMissMetersPerRegion() {
+        for (String cacheName : cacheManager.getCacheNames()) {
+            assertThat(meterRegistry.find("cache.gets").tags("cache", cacheName, "result", "hit").meter()).isNotNull();
+            assertThat(meterRegistry.find("cache.gets").tags("cache", cacheName, "result", "miss").meter()).isNotNull();
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.mycompany.myapp.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import ch.qos.logback.classic.spi.ThrowableProxy;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link JsonLogEncoder}.
+ */
+class JsonLogEncoderTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private JsonLogEncoder encoder;
+
+    @BeforeEach
+    public void setup() {
+        encoder = new JsonLogEncoder();
+        encoder.setAppName("marriageBundle");
+        encoder.start();
+    }
+
+    @Test
+    void shouldEncodeEventAsJsonLine() throws Exception {
+        LoggingEvent event = event("com.mycompany.myapp.service.BookingService", "Booking {} of \"Zoë\" 💍", 1051);
+        event.setMDCPropertyMap(Map.of("request_id", "abc"));
+
+        byte[] bytes = encoder.encode(event);
+
+        String line = new String(bytes, StandardCharsets.UTF_8);
+        assertThat(line).endsWith("}\n").doesNotContain("\r").hasLineCount(1);
+        JsonNode json = objectMapper.readTree(line);
+        assertThat(json.get("@timestamp").asText()).isEqualTo("2026-10-17T08:05:09.042Z");
+        assertThat(json.get("level").asText()).isEqualTo("INFO");
+        assertThat(json.get("thread_name").asText()).isEqualTo("XNIO-1 task-2");
+        assertThat(json.get("logger_name").asText()).isEqualTo("com.mycompany.myapp.service.BookingService");
+        assertThat(json.get("message").asText()).isEqualTo("Booking 1051 of \"Zoë\" 💍");
+        assertThat(json.get("request_id").asText()).isEqualTo("abc");
+        assertThat(json.get("app_name").asText()).isEqualTo("marriageBundle");
+        assertThat(json.has("stack_trace")).isFalse();
+    }
+
+    @Test
+    void shouldReplaceCrlfOfApplicationMessages() throws Exception {
+        JsonNode json = objectMapper.readTree(encoder.encode(event("com.mycompany.myapp.service.UserService", "forged\r\nINFO\tadmin")));
+
+        assertThat(json.get("message").asText()).isEqualTo("forged__INFO_admin");
+    }
+
+    @Test
+    void shouldEscapeCrlfOfSafeLoggersAndMarkedEvents() throws Exception {
+        LoggingEvent marked = event("com.mycompany.myapp.service.UserService", "first\nsecond");
+        marked.addMarker(CRLFLogConverter.CRLF_SAFE_MARKER);
+
+        assertThat(objectMapper.readTree(encoder.encode(marked)).get("message").asText()).isEqualTo("first\nsecond");
+        assertThat(objectMapper.readTree(encoder.encode(event("org.hibernate.SQL", "select\n1"))).get("message").asText())
+            .isEqualTo("select\n1");
+    }
+
+    @Test
+    void shouldEncodeStackTrace() throws Exception {
+        LoggingEvent event = event("com.mycompany.myapp.service.BookingService", "Failed");
+        event.setThrowableProxy(new ThrowableProxy(new IllegalStateException("broken")));
+
+        JsonNode json = objectMapper.readTree(encoder.encode(event));
+
+        assertThat(json.get("stack_trace").asText()).startsWith("java.lang.IllegalStateException: broken\n\tat ");
+    }
+
+    private static LoggingEvent event(String loggerName, String message, Object... arguments) {
+        LoggingEvent event = new LoggingEvent();
+        event.setLoggerName(loggerName);
+        event.setLevel(Level.INFO);
+        event.setThreadName("XNIO-1 task-2");
+        event.setTimeStamp(1792224309042L);
+        event.setMessage(message);
+        event.setArgumentArray(arguments);
+        return event;
+    }
+}
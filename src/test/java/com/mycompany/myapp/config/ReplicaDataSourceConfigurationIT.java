@@ -0,0 +1,146 @@
+package com.mycompany.myapp.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.mycompany.myapp.IntegrationTest;
+import com.mycompany.myapp.service.BookingAvailabilityService;
+import com.mycompany.myapp.service.CatalogVersionService;
+import com.mycompany.myapp.service.CatalogVersionService.Table;
+import com.mycompany.myapp.service.ItemCalendarService;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.LocalDate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Integration tests for {@link ReplicaDataSourceConfiguration}.
+ */
+@IntegrationTest
+class ReplicaDataSourceConfigurationIT {
+
+    @Autowired
+    @Qualifier("primaryDataSource")
+    private HikariDataSource primaryDataSource;
+
+    @Autowired
+    @Qualifier("replicaDataSource")
+    private HikariDataSource replicaDataSource;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private CatalogVersionService catalogVersionService;
+
+    @Autowired
+    private BookingAvailabilityService bookingAvailabilityService;
+
+    @Autowired
+    private ItemCalendarService itemCalendarService;
+
+    private TransactionTemplate readWrite;
+
+    private TransactionTemplate readOnly;
+
+    @BeforeEach
+    public void init() {
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+    }
+
+    @Test
+    void shouldSendReadOnlyTransactionsToReplica() {
+        readOnly.executeWithoutResult(status -> {
+            jdbcTemplate.queryForObject("SELECT 1", Integer.class);
+            assertThat(activeConnections(replicaDataSource)).isEqualTo(1);
+            assertThat(activeConnections(primaryDataSource)).isZero();
+        });
+    }
+
+    @Test
+    void shouldSendReadWriteTransactionsToPrimary() {
+        readWrite.executeWithoutResult(status -> {
+            jdbcTemplate.queryForObject("SELECT 1", Integer.class);
+            assertThat(activeConnections(primaryDataSource)).isEqualTo(1);
+            assertThat(activeConnections(replicaDataSource)).isZero();
+        });
+    }
+
+    @Test
+    void shouldKeepReadOnlyWorkJoiningReadWriteTransactionOnPrimary() {
+        readWrite.executeWithoutResult(status ->
+            readOnly.executeWithoutResult(nested -> {
+                jdbcTemplate.queryForObject("SELECT 1", Integer.class);
+                assertThat(activeConnections(primaryDataSource)).isEqualTo(1);
+                assertThat(activeConnections(replicaDataSource)).isZero();
+            })
+        );
+    }
+
+    @Test
+    void shouldSendNewReadOnlyTransactionsToReplica() {
+        TransactionTemplate requiresNew = new TransactionTemplate(transactionManager);
+        requiresNew.setReadOnly(true);
+        requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        readWrite.executeWithoutResult(status -> {
+            jdbcTemplate.queryForObject("SELECT 1", Integer.class);
+            requiresNew.executeWithoutResult(nested -> {
+                jdbcTemplate.queryForObject("SELECT 1", Integer.class);
+                assertThat(activeConnections(replicaDataSource)).isEqualTo(1);
+            });
+        });
+    }
+
+    @Test
+    void shouldReadCatalogVersionsFromReplicaAndLoadIndexesFromPrimary() {
+        bookingAvailabilityService.clear();
+        itemCalendarService.clear();
+        long primaryUsages = connectionUsages(primaryDataSource);
+        long replicaUsages = connectionUsages(replicaDataSource);
+
+        readOnly.executeWithoutResult(status -> {
+            catalogVersionService.etag(Table.BUNDLE, Table.ITEM);
+            bookingAvailabilityService.getAvailability(Integer.MAX_VALUE, LocalDate.of(2026, 6, 1), LocalDate.of(2026, 6, 2));
+            itemCalendarService.getCalendar(Integer.MAX_VALUE, LocalDate.of(2026, 6, 1), LocalDate.of(2026, 6, 2));
+        });
+
+        assertThat(connectionUsages(replicaDataSource)).isGreaterThanOrEqualTo(replicaUsages + 1);
+        assertThat(connectionUsages(primaryDataSource)).isGreaterThanOrEqualTo(primaryUsages + 2);
+    }
+
+    @Test
+    void shouldExposeMetricsPerPool() {
+        readOnly.executeWithoutResult(status -> jdbcTemplate.queryForObject("SELECT 1", Integer.class));
+        readWrite.executeWithoutResult(status -> jdbcTemplate.queryForObject("SELECT 1", Integer.class));
+
+        assertThat(meterRegistry.find("hikaricp.connections.max").tag("pool", primaryDataSource.getPoolName()).gauge()).isNotNull();
+        assertThat(meterRegistry.find("hikaricp.connections.max").tag("pool", replicaDataSource.getPoolName()).gauge()).isNotNull();
+        assertThat(primaryDataSource.getPoolName()).isNotEqualTo(replicaDataSource.getPoolName());
+    }
+
+    private long connectionUsages(HikariDataSource dataSource) {
+        Timer usage = meterRegistry.find("hikaricp.connections.usage").tag("pool", dataSource.getPoolName()).timer();
+        return usage == null ? 0 : usage.count();
+    }
+
+    private static int activeConnections(HikariDataSource dataSource) {
+        HikariPoolMXBean pool = dataSource.getHikariPoolMXBean();
+        return pool == null ? 0 : pool.getActiveConnections();
+    }
+}
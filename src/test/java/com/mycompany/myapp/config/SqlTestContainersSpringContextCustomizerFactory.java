@@ -40,6 +40,10 @@ public class SqlTestContainersSpringContextCustomizerFactory implements ContextC
                 testValues = testValues.and("spring.datasource.url=" + prodTestContainer.getTestContainer().getJdbcUrl() + "");
                 testValues = testValues.and("spring.datasource.username=" + prodTestContainer.getTestContainer().getUsername());
                 testValues = testValues.and("spring.datasource.password=" + prodTestContainer.getTestContainer().getPassword());
+                // Run the replica pool against the same container, unless a second local instance is given
+                if (!context.getEnvironment().containsProperty("spring.datasource.replica.url")) {
+                    testValues = testValues.and("spring.datasource.replica.url=" + prodTestContainer.getTestContainer().getJdbcUrl());
+                }
             }
             testValues.applyTo(context);
         };
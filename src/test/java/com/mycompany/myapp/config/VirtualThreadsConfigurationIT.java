@@ -0,0 +1,126 @@
+package com.mycompany.myapp.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.mycompany.myapp.MarriageBundleApp;
+import com.mycompany.myapp.management.TaskExecutorMetersService;
+import jakarta.servlet.Filter;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.task.TaskExecutionProperties;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.test.annotation.DirtiesContext;
+
+/**
+ * Integration tests for {@link VirtualThreadsConfiguration}, with the application served over HTTP in the
+ * virtual-thread mode.
+ * <p>
+ * The test profiles leave {@link AsyncConfiguration} out, so the {@code @Async} methods run on the executor it builds
+ * for the test environment, registered by {@link AsyncThreadsConfiguration}.
+ */
+@SpringBootTest(
+    classes = { MarriageBundleApp.class, VirtualThreadsConfigurationIT.AsyncThreadsConfiguration.class },
+    webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+    properties = "spring.threads.virtual.enabled=true"
+)
+@EmbeddedSQL
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+@EnabledForJreRange(min = JRE.JAVA_21)
+class VirtualThreadsConfigurationIT {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ThreadRecorder threadRecorder;
+
+    @Test
+    void shouldServeRequestsOnVirtualThreads() throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/management/health")).build();
+
+        HttpClient.newHttpClient().send(request, HttpResponse.BodyHandlers.discarding());
+
+        assertThat(threadRecorder.getRequestThread()).isNotNull();
+        assertThat(isVirtual(threadRecorder.getRequestThread())).isTrue();
+    }
+
+    @Test
+    void shouldRunAsyncMethodsOnVirtualThreads() throws Exception {
+        Thread caller = Thread.currentThread();
+
+        Thread asyncThread = threadRecorder.currentThread().get(5, TimeUnit.SECONDS);
+
+        assertThat(asyncThread).isNotSameAs(caller);
+        assertThat(isVirtual(asyncThread)).isTrue();
+    }
+
+    private static boolean isVirtual(Thread thread) throws Exception {
+        return (Boolean) Thread.class.getMethod("isVirtual").invoke(thread);
+    }
+
+    /**
+     * Records the thread of the last request, and answers the thread of its {@code @Async} method. Its state is only
+     * reached through methods, as the {@code @Async} support proxies it.
+     */
+    public static class ThreadRecorder {
+
+        private final AtomicReference<Thread> requestThread = new AtomicReference<>();
+
+        public void recordRequestThread() {
+            requestThread.set(Thread.currentThread());
+        }
+
+        public Thread getRequestThread() {
+            return requestThread.get();
+        }
+
+        @Async
+        public CompletableFuture<Thread> currentThread() {
+            return CompletableFuture.completedFuture(Thread.currentThread());
+        }
+    }
+
+    @TestConfiguration
+    @EnableAsync
+    static class AsyncThreadsConfiguration {
+
+        @Bean(name = "taskExecutor")
+        public Executor taskExecutor(
+            TaskExecutionProperties taskExecutionProperties,
+            Environment environment,
+            ObjectProvider<TaskExecutorMetersService> taskExecutorMetersService
+        ) {
+            return new AsyncConfiguration(taskExecutionProperties, environment, taskExecutorMetersService).getAsyncExecutor();
+        }
+
+        @Bean
+        public ThreadRecorder threadRecorder() {
+            return new ThreadRecorder();
+        }
+
+        @Bean
+        public Filter threadRecordingFilter(ThreadRecorder threadRecorder) {
+            return (request, response, chain) -> {
+                threadRecorder.recordRequestThread();
+                chain.doFilter(request, response);
+            };
+        }
+    }
+}
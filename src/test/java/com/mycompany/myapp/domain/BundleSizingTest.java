@@ -0,0 +1,55 @@
+package com.mycompany.myapp.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.mycompany.myapp.domain.BundleSizing.PriceRange;
+import java.math.BigDecimal;
+import org.junit.jupiter.api.Test;
+
+class BundleSizingTest {
+
+    @Test
+    void parsePriceRangeWithBounds() {
+        assertThat(BundleSizing.parsePriceRange("1000-2000")).isEqualTo(new PriceRange(new BigDecimal("1000"), new BigDecimal("2000")));
+        assertThat(BundleSizing.parsePriceRange("€3,000 - €1,500")).isEqualTo(new PriceRange(new BigDecimal("1500"), new BigDecimal("3000")));
+        assertThat(BundleSizing.parsePriceRange("1.500,50 to 2 000")).isEqualTo(new PriceRange(new BigDecimal("1500.50"), new BigDecimal("2000")));
+    }
+
+    @Test
+    void parsePriceRangeWithSingleAmount() {
+        assertThat(BundleSizing.parsePriceRange("$750")).isEqualTo(new PriceRange(new BigDecimal("750"), new BigDecimal("750")));
+        assertThat(BundleSizing.parsePriceRange("From 800")).isEqualTo(new PriceRange(new BigDecimal("800"), null));
+        assertThat(BundleSizing.parsePriceRange("up to 5,000.99")).isEqualTo(new PriceRange(null, new BigDecimal("5000.99")));
+    }
+
+    @Test
+    void parsePriceRangeWithoutAmount() {
+        assertThat(BundleSizing.parsePriceRange(null)).isEqualTo(PriceRange.UNKNOWN);
+        assertThat(BundleSizing.parsePriceRange("on request")).isEqualTo(PriceRange.UNKNOWN);
+        assertThat(BundleSizing.parsePriceRange("12345678901234567890")).isEqualTo(PriceRange.UNKNOWN);
+    }
+
+    @Test
+    void parseCapacity() {
+        assertThat(BundleSizing.parseCapacity("250")).isEqualTo(250);
+        assertThat(BundleSizing.parseCapacity("up to 250 guests")).isEqualTo(250);
+        assertThat(BundleSizing.parseCapacity("100-1,200")).isEqualTo(1200);
+        assertThat(BundleSizing.parseCapacity("many")).isNull();
+        assertThat(BundleSizing.parseCapacity(null)).isNull();
+        assertThat(BundleSizing.parseCapacity("99999999999")).isNull();
+    }
+
+    @Test
+    void readSizingOnSave() {
+        Bundle bundle = new Bundle().priceRange("1000-2000").maxPeople("250").capacity(10);
+        bundle.readSizing();
+        assertThat(bundle.getMinPrice()).isEqualTo(new BigDecimal("1000"));
+        assertThat(bundle.getMaxPrice()).isEqualTo(new BigDecimal("2000"));
+        assertThat(bundle.getCapacity()).isEqualTo(250);
+
+        bundle.priceRange(null).maxPeople("many").readSizing();
+        assertThat(bundle.getMinPrice()).isNull();
+        assertThat(bundle.getMaxPrice()).isNull();
+        assertThat(bundle.getCapacity()).isNull();
+    }
+}
@@ -0,0 +1,90 @@
+package com.mycompany.myapp.loadtest;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Records the latencies and outcomes of the requests of one scenario.
+ * <p>
+ * Latencies are kept exactly rather than in buckets: a run records at most a few hundred thousand requests per
+ * scenario, and exact percentiles make runs comparable without a histogram library.
+ */
+final class LatencyRecorder {
+
+    /**
+     * Status recorded for requests that got no response: timeouts, connection errors and dropped arrivals.
+     */
+    static final int NO_RESPONSE = 0;
+
+    private long[] latencies = new long[1024];
+
+    private int count;
+
+    private long errors;
+
+    private final Map<Integer, Long> countsByStatus = new TreeMap<>();
+
+    /**
+     * Records a request.
+     *
+     * @param nanos the time between the intended arrival of the request and its response.
+     * @param status the HTTP status of the response, or {@link #NO_RESPONSE}.
+     * @param error whether the request failed.
+     */
+    synchronized void record(long nanos, int status, boolean error) {
+        if (count == latencies.length) {
+            latencies = Arrays.copyOf(latencies, count * 2);
+        }
+        latencies[count++] = nanos;
+        if (error) {
+            errors++;
+        }
+        countsByStatus.merge(status, 1L, Long::sum);
+    }
+
+    /**
+     * Computes the result of the scenario.
+     *
+     * @param name the name of the scenario.
+     * @param targetRate the intended arrival rate, in requests per second.
+     * @param duration the time during which the requests were recorded.
+     * @return the result of the scenario.
+     */
+    synchronized LoadReport.ScenarioResult result(String name, double targetRate, Duration duration) {
+        long[] sorted = Arrays.copyOf(latencies, count);
+        Arrays.sort(sorted);
+        Map<String, Long> statuses = new TreeMap<>();
+        countsByStatus.forEach((status, statusCount) -> statuses.put(status == NO_RESPONSE ? "none" : status.toString(), statusCount));
+        double seconds = duration.toNanos() / 1e9;
+        return new LoadReport.ScenarioResult(
+            name,
+            targetRate,
+            count,
+            count / seconds,
+            errors,
+            count == 0 ? 0 : (double) errors / count,
+            statuses,
+            millis(percentile(sorted, 0.50)),
+            millis(percentile(sorted, 0.95)),
+            millis(percentile(sorted, 0.99)),
+            millis(count == 0 ? 0 : sorted[count - 1])
+        );
+    }
+
+    /**
+     * Nearest-rank percentile of sorted values.
+     */
+    static long percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(quantile * sorted.length);
+        return sorted[Math.max(rank, 1) - 1];
+    }
+
+    private static double millis(long nanos) {
+        return Math.round(nanos / 1e3) / 1e3;
+    }
+}
@@ -0,0 +1,139 @@
+package com.mycompany.myapp.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Report of a load test run, written as JSON so that a run can be compared with the report of a previous one.
+ *
+ * @param startedAt the start of the run, as an ISO-8601 instant.
+ * @param warmupSeconds the time during which requests were sent but not recorded.
+ * @param durationSeconds the time during which requests were recorded.
+ * @param seed the seed of the random arrivals and requests.
+ * @param seededRows the number of seeded rows, by table.
+ * @param scenarios the results of the scenarios.
+ */
+public record LoadReport(
+    String startedAt,
+    long warmupSeconds,
+    long durationSeconds,
+    long seed,
+    Map<String, Integer> seededRows,
+    List<ScenarioResult> scenarios
+) {
+    /**
+     * Latency increases below this many milliseconds are noise, and never reported as regressions.
+     */
+    static final double MIN_REGRESSION_MS = 1.0;
+
+    /**
+     * Error rate increase over the baseline above which a scenario is reported as regressed.
+     */
+    static final double MAX_ERROR_RATE_INCREASE = 0.01;
+
+    private static final ObjectMapper MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    /**
+     * Result of one scenario.
+     *
+     * @param name the name of the scenario.
+     * @param targetRate the intended arrival rate, in requests per second.
+     * @param requests the number of recorded requests.
+     * @param achievedRate the recorded requests per second.
+     * @param errors the number of failed requests.
+     * @param errorRate the ratio of failed requests.
+     * @param statuses the number of requests by HTTP status, {@code none} counting the requests without response.
+     * @param p50Ms the median latency, in milliseconds.
+     * @param p95Ms the 95th percentile latency, in milliseconds.
+     * @param p99Ms the 99th percentile latency, in milliseconds.
+     * @param maxMs the maximum latency, in milliseconds.
+     */
+    public record ScenarioResult(
+        String name,
+        double targetRate,
+        long requests,
+        double achievedRate,
+        long errors,
+        double errorRate,
+        Map<String, Long> statuses,
+        double p50Ms,
+        double p95Ms,
+        double p99Ms,
+        double maxMs
+    ) {}
+
+    /**
+     * Compares this run with a baseline run.
+     *
+     * @param baseline the report of the baseline run.
+     * @param tolerance the relative latency increase above which a percentile is reported as regressed.
+     * @return the descriptions of the regressions, empty if there is none.
+     */
+    public List<String> regressionsFrom(LoadReport baseline, double tolerance) {
+        List<String> regressions = new ArrayList<>();
+        for (ScenarioResult result : scenarios) {
+            baseline
+                .scenarios()
+                .stream()
+                .filter(previous -> previous.name().equals(result.name()))
+                .findFirst()
+                .ifPresent(previous -> {
+                    checkLatency(regressions, result.name(), "p95", previous.p95Ms(), result.p95Ms(), tolerance);
+                    checkLatency(regressions, result.name(), "p99", previous.p99Ms(), result.p99Ms(), tolerance);
+                    if (result.errorRate() > previous.errorRate() + MAX_ERROR_RATE_INCREASE) {
+                        regressions.add(
+                            String.format(
+                                Locale.ROOT,
+                                "%s: error rate %.4f exceeds baseline %.4f",
+                                result.name(),
+                                result.errorRate(),
+                                previous.errorRate()
+                            )
+                        );
+                    }
+                });
+        }
+        return regressions;
+    }
+
+    private static void checkLatency(
+        List<String> regressions,
+        String name,
+        String percentile,
+        double before,
+        double after,
+        double tolerance
+    ) {
+        if (after > before * (1 + tolerance) && after - before > MIN_REGRESSION_MS) {
+            regressions.add(
+                String.format(
+                    Locale.ROOT,
+                    "%s: %s latency %.3f ms exceeds baseline %.3f ms by more than %.0f%%",
+                    name,
+                    percentile,
+                    after,
+                    before,
+                    tolerance * 100
+                )
+            );
+        }
+    }
+
+    public void write(Path path) throws IOException {
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        MAPPER.writeValue(path.toFile(), this);
+    }
+
+    public static LoadReport read(Path path) throws IOException {
+        return MAPPER.readValue(path.toFile(), LoadReport.class);
+    }
+}
@@ -0,0 +1,69 @@
+package com.mycompany.myapp.loadtest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Unit tests for {@link LoadReport} and {@link LatencyRecorder}.
+ */
+class LoadReportTest {
+
+    @Test
+    void shouldComputeNearestRankPercentiles() {
+        LatencyRecorder recorder = new LatencyRecorder();
+        for (int i = 1; i <= 100; i++) {
+            recorder.record(i * 1_000_000L, i % 10 == 0 ? 500 : 200, i % 10 == 0);
+        }
+        recorder.record(5_000_000_000L, LatencyRecorder.NO_RESPONSE, true);
+
+        LoadReport.ScenarioResult result = recorder.result("bundles", 10, Duration.ofSeconds(10));
+
+        assertThat(result.requests()).isEqualTo(101);
+        assertThat(result.achievedRate()).isEqualTo(10.1);
+        assertThat(result.errors()).isEqualTo(11);
+        assertThat(result.statuses()).containsExactly(Map.entry("200", 90L), Map.entry("500", 10L), Map.entry("none", 1L));
+        assertThat(result.p50Ms()).isEqualTo(51.0);
+        assertThat(result.p95Ms()).isEqualTo(96.0);
+        assertThat(result.p99Ms()).isEqualTo(100.0);
+        assertThat(result.maxMs()).isEqualTo(5000.0);
+    }
+
+    @Test
+    void shouldReportRegressionsFromBaseline() {
+        LoadReport baseline = report(scenario("bundles", 10, 20, 0), scenario("bookings", 30, 60, 0.01));
+        LoadReport run = report(scenario("bundles", 10.5, 25, 0), scenario("bookings", 30, 60, 0.05), scenario("new", 100, 100, 1));
+
+        assertThat(run.regressionsFrom(baseline, 0.2)).containsExactly(
+            "bundles: p99 latency 25.000 ms exceeds baseline 20.000 ms by more than 20%",
+            "bookings: error rate 0.0500 exceeds baseline 0.0100"
+        );
+        assertThat(baseline.regressionsFrom(baseline, 0.2)).isEmpty();
+    }
+
+    @Test
+    void shouldReadWrittenReport(@TempDir Path directory) throws Exception {
+        LoadReport report = report(scenario("bundles", 10, 20, 0));
+        Path path = directory.resolve("loadtest/results.json");
+
+        report.write(path);
+
+        assertThat(Files.exists(path)).isTrue();
+        assertThat(LoadReport.read(path)).isEqualTo(report);
+    }
+
+    private static LoadReport report(LoadReport.ScenarioResult... scenarios) {
+        return new LoadReport("2026-10-17T12:00:00Z", 10, 60, 42, Map.of("bundle", 2000), List.of(scenarios));
+    }
+
+    private static LoadReport.ScenarioResult scenario(String name, double p95Ms, double p99Ms, double errorRate) {
+        long errors = (long) (errorRate * 6000);
+        return new LoadReport.ScenarioResult(name, 100, 6000, 100, errors, errorRate, Map.of("200", 6000L), 5, p95Ms, p99Ms, 200);
+    }
+}
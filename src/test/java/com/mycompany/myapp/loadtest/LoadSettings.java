@@ -0,0 +1,78 @@
+package com.mycompany.myapp.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Settings of a load test run, read from the {@code loadtest.*} system properties that {@code gradle/loadtest.gradle}
+ * forwards from the Gradle project properties.
+ *
+ * @param warmup the time during which requests are sent but not recorded.
+ * @param duration the time during which requests are recorded, after the warmup.
+ * @param requestTimeout the time after which a request is recorded as an error.
+ * @param maxInFlight the number of requests waiting for their response above which arrivals are dropped and recorded as errors.
+ * @param authenticateRate the arrival rate of {@code POST /api/authenticate}, in requests per second.
+ * @param bundlesRate the arrival rate of {@code GET /api/bundles}, in requests per second.
+ * @param bundleItemsRate the arrival rate of {@code GET /api/bundles/{id}/items}, in requests per second.
+ * @param bookingsRate the arrival rate of {@code POST /api/bookings}, in requests per second.
+ * @param bundles the number of seeded bundles.
+ * @param items the number of seeded items.
+ * @param bundleItems the number of seeded bundle items.
+ * @param bookings the number of seeded bookings.
+ * @param seed the seed of the random arrivals and requests, so that runs are comparable.
+ * @param report the file the report is written to.
+ * @param baseline the report of a previous run to compare with, if any.
+ * @param tolerance the relative latency increase over the baseline above which the run fails.
+ */
+public record LoadSettings(
+    Duration warmup,
+    Duration duration,
+    Duration requestTimeout,
+    int maxInFlight,
+    double authenticateRate,
+    double bundlesRate,
+    double bundleItemsRate,
+    double bookingsRate,
+    int bundles,
+    int items,
+    int bundleItems,
+    int bookings,
+    long seed,
+    Path report,
+    Optional<Path> baseline,
+    double tolerance
+) {
+    public static LoadSettings fromSystemProperties() {
+        return new LoadSettings(
+            Duration.ofSeconds(longProperty("warmup", 10)),
+            Duration.ofSeconds(longProperty("duration", 60)),
+            Duration.ofMillis(longProperty("request-timeout", 5000)),
+            (int) longProperty("max-in-flight", 2000),
+            doubleProperty("rate.authenticate", 5),
+            doubleProperty("rate.bundles", 100),
+            doubleProperty("rate.bundle-items", 100),
+            doubleProperty("rate.bookings", 20),
+            (int) longProperty("seed.bundles", 2000),
+            (int) longProperty("seed.items", 10000),
+            (int) longProperty("seed.bundle-items", 40000),
+            (int) longProperty("seed.bookings", 20000),
+            longProperty("seed", 42),
+            Path.of(property("report").orElse("build/reports/loadtest/results.json")),
+            property("baseline").map(Path::of),
+            doubleProperty("tolerance", 0.2)
+        );
+    }
+
+    private static Optional<String> property(String name) {
+        return Optional.ofNullable(System.getProperty("loadtest." + name)).filter(value -> !value.isBlank());
+    }
+
+    private static long longProperty(String name, long defaultValue) {
+        return property(name).map(Long::parseLong).orElse(defaultValue);
+    }
+
+    private static double doubleProperty(String name, double defaultValue) {
+        return property(name).map(Double::parseDouble).orElse(defaultValue);
+    }
+}
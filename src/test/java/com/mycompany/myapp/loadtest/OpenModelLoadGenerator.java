@@ -0,0 +1,131 @@
+package com.mycompany.myapp.loadtest;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Function;
+import java.util.function.IntPredicate;
+
+/**
+ * Open-model load generator: the requests of each scenario arrive at its rate whatever the response times, as the
+ * requests of independent planners would, instead of each virtual user waiting for its previous response.
+ * <p>
+ * Arrivals follow a Poisson process, and requests are sent asynchronously so that a slow response never delays the
+ * next arrival. Latencies are measured from the intended arrival time rather than from the actual send time, so that
+ * a saturated client or server shows up in the percentiles instead of silently lowering the rate.
+ */
+final class OpenModelLoadGenerator {
+
+    /**
+     * A kind of request sent at a given arrival rate.
+     *
+     * @param name the name of the scenario in the report.
+     * @param rate the arrival rate, in requests per second.
+     * @param requests builds the request of an arrival, from the random generator of the scenario.
+     * @param success whether a response status is a success; other statuses are recorded as errors.
+     */
+    record Scenario(String name, double rate, Function<Random, HttpRequest> requests, IntPredicate success) {}
+
+    private final HttpClient client;
+
+    private final LoadSettings settings;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    OpenModelLoadGenerator(HttpClient client, LoadSettings settings) {
+        this.client = client;
+        this.settings = settings;
+    }
+
+    /**
+     * Runs the scenarios in parallel for the warmup and the duration of the settings.
+     *
+     * @param scenarios the scenarios to run.
+     * @return the results of the scenarios, in the same order.
+     * @throws InterruptedException if the run is interrupted.
+     */
+    List<LoadReport.ScenarioResult> run(List<Scenario> scenarios) throws InterruptedException {
+        long start = System.nanoTime();
+        long recordFrom = start + settings.warmup().toNanos();
+        long end = recordFrom + settings.duration().toNanos();
+        List<LatencyRecorder> recorders = new ArrayList<>();
+        List<Thread> dispatchers = new ArrayList<>();
+        for (int i = 0; i < scenarios.size(); i++) {
+            Scenario scenario = scenarios.get(i);
+            LatencyRecorder recorder = new LatencyRecorder();
+            Random random = new Random(settings.seed() + i);
+            recorders.add(recorder);
+            if (scenario.rate() > 0) {
+                Thread dispatcher = new Thread(
+                    () -> dispatch(scenario, recorder, random, start, recordFrom, end),
+                    "loadtest-" + scenario.name()
+                );
+                dispatcher.setDaemon(true);
+                dispatchers.add(dispatcher);
+            }
+        }
+        dispatchers.forEach(Thread::start);
+        for (Thread dispatcher : dispatchers) {
+            dispatcher.join();
+        }
+        awaitResponses(System.nanoTime() + settings.requestTimeout().toNanos() + Duration.ofSeconds(1).toNanos());
+
+        List<LoadReport.ScenarioResult> results = new ArrayList<>();
+        for (int i = 0; i < scenarios.size(); i++) {
+            results.add(recorders.get(i).result(scenarios.get(i).name(), scenarios.get(i).rate(), settings.duration()));
+        }
+        return results;
+    }
+
+    private void dispatch(Scenario scenario, LatencyRecorder recorder, Random random, long start, long recordFrom, long end) {
+        double meanIntervalNanos = 1e9 / scenario.rate();
+        long intended = start;
+        while (true) {
+            // Exponentially distributed intervals make a Poisson arrival process
+            intended += (long) (-Math.log(1 - random.nextDouble()) * meanIntervalNanos);
+            if (intended >= end) {
+                return;
+            }
+            long wait;
+            while ((wait = intended - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            send(scenario, recorder, scenario.requests().apply(random), intended, intended >= recordFrom);
+        }
+    }
+
+    private void send(Scenario scenario, LatencyRecorder recorder, HttpRequest request, long intended, boolean recorded) {
+        if (inFlight.incrementAndGet() > settings.maxInFlight()) {
+            inFlight.decrementAndGet();
+            if (recorded) {
+                recorder.record(System.nanoTime() - intended, LatencyRecorder.NO_RESPONSE, true);
+            }
+            return;
+        }
+        client
+            .sendAsync(request, HttpResponse.BodyHandlers.discarding())
+            .whenComplete((response, failure) -> {
+                inFlight.decrementAndGet();
+                if (recorded) {
+                    long latency = System.nanoTime() - intended;
+                    if (response == null) {
+                        recorder.record(latency, LatencyRecorder.NO_RESPONSE, true);
+                    } else {
+                        recorder.record(latency, response.statusCode(), !scenario.success().test(response.statusCode()));
+                    }
+                }
+            });
+    }
+
+    private void awaitResponses(long deadline) throws InterruptedException {
+        while (inFlight.get() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+}
@@ -0,0 +1,207 @@
+package com.mycompany.myapp.loadtest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mycompany.myapp.MarriageBundleApp;
+import com.mycompany.myapp.config.EmbeddedSQL;
+import com.mycompany.myapp.loadtest.OpenModelLoadGenerator.Scenario;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.IntPredicate;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Load test of the wedding season hot paths, against the application served over HTTP with the database container
+ * of the integration tests.
+ * <p>
+ * It is not run by the {@code test} and {@code integrationTest} tasks, but by {@code ./gradlew loadTest}, see
+ * {@code gradle/loadtest.gradle} for its settings. The report is written as JSON, and the run fails when a baseline
+ * report is given and a scenario regressed.
+ */
+@SpringBootTest(classes = MarriageBundleApp.class, webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@EmbeddedSQL
+class WeddingSeasonLoadTest {
+
+    private static final long SEED_ID = 1_000_000_000L;
+
+    private static final LocalDate SEASON_START = LocalDate.of(2027, 5, 1);
+
+    private static final int SEASON_DAYS = 150;
+
+    private static final String CREDENTIALS = "{\"username\":\"user\",\"password\":\"user\",\"rememberMe\":false}";
+
+    private final Logger log = LoggerFactory.getLogger(WeddingSeasonLoadTest.class);
+
+    private final LoadSettings settings = LoadSettings.fromSystemProperties();
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Map<String, Integer> seededRows;
+
+    @BeforeEach
+    public void seed() {
+        seededRows = new LinkedHashMap<>();
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            seed(
+                "bundle (id, bundle_name, max_people, capacity)",
+                "? + g, 'bundle ' || g, '' || (50 + g % 300), 50 + g % 300",
+                settings.bundles()
+            );
+            seed("item (id, item_name)", "? + g, 'item ' || g", settings.items());
+            seed(
+                "bundle_item (id, bundle_id, item_id)",
+                "? + g, " + (SEED_ID + 1) + " + g % " + settings.bundles() + ", " + (SEED_ID + 1) + " + g % " + settings.items(),
+                settings.bundleItems()
+            );
+            seed(
+                "booking (id, bundle_id, customer_name, booking_start_date, booking_end_date)",
+                "? + g, " + (SEED_ID + 1) + " + g % " + settings.bundles() + ", 'customer ' || g, " +
+                "date '" + SEASON_START + "' + g % " + SEASON_DAYS + ", date '" + SEASON_START + "' + g % " + SEASON_DAYS,
+                settings.bookings()
+            );
+        });
+        jdbcTemplate.execute("ANALYZE bundle, item, bundle_item, booking");
+    }
+
+    @AfterEach
+    public void cleanup() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            // The bookings created by the run are on the seeded bundles
+            jdbcTemplate.update("DELETE FROM booking WHERE bundle_id > ?", SEED_ID);
+            jdbcTemplate.update("DELETE FROM bundle_item WHERE id > ?", SEED_ID);
+            jdbcTemplate.update("DELETE FROM item WHERE id > ?", SEED_ID);
+            jdbcTemplate.update("DELETE FROM bundle WHERE id > ?", SEED_ID);
+        });
+    }
+
+    @Test
+    void weddingSeason() throws Exception {
+        HttpClient client = HttpClient.newBuilder().connectTimeout(settings.requestTimeout()).build();
+        String token = authenticate(client);
+        Instant startedAt = Instant.now();
+
+        List<Scenario> scenarios = List.of(
+            new Scenario("authenticate", settings.authenticateRate(), random -> post("/api/authenticate", CREDENTIALS, null), ok()),
+            new Scenario("bundles", settings.bundlesRate(), random -> get("/api/bundles?size=20", token), ok()),
+            new Scenario(
+                "bundle-items",
+                settings.bundleItemsRate(),
+                random -> get("/api/bundles/" + bundleId(random) + "/items", token),
+                ok()
+            ),
+            // A planner losing the race for a date gets a conflict, which is an expected answer rather than an error
+            new Scenario(
+                "bookings",
+                settings.bookingsRate(),
+                random -> post("/api/bookings", booking(random), token),
+                status -> status == 201 || status == 409
+            )
+        );
+        List<LoadReport.ScenarioResult> results = new OpenModelLoadGenerator(client, settings).run(scenarios);
+
+        LoadReport report = new LoadReport(
+            startedAt.toString(),
+            settings.warmup().toSeconds(),
+            settings.duration().toSeconds(),
+            settings.seed(),
+            seededRows,
+            results
+        );
+        report.write(settings.report());
+        results.forEach(result ->
+            log.info(
+                "{}: {} requests, {}/s for {}/s, error rate {}, p50 {} ms, p95 {} ms, p99 {} ms",
+                result.name(),
+                result.requests(),
+                result.achievedRate(),
+                result.targetRate(),
+                result.errorRate(),
+                result.p50Ms(),
+                result.p95Ms(),
+                result.p99Ms()
+            )
+        );
+        log.info("Load test report written to {}", settings.report().toAbsolutePath());
+
+        if (settings.baseline().isPresent()) {
+            LoadReport baseline = LoadReport.read(settings.baseline().get());
+            assertThat(report.regressionsFrom(baseline, settings.tolerance())).isEmpty();
+        }
+    }
+
+    private void seed(String table, String values, int rows) {
+        jdbcTemplate.update("INSERT INTO " + table + " SELECT " + values + " FROM generate_series(1, ?) g", SEED_ID, rows);
+        seededRows.put(table.substring(0, table.indexOf(' ')), rows);
+    }
+
+    private String authenticate(HttpClient client) throws Exception {
+        HttpResponse<String> response = client.send(post("/api/authenticate", CREDENTIALS, null), HttpResponse.BodyHandlers.ofString());
+        assertThat(response.statusCode()).isEqualTo(200);
+        return objectMapper.readTree(response.body()).get("id_token").asText();
+    }
+
+    private long bundleId(Random random) {
+        return SEED_ID + 1 + random.nextInt(settings.bundles());
+    }
+
+    private String booking(Random random) {
+        LocalDate day = SEASON_START.plusDays(random.nextInt(SEASON_DAYS));
+        return (
+            "{\"bundleId\":" + bundleId(random) + ",\"customerName\":\"planner " + random.nextInt(1000) + "\"," +
+            "\"bookingStartDate\":\"" + day + "\",\"bookingEndDate\":\"" + day + "\"}"
+        );
+    }
+
+    private HttpRequest get(String path, String token) {
+        return request(path, token).GET().build();
+    }
+
+    private HttpRequest post(String path, String json, String token) {
+        return request(path, token)
+            .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+            .POST(HttpRequest.BodyPublishers.ofString(json))
+            .build();
+    }
+
+    private HttpRequest.Builder request(String path, String token) {
+        HttpRequest.Builder builder = HttpRequest
+            .newBuilder(URI.create("http://localhost:" + port + path))
+            .timeout(settings.requestTimeout())
+            .header(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE);
+        return token == null ? builder : builder.header(HttpHeaders.AUTHORIZATION, "Bearer " + token);
+    }
+
+    private static IntPredicate ok() {
+        return status -> status == 200;
+    }
+}
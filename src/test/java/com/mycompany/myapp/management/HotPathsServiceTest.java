@@ -0,0 +1,122 @@
+package com.mycompany.myapp.management;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.mycompany.myapp.config.ApplicationProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MockClock;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.assertj.core.data.Offset;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Unit tests for {@link HotPathsService}.
+ */
+class HotPathsServiceTest {
+
+    private MockClock clock;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private HotPathsService hotPathsService;
+
+    @BeforeEach
+    public void setup() {
+        clock = new MockClock();
+        meterRegistry = new SimpleMeterRegistry(SimpleConfig.DEFAULT, clock);
+        ApplicationProperties applicationProperties = new ApplicationProperties();
+        applicationProperties.getHotPaths().setWindow(Duration.ofMinutes(1));
+        hotPathsService = new HotPathsService(meterRegistry, applicationProperties);
+    }
+
+    @Test
+    void shouldRankRoutesAndRepositoryMethodsBySlowestMeanOverTheWindow() {
+        httpTimer("GET", "/api/bundles", "200").record(10, TimeUnit.MILLISECONDS);
+        httpTimer("GET", "/api/bundles", "500").record(30, TimeUnit.MILLISECONDS);
+        httpTimer("POST", "/api/bookings", "201").record(50, TimeUnit.MILLISECONDS);
+        httpTimer("GET", "/api/items", "200").record(5, TimeUnit.MILLISECONDS);
+        Timer
+            .builder(HotPathsService.REPOSITORY_METER_NAME)
+            .tags("repository", "BookingRepository", "method", "findAllByBundleId")
+            .register(meterRegistry)
+            .record(7, TimeUnit.MILLISECONDS);
+
+        HotPathsReport report = hotPathsService.report(2);
+
+        assertThat(report.httpRoutes())
+            .containsExactly(
+                new HotPathsReport.Latency("POST /api/bookings", 1, 50, 50),
+                new HotPathsReport.Latency("GET /api/bundles", 2, 20, 40)
+            );
+        assertThat(report.repositoryMethods()).containsExactly(new HotPathsReport.Latency("BookingRepository.findAllByBundleId", 1, 7, 7));
+    }
+
+    @Test
+    void shouldForgetCallsWhichLeftTheWindow() {
+        Timer bundles = httpTimer("GET", "/api/bundles", "200");
+        bundles.record(100, TimeUnit.MILLISECONDS);
+        clock.add(Duration.ofSeconds(10));
+        hotPathsService.sample();
+        clock.add(Duration.ofSeconds(55));
+        bundles.record(10, TimeUnit.MILLISECONDS);
+        hotPathsService.sample();
+
+        HotPathsReport report = hotPathsService.report(10);
+
+        // The sample taken at startup left the window, the sample taken 10 seconds later is the oldest one kept
+        assertThat(report.from()).isEqualTo(Instant.ofEpochMilli(10_001));
+        assertThat(report.httpRoutes()).containsExactly(new HotPathsReport.Latency("GET /api/bundles", 1, 10, 10));
+    }
+
+    @Test
+    void shouldReportPoolsExecutorAndGarbageCollectionOverTheWindow() {
+        AtomicInteger active = new AtomicInteger(8);
+        Gauge.builder(HotPathsService.POOL_ACTIVE_METER_NAME, active::get).tag("pool", "HikariPool-1").register(meterRegistry);
+        Gauge.builder(HotPathsService.POOL_PENDING_METER_NAME, () -> 3).tag("pool", "HikariPool-1").register(meterRegistry);
+        Counter timeouts = meterRegistry.counter(HotPathsService.POOL_TIMEOUT_METER_NAME, "pool", "HikariPool-1");
+        TaskExecutorMetersService taskExecutorMetersService = new TaskExecutorMetersService(meterRegistry);
+        taskExecutorMetersService.bindTaskExecutor(HotPathsService.TASK_EXECUTOR_NAME, new ThreadPoolTaskExecutor());
+        RejectedExecutionHandler rejections = taskExecutorMetersService.countingRejections(
+            HotPathsService.TASK_EXECUTOR_NAME,
+            (task, executor) -> {}
+        );
+        Counter allocated = meterRegistry.counter(HotPathsService.GC_ALLOCATED_METER_NAME);
+        Timer gcPause = meterRegistry.timer(HotPathsService.GC_PAUSE_METER_NAME, "gc", "G1 Young Generation");
+
+        hotPathsService.sample();
+        active.set(2);
+        timeouts.increment();
+        rejections.rejectedExecution(() -> {}, null);
+        allocated.increment(40 * 1024 * 1024);
+        gcPause.record(200, TimeUnit.MILLISECONDS);
+        clock.add(Duration.ofSeconds(20));
+
+        HotPathsReport report = hotPathsService.report(10);
+
+        assertThat(report.connectionPools()).containsExactly(new HotPathsReport.ConnectionPool("HikariPool-1", 2, 3, 8, 3, 1));
+        assertThat(report.taskExecutor()).isEqualTo(new HotPathsReport.TaskExecutor(0, 0, 0, 1));
+        assertThat(report.jvm().gcPauses()).isEqualTo(1);
+        assertThat(report.jvm().gcPauseMs()).isEqualTo(200);
+        assertThat(report.jvm().gcPauseRatio()).isCloseTo(0.01, Offset.offset(1e-6));
+        assertThat(report.jvm().allocationRateMbPerSecond()).isCloseTo(2, Offset.offset(1e-6));
+    }
+
+    @Test
+    void shouldOmitTaskExecutorWithoutQueue() {
+        assertThat(hotPathsService.report(10).taskExecutor()).isNull();
+    }
+
+    private Timer httpTimer(String method, String uri, String status) {
+        return Timer.builder(HotPathsService.HTTP_METER_NAME).tags("method", method, "uri", uri, "status", status).register(meterRegistry);
+    }
+}
@@ -0,0 +1,44 @@
+package com.mycompany.myapp.management;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class MailOutboxMetersServiceTests {
+
+    private MeterRegistry meterRegistry;
+
+    private MailOutboxMetersService mailOutboxMetersService;
+
+    @BeforeEach
+    public void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+
+        mailOutboxMetersService = new MailOutboxMetersService(meterRegistry);
+    }
+
+    @Test
+    void testDepthGaugeReportsLastRecordedDepth() {
+        assertThat(meterRegistry.get("mail.outbox.depth").gauge().value()).isZero();
+
+        mailOutboxMetersService.recordDepth(12);
+
+        assertThat(meterRegistry.get("mail.outbox.depth").gauge().value()).isEqualTo(12);
+    }
+
+    @Test
+    void testRecordAndTrackMethodsShouldBeBoundToCorrectMeters() {
+        mailOutboxMetersService.recordSend(TimeUnit.MILLISECONDS.toNanos(30));
+        mailOutboxMetersService.recordDelivery(Duration.ofSeconds(2));
+        mailOutboxMetersService.trackFailure();
+
+        assertThat(meterRegistry.get("mail.outbox.send").timer().totalTime(TimeUnit.MILLISECONDS)).isEqualTo(30);
+        assertThat(meterRegistry.get("mail.outbox.delivery").timer().totalTime(TimeUnit.SECONDS)).isEqualTo(2);
+        assertThat(meterRegistry.get("mail.outbox.failures").counter().count()).isEqualTo(1);
+    }
+}
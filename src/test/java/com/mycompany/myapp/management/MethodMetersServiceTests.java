@@ -0,0 +1,47 @@
+package com.mycompany.myapp.management;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.mycompany.myapp.config.ApplicationProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class MethodMetersServiceTests {
+
+    private static final String METHOD_METER_EXPECTED_NAME = "application.method";
+
+    private MeterRegistry meterRegistry;
+
+    private MethodMetersService methodMetersService;
+
+    @BeforeEach
+    public void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+        ApplicationProperties applicationProperties = new ApplicationProperties();
+        applicationProperties.getLogging().getAspect().setMaxTimedMethods(2);
+
+        methodMetersService = new MethodMetersService(meterRegistry, applicationProperties);
+    }
+
+    @Test
+    void testTimerIsTaggedWithClassAndMethod() {
+        Timer timer = methodMetersService.timerFor(String.class, "trim");
+
+        assertThat(meterRegistry.get(METHOD_METER_EXPECTED_NAME).tag("class", "String").tag("method", "trim").timer()).isSameAs(timer);
+    }
+
+    @Test
+    void testMethodsBeyondTheBoundShareTheOverflowTimer() {
+        methodMetersService.timerFor(String.class, "trim");
+        methodMetersService.timerFor(String.class, "strip");
+        Timer first = methodMetersService.timerFor(String.class, "length");
+        Timer second = methodMetersService.timerFor(Integer.class, "intValue");
+
+        assertThat(first).isSameAs(second);
+        assertThat(meterRegistry.get(METHOD_METER_EXPECTED_NAME).tag("class", "other").tag("method", "other").timer()).isSameAs(first);
+        assertThat(meterRegistry.find(METHOD_METER_EXPECTED_NAME).timers()).hasSize(3);
+    }
+}
@@ -0,0 +1,283 @@
+package com.mycompany.myapp.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mycompany.myapp.IntegrationTest;
+import com.mycompany.myapp.service.BookedItemQueryService;
+import com.mycompany.myapp.service.BookingQueryService;
+import com.mycompany.myapp.service.BundleQueryService;
+import com.mycompany.myapp.service.criteria.BookedItemCriteria;
+import com.mycompany.myapp.service.criteria.BookingCriteria;
+import com.mycompany.myapp.service.criteria.BundleCriteria;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Plan regression tests of the repository queries.
+ * <p>
+ * The tables are seeded with enough rows for the planner to prefer indexes, then every SQL statement run by a repository
+ * query is captured and its generic plan, valid for any parameter value, is computed with
+ * {@code EXPLAIN (FORMAT JSON, GENERIC_PLAN)}. A test fails when the plan reads a table of more than
+ * {@link #MAX_SEQ_SCAN_ROWS} rows with a sequential scan, typically because an index was dropped or a query changed.
+ */
+@IntegrationTest
+@Import(QueryPlanIT.SqlCaptureConfiguration.class)
+@Transactional
+class QueryPlanIT {
+
+    private static final double MAX_SEQ_SCAN_ROWS = 1000;
+
+    private static final long SEED_ID = 1_000_000_000L;
+
+    private static final int BUNDLES = 1000;
+    private static final int ITEMS = 5000;
+    private static final int BUNDLE_ITEMS = 20000;
+    private static final int BOOKINGS = 20000;
+    private static final int BOOKED_ITEMS = 40000;
+    private static final int MAILS = 5000;
+
+    private static final int BUNDLE_ID = (int) SEED_ID + 1;
+    private static final LocalDate DAY = LocalDate.of(2026, 6, 1);
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Autowired
+    private SqlCapture sqlCapture;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private BundleQueryService bundleQueryService;
+
+    @Autowired
+    private BundleItemRepository bundleItemRepository;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private BookingQueryService bookingQueryService;
+
+    @Autowired
+    private BookedItemQueryService bookedItemQueryService;
+
+    @Autowired
+    private MailOutboxRepository mailOutboxRepository;
+
+    @BeforeEach
+    public void seed() {
+        seed("bundle (id, bundle_name, capacity, min_price)", "? + g, 'bundle ' || g, 10 + g % 500, 100 + g % 5000", BUNDLES);
+        seed("item (id, item_name)", "? + g, 'item ' || g", ITEMS);
+        seed(
+            "bundle_item (id, bundle_id, item_id)",
+            "? + g, " + (SEED_ID + 1) + " + g % " + BUNDLES + ", " + (SEED_ID + 1) + " + g % " + ITEMS,
+            BUNDLE_ITEMS
+        );
+        seed(
+            "booking (id, bundle_id, customer_name, booking_start_date, booking_end_date)",
+            "? + g, " + (SEED_ID + 1) + " + g % " + BUNDLES + ", 'customer ' || g, date '2026-01-01' + g % 365, " +
+            "date '2026-01-01' + g % 365 + 2",
+            BOOKINGS
+        );
+        seed(
+            "booked_item (id, booking_id, item_id, available_date)",
+            "? + g, " + (SEED_ID + 1) + " + g % " + BOOKINGS + ", " + (SEED_ID + 1) + " + g % " + ITEMS + ", date '2026-01-01' + g % 365",
+            BOOKED_ITEMS
+        );
+        seed(
+            "mail_outbox (id, recipient, multipart, html, created_date, next_attempt_at, attempts)",
+            "? + g, 'user' || g || '@localhost', false, false, now(), now() + g * interval '1 second', g % 3",
+            MAILS
+        );
+        jdbcTemplate.execute("ANALYZE bundle, item, bundle_item, booking, booked_item, mail_outbox");
+    }
+
+    private void seed(String table, String values, int rows) {
+        jdbcTemplate.update("INSERT INTO " + table + " SELECT " + values + " FROM generate_series(1, ?) g", SEED_ID, rows);
+    }
+
+    @Test
+    void searchBundlesByGuestsAndPrice() {
+        BundleCriteria criteria = new BundleCriteria();
+        criteria.capacity().setGreaterThanOrEqual(250);
+        criteria.minPrice().setLessThanOrEqual(new BigDecimal("1000"));
+        assertNoLargeSeqScan(() -> bundleQueryService.findByCriteria(criteria, Long.MIN_VALUE, Limit.of(21)));
+    }
+
+    @Test
+    void searchBundlesByPrice() {
+        BundleCriteria criteria = new BundleCriteria();
+        criteria.minPrice().setLessThanOrEqual(new BigDecimal("1000"));
+        assertNoLargeSeqScan(() -> bundleQueryService.findByCriteria(criteria, Long.MIN_VALUE, Limit.of(21)));
+    }
+
+    @Test
+    void findAllBundleItems() {
+        assertNoLargeSeqScan(() -> bundleItemRepository.findAllBundleItems(BUNDLE_ID));
+    }
+
+    @Test
+    void findAllBundleItemEntries() {
+        assertNoLargeSeqScan(() -> bundleItemRepository.findAllBundleItemEntries(List.of(BUNDLE_ID, BUNDLE_ID + 1, BUNDLE_ID + 2)));
+    }
+
+    @Test
+    void findBundleItemsPage() {
+        assertNoLargeSeqScan(() -> bundleItemRepository.findAllByIdGreaterThanOrderByIdAsc(SEED_ID, Limit.of(21)));
+    }
+
+    @Test
+    void findItemsPage() {
+        assertNoLargeSeqScan(() -> itemRepository.findAllByIdGreaterThanOrderByIdAsc(SEED_ID, Limit.of(21)));
+    }
+
+    @Test
+    void findAllBookingsByBundleId() {
+        assertNoLargeSeqScan(() -> bookingRepository.findAllByBundleId(BUNDLE_ID));
+    }
+
+    @Test
+    void findBookingsOfBundleOverPeriod() {
+        BookingCriteria criteria = new BookingCriteria();
+        criteria.bundleId().setEquals(BUNDLE_ID);
+        criteria.bookingStartDate().setLessThanOrEqual(DAY.plusDays(7));
+        criteria.bookingEndDate().setGreaterThanOrEqual(DAY);
+        assertNoLargeSeqScan(() -> bookingQueryService.findByCriteria(criteria, Long.MIN_VALUE, Limit.of(21)));
+    }
+
+    @Test
+    void findBookingsOfUser() {
+        BookingCriteria criteria = new BookingCriteria();
+        criteria.userId().setEquals(1L);
+        assertNoLargeSeqScan(() -> bookingQueryService.findByCriteria(criteria, Long.MIN_VALUE, Limit.of(21)));
+    }
+
+    @Test
+    void findBookedItemsOfBooking() {
+        BookedItemCriteria criteria = new BookedItemCriteria();
+        criteria.bookingId().setEquals((int) SEED_ID + 1);
+        assertNoLargeSeqScan(() -> bookedItemQueryService.findByCriteria(criteria));
+    }
+
+    @Test
+    void findBookedItemsOfItemOnDay() {
+        BookedItemCriteria criteria = new BookedItemCriteria();
+        criteria.itemId().setEquals((int) SEED_ID + 1);
+        criteria.availableDate().setEquals(DAY);
+        assertNoLargeSeqScan(() -> bookedItemQueryService.findByCriteria(criteria));
+    }
+
+    @Test
+    void findDueMails() {
+        assertNoLargeSeqScan(() -> mailOutboxRepository.findDueForUpdateSkipLocked(Instant.now(), 10, 50));
+    }
+
+    private void assertNoLargeSeqScan(Runnable query) {
+        List<String> statements = sqlCapture.capture(query);
+        assertThat(statements).isNotEmpty();
+        for (String sql : statements) {
+            JsonNode plan = explain(sql);
+            List<String> seqScans = new ArrayList<>();
+            collectLargeSeqScans(plan.get(0).get("Plan"), seqScans);
+            assertThat(seqScans).as("Sequential scans in the plan of %s%n%s", sql, plan.toPrettyString()).isEmpty();
+        }
+    }
+
+    private JsonNode explain(String sql) {
+        // GENERIC_PLAN needs numbered parameters
+        StringBuilder numbered = new StringBuilder();
+        int parameter = 0;
+        for (char c : sql.toCharArray()) {
+            if (c == '?') {
+                numbered.append('$').append(++parameter);
+            } else {
+                numbered.append(c);
+            }
+        }
+        String json = jdbcTemplate.queryForObject("EXPLAIN (FORMAT JSON, GENERIC_PLAN) " + numbered, String.class);
+        try {
+            return objectMapper.readTree(json);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void collectLargeSeqScans(JsonNode node, List<String> seqScans) {
+        if ("Seq Scan".equals(node.path("Node Type").asText())) {
+            String relation = node.path("Relation Name").asText();
+            Double rows = jdbcTemplate.queryForObject("SELECT reltuples FROM pg_class WHERE oid = to_regclass(?)", Double.class, relation);
+            if (rows != null && rows > MAX_SEQ_SCAN_ROWS) {
+                seqScans.add(relation + " (" + rows.longValue() + " rows)");
+            }
+        }
+        for (JsonNode child : node.path("Plans")) {
+            collectLargeSeqScans(child, seqScans);
+        }
+    }
+
+    /**
+     * Records the SQL statements prepared by Hibernate while {@link #capture(Runnable)} runs.
+     */
+    static class SqlCapture implements StatementInspector {
+
+        private final List<String> statements = new CopyOnWriteArrayList<>();
+
+        private volatile boolean capturing;
+
+        @Override
+        public String inspect(String sql) {
+            if (capturing) {
+                statements.add(sql);
+            }
+            return sql;
+        }
+
+        List<String> capture(Runnable action) {
+            statements.clear();
+            capturing = true;
+            try {
+                action.run();
+            } finally {
+                capturing = false;
+            }
+            return List.copyOf(statements);
+        }
+    }
+
+    @TestConfiguration
+    static class SqlCaptureConfiguration {
+
+        @Bean
+        SqlCapture sqlCapture() {
+            return new SqlCapture();
+        }
+
+        @Bean
+        HibernatePropertiesCustomizer sqlCaptureHibernatePropertiesCustomizer(SqlCapture sqlCapture) {
+            return hibernateProperties -> hibernateProperties.put(AvailableSettings.STATEMENT_INSPECTOR, sqlCapture);
+        }
+    }
+}
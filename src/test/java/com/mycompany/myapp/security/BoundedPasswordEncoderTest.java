@@ -0,0 +1,140 @@
+package com.mycompany.myapp.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.mycompany.myapp.management.SecurityMetersService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * Unit tests for {@link BoundedPasswordEncoder}.
+ */
+class BoundedPasswordEncoderTest {
+
+    private MeterRegistry meterRegistry;
+
+    private BoundedPasswordEncoder encoder;
+
+    @BeforeEach
+    public void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+        encoder =
+            new BoundedPasswordEncoder(
+                new BCryptPasswordEncoder(4),
+                4,
+                2,
+                2,
+                Duration.ofSeconds(10),
+                new SecurityMetersService(meterRegistry)
+            );
+    }
+
+    @AfterEach
+    public void tearDown() {
+        encoder.shutdown();
+    }
+
+    @Test
+    void shouldEncodeAndMatchOnPool() {
+        String encoded = encoder.encode("password");
+
+        assertThat(encoder.matches("password", encoded)).isTrue();
+        assertThat(encoder.matches("other", encoded)).isFalse();
+        assertThat(meterRegistry.get("security.password.hash").tag("operation", "encode").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("security.password.hash").tag("operation", "matches").timer().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("security.password.queue-wait").timer().count()).isEqualTo(3);
+    }
+
+    @Test
+    void shouldUpgradeHashesWithAnotherCost() {
+        assertThat(encoder.upgradeEncoding(new BCryptPasswordEncoder(4).encode("password"))).isFalse();
+        assertThat(encoder.upgradeEncoding(new BCryptPasswordEncoder(5).encode("password"))).isTrue();
+        assertThat(encoder.upgradeEncoding("not-a-bcrypt-hash")).isFalse();
+        assertThat(encoder.upgradeEncoding(null)).isFalse();
+    }
+
+    @Test
+    void shouldRejectWhenQueueIsFull() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        PasswordEncoder blockingDelegate = new BCryptPasswordEncoder(4) {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                started.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return super.encode(rawPassword);
+            }
+        };
+        BoundedPasswordEncoder saturatedEncoder = new BoundedPasswordEncoder(
+            blockingDelegate,
+            4,
+            1,
+            1,
+            Duration.ofSeconds(10),
+            new SecurityMetersService(meterRegistry)
+        );
+        try {
+            CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> saturatedEncoder.encode("running"));
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+            CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> saturatedEncoder.encode("queued"));
+            while (saturatedEncoder.queuedOperations() == 0) {
+                Thread.onSpinWait();
+            }
+
+            assertThatThrownBy(() -> saturatedEncoder.encode("rejected")).isInstanceOf(PasswordEncoderOverloadedException.class);
+            assertThat(meterRegistry.get("security.password.rejected").counter().count()).isEqualTo(1);
+
+            release.countDown();
+            assertThat(running.get(5, TimeUnit.SECONDS)).isNotEmpty();
+            assertThat(queued.get(5, TimeUnit.SECONDS)).isNotEmpty();
+        } finally {
+            release.countDown();
+            saturatedEncoder.shutdown();
+        }
+    }
+
+    @Test
+    void shouldGiveUpWhenOperationTimesOut() {
+        CountDownLatch release = new CountDownLatch(1);
+        PasswordEncoder stuckDelegate = new BCryptPasswordEncoder(4) {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return super.encode(rawPassword);
+            }
+        };
+        BoundedPasswordEncoder stuckEncoder = new BoundedPasswordEncoder(
+            stuckDelegate,
+            4,
+            1,
+            1,
+            Duration.ofMillis(50),
+            new SecurityMetersService(meterRegistry)
+        );
+        try {
+            assertThatThrownBy(() -> stuckEncoder.encode("stuck")).isInstanceOf(PasswordEncoderOverloadedException.class);
+            assertThat(meterRegistry.get("security.password.rejected").counter().count()).isEqualTo(1);
+        } finally {
+            release.countDown();
+            stuckEncoder.shutdown();
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.mycompany.myapp.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.mycompany.myapp.management.SecurityMetersService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtValidationException;
+
+/**
+ * Unit tests for {@link CachingJwtDecoder}.
+ */
+class CachingJwtDecoderTest {
+
+    private static final String TOKEN_CACHE_METER_EXPECTED_NAME = "security.authentication.token-cache";
+
+    private MeterRegistry meterRegistry;
+
+    private MutableClock clock;
+
+    private Map<String, Integer> decodeCounts;
+
+    private CachingJwtDecoder decoder;
+
+    @BeforeEach
+    public void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+        clock = new MutableClock(Instant.parse("2024-01-01T00:00:00Z"));
+        decodeCounts = new HashMap<>();
+        decoder =
+            new CachingJwtDecoder(
+                token -> {
+                    decodeCounts.merge(token, 1, Integer::sum);
+                    Instant expiresAt = Instant.parse(token);
+                    if (!expiresAt.isAfter(clock.instant())) {
+                        throw new JwtValidationException("Jwt expired at " + expiresAt, List.of());
+                    }
+                    return Jwt.withTokenValue(token).header("alg", "HS512").subject("user").expiresAt(expiresAt).build();
+                },
+                new SecurityMetersService(meterRegistry),
+                2,
+                clock
+            );
+    }
+
+    @Test
+    void shouldVerifyTokenOnlyOnce() {
+        String token = "2024-01-01T01:00:00Z";
+
+        assertThat(decoder.decode(token).getSubject()).isEqualTo("user");
+        assertThat(decoder.decode(token).getSubject()).isEqualTo("user");
+
+        assertThat(decodeCounts.get(token)).isEqualTo(1);
+        assertThat(count("hit")).isEqualTo(1);
+        assertThat(count("miss")).isEqualTo(1);
+    }
+
+    @Test
+    void shouldEnforceExpiryOnCacheHit() {
+        String token = "2024-01-01T01:00:00Z";
+        decoder.decode(token);
+
+        clock.instant = Instant.parse("2024-01-01T01:00:00Z");
+
+        assertThatThrownBy(() -> decoder.decode(token)).isInstanceOf(JwtValidationException.class);
+        assertThat(decodeCounts.get(token)).isEqualTo(2);
+        assertThat(count("hit")).isZero();
+    }
+
+    @Test
+    void shouldNotCacheRejectedTokens() {
+        String token = "2023-12-31T23:00:00Z";
+
+        assertThatThrownBy(() -> decoder.decode(token)).isInstanceOf(JwtValidationException.class);
+        assertThatThrownBy(() -> decoder.decode(token)).isInstanceOf(JwtValidationException.class);
+
+        assertThat(decodeCounts.get(token)).isEqualTo(2);
+        assertThat(count("miss")).isEqualTo(2);
+    }
+
+    private double count(String result) {
+        return meterRegistry.get(TOKEN_CACHE_METER_EXPECTED_NAME).tag("result", result).counter().count();
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant instant;
+
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
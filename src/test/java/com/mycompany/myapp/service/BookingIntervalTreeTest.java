@@ -0,0 +1,82 @@
+package com.mycompany.myapp.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link BookingIntervalTree}.
+ */
+class BookingIntervalTreeTest {
+
+    private BookingIntervalTree tree;
+
+    @BeforeEach
+    public void init() {
+        tree = new BookingIntervalTree();
+    }
+
+    @Test
+    void shouldTreatIntervalsAsHalfOpen() {
+        tree.put(1L, 10, 20);
+
+        assertThat(tree.overlaps(20, 30)).isFalse();
+        assertThat(tree.overlaps(0, 10)).isFalse();
+        assertThat(tree.overlaps(19, 21)).isTrue();
+        assertThat(tree.findOverlapping(5, 11)).containsExactly(1L);
+    }
+
+    @Test
+    void shouldReplaceIntervalOfSameBooking() {
+        tree.put(1L, 10, 20);
+        tree.put(1L, 100, 200);
+
+        assertThat(tree.size()).isEqualTo(1);
+        assertThat(tree.overlaps(10, 20)).isFalse();
+        assertThat(tree.findOverlapping(150, 160)).containsExactly(1L);
+    }
+
+    @Test
+    void shouldRemoveInterval() {
+        tree.put(1L, 10, 20);
+        tree.put(2L, 15, 25);
+
+        assertThat(tree.remove(1L)).isTrue();
+        assertThat(tree.remove(1L)).isFalse();
+        assertThat(tree.findOverlapping(0, 100)).containsExactly(2L);
+    }
+
+    @Test
+    void shouldMatchBruteForceOverlaps() {
+        Random random = new Random(42);
+        Map<Long, long[]> expected = new HashMap<>();
+        for (int i = 0; i < 5000; i++) {
+            long bookingId = random.nextInt(200);
+            if (random.nextInt(3) == 0) {
+                assertThat(tree.remove(bookingId)).isEqualTo(expected.remove(bookingId) != null);
+            } else {
+                long start = random.nextInt(10000);
+                long end = start + 1 + random.nextInt(500);
+                tree.put(bookingId, start, end);
+                expected.put(bookingId, new long[] { start, end });
+            }
+
+            long queryStart = random.nextInt(10000);
+            long queryEnd = queryStart + 1 + random.nextInt(500);
+            var overlapping = expected
+                .entrySet()
+                .stream()
+                .filter(entry -> entry.getValue()[0] < queryEnd && queryStart < entry.getValue()[1])
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toSet());
+            assertThat(tree.findOverlapping(queryStart, queryEnd)).containsExactlyInAnyOrderElementsOf(overlapping);
+            assertThat(tree.overlaps(queryStart, queryEnd)).isEqualTo(!overlapping.isEmpty());
+        }
+        assertThat(tree.size()).isEqualTo(expected.size());
+    }
+}
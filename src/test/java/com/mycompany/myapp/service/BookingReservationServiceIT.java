@@ -0,0 +1,207 @@
+package com.mycompany.myapp.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.mycompany.myapp.IntegrationTest;
+import com.mycompany.myapp.domain.Booking;
+import com.mycompany.myapp.management.BookingReservationMetersService;
+import com.mycompany.myapp.repository.BookingRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.IntFunction;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+/**
+ * Integration tests for {@link BookingReservationService}.
+ * <p>
+ * Reservations only see committed bookings, so these tests commit their rows and delete them afterwards.
+ */
+@IntegrationTest
+class BookingReservationServiceIT {
+
+    private static final int THREADS = 8;
+
+    private static final LocalDate DAY = LocalDate.of(2027, 6, 12);
+
+    private static final Random random = new Random();
+
+    @Autowired
+    private BookingReservationService bookingReservationService;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final List<Long> bookingIds = new ArrayList<>();
+
+    @AfterEach
+    public void cleanup() {
+        bookingRepository.deleteAllById(bookingIds);
+    }
+
+    @Test
+    void shouldReserveOverlappingBookingsOfBundleOnlyOnce() throws Exception {
+        int bundleId = random.nextInt(Integer.MAX_VALUE);
+        double conflictsBefore = reservations("conflict");
+
+        List<Booking> reserved = reserveConcurrently(index -> booking(bundleId, DAY.plusDays(index % 2)).bookingEndDate(DAY.plusDays(1)));
+
+        assertThat(reserved).hasSize(1);
+        assertThat(bookingRepository.findAllByBundleId(bundleId)).hasSize(1);
+        assertThat(reservations("conflict") - conflictsBefore).isEqualTo(THREADS - 1);
+    }
+
+    @Test
+    void shouldReserveBookingsOfOtherBundlesInParallel() throws Exception {
+        int firstBundleId = random.nextInt(Integer.MAX_VALUE - THREADS);
+
+        List<Booking> reserved = reserveConcurrently(index -> booking(firstBundleId + index, DAY));
+
+        assertThat(reserved).hasSize(THREADS);
+    }
+
+    @Test
+    void shouldReserveSuccessiveDaysOfBundle() {
+        int bundleId = random.nextInt(Integer.MAX_VALUE);
+
+        reserve(booking(bundleId, DAY));
+        reserve(booking(bundleId, DAY.plusDays(1)));
+
+        assertThat(bookingRepository.findAllByBundleId(bundleId)).hasSize(2);
+    }
+
+    @Test
+    void shouldMoveOverlappingBookingsToBundleOnlyOnce() throws Exception {
+        int firstBundleId = random.nextInt(Integer.MAX_VALUE - THREADS - 1);
+        int targetBundleId = firstBundleId + THREADS;
+        List<Booking> stored = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            stored.add(reserve(booking(firstBundleId + i, DAY)));
+        }
+        double conflictsBefore = reservations("conflict");
+
+        List<Booking> moved = concurrently(THREADS, index ->
+            bookingReservationService.patch(stored.get(index).getId(), new Booking().bundleId(targetBundleId)).orElseThrow()
+        );
+
+        assertThat(moved).hasSize(1);
+        assertThat(bookingRepository.findAllByBundleId(targetBundleId)).hasSize(1);
+        assertThat(reservations("conflict") - conflictsBefore).isEqualTo(THREADS - 1);
+    }
+
+    @Test
+    void shouldSwapBundlesOfBookingsConcurrently() throws Exception {
+        int firstBundleId = random.nextInt(Integer.MAX_VALUE - 1);
+        int secondBundleId = firstBundleId + 1;
+        Booking first = reserve(booking(firstBundleId, DAY));
+        Booking second = reserve(booking(secondBundleId, DAY.plusDays(1)));
+
+        // Each update locks both bundles, taken in the same order by both updates
+        List<Booking> swapped = List.of(
+            booking(secondBundleId, DAY).id(first.getId()),
+            booking(firstBundleId, DAY.plusDays(1)).id(second.getId())
+        );
+        List<Booking> moved = concurrently(2, index ->
+            bookingReservationService.replace(swapped.get(index).getId(), swapped.get(index)).orElseThrow()
+        );
+
+        assertThat(moved).hasSize(2);
+        assertThat(bookingRepository.findAllByBundleId(firstBundleId)).extracting(Booking::getId).containsExactly(second.getId());
+        assertThat(bookingRepository.findAllByBundleId(secondBundleId)).extracting(Booking::getId).containsExactly(first.getId());
+    }
+
+    @Test
+    void shouldRejectUpdateOverlappingAnotherBooking() {
+        int bundleId = random.nextInt(Integer.MAX_VALUE);
+        reserve(booking(bundleId, DAY));
+        Booking nextDay = reserve(booking(bundleId, DAY.plusDays(1)));
+
+        assertThatThrownBy(() -> bookingReservationService.patch(nextDay.getId(), new Booking().bookingStartDate(DAY)))
+            .isInstanceOf(BookingConflictException.class);
+        assertThatThrownBy(() -> bookingReservationService.replace(nextDay.getId(), booking(bundleId, DAY).id(nextDay.getId())))
+            .isInstanceOf(BookingConflictException.class);
+        assertThat(bookingRepository.findById(nextDay.getId()).orElseThrow().getBookingStartDate()).isEqualTo(DAY.plusDays(1));
+
+        // The booking does not conflict with itself
+        assertThat(bookingReservationService.patch(nextDay.getId(), new Booking().customerName("couple"))).isPresent();
+    }
+
+    /**
+     * Reserves one booking per thread, all threads starting at once, and returns the reserved bookings.
+     */
+    private List<Booking> reserveConcurrently(IntFunction<Booking> factory) throws Exception {
+        List<Booking> bookings = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            bookings.add(factory.apply(i));
+        }
+        return concurrently(THREADS, index -> reserve(bookings.get(index)));
+    }
+
+    /**
+     * Runs one task per thread, all threads starting at once, and returns the bookings of the tasks which did not
+     * conflict with another booking.
+     */
+    private List<Booking> concurrently(int threads, IntFunction<Booking> tasks) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<Booking>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                int index = i;
+                Callable<Booking> task = () -> {
+                    start.await();
+                    try {
+                        return tasks.apply(index);
+                    } catch (BookingConflictException e) {
+                        return null;
+                    }
+                };
+                futures.add(executor.submit(task));
+            }
+            start.countDown();
+            List<Booking> reserved = new ArrayList<>();
+            for (Future<Booking> future : futures) {
+                Booking booking = future.get();
+                if (booking != null) {
+                    reserved.add(booking);
+                }
+            }
+            return reserved;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private Booking reserve(Booking booking) {
+        Booking result = bookingReservationService.reserve(booking);
+        synchronized (bookingIds) {
+            bookingIds.add(result.getId());
+        }
+        return result;
+    }
+
+    private double reservations(String result) {
+        return meterRegistry
+            .get(BookingReservationMetersService.RESERVATIONS_METER_NAME)
+            .tag(BookingReservationMetersService.RESERVATIONS_METER_RESULT_DIMENSION, result)
+            .counter()
+            .count();
+    }
+
+    private static Booking booking(int bundleId, LocalDate day) {
+        return new Booking().bundleId(bundleId).customerName("planner").bookingStartDate(day).bookingEndDate(day);
+    }
+}
@@ -0,0 +1,210 @@
+package com.mycompany.myapp.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.not;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.mycompany.myapp.IntegrationTest;
+import com.mycompany.myapp.domain.Bundle;
+import com.mycompany.myapp.domain.BundleItem;
+import com.mycompany.myapp.domain.Item;
+import com.mycompany.myapp.repository.BundleItemRepository;
+import com.mycompany.myapp.repository.BundleRepository;
+import com.mycompany.myapp.repository.ItemRepository;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Integration tests for {@link BundleItemIndexService}.
+ * <p>
+ * The index is only updated by committed transactions, so these tests commit their rows and delete them afterwards.
+ */
+@IntegrationTest
+@AutoConfigureMockMvc
+@WithMockUser
+class BundleItemIndexServiceIT {
+
+    @Autowired
+    private BundleItemIndexService bundleItemIndexService;
+
+    @Autowired
+    private BundleRepository bundleRepository;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private BundleItemRepository bundleItemRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private MockMvc restMockMvc;
+
+    private TransactionTemplate transactionTemplate;
+
+    private Item photographer;
+    private Item decoration;
+    private Item catering;
+
+    private Bundle fullBundle;
+    private Bundle photoBundle;
+    private Bundle decorationBundle;
+
+    private final List<BundleItem> bundleItems = new ArrayList<>();
+
+    @BeforeEach
+    public void init() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.executeWithoutResult(status -> {
+            photographer = itemRepository.save(new Item().itemName("Wedding Photographer"));
+            decoration = itemRepository.save(new Item().itemName("Décoration florale"));
+            catering = itemRepository.save(new Item().itemName("Catering"));
+            fullBundle = bundleRepository.save(new Bundle().bundleName("full"));
+            photoBundle = bundleRepository.save(new Bundle().bundleName("photo"));
+            decorationBundle = bundleRepository.save(new Bundle().bundleName("decoration"));
+            link(fullBundle, photographer);
+            link(fullBundle, decoration);
+            link(fullBundle, catering);
+            link(photoBundle, photographer);
+            link(photoBundle, catering);
+            link(decorationBundle, decoration);
+        });
+        bundleItemIndexService.reload();
+    }
+
+    @AfterEach
+    public void cleanup() {
+        transactionTemplate.executeWithoutResult(status -> {
+            bundleItemRepository.deleteAllById(bundleItems.stream().map(BundleItem::getId).toList());
+            itemRepository.deleteAllById(List.of(photographer.getId(), decoration.getId(), catering.getId()));
+            bundleRepository.deleteAllById(List.of(fullBundle.getId(), photoBundle.getId(), decorationBundle.getId()));
+        });
+        bundleItemIndexService.reload();
+    }
+
+    @Test
+    void shouldFindBundlesContainingAllItems() {
+        assertThat(find(List.of(term(photographer), term(catering)), List.of())).containsExactly(
+            fullBundle.getId(),
+            photoBundle.getId()
+        );
+        assertThat(find(List.of(term(photographer), term(decoration), term(catering)), List.of())).containsExactly(
+            fullBundle.getId()
+        );
+        assertThat(find(List.of(term(photographer), "999999999"), List.of())).isEmpty();
+    }
+
+    @Test
+    void shouldFindBundlesByItemNameWords() {
+        assertThat(find(List.of("DECORATION"), List.of())).containsExactly(fullBundle.getId(), decorationBundle.getId());
+        assertThat(find(List.of("wedding photographer"), List.of())).containsExactly(fullBundle.getId(), photoBundle.getId());
+        assertThat(find(List.of("photographer catering"), List.of())).isEmpty();
+    }
+
+    @Test
+    void shouldCombineAnyAndAllItems() {
+        assertThat(find(List.of(), List.of(term(decoration), term(catering)))).containsExactly(
+            fullBundle.getId(),
+            photoBundle.getId(),
+            decorationBundle.getId()
+        );
+        assertThat(find(List.of(term(catering)), List.of(term(decoration), term(photographer)))).containsExactly(
+            fullBundle.getId(),
+            photoBundle.getId()
+        );
+    }
+
+    @Test
+    void shouldPageByBundleId() {
+        List<String> terms = List.of(term(decoration), term(catering));
+        List<Long> ids = bundleItemIndexService.findBundleIds(List.of(), terms, fullBundle.getId(), Integer.MAX_VALUE);
+        assertThat(ids).contains(photoBundle.getId(), decorationBundle.getId()).doesNotContain(fullBundle.getId());
+    }
+
+    @Test
+    void shouldApplyOnlyCommittedWrites() {
+        transactionTemplate.executeWithoutResult(status -> {
+            BundleItem bundleItem = new BundleItem()
+                .bundleId(Math.toIntExact(decorationBundle.getId()))
+                .itemId(Math.toIntExact(catering.getId()));
+            bundleItemIndexService.bundleItemSaved(bundleItemRepository.save(bundleItem));
+            status.setRollbackOnly();
+        });
+        assertThat(find(List.of(term(catering)), List.of())).doesNotContain(decorationBundle.getId());
+
+        BundleItem added = transactionTemplate.execute(status -> {
+            BundleItem bundleItem = link(decorationBundle, catering);
+            bundleItemIndexService.bundleItemSaved(bundleItem);
+            return bundleItem;
+        });
+        assertThat(find(List.of(term(catering)), List.of())).contains(decorationBundle.getId());
+
+        transactionTemplate.executeWithoutResult(status -> {
+            bundleItemRepository.deleteById(added.getId());
+            bundleItemIndexService.bundleItemDeleted(added.getId());
+        });
+        assertThat(find(List.of(term(catering)), List.of())).doesNotContain(decorationBundle.getId());
+    }
+
+    @Test
+    void shouldForgetBundleDeletedThroughTheApi() throws Exception {
+        restMockMvc.perform(delete("/api/bundles/{id}", photoBundle.getId())).andExpect(status().isNoContent());
+
+        assertThat(find(List.of(term(photographer)), List.of())).containsExactly(fullBundle.getId());
+        restMockMvc
+            .perform(get("/api/bundles/by-items?any=" + term(photographer) + "&any=" + term(decoration) + "&size=1000"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.[*].id").value(hasItem(fullBundle.getId().intValue())))
+            .andExpect(jsonPath("$.[*].id").value(hasItem(decorationBundle.getId().intValue())))
+            .andExpect(jsonPath("$.[*].id").value(not(hasItem(photoBundle.getId().intValue()))));
+    }
+
+    @Test
+    void shouldFollowRenamedItems() {
+        transactionTemplate.executeWithoutResult(status -> {
+            catering.setItemName("Buffet");
+            bundleItemIndexService.itemSaved(itemRepository.save(catering));
+        });
+
+        assertThat(find(List.of("catering"), List.of())).doesNotContain(fullBundle.getId(), photoBundle.getId());
+        assertThat(find(List.of("buffet"), List.of())).containsExactly(fullBundle.getId(), photoBundle.getId());
+    }
+
+    private BundleItem link(Bundle bundle, Item item) {
+        BundleItem bundleItem = new BundleItem().bundleId(Math.toIntExact(bundle.getId())).itemId(Math.toIntExact(item.getId()));
+        bundleItem = bundleItemRepository.save(bundleItem);
+        bundleItems.add(bundleItem);
+        return bundleItem;
+    }
+
+    /**
+     * Finds the bundles among the ones created by the test, other tests may have left bundles with similar items.
+     */
+    private List<Long> find(List<String> allOf, List<String> anyOf) {
+        List<Long> created = List.of(fullBundle.getId(), photoBundle.getId(), decorationBundle.getId());
+        return bundleItemIndexService
+            .findBundleIds(allOf, anyOf, Long.MIN_VALUE, Integer.MAX_VALUE)
+            .stream()
+            .filter(created::contains)
+            .toList();
+    }
+
+    private static String term(Item item) {
+        return item.getId().toString();
+    }
+}
@@ -0,0 +1,93 @@
+package com.mycompany.myapp.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.mycompany.myapp.IntegrationTest;
+import com.mycompany.myapp.domain.Item;
+import com.mycompany.myapp.repository.ItemRepository;
+import com.mycompany.myapp.service.CatalogVersionService.Table;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Integration tests for {@link CatalogVersionService}.
+ */
+@IntegrationTest
+class CatalogVersionServiceIT {
+
+    @Autowired
+    private CatalogVersionService catalogVersionService;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    @Transactional
+    void shouldChangeOnlyEtagsOfChangedTable() {
+        long itemVersion = catalogVersionService.version(Table.ITEM);
+        String bundleEtag = catalogVersionService.etag(Table.BUNDLE);
+        String itemEtag = catalogVersionService.etag(Table.ITEM, Table.BUNDLE_ITEM);
+
+        itemRepository.saveAndFlush(new Item().itemName("Cake"));
+
+        assertThat(catalogVersionService.version(Table.ITEM)).isGreaterThan(itemVersion);
+        assertThat(catalogVersionService.etag(Table.ITEM, Table.BUNDLE_ITEM)).isNotEqualTo(itemEtag);
+        assertThat(catalogVersionService.etag(Table.BUNDLE)).isEqualTo(bundleEtag);
+    }
+
+    @Test
+    @Transactional
+    void shouldChangeEtagOnPlainSqlWrite() {
+        String bundleItemEtag = catalogVersionService.etag(Table.BUNDLE_ITEM);
+
+        jdbcTemplate.update("DELETE FROM bundle_item WHERE id = -1");
+
+        assertThat(catalogVersionService.etag(Table.BUNDLE_ITEM)).isNotEqualTo(bundleItemEtag);
+    }
+
+    @Test
+    @Transactional
+    void shouldBeQuotedStrongEtag() {
+        assertThat(catalogVersionService.etag(Table.BUNDLE, Table.ITEM)).matches("\"\\d+-\\d+\"");
+    }
+
+    @Test
+    void shouldNotChangeVersionOnRollback() {
+        long itemVersion = catalogVersionService.version(Table.ITEM);
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            itemRepository.saveAndFlush(new Item().itemName("Cake"));
+            status.setRollbackOnly();
+        });
+
+        assertThat(catalogVersionService.version(Table.ITEM)).isEqualTo(itemVersion);
+    }
+
+    @Test
+    void shouldIncrementVersionOnBump() {
+        long bundleVersion = catalogVersionService.version(Table.BUNDLE);
+
+        catalogVersionService.bump(Table.BUNDLE);
+
+        assertThat(catalogVersionService.version(Table.BUNDLE)).isEqualTo(bundleVersion + 1);
+    }
+
+    @Test
+    @Transactional
+    void shouldNotCacheVersionsWithoutMaxAge() {
+        catalogVersionService.etag(Table.BUNDLE);
+
+        // The tests run with application.catalog-version.max-age set to zero
+        assertThat(catalogVersionService.cachedEtag(Table.BUNDLE)).isEmpty();
+    }
+}
@@ -0,0 +1,110 @@
+package com.mycompany.myapp.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Random;
+import java.util.TreeSet;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link CompressedBitmap}.
+ */
+class CompressedBitmapTest {
+
+    @Test
+    void shouldAddRemoveAndIterateInOrder() {
+        CompressedBitmap bitmap = new CompressedBitmap();
+
+        assertThat(bitmap.add(70_000)).isTrue();
+        assertThat(bitmap.add(3)).isTrue();
+        assertThat(bitmap.add(3)).isFalse();
+        assertThat(bitmap.add(65_535)).isTrue();
+
+        assertThat(bitmap.values(-1, 10)).containsExactly(3, 65_535, 70_000);
+        assertThat(bitmap.values(3, 1)).containsExactly(65_535);
+        assertThat(bitmap.nextValue(70_000)).isEqualTo(-1);
+        assertThat(bitmap.remove(65_535)).isTrue();
+        assertThat(bitmap.remove(65_535)).isFalse();
+        assertThat(bitmap.contains(65_535)).isFalse();
+        assertThat(bitmap.cardinality()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldRejectNegativeValues() {
+        assertThatThrownBy(() -> new CompressedBitmap().add(-1)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldSwitchBetweenArrayAndBitmapChunks() {
+        CompressedBitmap bitmap = new CompressedBitmap();
+        for (int value = 0; value < 2 * CompressedBitmap.ARRAY_MAX_SIZE; value += 2) {
+            bitmap.add(value);
+        }
+        bitmap.add(1);
+
+        assertThat(bitmap.cardinality()).isEqualTo(CompressedBitmap.ARRAY_MAX_SIZE + 1);
+        assertThat(bitmap.contains(1)).isTrue();
+        assertThat(bitmap.contains(3)).isFalse();
+        assertThat(bitmap.values(0, 3)).containsExactly(1, 2, 4);
+
+        for (int value = 0; value < 2 * CompressedBitmap.ARRAY_MAX_SIZE; value += 4) {
+            bitmap.remove(value);
+        }
+        assertThat(bitmap.cardinality()).isEqualTo(CompressedBitmap.ARRAY_MAX_SIZE / 2 + 1);
+        assertThat(bitmap.values(-1, 3)).containsExactly(1, 2, 6);
+    }
+
+    @Test
+    void shouldMatchTreeSetOnRandomOperations() {
+        Random random = new Random(42);
+        for (int round = 0; round < 20; round++) {
+            // Alternate sparse and dense sets, spread over a few chunks
+            int range = round % 2 == 0 ? 1 << 20 : 3 << 16;
+            int count = round % 2 == 0 ? 2_000 : 30_000;
+            CompressedBitmap left = new CompressedBitmap();
+            CompressedBitmap right = new CompressedBitmap();
+            TreeSet<Integer> expectedLeft = new TreeSet<>();
+            TreeSet<Integer> expectedRight = new TreeSet<>();
+            for (int i = 0; i < count; i++) {
+                int value = random.nextInt(range);
+                assertThat(left.add(value)).isEqualTo(expectedLeft.add(value));
+                value = random.nextInt(range);
+                assertThat(right.add(value)).isEqualTo(expectedRight.add(value));
+            }
+            for (int i = 0; i < count / 4; i++) {
+                int value = random.nextInt(range);
+                assertThat(left.remove(value)).isEqualTo(expectedLeft.remove(value));
+            }
+
+            TreeSet<Integer> expectedAnd = new TreeSet<>(expectedLeft);
+            expectedAnd.retainAll(expectedRight);
+            TreeSet<Integer> expectedOr = new TreeSet<>(expectedLeft);
+            expectedOr.addAll(expectedRight);
+
+            assertThat(left.values(-1, Integer.MAX_VALUE)).containsExactly(toArray(expectedLeft));
+            assertThat(CompressedBitmap.and(left, right).values(-1, Integer.MAX_VALUE)).containsExactly(toArray(expectedAnd));
+            assertThat(CompressedBitmap.or(left, right).values(-1, Integer.MAX_VALUE)).containsExactly(toArray(expectedOr));
+            int after = random.nextInt(range);
+            Integer expectedNext = expectedOr.higher(after);
+            assertThat(CompressedBitmap.or(left, right).nextValue(after)).isEqualTo(expectedNext == null ? -1 : expectedNext);
+        }
+    }
+
+    @Test
+    void shouldNotShareStateWithCopiesAndResults() {
+        CompressedBitmap bitmap = new CompressedBitmap();
+        bitmap.add(1);
+        CompressedBitmap copy = bitmap.copy();
+        CompressedBitmap union = CompressedBitmap.or(bitmap, new CompressedBitmap());
+
+        copy.add(2);
+        union.add(3);
+
+        assertThat(bitmap.values(-1, 10)).containsExactly(1);
+    }
+
+    private static int[] toArray(TreeSet<Integer> values) {
+        return values.stream().mapToInt(Integer::intValue).toArray();
+    }
+}
@@ -0,0 +1,44 @@
+package com.mycompany.myapp.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the CSV parsing of {@link CsvImportService}.
+ */
+class CsvImportServiceTest {
+
+    @Test
+    void shouldSplitFieldsOnSemicolons() throws Exception {
+        BufferedReader reader = new BufferedReader(new StringReader("id;item_name\n1;duh nor\n"));
+
+        assertThat(CsvImportService.readRecord(reader)).containsExactly("id", "item_name");
+        assertThat(CsvImportService.readRecord(reader)).containsExactly("1", "duh nor");
+        assertThat(CsvImportService.readRecord(reader)).isNull();
+    }
+
+    @Test
+    void shouldReadQuotedFields() throws Exception {
+        BufferedReader reader = new BufferedReader(new StringReader("1;\"a;b\";\"say \"\"hi\"\"\";\"two\nlines\"\n"));
+
+        assertThat(CsvImportService.readRecord(reader)).containsExactly("1", "a;b", "say \"hi\"", "two\nlines");
+    }
+
+    @Test
+    void shouldReadUnquotedEmptyFieldsAsNull() throws Exception {
+        BufferedReader reader = new BufferedReader(new StringReader("1;;\"\"\n"));
+
+        assertThat(CsvImportService.readRecord(reader)).containsExactly("1", null, "");
+    }
+
+    @Test
+    void shouldRejectUnterminatedQuotedField() {
+        BufferedReader reader = new BufferedReader(new StringReader("1;\"open\n"));
+
+        assertThatThrownBy(() -> CsvImportService.readRecord(reader)).isInstanceOf(CsvImportException.class);
+    }
+}
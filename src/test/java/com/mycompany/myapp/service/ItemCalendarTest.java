@@ -0,0 +1,76 @@
+package com.mycompany.myapp.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link ItemCalendar}.
+ */
+class ItemCalendarTest {
+
+    private static final LocalDate NEW_YEARS_EVE = LocalDate.of(2024, 12, 31);
+
+    @Test
+    void shouldBookAndFreeDays() {
+        ItemCalendar calendar = new ItemCalendar();
+
+        calendar.put(1L, NEW_YEARS_EVE);
+        calendar.put(2L, NEW_YEARS_EVE.plusDays(1));
+
+        assertThat(calendar.isBooked(NEW_YEARS_EVE)).isTrue();
+        assertThat(calendar.isBooked(NEW_YEARS_EVE.plusDays(1))).isTrue();
+        assertThat(calendar.isBooked(NEW_YEARS_EVE.minusDays(1))).isFalse();
+        assertThat(calendar.remove(1L)).isTrue();
+        assertThat(calendar.remove(1L)).isFalse();
+        assertThat(calendar.isBooked(NEW_YEARS_EVE)).isFalse();
+        assertThat(calendar.size()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldMoveBookedItemToItsNewDay() {
+        ItemCalendar calendar = new ItemCalendar();
+
+        calendar.put(1L, NEW_YEARS_EVE);
+        calendar.put(1L, NEW_YEARS_EVE.minusDays(70));
+
+        assertThat(calendar.isBooked(NEW_YEARS_EVE)).isFalse();
+        assertThat(calendar.isBooked(NEW_YEARS_EVE.minusDays(70))).isTrue();
+        assertThat(calendar.size()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldKeepDaySharedByOtherBookedItems() {
+        ItemCalendar calendar = new ItemCalendar();
+
+        calendar.put(1L, NEW_YEARS_EVE);
+        calendar.put(2L, NEW_YEARS_EVE);
+        calendar.remove(1L);
+
+        assertThat(calendar.isBooked(NEW_YEARS_EVE)).isTrue();
+
+        calendar.put(2L, NEW_YEARS_EVE.minusDays(1));
+
+        assertThat(calendar.isBooked(NEW_YEARS_EVE)).isFalse();
+        assertThat(calendar.isBooked(NEW_YEARS_EVE.minusDays(1))).isTrue();
+    }
+
+    @Test
+    void shouldOrBookedDaysOfYear() {
+        ItemCalendar first = new ItemCalendar();
+        ItemCalendar second = new ItemCalendar();
+        first.put(1L, LocalDate.of(2024, 1, 1));
+        second.put(2L, NEW_YEARS_EVE);
+        second.put(3L, LocalDate.of(2023, 6, 1));
+
+        long[] days = new long[ItemCalendar.WORDS_PER_YEAR];
+        first.orBookedDays(2024, days);
+        second.orBookedDays(2024, days);
+
+        // 2024 is a leap year, its last day is the 366th
+        assertThat(days[0]).isEqualTo(1L);
+        assertThat(days[5]).isEqualTo(1L << (366 - 1 - 5 * 64));
+        assertThat(days[1] | days[2] | days[3] | days[4]).isZero();
+    }
+}
@@ -0,0 +1,159 @@
+package com.mycompany.myapp.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link LazyIndex}, the index of {@link BookingAvailabilityService} and {@link ItemCalendarService}.
+ */
+class LazyIndexTest {
+
+    private Function<Integer, Map<Long, String>> loader;
+
+    private int loads;
+
+    private AtomicLong nanos;
+
+    private LazyIndex<Integer, Long, String, Map<Long, String>> index;
+
+    @BeforeEach
+    public void setup() {
+        loader = key -> Map.of();
+        loads = 0;
+        nanos = new AtomicLong();
+        index =
+            new LazyIndex<>(
+                key -> {
+                    loads++;
+                    return loader.apply(key);
+                },
+                HashMap::new,
+                Map::put,
+                Map::remove,
+                100,
+                Duration.ofMinutes(5),
+                nanos::get
+            );
+    }
+
+    @Test
+    void shouldLoadStructureOnce() {
+        loader = key -> Map.of(10L, "a");
+
+        assertThat(index.get(1)).containsExactly(Map.entry(10L, "a"));
+        assertThat(index.get(1)).containsExactly(Map.entry(10L, "a"));
+        assertThat(loads).isEqualTo(1);
+    }
+
+    @Test
+    void shouldApplyChangesToLoadedStructures() {
+        index.get(1);
+        index.get(2);
+
+        index.apply(10L, 1, "a");
+        assertThat(index.get(1)).containsExactly(Map.entry(10L, "a"));
+
+        index.apply(10L, 2, "b");
+        assertThat(index.get(1)).isEmpty();
+        assertThat(index.get(2)).containsExactly(Map.entry(10L, "b"));
+
+        index.apply(10L, 2, null);
+        assertThat(index.get(2)).isEmpty();
+    }
+
+    @Test
+    void shouldForgetRowDeletedDuringTheLoad() {
+        loader =
+            key -> {
+                index.apply(10L, null, null);
+                return Map.of(10L, "a");
+            };
+
+        assertThat(index.get(1)).isEmpty();
+        assertThat(index.get(1)).isEmpty();
+    }
+
+    @Test
+    void shouldMoveRowMovedDuringTheLoad() {
+        assertThat(index.get(2)).isEmpty();
+        loader =
+            key -> {
+                index.apply(10L, 2, "b");
+                return Map.of(10L, "a");
+            };
+
+        assertThat(index.get(1)).isEmpty();
+        assertThat(index.get(2)).containsExactly(Map.entry(10L, "b"));
+
+        index.apply(10L, null, null);
+
+        assertThat(index.get(2)).isEmpty();
+    }
+
+    @Test
+    void shouldKeepRowSavedDuringTheLoad() {
+        loader =
+            key -> {
+                index.apply(11L, 1, "b");
+                return Map.of(10L, "a");
+            };
+
+        assertThat(index.get(1)).containsOnly(Map.entry(10L, "a"), Map.entry(11L, "b"));
+
+        index.apply(11L, null, null);
+
+        assertThat(index.get(1)).containsExactly(Map.entry(10L, "a"));
+    }
+
+    @Test
+    void shouldNotKeepStructureLoadedAcrossClear() {
+        loader =
+            key -> {
+                index.clear();
+                loader = k -> Map.of();
+                return Map.of(10L, "a");
+            };
+
+        assertThat(index.get(1)).containsExactly(Map.entry(10L, "a"));
+        assertThat(index.get(1)).isEmpty();
+    }
+
+    @Test
+    void shouldLoadAgainAfterFailedLoad() {
+        loader =
+            key -> {
+                throw new IllegalStateException("Database unavailable");
+            };
+        assertThatThrownBy(() -> index.get(1)).isInstanceOf(IllegalStateException.class);
+        loader = key -> Map.of(10L, "a");
+
+        index.apply(11L, 1, "b");
+
+        assertThat(index.get(1)).containsExactly(Map.entry(10L, "a"));
+        assertThat(loads).isEqualTo(2);
+    }
+
+    @Test
+    void shouldLoadStructureAgainAfterItsTimeToLive() {
+        loader = key -> Map.of(10L, "a");
+        index.get(1);
+        index.apply(11L, 1, "b");
+        nanos.addAndGet(Duration.ofMinutes(5).toNanos());
+        loader = key -> Map.of(12L, "c");
+
+        assertThat(index.get(1)).containsExactly(Map.entry(12L, "c"));
+        assertThat(loads).isEqualTo(2);
+
+        index.apply(11L, 2, "b");
+
+        assertThat(index.get(1)).containsExactly(Map.entry(12L, "c"));
+    }
+}
@@ -1,13 +1,16 @@
 package com.mycompany.myapp.web.rest;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.startsWith;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 import com.mycompany.myapp.IntegrationTest;
 import com.mycompany.myapp.domain.BookedItem;
 import com.mycompany.myapp.repository.BookedItemRepository;
+import com.mycompany.myapp.web.rest.util.KeysetPaginationUtil;
 import jakarta.persistence.EntityManager;
 import java.time.LocalDate;
 import java.time.ZoneId;
@@ -140,7 +143,7 @@ class BookedItemResourceIT {
 
         // Get all the bookedItemList
         restBookedItemMockMvc
-            .perform(get(ENTITY_API_URL + "?sort=id,desc"))
+            .perform(get(ENTITY_API_URL).param("after", KeysetPaginationUtil.encodeCursor(bookedItem.getId() - 1)))
             .andExpect(status().isOk())
             .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
             .andExpect(jsonPath("$.[*].id").value(hasItem(bookedItem.getId().intValue())))
@@ -150,6 +153,37 @@ class BookedItemResourceIT {
             .andExpect(jsonPath("$.[*].availableDate").value(hasItem(DEFAULT_AVAILABLE_DATE.toString())));
     }
 
+    @Test
+    @Transactional
+    void exportBookedItemsAsNdjson() throws Exception {
+        // Initialize the database
+        bookedItemRepository.saveAndFlush(bookedItem);
+
+        // Export all the booked items, one JSON document per line
+        restBookedItemMockMvc
+            .perform(get(ENTITY_API_URL + "/export"))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType("application/x-ndjson;charset=UTF-8"))
+            .andExpect(content().string(containsString("{\"id\":" + bookedItem.getId() + ",\"bookingId\":" + DEFAULT_BOOKING_ID)));
+    }
+
+    @Test
+    @Transactional
+    void exportBookedItemsAsCsv() throws Exception {
+        // Initialize the database
+        bookedItemRepository.saveAndFlush(bookedItem.customItemName("Cake, \"large\""));
+
+        String row = bookedItem.getId() + "," + DEFAULT_BOOKING_ID + "," + DEFAULT_ITEM_ID + ",\"Cake, \"\"large\"\"\"," + DEFAULT_AVAILABLE_DATE;
+
+        // Export all the booked items, fields containing separators or quotes being quoted
+        restBookedItemMockMvc
+            .perform(get(ENTITY_API_URL + "/export").param("format", "csv"))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType("text/csv;charset=UTF-8"))
+            .andExpect(content().string(startsWith("id,bookingId,itemId,customItemName,availableDate\r\n")))
+            .andExpect(content().string(containsString(row)));
+    }
+
     @Test
     @Transactional
     void getBookedItem() throws Exception {
@@ -168,6 +202,83 @@ class BookedItemResourceIT {
             .andExpect(jsonPath("$.availableDate").value(DEFAULT_AVAILABLE_DATE.toString()));
     }
 
+    @Test
+    @Transactional
+    void getBookedItemsByIdFiltering() throws Exception {
+        // Initialize the database
+        bookedItemRepository.saveAndFlush(bookedItem);
+
+        Long id = bookedItem.getId();
+
+        defaultBookedItemShouldBeFound("id.equals=" + id);
+        defaultBookedItemShouldNotBeFound("id.notEquals=" + id);
+    }
+
+    @Test
+    @Transactional
+    void getAllBookedItemsByBookingIdIsEqualToSomething() throws Exception {
+        // Initialize the database
+        bookedItemRepository.saveAndFlush(bookedItem);
+
+        // Get all the bookedItemList where bookingId equals to DEFAULT_BOOKING_ID
+        defaultBookedItemShouldBeFound("id.equals=" + bookedItem.getId() + "&bookingId.equals=" + DEFAULT_BOOKING_ID);
+
+        // Get all the bookedItemList where bookingId equals to UPDATED_BOOKING_ID
+        defaultBookedItemShouldNotBeFound("id.equals=" + bookedItem.getId() + "&bookingId.equals=" + UPDATED_BOOKING_ID);
+    }
+
+    @Test
+    @Transactional
+    void getAllBookedItemsByAvailableDateIsInShouldWork() throws Exception {
+        // Initialize the database
+        bookedItemRepository.saveAndFlush(bookedItem);
+
+        // Get all the bookedItemList where availableDate in DEFAULT_AVAILABLE_DATE or UPDATED_AVAILABLE_DATE
+        defaultBookedItemShouldBeFound(
+            "id.equals=" + bookedItem.getId() + "&availableDate.in=" + DEFAULT_AVAILABLE_DATE + "," + UPDATED_AVAILABLE_DATE
+        );
+
+        // Get all the bookedItemList where availableDate equals to UPDATED_AVAILABLE_DATE
+        defaultBookedItemShouldNotBeFound("id.equals=" + bookedItem.getId() + "&availableDate.in=" + UPDATED_AVAILABLE_DATE);
+    }
+
+    /**
+     * Executes the search, and checks that the default entity is returned.
+     */
+    private void defaultBookedItemShouldBeFound(String filter) throws Exception {
+        restBookedItemMockMvc
+            .perform(get(ENTITY_API_URL + "?" + filter))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(jsonPath("$.[*].id").value(hasItem(bookedItem.getId().intValue())));
+
+        // Check, that the count call also returns 1
+        restBookedItemMockMvc
+            .perform(get(ENTITY_API_URL + "/count?" + filter))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(content().string("1"));
+    }
+
+    /**
+     * Executes the search, and checks that the default entity is not returned.
+     */
+    private void defaultBookedItemShouldNotBeFound(String filter) throws Exception {
+        restBookedItemMockMvc
+            .perform(get(ENTITY_API_URL + "?" + filter))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(jsonPath("$").isArray())
+            .andExpect(jsonPath("$").isEmpty());
+
+        // Check, that the count call also returns 0
+        restBookedItemMockMvc
+            .perform(get(ENTITY_API_URL + "/count?" + filter))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(content().string("0"));
+    }
+
     @Test
     @Transactional
     void getNonExistingBookedItem() throws Exception {
@@ -341,14 +452,14 @@ class BookedItemResourceIT {
         int databaseSizeBeforeUpdate = bookedItemRepository.findAll().size();
         bookedItem.setId(longCount.incrementAndGet());
 
-        // If the entity doesn't have an ID, it will throw BadRequestAlertException
+        // If the entity doesn't exist, there is nothing to patch
         restBookedItemMockMvc
             .perform(
                 patch(ENTITY_API_URL_ID, bookedItem.getId())
                     .contentType("application/merge-patch+json")
                     .content(TestUtil.convertObjectToJsonBytes(bookedItem))
             )
-            .andExpect(status().isBadRequest());
+            .andExpect(status().isNotFound());
 
         // Validate the BookedItem in the database
         List<BookedItem> bookedItemList = bookedItemRepository.findAll();
@@ -2,13 +2,16 @@ package com.mycompany.myapp.web.rest;
 
 import static com.mycompany.myapp.web.rest.TestUtil.sameInstant;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.startsWith;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 import com.mycompany.myapp.IntegrationTest;
 import com.mycompany.myapp.domain.Booking;
 import com.mycompany.myapp.repository.BookingRepository;
+import com.mycompany.myapp.web.rest.util.KeysetPaginationUtil;
 import jakarta.persistence.EntityManager;
 import java.time.Instant;
 import java.time.LocalDate;
@@ -22,6 +25,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
@@ -148,6 +152,128 @@ class BookingResourceIT {
         assertThat(bookingList).hasSize(databaseSizeBeforeCreate);
     }
 
+    @Test
+    @Transactional
+    void createBookingOverlappingAnotherBooking() throws Exception {
+        // Initialize the database, with a bundle id no other test uses
+        booking.setBundleId(random.nextInt(Integer.MAX_VALUE));
+        bookingRepository.saveAndFlush(booking);
+
+        int databaseSizeBeforeCreate = bookingRepository.findAll().size();
+
+        // The bundle is already booked on that day, so this API call must fail
+        Booking overlapping = createUpdatedEntity(em)
+            .bundleId(booking.getBundleId())
+            .bookingStartDate(DEFAULT_BOOKING_START_DATE.minusDays(1))
+            .bookingEndDate(DEFAULT_BOOKING_END_DATE)
+            .bookingStartTime(null)
+            .bookingEndTime(null);
+        restBookingMockMvc
+            .perform(post(ENTITY_API_URL).contentType(MediaType.APPLICATION_JSON).content(TestUtil.convertObjectToJsonBytes(overlapping)))
+            .andExpect(status().isConflict());
+        assertThat(bookingRepository.findAll()).hasSize(databaseSizeBeforeCreate);
+
+        // The next day is free
+        Booking next = createUpdatedEntity(em)
+            .bundleId(booking.getBundleId())
+            .bookingStartDate(DEFAULT_BOOKING_END_DATE.plusDays(1))
+            .bookingEndDate(DEFAULT_BOOKING_END_DATE.plusDays(1))
+            .bookingStartTime(null)
+            .bookingEndTime(null);
+        restBookingMockMvc
+            .perform(post(ENTITY_API_URL).contentType(MediaType.APPLICATION_JSON).content(TestUtil.convertObjectToJsonBytes(next)))
+            .andExpect(status().isCreated());
+        assertThat(bookingRepository.findAll()).hasSize(databaseSizeBeforeCreate + 1);
+    }
+
+    @Test
+    @Transactional
+    void putBookingOverlappingAnotherBooking() throws Exception {
+        // Initialize the database, with a bundle id no other test uses, booked on the day after the booking
+        booking.setBundleId(random.nextInt(Integer.MAX_VALUE));
+        bookingRepository.saveAndFlush(booking);
+        Booking nextDay = bookingRepository.saveAndFlush(nextDayBooking(booking.getBundleId()));
+
+        // Moving the next day booking onto the booked day must fail
+        Booking moved = nextDayBooking(booking.getBundleId())
+            .id(nextDay.getId())
+            .bookingStartDate(DEFAULT_BOOKING_START_DATE)
+            .bookingEndDate(DEFAULT_BOOKING_END_DATE);
+        restBookingMockMvc
+            .perform(
+                put(ENTITY_API_URL_ID, nextDay.getId())
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(TestUtil.convertObjectToJsonBytes(moved))
+            )
+            .andExpect(status().isConflict());
+        assertThat(bookingRepository.findById(nextDay.getId()).orElseThrow().getBookingStartDate()).isEqualTo(
+            DEFAULT_BOOKING_END_DATE.plusDays(1)
+        );
+
+        // Replacing the booking with its own period only overlaps itself
+        restBookingMockMvc
+            .perform(
+                put(ENTITY_API_URL_ID, nextDay.getId())
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(TestUtil.convertObjectToJsonBytes(nextDayBooking(booking.getBundleId()).id(nextDay.getId())))
+            )
+            .andExpect(status().isOk());
+    }
+
+    @Test
+    @Transactional
+    void patchBookingOverlappingAnotherBooking() throws Exception {
+        // Initialize the database, with a bundle id no other test uses, booked on the day after the booking
+        booking.setBundleId(random.nextInt(Integer.MAX_VALUE));
+        bookingRepository.saveAndFlush(booking);
+        Booking nextDay = bookingRepository.saveAndFlush(nextDayBooking(booking.getBundleId()));
+
+        // Extending the next day booking over the booked day must fail
+        Booking extended = new Booking().id(nextDay.getId()).bookingStartDate(DEFAULT_BOOKING_START_DATE);
+        restBookingMockMvc
+            .perform(
+                patch(ENTITY_API_URL_ID, nextDay.getId())
+                    .contentType("application/merge-patch+json")
+                    .content(TestUtil.convertObjectToJsonBytes(extended))
+            )
+            .andExpect(status().isConflict());
+        assertThat(bookingRepository.findById(nextDay.getId()).orElseThrow().getBookingStartDate()).isEqualTo(
+            DEFAULT_BOOKING_END_DATE.plusDays(1)
+        );
+
+        // Moving it to another bundle on the booked day is allowed, the period is only taken in the bundle
+        Booking otherBundle = new Booking()
+            .id(nextDay.getId())
+            .bundleId(booking.getBundleId() + 1)
+            .bookingStartDate(DEFAULT_BOOKING_START_DATE);
+        restBookingMockMvc
+            .perform(
+                patch(ENTITY_API_URL_ID, nextDay.getId())
+                    .contentType("application/merge-patch+json")
+                    .content(TestUtil.convertObjectToJsonBytes(otherBundle))
+            )
+            .andExpect(status().isOk());
+
+        // Moving it back onto the booked day of the first bundle must fail
+        Booking movedBack = new Booking().id(nextDay.getId()).bundleId(booking.getBundleId());
+        restBookingMockMvc
+            .perform(
+                patch(ENTITY_API_URL_ID, nextDay.getId())
+                    .contentType("application/merge-patch+json")
+                    .content(TestUtil.convertObjectToJsonBytes(movedBack))
+            )
+            .andExpect(status().isConflict());
+    }
+
+    private Booking nextDayBooking(Integer bundleId) {
+        return createUpdatedEntity(em)
+            .bundleId(bundleId)
+            .bookingStartDate(DEFAULT_BOOKING_END_DATE.plusDays(1))
+            .bookingEndDate(DEFAULT_BOOKING_END_DATE.plusDays(1))
+            .bookingStartTime(null)
+            .bookingEndTime(null);
+    }
+
     @Test
     @Transactional
     void getAllBookings() throws Exception {
@@ -156,7 +282,7 @@ class BookingResourceIT {
 
         // Get all the bookingList
         restBookingMockMvc
-            .perform(get(ENTITY_API_URL + "?sort=id,desc"))
+            .perform(get(ENTITY_API_URL).param("after", KeysetPaginationUtil.encodeCursor(booking.getId() - 1)))
             .andExpect(status().isOk())
             .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
             .andExpect(jsonPath("$.[*].id").value(hasItem(booking.getId().intValue())))
@@ -168,6 +294,74 @@ class BookingResourceIT {
             .andExpect(jsonPath("$.[*].bookingEndTime").value(hasItem(sameInstant(DEFAULT_BOOKING_END_TIME))));
     }
 
+    @Test
+    @Transactional
+    void exportBookingsAsNdjson() throws Exception {
+        // Initialize the database
+        bookingRepository.saveAndFlush(booking);
+
+        // Export all the bookings, one JSON document per line
+        restBookingMockMvc
+            .perform(get(ENTITY_API_URL + "/export"))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType("application/x-ndjson;charset=UTF-8"))
+            .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, containsString("bookings.ndjson")))
+            .andExpect(content().string(containsString("{\"id\":" + booking.getId() + ",\"bundleId\":" + DEFAULT_BUNDLE_ID)))
+            .andExpect(content().string(containsString("\"customerName\":\"" + DEFAULT_CUSTOMER_NAME + "\"")));
+    }
+
+    @Test
+    @Transactional
+    void exportBookingsAsCsv() throws Exception {
+        // Initialize the database
+        bookingRepository.saveAndFlush(booking);
+
+        String header = "id,bundleId,customerName,bookingStartDate,bookingEndDate,bookingStartTime,bookingEndTime,userId\r\n";
+        String row = booking.getId() + "," + DEFAULT_BUNDLE_ID + "," + DEFAULT_CUSTOMER_NAME + "," + DEFAULT_BOOKING_START_DATE;
+
+        // Export all the bookings, with a header line
+        restBookingMockMvc
+            .perform(get(ENTITY_API_URL + "/export").param("format", "csv"))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType("text/csv;charset=UTF-8"))
+            .andExpect(content().string(startsWith(header)))
+            .andExpect(content().string(containsString("\r\n" + row)));
+    }
+
+    @Test
+    @Transactional
+    void exportBookingsWithUnsupportedFormat() throws Exception {
+        restBookingMockMvc.perform(get(ENTITY_API_URL + "/export").param("format", "xml")).andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @Transactional
+    void getAllBookingsByKeysetPage() throws Exception {
+        // Initialize the database
+        Booking first = bookingRepository.saveAndFlush(createEntity(em));
+        Booking second = bookingRepository.saveAndFlush(createEntity(em));
+
+        // Get the first page, starting right before the first booking
+        restBookingMockMvc
+            .perform(get(ENTITY_API_URL).param("after", KeysetPaginationUtil.encodeCursor(first.getId() - 1)).param("size", "1"))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.LINK, containsString("after=" + KeysetPaginationUtil.encodeCursor(first.getId()))))
+            .andExpect(jsonPath("$.length()").value(1))
+            .andExpect(jsonPath("$.[0].id").value(first.getId().intValue()));
+
+        // Get the next page
+        restBookingMockMvc
+            .perform(get(ENTITY_API_URL).param("after", KeysetPaginationUtil.encodeCursor(first.getId())).param("size", "1"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.[0].id").value(second.getId().intValue()));
+    }
+
+    @Test
+    @Transactional
+    void getAllBookingsWithInvalidCursor() throws Exception {
+        restBookingMockMvc.perform(get(ENTITY_API_URL).param("after", "invalid cursor")).andExpect(status().isBadRequest());
+    }
+
     @Test
     @Transactional
     void getBooking() throws Exception {
@@ -188,6 +382,142 @@ class BookingResourceIT {
             .andExpect(jsonPath("$.bookingEndTime").value(sameInstant(DEFAULT_BOOKING_END_TIME)));
     }
 
+    @Test
+    @Transactional
+    void getBookingAvailability() throws Exception {
+        // Initialize the database
+        booking.setBundleId(random.nextInt(Integer.MAX_VALUE));
+        bookingRepository.saveAndFlush(booking);
+
+        restBookingMockMvc
+            .perform(
+                get(ENTITY_API_URL + "/availability")
+                    .param("bundleId", booking.getBundleId().toString())
+                    .param("from", DEFAULT_BOOKING_START_DATE.minusDays(1).toString())
+                    .param("to", DEFAULT_BOOKING_END_DATE.toString())
+            )
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(jsonPath("$.available").value(false))
+            .andExpect(jsonPath("$.conflictingBookingIds").value(hasItem(booking.getId().intValue())));
+
+        restBookingMockMvc
+            .perform(
+                get(ENTITY_API_URL + "/availability")
+                    .param("bundleId", booking.getBundleId().toString())
+                    .param("from", DEFAULT_BOOKING_END_DATE.plusDays(1).toString())
+                    .param("to", DEFAULT_BOOKING_END_DATE.plusDays(7).toString())
+            )
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.available").value(true));
+    }
+
+    @Test
+    @Transactional
+    void getBookingAvailabilityWithInvalidRange() throws Exception {
+        restBookingMockMvc
+            .perform(
+                get(ENTITY_API_URL + "/availability")
+                    .param("bundleId", DEFAULT_BUNDLE_ID.toString())
+                    .param("from", UPDATED_BOOKING_START_DATE.toString())
+                    .param("to", UPDATED_BOOKING_START_DATE.minusDays(1).toString())
+            )
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @Transactional
+    void getBookingsByIdFiltering() throws Exception {
+        // Initialize the database
+        bookingRepository.saveAndFlush(booking);
+
+        Long id = booking.getId();
+
+        defaultBookingShouldBeFound("id.equals=" + id);
+        defaultBookingShouldNotBeFound("id.notEquals=" + id);
+
+        defaultBookingShouldBeFound("id.greaterThanOrEqual=" + id);
+        defaultBookingShouldNotBeFound("id.greaterThan=" + id);
+    }
+
+    @Test
+    @Transactional
+    void getAllBookingsByBundleIdIsEqualToSomething() throws Exception {
+        // Initialize the database
+        bookingRepository.saveAndFlush(booking);
+
+        // Get all the bookingList where bundleId equals to DEFAULT_BUNDLE_ID
+        defaultBookingShouldBeFound("id.equals=" + booking.getId() + "&bundleId.equals=" + DEFAULT_BUNDLE_ID);
+
+        // Get all the bookingList where bundleId equals to UPDATED_BUNDLE_ID
+        defaultBookingShouldNotBeFound("id.equals=" + booking.getId() + "&bundleId.equals=" + UPDATED_BUNDLE_ID);
+    }
+
+    @Test
+    @Transactional
+    void getAllBookingsByCustomerNameContainsSomething() throws Exception {
+        // Initialize the database
+        bookingRepository.saveAndFlush(booking);
+
+        // Get all the bookingList where customerName contains DEFAULT_CUSTOMER_NAME
+        defaultBookingShouldBeFound("id.equals=" + booking.getId() + "&customerName.contains=" + DEFAULT_CUSTOMER_NAME);
+
+        // Get all the bookingList where customerName contains UPDATED_CUSTOMER_NAME
+        defaultBookingShouldNotBeFound("id.equals=" + booking.getId() + "&customerName.contains=" + UPDATED_CUSTOMER_NAME);
+    }
+
+    @Test
+    @Transactional
+    void getAllBookingsByBookingStartDateIsGreaterThanSomething() throws Exception {
+        // Initialize the database
+        bookingRepository.saveAndFlush(booking);
+
+        // Get all the bookingList where bookingStartDate is greater than the day before DEFAULT_BOOKING_START_DATE
+        defaultBookingShouldBeFound(
+            "id.equals=" + booking.getId() + "&bookingStartDate.greaterThan=" + DEFAULT_BOOKING_START_DATE.minusDays(1)
+        );
+
+        // Get all the bookingList where bookingStartDate is greater than DEFAULT_BOOKING_START_DATE
+        defaultBookingShouldNotBeFound("id.equals=" + booking.getId() + "&bookingStartDate.greaterThan=" + DEFAULT_BOOKING_START_DATE);
+    }
+
+    /**
+     * Executes the search, and checks that the default entity is returned.
+     */
+    private void defaultBookingShouldBeFound(String filter) throws Exception {
+        restBookingMockMvc
+            .perform(get(ENTITY_API_URL + "?" + filter))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(jsonPath("$.[*].id").value(hasItem(booking.getId().intValue())));
+
+        // Check, that the count call also returns 1
+        restBookingMockMvc
+            .perform(get(ENTITY_API_URL + "/count?" + filter))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(content().string("1"));
+    }
+
+    /**
+     * Executes the search, and checks that the default entity is not returned.
+     */
+    private void defaultBookingShouldNotBeFound(String filter) throws Exception {
+        restBookingMockMvc
+            .perform(get(ENTITY_API_URL + "?" + filter))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(jsonPath("$").isArray())
+            .andExpect(jsonPath("$").isEmpty());
+
+        // Check, that the count call also returns 0
+        restBookingMockMvc
+            .perform(get(ENTITY_API_URL + "/count?" + filter))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(content().string("0"));
+    }
+
     @Test
     @Transactional
     void getNonExistingBooking() throws Exception {
@@ -374,14 +704,14 @@ class BookingResourceIT {
         int databaseSizeBeforeUpdate = bookingRepository.findAll().size();
         booking.setId(longCount.incrementAndGet());
 
-        // If the entity doesn't have an ID, it will throw BadRequestAlertException
+        // If the entity doesn't exist, there is nothing to patch
         restBookingMockMvc
             .perform(
                 patch(ENTITY_API_URL_ID, booking.getId())
                     .contentType("application/merge-patch+json")
                     .content(TestUtil.convertObjectToJsonBytes(booking))
             )
-            .andExpect(status().isBadRequest());
+            .andExpect(status().isNotFound());
 
         // Validate the Booking in the database
         List<Booking> bookingList = bookingRepository.findAll();
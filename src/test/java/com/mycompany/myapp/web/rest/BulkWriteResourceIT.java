@@ -0,0 +1,218 @@
+package com.mycompany.myapp.web.rest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import com.mycompany.myapp.IntegrationTest;
+import com.mycompany.myapp.domain.BookedItem;
+import com.mycompany.myapp.domain.Booking;
+import com.mycompany.myapp.domain.Bundle;
+import com.mycompany.myapp.domain.BundleItem;
+import com.mycompany.myapp.domain.Item;
+import com.mycompany.myapp.repository.BookedItemRepository;
+import com.mycompany.myapp.repository.BookingRepository;
+import com.mycompany.myapp.repository.BundleItemRepository;
+import com.mycompany.myapp.repository.BundleRepository;
+import com.mycompany.myapp.repository.ItemRepository;
+import com.mycompany.myapp.service.BulkWriteService;
+import jakarta.persistence.EntityManager;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Integration tests for the {@link BulkWriteResource} REST controller.
+ */
+@IntegrationTest
+@AutoConfigureMockMvc
+@WithMockUser
+class BulkWriteResourceIT {
+
+    private static final String BOOKED_ITEMS_BULK_API_URL = "/api/bookings/{id}/booked-items:bulk";
+    private static final String BUNDLE_ITEMS_BULK_API_URL = "/api/bundle-items:bulk";
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private BookedItemRepository bookedItemRepository;
+
+    @Autowired
+    private BundleItemRepository bundleItemRepository;
+
+    @Autowired
+    private BundleRepository bundleRepository;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private MockMvc restBulkWriteMockMvc;
+
+    @Test
+    @Transactional
+    void createBookedItemsInBulk() throws Exception {
+        Booking booking = bookingRepository.saveAndFlush(BookingResourceIT.createEntity(em));
+        int itemId = createBundleItem().getId().intValue();
+        int databaseSizeBeforeCreate = bookedItemRepository.findAll().size();
+
+        List<BookedItem> bookedItems = List.of(
+            new BookedItem().itemId(itemId).customItemName("Flowers").availableDate(LocalDate.of(2026, 6, 1)),
+            new BookedItem().id(1L).itemId(itemId),
+            new BookedItem().itemId(itemId).customItemName("Cake"),
+            new BookedItem().customItemName("No item"),
+            new BookedItem().itemId(Integer.MAX_VALUE).customItemName("Unknown item")
+        );
+
+        restBulkWriteMockMvc
+            .perform(
+                post(BOOKED_ITEMS_BULK_API_URL, booking.getId())
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(TestUtil.convertObjectToJsonBytes(bookedItems))
+            )
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(jsonPath("$.[*].index").value(contains(0, 1, 2, 3, 4)))
+            .andExpect(jsonPath("$.[*].status").value(contains(201, 400, 201, 400, 400)))
+            .andExpect(jsonPath("$.[1].error").value("idexists"))
+            .andExpect(jsonPath("$.[3].error").value("itemidnull"))
+            .andExpect(jsonPath("$.[4].error").value("itemnotfound"))
+            .andExpect(jsonPath("$.[0].id").isNumber())
+            .andExpect(jsonPath("$.[2].id").isNumber());
+
+        List<BookedItem> bookedItemList = bookedItemRepository.findAll();
+        assertThat(bookedItemList).hasSize(databaseSizeBeforeCreate + 2);
+        assertThat(bookedItemList.stream().filter(b -> "Cake".equals(b.getCustomItemName())).findFirst())
+            .hasValueSatisfying(b -> assertThat(b.getBookingId()).isEqualTo(booking.getId().intValue()));
+    }
+
+    @Test
+    @Transactional
+    void createBookedItemsInBulkForBookingIdOutOfRange() throws Exception {
+        BundleItem bundleItem = createBundleItem();
+        long bookingId = (long) Integer.MAX_VALUE + 1;
+        em
+            .createNativeQuery("INSERT INTO booking (id, bundle_id, version) VALUES (:id, :bundleId, 0)")
+            .setParameter("id", bookingId)
+            .setParameter("bundleId", bundleItem.getBundleId())
+            .executeUpdate();
+        int databaseSizeBeforeCreate = bookedItemRepository.findAll().size();
+
+        restBulkWriteMockMvc
+            .perform(
+                post(BOOKED_ITEMS_BULK_API_URL, bookingId)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(TestUtil.convertObjectToJsonBytes(List.of(new BookedItem().itemId(bundleItem.getId().intValue()))))
+            )
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.[*].status").value(contains(400)))
+            .andExpect(jsonPath("$.[0].error").value("bookingidoutofrange"));
+
+        assertThat(bookedItemRepository.findAll()).hasSize(databaseSizeBeforeCreate);
+    }
+
+    @Test
+    @Transactional
+    void createBookedItemsInBulkForUnknownBooking() throws Exception {
+        int databaseSizeBeforeCreate = bookedItemRepository.findAll().size();
+
+        restBulkWriteMockMvc
+            .perform(
+                post(BOOKED_ITEMS_BULK_API_URL, Long.MAX_VALUE)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(TestUtil.convertObjectToJsonBytes(List.of(new BookedItem().itemId(1))))
+            )
+            .andExpect(status().isBadRequest());
+
+        assertThat(bookedItemRepository.findAll()).hasSize(databaseSizeBeforeCreate);
+    }
+
+    @Test
+    @Transactional
+    void createTooManyBookedItemsInBulk() throws Exception {
+        Booking booking = bookingRepository.saveAndFlush(BookingResourceIT.createEntity(em));
+        List<BookedItem> bookedItems = new ArrayList<>();
+        for (int i = 0; i <= BulkWriteService.MAX_ROWS; i++) {
+            bookedItems.add(new BookedItem().itemId(i));
+        }
+
+        restBulkWriteMockMvc
+            .perform(
+                post(BOOKED_ITEMS_BULK_API_URL, booking.getId())
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(TestUtil.convertObjectToJsonBytes(bookedItems))
+            )
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @Transactional
+    void updateBundleItemsInBulk() throws Exception {
+        BundleItem first = createBundleItem();
+        BundleItem second = createBundleItem();
+        BundleItem third = createBundleItem();
+        em.detach(first);
+        em.detach(second);
+        em.detach(third);
+        int bundleId = bundleRepository.saveAndFlush(BundleResourceIT.createEntity(em)).getId().intValue();
+        int itemId = itemRepository.saveAndFlush(ItemResourceIT.createEntity(em)).getId().intValue();
+
+        List<BundleItem> bundleItems = List.of(
+            new BundleItem().id(first.getId()).bundleId(bundleId).itemId(itemId).version(first.getVersion()),
+            new BundleItem().bundleId(bundleId).itemId(itemId),
+            new BundleItem().id(Long.MAX_VALUE).bundleId(bundleId).itemId(itemId),
+            new BundleItem().id(second.getId()).bundleId(bundleId).itemId(itemId),
+            new BundleItem().id(second.getId()).bundleId(bundleId).itemId(itemId),
+            new BundleItem().id(third.getId()).bundleId(Integer.MAX_VALUE).itemId(itemId),
+            new BundleItem().id(third.getId()).bundleId(bundleId).itemId(Integer.MAX_VALUE),
+            new BundleItem().id(third.getId()).bundleId(bundleId).itemId(itemId).version(third.getVersion() + 1)
+        );
+
+        restBulkWriteMockMvc
+            .perform(
+                put(BUNDLE_ITEMS_BULK_API_URL)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(TestUtil.convertObjectToJsonBytes(bundleItems))
+            )
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.[*].status").value(contains(200, 400, 404, 200, 400, 400, 400, 409)))
+            .andExpect(jsonPath("$.[1].error").value("idnull"))
+            .andExpect(jsonPath("$.[2].error").value("idnotfound"))
+            .andExpect(jsonPath("$.[4].error").value("idduplicate"))
+            .andExpect(jsonPath("$.[5].error").value("bundlenotfound"))
+            .andExpect(jsonPath("$.[6].error").value("itemnotfound"))
+            .andExpect(jsonPath("$.[7].error").value("concurrencyfailure"));
+
+        em.clear();
+        assertThat(bundleItemRepository.findById(first.getId()))
+            .hasValueSatisfying(b -> {
+                assertThat(b.getBundleId()).isEqualTo(bundleId);
+                assertThat(b.getItemId()).isEqualTo(itemId);
+            });
+        assertThat(bundleItemRepository.findById(second.getId()))
+            .hasValueSatisfying(b -> {
+                assertThat(b.getBundleId()).isEqualTo(bundleId);
+                assertThat(b.getItemId()).isEqualTo(itemId);
+            });
+        assertThat(bundleItemRepository.findById(third.getId()))
+            .hasValueSatisfying(b -> assertThat(b.getBundleId()).isEqualTo(third.getBundleId()));
+    }
+
+    private BundleItem createBundleItem() {
+        Bundle bundle = bundleRepository.saveAndFlush(BundleResourceIT.createEntity(em));
+        Item item = itemRepository.saveAndFlush(ItemResourceIT.createEntity(em));
+        return bundleItemRepository.saveAndFlush(new BundleItem().bundleId(bundle.getId().intValue()).itemId(item.getId().intValue()));
+    }
+}
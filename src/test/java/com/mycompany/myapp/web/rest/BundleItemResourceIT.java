@@ -8,6 +8,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import com.mycompany.myapp.IntegrationTest;
 import com.mycompany.myapp.domain.BundleItem;
 import com.mycompany.myapp.repository.BundleItemRepository;
+import com.mycompany.myapp.web.rest.util.KeysetPaginationUtil;
 import jakarta.persistence.EntityManager;
 import java.util.List;
 import java.util.Random;
@@ -122,7 +123,7 @@ class BundleItemResourceIT {
 
         // Get all the bundleItemList
         restBundleItemMockMvc
-            .perform(get(ENTITY_API_URL + "?sort=id,desc"))
+            .perform(get(ENTITY_API_URL).param("after", KeysetPaginationUtil.encodeCursor(bundleItem.getId() - 1)))
             .andExpect(status().isOk())
             .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
             .andExpect(jsonPath("$.[*].id").value(hasItem(bundleItem.getId().intValue())))
@@ -305,14 +306,14 @@ class BundleItemResourceIT {
         int databaseSizeBeforeUpdate = bundleItemRepository.findAll().size();
         bundleItem.setId(longCount.incrementAndGet());
 
-        // If the entity doesn't have an ID, it will throw BadRequestAlertException
+        // If the entity doesn't exist, there is nothing to patch
         restBundleItemMockMvc
             .perform(
                 patch(ENTITY_API_URL_ID, bundleItem.getId())
                     .contentType("application/merge-patch+json")
                     .content(TestUtil.convertObjectToJsonBytes(bundleItem))
             )
-            .andExpect(status().isBadRequest());
+            .andExpect(status().isNotFound());
 
         // Validate the BundleItem in the database
         List<BundleItem> bundleItemList = bundleItemRepository.findAll();
@@ -2,20 +2,30 @@ package com.mycompany.myapp.web.rest;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.hasSize;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 import com.mycompany.myapp.IntegrationTest;
 import com.mycompany.myapp.domain.Bundle;
+import com.mycompany.myapp.domain.BundleItem;
+import com.mycompany.myapp.domain.Item;
+import com.mycompany.myapp.repository.BundleItemRepository;
 import com.mycompany.myapp.repository.BundleRepository;
+import com.mycompany.myapp.repository.ItemRepository;
+import com.mycompany.myapp.web.rest.util.KeysetPaginationUtil;
 import jakarta.persistence.EntityManager;
 import java.util.List;
 import java.util.Random;
+import java.util.UUID;
 import java.util.concurrent.atomic.AtomicLong;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
@@ -47,6 +57,12 @@ class BundleResourceIT {
     @Autowired
     private BundleRepository bundleRepository;
 
+    @Autowired
+    private BundleItemRepository bundleItemRepository;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
     @Autowired
     private EntityManager em;
 
@@ -126,7 +142,7 @@ class BundleResourceIT {
 
         // Get all the bundleList
         restBundleMockMvc
-            .perform(get(ENTITY_API_URL + "?sort=id,desc"))
+            .perform(get(ENTITY_API_URL).param("after", KeysetPaginationUtil.encodeCursor(bundle.getId() - 1)))
             .andExpect(status().isOk())
             .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
             .andExpect(jsonPath("$.[*].id").value(hasItem(bundle.getId().intValue())))
@@ -135,6 +151,116 @@ class BundleResourceIT {
             .andExpect(jsonPath("$.[*].maxPeople").value(hasItem(DEFAULT_MAX_PEOPLE)));
     }
 
+    @Test
+    @Transactional
+    void getAllBundlesNotModified() throws Exception {
+        // Initialize the database
+        bundleRepository.saveAndFlush(bundle);
+        String after = KeysetPaginationUtil.encodeCursor(bundle.getId() - 1);
+
+        String etag = restBundleMockMvc
+            .perform(get(ENTITY_API_URL).param("after", after))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache, private"))
+            .andExpect(header().exists(HttpHeaders.ETAG))
+            .andReturn()
+            .getResponse()
+            .getHeader(HttpHeaders.ETAG);
+
+        restBundleMockMvc
+            .perform(get(ENTITY_API_URL).param("after", after).header(HttpHeaders.IF_NONE_MATCH, etag))
+            .andExpect(status().isNotModified())
+            .andExpect(header().string(HttpHeaders.ETAG, etag))
+            .andExpect(content().string(""));
+
+        restBundleMockMvc
+            .perform(get(ENTITY_API_URL).param("after", after).header(HttpHeaders.IF_NONE_MATCH, "\"stale\""))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.[*].id").value(hasItem(bundle.getId().intValue())));
+    }
+
+    @Test
+    @Transactional
+    void createBundleReadsPriceAndCapacity() throws Exception {
+        Bundle newBundle = createEntity(em).priceRange("€1,500 - 3,000").maxPeople("up to 250 guests").capacity(10);
+
+        restBundleMockMvc
+            .perform(post(ENTITY_API_URL).contentType(MediaType.APPLICATION_JSON).content(TestUtil.convertObjectToJsonBytes(newBundle)))
+            .andExpect(status().isCreated())
+            .andExpect(jsonPath("$.minPrice").value(1500))
+            .andExpect(jsonPath("$.maxPrice").value(3000))
+            .andExpect(jsonPath("$.capacity").value(250));
+    }
+
+    @Test
+    @Transactional
+    void searchBundlesByGuestsAndPrice() throws Exception {
+        bundle.priceRange("€1,500 - 3,000").maxPeople("up to 250 guests");
+        bundleRepository.saveAndFlush(bundle);
+
+        bundleShouldBeFoundBySearch("guests=250&maxPrice=1500", true);
+        bundleShouldBeFoundBySearch("guests=100&maxPrice=2000", true);
+        bundleShouldBeFoundBySearch("guests=251", false);
+        bundleShouldBeFoundBySearch("maxPrice=1499.99", false);
+    }
+
+    @Test
+    @Transactional
+    void searchBundlesUpdatedWithPatch() throws Exception {
+        bundle.priceRange("1000").maxPeople("50");
+        bundleRepository.saveAndFlush(bundle);
+        bundleShouldBeFoundBySearch("guests=100", false);
+
+        Bundle partialUpdatedBundle = new Bundle().id(bundle.getId()).maxPeople("120");
+        restBundleMockMvc
+            .perform(
+                patch(ENTITY_API_URL_ID, bundle.getId())
+                    .contentType("application/merge-patch+json")
+                    .content(TestUtil.convertObjectToJsonBytes(partialUpdatedBundle))
+            )
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.capacity").value(120))
+            .andExpect(jsonPath("$.minPrice").value(1000));
+
+        bundleShouldBeFoundBySearch("guests=100&maxPrice=1000", true);
+    }
+
+    @Test
+    @Transactional
+    void getBundlesByItemsRequiresAnItem() throws Exception {
+        restBundleMockMvc.perform(get(ENTITY_API_URL + "/by-items")).andExpect(status().isBadRequest());
+        restBundleMockMvc.perform(get(ENTITY_API_URL + "/by-items?all=&any= ")).andExpect(status().isBadRequest());
+    }
+
+    private void bundleShouldBeFoundBySearch(String query, boolean found) throws Exception {
+        restBundleMockMvc
+            .perform(get(ENTITY_API_URL + "/search?" + query + "&size=" + 1000))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.[?(@.id == " + bundle.getId() + ")]").value(found ? hasSize(1) : hasSize(0)));
+    }
+
+    @Test
+    @Transactional
+    void getAllBundlesWithItemsHasDistinctEtag() throws Exception {
+        String bundlesEtag = restBundleMockMvc
+            .perform(get(ENTITY_API_URL))
+            .andExpect(status().isOk())
+            .andReturn()
+            .getResponse()
+            .getHeader(HttpHeaders.ETAG);
+        String withItemsEtag = restBundleMockMvc
+            .perform(get(ENTITY_API_URL + "?expand=items"))
+            .andExpect(status().isOk())
+            .andReturn()
+            .getResponse()
+            .getHeader(HttpHeaders.ETAG);
+
+        assertThat(withItemsEtag).isNotNull().isNotEqualTo(bundlesEtag);
+        restBundleMockMvc
+            .perform(get(ENTITY_API_URL + "?expand=items").header(HttpHeaders.IF_NONE_MATCH, withItemsEtag))
+            .andExpect(status().isNotModified());
+    }
+
     @Test
     @Transactional
     void getBundle() throws Exception {
@@ -152,6 +278,125 @@ class BundleResourceIT {
             .andExpect(jsonPath("$.maxPeople").value(DEFAULT_MAX_PEOPLE));
     }
 
+    @Test
+    @Transactional
+    void getAllBundlesWithItems() throws Exception {
+        String bundleName = UUID.randomUUID().toString();
+        Item item = itemRepository.saveAndFlush(new Item().itemName("photographer"));
+        Bundle withItem = createBundleWithItems(bundleName, item);
+        createBundleWithItems(bundleName);
+
+        restBundleMockMvc
+            .perform(get(ENTITY_API_URL).param("expand", "items").param("bundleName.equals", bundleName))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(jsonPath("$.length()").value(2))
+            .andExpect(jsonPath("$.[0].id").value(withItem.getId().intValue()))
+            .andExpect(jsonPath("$.[0].items.[0].itemName").value("photographer"))
+            .andExpect(jsonPath("$.[1].items").isEmpty());
+    }
+
+    @Test
+    @Transactional
+    void getAllBundlesWithItemsUsesConstantNumberOfStatements() throws Exception {
+        String bundleName = UUID.randomUUID().toString();
+        Item item = itemRepository.saveAndFlush(new Item().itemName("decoration"));
+        Statistics statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        boolean statisticsEnabled = statistics.isStatisticsEnabled();
+        statistics.setStatisticsEnabled(true);
+        try {
+            createBundleWithItems(bundleName, item);
+            long statementsForOneBundle = countStatementsOfExpandedBundles(statistics, bundleName);
+
+            for (int i = 0; i < 10; i++) {
+                createBundleWithItems(bundleName, item);
+            }
+            long statementsForElevenBundles = countStatementsOfExpandedBundles(statistics, bundleName);
+
+            assertThat(statementsForElevenBundles).isEqualTo(statementsForOneBundle);
+        } finally {
+            statistics.setStatisticsEnabled(statisticsEnabled);
+        }
+    }
+
+    private Bundle createBundleWithItems(String bundleName, Item... items) {
+        Bundle result = bundleRepository.saveAndFlush(createEntity(em).bundleName(bundleName));
+        for (Item item : items) {
+            bundleItemRepository.saveAndFlush(new BundleItem().bundleId(result.getId().intValue()).itemId(item.getId().intValue()));
+        }
+        return result;
+    }
+
+    private long countStatementsOfExpandedBundles(Statistics statistics, String bundleName) throws Exception {
+        statistics.clear();
+        restBundleMockMvc
+            .perform(get(ENTITY_API_URL).param("expand", "items").param("bundleName.equals", bundleName))
+            .andExpect(status().isOk());
+        return statistics.getPrepareStatementCount();
+    }
+
+    @Test
+    @Transactional
+    void getBundlesByIdFiltering() throws Exception {
+        // Initialize the database
+        bundleRepository.saveAndFlush(bundle);
+
+        Long id = bundle.getId();
+
+        defaultBundleShouldBeFound("id.equals=" + id);
+        defaultBundleShouldNotBeFound("id.notEquals=" + id);
+    }
+
+    @Test
+    @Transactional
+    void getAllBundlesByBundleNameContainsSomething() throws Exception {
+        // Initialize the database
+        bundleRepository.saveAndFlush(bundle);
+
+        // Get all the bundleList where bundleName contains DEFAULT_BUNDLE_NAME
+        defaultBundleShouldBeFound("id.equals=" + bundle.getId() + "&bundleName.contains=" + DEFAULT_BUNDLE_NAME);
+
+        // Get all the bundleList where bundleName contains UPDATED_BUNDLE_NAME
+        defaultBundleShouldNotBeFound("id.equals=" + bundle.getId() + "&bundleName.contains=" + UPDATED_BUNDLE_NAME);
+    }
+
+    /**
+     * Executes the search, and checks that the default entity is returned.
+     */
+    private void defaultBundleShouldBeFound(String filter) throws Exception {
+        restBundleMockMvc
+            .perform(get(ENTITY_API_URL + "?" + filter))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(jsonPath("$.[*].id").value(hasItem(bundle.getId().intValue())));
+
+        // Check, that the count call also returns 1
+        restBundleMockMvc
+            .perform(get(ENTITY_API_URL + "/count?" + filter))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(content().string("1"));
+    }
+
+    /**
+     * Executes the search, and checks that the default entity is not returned.
+     */
+    private void defaultBundleShouldNotBeFound(String filter) throws Exception {
+        restBundleMockMvc
+            .perform(get(ENTITY_API_URL + "?" + filter))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(jsonPath("$").isArray())
+            .andExpect(jsonPath("$").isEmpty());
+
+        // Check, that the count call also returns 0
+        restBundleMockMvc
+            .perform(get(ENTITY_API_URL + "/count?" + filter))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(content().string("0"));
+    }
+
     @Test
     @Transactional
     void getNonExistingBundle() throws Exception {
@@ -308,20 +553,67 @@ class BundleResourceIT {
         assertThat(testBundle.getMaxPeople()).isEqualTo(UPDATED_MAX_PEOPLE);
     }
 
+    @Test
+    @Transactional
+    void patchBundleIncrementsVersionAndKeepsOtherFields() throws Exception {
+        // Initialize the database
+        bundleRepository.saveAndFlush(bundle);
+        long version = bundle.getVersion();
+
+        Bundle partialUpdatedBundle = new Bundle();
+        partialUpdatedBundle.setId(bundle.getId());
+        partialUpdatedBundle.setVersion(version);
+        partialUpdatedBundle.bundleName(UPDATED_BUNDLE_NAME);
+
+        restBundleMockMvc
+            .perform(
+                patch(ENTITY_API_URL_ID, partialUpdatedBundle.getId())
+                    .contentType("application/merge-patch+json")
+                    .content(TestUtil.convertObjectToJsonBytes(partialUpdatedBundle))
+            )
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.version").value(version + 1))
+            .andExpect(jsonPath("$.bundleName").value(UPDATED_BUNDLE_NAME))
+            .andExpect(jsonPath("$.priceRange").value(DEFAULT_PRICE_RANGE));
+    }
+
+    @Test
+    @Transactional
+    void patchBundleWithStaleVersion() throws Exception {
+        // Initialize the database
+        bundleRepository.saveAndFlush(bundle);
+
+        Bundle partialUpdatedBundle = new Bundle();
+        partialUpdatedBundle.setId(bundle.getId());
+        partialUpdatedBundle.setVersion(bundle.getVersion() + 1);
+        partialUpdatedBundle.bundleName(UPDATED_BUNDLE_NAME);
+
+        restBundleMockMvc
+            .perform(
+                patch(ENTITY_API_URL_ID, partialUpdatedBundle.getId())
+                    .contentType("application/merge-patch+json")
+                    .content(TestUtil.convertObjectToJsonBytes(partialUpdatedBundle))
+            )
+            .andExpect(status().isConflict());
+
+        // Validate the Bundle in the database
+        assertThat(bundleRepository.findById(bundle.getId()).orElseThrow().getBundleName()).isEqualTo(DEFAULT_BUNDLE_NAME);
+    }
+
     @Test
     @Transactional
     void patchNonExistingBundle() throws Exception {
         int databaseSizeBeforeUpdate = bundleRepository.findAll().size();
         bundle.setId(longCount.incrementAndGet());
 
-        // If the entity doesn't have an ID, it will throw BadRequestAlertException
+        // If the entity doesn't exist, there is nothing to patch
         restBundleMockMvc
             .perform(
                 patch(ENTITY_API_URL_ID, bundle.getId())
                     .contentType("application/merge-patch+json")
                     .content(TestUtil.convertObjectToJsonBytes(bundle))
             )
-            .andExpect(status().isBadRequest());
+            .andExpect(status().isNotFound());
 
         // Validate the Bundle in the database
         List<Bundle> bundleList = bundleRepository.findAll();
@@ -381,4 +673,25 @@ class BundleResourceIT {
         List<Bundle> bundleList = bundleRepository.findAll();
         assertThat(bundleList).hasSize(databaseSizeBeforeDelete - 1);
     }
+
+    @Test
+    @Transactional
+    void deleteBundleDeletesItsBundleItems() throws Exception {
+        // Initialize the database
+        String bundleName = UUID.randomUUID().toString();
+        Item item = itemRepository.saveAndFlush(new Item().itemName("florist"));
+        Bundle deleted = createBundleWithItems(bundleName, item, item);
+        Bundle kept = createBundleWithItems(bundleName, item);
+
+        restBundleMockMvc
+            .perform(delete(ENTITY_API_URL_ID, deleted.getId()).accept(MediaType.APPLICATION_JSON))
+            .andExpect(status().isNoContent());
+
+        // Validate that only the bundle items of the deleted bundle are gone
+        assertThat(bundleItemRepository.findAll())
+            .extracting(BundleItem::getBundleId)
+            .doesNotContain(deleted.getId().intValue())
+            .contains(kept.getId().intValue());
+        assertThat(bundleRepository.findById(kept.getId())).isPresent();
+    }
 }
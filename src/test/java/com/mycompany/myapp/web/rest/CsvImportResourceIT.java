@@ -0,0 +1,205 @@
+package com.mycompany.myapp.web.rest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import com.mycompany.myapp.IntegrationTest;
+import com.mycompany.myapp.repository.BookingRepository;
+import com.mycompany.myapp.repository.BundleRepository;
+import com.mycompany.myapp.security.AuthoritiesConstants;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Integration tests for the {@link CsvImportResource} REST controller.
+ */
+@IntegrationTest
+@AutoConfigureMockMvc
+@WithMockUser(authorities = AuthoritiesConstants.ADMIN)
+class CsvImportResourceIT {
+
+    private static final String IMPORT_API_URL = "/api/admin/import/{table}";
+
+    private static final String TEXT_CSV = "text/csv";
+
+    private static final String BOOKINGS_CSV_HEADER = "id;bundle_id;booking_start_date;booking_end_date\n";
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private BundleRepository bundleRepository;
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private MockMvc restCsvImportMockMvc;
+
+    @Test
+    @Transactional
+    void importBundles() throws Exception {
+        em
+            .createNativeQuery("INSERT INTO bundle (id, bundle_name, price_range, max_people) VALUES (900001, 'Garden', 'old', '10')")
+            .executeUpdate();
+        long databaseSizeBeforeImport = bundleRepository.count();
+
+        String csv = """
+            id;bundle_name;price_range;max_people
+            900001;Garden party;1000-2000;80
+            900002;"Castle; full weekend";"5000-9000";"200"
+            900003;Beach;;
+            """;
+
+        restCsvImportMockMvc
+            .perform(post(IMPORT_API_URL, "bundle").contentType(TEXT_CSV).content(csv))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.table").value("bundle"))
+            .andExpect(jsonPath("$.inserted").value(2))
+            .andExpect(jsonPath("$.updated").value(1));
+
+        em.clear();
+        assertThat(bundleRepository.count()).isEqualTo(databaseSizeBeforeImport + 2);
+        assertThat(bundleRepository.findById(900001L))
+            .hasValueSatisfying(bundle -> assertThat(bundle.getBundleName()).isEqualTo("Garden party"));
+        assertThat(bundleRepository.findById(900002L))
+            .hasValueSatisfying(bundle -> assertThat(bundle.getBundleName()).isEqualTo("Castle; full weekend"));
+        assertThat(bundleRepository.findById(900003L)).hasValueSatisfying(bundle -> assertThat(bundle.getPriceRange()).isNull());
+    }
+
+    @Test
+    @Transactional
+    void importGivesUpdatedRowsNewVersion() throws Exception {
+        em.createNativeQuery("INSERT INTO item (id, item_name, version) VALUES (900061, 'Cake', 3)").executeUpdate();
+
+        restCsvImportMockMvc
+            .perform(post(IMPORT_API_URL, "item").contentType(TEXT_CSV).content("id;item_name\n900061;Wedding cake\n900062;Flowers\n"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.inserted").value(1))
+            .andExpect(jsonPath("$.updated").value(1));
+
+        assertThat(em.createNativeQuery("SELECT version FROM item WHERE id = 900061").getSingleResult()).isEqualTo(4L);
+        assertThat(em.createNativeQuery("SELECT version FROM item WHERE id = 900062").getSingleResult()).isEqualTo(0L);
+    }
+
+    @Test
+    @Transactional
+    void importBookingOverlappingStoredBookingIsRejected() throws Exception {
+        long databaseSizeBeforeImport = insertGardenBooking();
+
+        restCsvImportMockMvc
+            .perform(
+                post(IMPORT_API_URL, "booking").contentType(TEXT_CSV).content(BOOKINGS_CSV_HEADER + "900053;900051;2026-06-03;2026-06-04\n")
+            )
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.message").value("error.importinvalid"));
+
+        assertThat(bookingRepository.count()).isEqualTo(databaseSizeBeforeImport);
+    }
+
+    @Test
+    @Transactional
+    void importBookingsOverlappingEachOtherIsRejected() throws Exception {
+        long databaseSizeBeforeImport = insertGardenBooking();
+
+        restCsvImportMockMvc
+            .perform(
+                post(IMPORT_API_URL, "booking")
+                    .contentType(TEXT_CSV)
+                    .content(BOOKINGS_CSV_HEADER + "900054;900051;2026-06-04;2026-06-05\n900055;900051;2026-06-05;\n")
+            )
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.message").value("error.importinvalid"));
+
+        assertThat(bookingRepository.count()).isEqualTo(databaseSizeBeforeImport);
+    }
+
+    @Test
+    @Transactional
+    void importBookingNextToStoredBooking() throws Exception {
+        long databaseSizeBeforeImport = insertGardenBooking();
+
+        restCsvImportMockMvc
+            .perform(
+                post(IMPORT_API_URL, "booking").contentType(TEXT_CSV).content(BOOKINGS_CSV_HEADER + "900056;900051;2026-06-04;2026-06-05\n")
+            )
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.inserted").value(1));
+
+        assertThat(bookingRepository.count()).isEqualTo(databaseSizeBeforeImport + 1);
+    }
+
+    @Test
+    @Transactional
+    void importWithDuplicateIdsIsRejected() throws Exception {
+        long databaseSizeBeforeImport = bundleRepository.count();
+
+        String csv = """
+            id;bundle_name
+            900011;First
+            900011;Second
+            """;
+
+        restCsvImportMockMvc
+            .perform(post(IMPORT_API_URL, "bundle").contentType(TEXT_CSV).content(csv))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.message").value("error.importinvalid"));
+
+        assertThat(bundleRepository.count()).isEqualTo(databaseSizeBeforeImport);
+    }
+
+    @Test
+    @Transactional
+    void importWithUnknownColumnIsRejected() throws Exception {
+        restCsvImportMockMvc
+            .perform(post(IMPORT_API_URL, "item").contentType(TEXT_CSV).content("id;item_name;price\n900021;Cake;10\n"))
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @Transactional
+    void importWithInvalidValueIsRejected() throws Exception {
+        restCsvImportMockMvc
+            .perform(post(IMPORT_API_URL, "bundle_item").contentType(TEXT_CSV).content("id;bundle_id;item_id\n900031;not a number;1\n"))
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @Transactional
+    void importIntoUnknownTableIsRejected() throws Exception {
+        restCsvImportMockMvc
+            .perform(post(IMPORT_API_URL, "jhi_user").contentType(TEXT_CSV).content("id;login\n1;admin\n"))
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @Transactional
+    @WithMockUser
+    void importRequiresAdmin() throws Exception {
+        restCsvImportMockMvc
+            .perform(post(IMPORT_API_URL, "item").contentType(TEXT_CSV).content("id;item_name\n900041;Cake\n"))
+            .andExpect(status().isForbidden());
+    }
+
+    /**
+     * Stores the bundle 900051 with the booking 900052 from 2026-06-01 to 2026-06-03 included.
+     *
+     * @return the number of bookings.
+     */
+    private long insertGardenBooking() {
+        em.createNativeQuery("INSERT INTO bundle (id, bundle_name) VALUES (900051, 'Garden')").executeUpdate();
+        em
+            .createNativeQuery(
+                "INSERT INTO booking (id, bundle_id, booking_start_date, booking_end_date) " +
+                "VALUES (900052, 900051, '2026-06-01', '2026-06-03')"
+            )
+            .executeUpdate();
+        return bookingRepository.count();
+    }
+}
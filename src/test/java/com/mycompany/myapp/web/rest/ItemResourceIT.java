@@ -1,14 +1,19 @@
 package com.mycompany.myapp.web.rest;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.hasItem;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 import com.mycompany.myapp.IntegrationTest;
+import com.mycompany.myapp.domain.BookedItem;
 import com.mycompany.myapp.domain.Item;
+import com.mycompany.myapp.repository.BookedItemRepository;
 import com.mycompany.myapp.repository.ItemRepository;
+import com.mycompany.myapp.web.rest.util.KeysetPaginationUtil;
 import jakarta.persistence.EntityManager;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Random;
 import java.util.concurrent.atomic.AtomicLong;
@@ -41,6 +46,9 @@ class ItemResourceIT {
     @Autowired
     private ItemRepository itemRepository;
 
+    @Autowired
+    private BookedItemRepository bookedItemRepository;
+
     @Autowired
     private EntityManager em;
 
@@ -118,7 +126,7 @@ class ItemResourceIT {
 
         // Get all the itemList
         restItemMockMvc
-            .perform(get(ENTITY_API_URL + "?sort=id,desc"))
+            .perform(get(ENTITY_API_URL).param("after", KeysetPaginationUtil.encodeCursor(item.getId() - 1)))
             .andExpect(status().isOk())
             .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
             .andExpect(jsonPath("$.[*].id").value(hasItem(item.getId().intValue())))
@@ -147,6 +155,64 @@ class ItemResourceIT {
         restItemMockMvc.perform(get(ENTITY_API_URL_ID, Long.MAX_VALUE)).andExpect(status().isNotFound());
     }
 
+    @Test
+    @Transactional
+    void getItemCalendar() throws Exception {
+        // Initialize the database, with an item id no other test uses, as calendars are cached
+        Integer itemId = random.nextInt(Integer.MAX_VALUE);
+        LocalDate day = LocalDate.of(2024, 12, 31);
+        bookedItemRepository.saveAndFlush(new BookedItem().itemId(itemId).availableDate(day));
+        bookedItemRepository.saveAndFlush(new BookedItem().itemId(itemId).availableDate(day.plusDays(2)));
+
+        restItemMockMvc
+            .perform(
+                get(ENTITY_API_URL_ID + "/calendar", itemId)
+                    .param("from", day.minusDays(1).toString())
+                    .param("to", day.plusDays(1).toString())
+            )
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(jsonPath("$.itemId").value(itemId))
+            .andExpect(jsonPath("$.bookedDays").value(contains(day.toString())));
+    }
+
+    @Test
+    @Transactional
+    void getItemsFreeDays() throws Exception {
+        // Initialize the database, with item ids no other test uses, as calendars are cached
+        Integer firstItemId = random.nextInt(Integer.MAX_VALUE);
+        Integer secondItemId = random.nextInt(Integer.MAX_VALUE);
+        LocalDate day = LocalDate.of(2028, 2, 28);
+        bookedItemRepository.saveAndFlush(new BookedItem().itemId(firstItemId).availableDate(day));
+        bookedItemRepository.saveAndFlush(new BookedItem().itemId(secondItemId).availableDate(day.plusDays(2)));
+
+        restItemMockMvc
+            .perform(
+                get(ENTITY_API_URL + "/free-days")
+                    .param("ids", firstItemId + "," + secondItemId)
+                    .param("from", day.minusDays(1).toString())
+                    .param("to", day.plusDays(3).toString())
+            )
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(jsonPath("$.freeDays").value(contains("2028-02-27", "2028-02-29", "2028-03-02")));
+    }
+
+    @Test
+    @Transactional
+    void getItemCalendarWithInvalidRange() throws Exception {
+        LocalDate day = LocalDate.of(2024, 12, 31);
+        restItemMockMvc
+            .perform(get(ENTITY_API_URL_ID + "/calendar", 1).param("from", day.toString()).param("to", day.minusDays(1).toString()))
+            .andExpect(status().isBadRequest());
+        restItemMockMvc
+            .perform(get(ENTITY_API_URL_ID + "/calendar", 1).param("from", day.toString()).param("to", day.plusYears(11).toString()))
+            .andExpect(status().isBadRequest());
+        restItemMockMvc
+            .perform(get(ENTITY_API_URL + "/free-days").param("ids", "").param("from", day.toString()).param("to", day.toString()))
+            .andExpect(status().isBadRequest());
+    }
+
     @Test
     @Transactional
     void putExistingItem() throws Exception {
@@ -296,14 +362,14 @@ class ItemResourceIT {
         int databaseSizeBeforeUpdate = itemRepository.findAll().size();
         item.setId(longCount.incrementAndGet());
 
-        // If the entity doesn't have an ID, it will throw BadRequestAlertException
+        // If the entity doesn't exist, there is nothing to patch
         restItemMockMvc
             .perform(
                 patch(ENTITY_API_URL_ID, item.getId())
                     .contentType("application/merge-patch+json")
                     .content(TestUtil.convertObjectToJsonBytes(item))
             )
-            .andExpect(status().isBadRequest());
+            .andExpect(status().isNotFound());
 
         // Validate the Item in the database
         List<Item> itemList = itemRepository.findAll();
@@ -0,0 +1,76 @@
+package com.mycompany.myapp.web.rest.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.mycompany.myapp.web.rest.errors.BadRequestAlertException;
+import java.util.List;
+import java.util.function.Function;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.util.UriComponentsBuilder;
+
+/**
+ * Unit tests for {@link KeysetPaginationUtil}.
+ */
+class KeysetPaginationUtilUnitTest {
+
+    private static final String BASE_URL = "/api/_search/example";
+
+    @Test
+    void cursorRoundTrip() {
+        String cursor = KeysetPaginationUtil.encodeCursor(1234L);
+
+        assertThat(cursor).doesNotContain("1234");
+        assertThat(KeysetPaginationUtil.decodeCursor(cursor, "example")).isEqualTo(1234L);
+    }
+
+    @Test
+    void missingCursorStartsFromTheBeginning() {
+        assertThat(KeysetPaginationUtil.decodeCursor(null, "example")).isEqualTo(Long.MIN_VALUE);
+        assertThat(KeysetPaginationUtil.decodeCursor("", "example")).isEqualTo(Long.MIN_VALUE);
+    }
+
+    @Test
+    void invalidCursorIsRejected() {
+        assertThatThrownBy(() -> KeysetPaginationUtil.decodeCursor("not a cursor", "example")).isInstanceOf(BadRequestAlertException.class);
+        assertThatThrownBy(() -> KeysetPaginationUtil.decodeCursor("MTIz", "example")).isInstanceOf(BadRequestAlertException.class);
+    }
+
+    @Test
+    void pageSizeIsClamped() {
+        assertThat(KeysetPaginationUtil.pageSize(0)).isEqualTo(1);
+        assertThat(KeysetPaginationUtil.pageSize(50)).isEqualTo(50);
+        assertThat(KeysetPaginationUtil.pageSize(Integer.MAX_VALUE)).isEqualTo(KeysetPaginationUtil.MAX_SIZE);
+    }
+
+    @Test
+    void generateNextLinkWhenMoreRowsWereFetched() {
+        UriComponentsBuilder uriBuilder = UriComponentsBuilder.fromUriString(BASE_URL);
+        ResponseEntity<List<Long>> response = KeysetPaginationUtil.toResponse(uriBuilder, List.of(1L, 2L, 3L), 2, Function.identity());
+
+        assertThat(response.getBody()).containsExactly(1L, 2L);
+        List<String> links = response.getHeaders().get(HttpHeaders.LINK);
+        assertThat(links).hasSize(1);
+        String expectedLink =
+            "<" +
+            BASE_URL +
+            "?after=" +
+            KeysetPaginationUtil.encodeCursor(2L) +
+            "&size=2>; rel=\"next\"," +
+            "<" +
+            BASE_URL +
+            "?size=2>; rel=\"first\"";
+        assertThat(links.get(0)).isEqualTo(expectedLink);
+    }
+
+    @Test
+    void noNextLinkOnLastPage() {
+        UriComponentsBuilder uriBuilder = UriComponentsBuilder.fromUriString(BASE_URL);
+        ResponseEntity<List<Long>> response = KeysetPaginationUtil.toResponse(uriBuilder, List.of(1L, 2L), 2, Function.identity());
+
+        assertThat(response.getBody()).containsExactly(1L, 2L);
+        assertThat(response.getHeaders().getFirst(HttpHeaders.LINK)).isEqualTo("<" + BASE_URL + "?size=2>; rel=\"first\"");
+    }
+}